@@ -147,6 +147,9 @@ function closeLoginModal() {
 // ========================================
 function logout() {
     localStorage.removeItem('token');
+    if (currentUser) {
+        localStorage.removeItem(`ideaCache:${currentUser.userId}`);
+    }
     currentUser = null;
     location.reload();
 }
@@ -215,22 +218,31 @@ async function submitInquiry() {
 
 // ========================================
 // 나의 아이디어 불러오기
+// - 목록은 localStorage 에 두고 변경분(/ideas/changes)만 받아 갱신
+// - 서버가 fullResync 를 주면 전체 목록을 다시 받음
 // ========================================
 async function loadMyIdeas(userId) {
     const token = localStorage.getItem('token');
+    const headers = { 'Authorization': `Bearer ${token}` };
     
     try {
-        const response = await fetch(`${CONFIG.SPRING_API_BASE}/ideas?userId=${userId}`, {
-            headers: {
-                'Authorization': `Bearer ${token}`
-            }
+        const cache = readIdeaCache(userId);
+        const sinceParam = cache ? `&since=${encodeURIComponent(cache.since)}` : '';
+        const response = await fetch(`${CONFIG.SPRING_API_BASE}/ideas/changes?userId=${userId}${sinceParam}`, {
+            headers
         });
         
         if (!response.ok) {
-            throw new Error('아이디어 목록 로드 실패');
+            throw new Error('아이디어 변경분 로드 실패');
         }
         
-        const ideas = await response.json();
+        const changes = await response.json();
+        const stored = (changes.fullResync || !cache)
+            ? await fetchIdeaList(userId, headers)
+            : mergeIdeaChanges(cache.ideas, changes);
+        writeIdeaCache(userId, { since: changes.nextSince, ideas: stored });
+        
+        const ideas = stored.concat(changes.pending.map(toSidebarIdea));
         console.log('✅ 아이디어 목록:', ideas);
         
         displayIdeas(ideas);
@@ -240,6 +252,48 @@ async function loadMyIdeas(userId) {
     }
 }
 
+async function fetchIdeaList(userId, headers) {
+    const response = await fetch(`${CONFIG.SPRING_API_BASE}/ideas?userId=${userId}&fields=ideaId,title,createdAt`, {
+        headers
+    });
+    
+    if (!response.ok) {
+        throw new Error('아이디어 목록 로드 실패');
+    }
+    
+    // 저장 대기 중인 아이디어(ideaId 없음)는 변경분 응답의 pending 으로 따로 받음
+    const ideas = await response.json();
+    return ideas.filter(idea => idea.ideaId != null).map(toSidebarIdea);
+}
+
+function mergeIdeaChanges(cachedIdeas, changes) {
+    const byId = new Map(cachedIdeas.map(idea => [idea.ideaId, idea]));
+    changes.ideas.forEach(idea => byId.set(idea.ideaId, toSidebarIdea(idea)));
+    changes.deletedIds.forEach(ideaId => byId.delete(ideaId));
+    return Array.from(byId.values()).sort((a, b) => a.ideaId - b.ideaId);
+}
+
+function toSidebarIdea(idea) {
+    return { ideaId: idea.ideaId, title: idea.title, createdAt: idea.createdAt };
+}
+
+function readIdeaCache(userId) {
+    try {
+        return JSON.parse(localStorage.getItem(`ideaCache:${userId}`));
+    } catch (error) {
+        return null;
+    }
+}
+
+function writeIdeaCache(userId, cache) {
+    try {
+        localStorage.setItem(`ideaCache:${userId}`, JSON.stringify(cache));
+    } catch (error) {
+        // 저장 공간이 부족하면 다음에 전체 목록을 다시 받음
+        localStorage.removeItem(`ideaCache:${userId}`);
+    }
+}
+
 // ========================================
 // 아이디어 표시
 // ========================================
@@ -19,11 +19,12 @@
 
 from fastapi import APIRouter, HTTPException, Depends
 from pydantic import BaseModel
-from typing import List, Dict
+from typing import AsyncIterator, List, Dict, Optional
 import sys
 from pathlib import Path
 import shutil
 import logging
+import re
 import time
 
 # 로거 설정
@@ -54,7 +55,7 @@ from dotenv import load_dotenv
 import os
 
 # 헬퍼 함수 import
-from .utils.llm_helpers import call_llm_with_retry
+from .utils.llm_helpers import call_llm_with_retry, stream_llm_lines
 from .dependencies import get_session_or_404, session_manager
 
 load_dotenv()
@@ -159,6 +160,7 @@ class AssociationsResponse(BaseModel):
 class IdeaResponse(BaseModel):
     """아이디어 생성 응답"""
     ideas: List[Dict[str, str]]  # [{"title": "...", "description": "...", "analysis": "..."}]
+    rag_context: List[str] = []  # RAG로 검색된 브레인스토밍 기법
 
 
 class DeleteResponse(BaseModel):
@@ -166,6 +168,16 @@ class DeleteResponse(BaseModel):
     message: str
 
 
+class EmbedRequest(BaseModel):
+    """텍스트 임베딩 요청 (Java 기법 검색용)"""
+    text: str
+
+
+class EmbedResponse(BaseModel):
+    """텍스트 임베딩 응답"""
+    embedding: List[float]
+
+
 # === 트렌드 검색 헬퍼 함수 ===
 
 async def fetch_trend_keywords(purpose: str) -> List[str]:
@@ -464,83 +476,162 @@ async def submit_associations(
         raise HTTPException(status_code=500, detail=f"자유연상 입력 실패: {str(e)}")
 
 
-@router.get("/ideas/{session_id}", response_model=IdeaResponse)
-async def generate_ideas(
-    session_id: str,
-    session: dict = Depends(get_session_or_404)
-):
+def _split_analysis(idea: Dict[str, str]) -> Dict[str, str]:
+    """description 에서 분석 결과를 analysis 로 분리"""
+    full_text = idea['description']
+
+    if '📊 분석 결과:' in full_text:
+        parts = full_text.split('📊 분석 결과:')
+        idea['description'] = parts[0].strip()
+        idea['analysis'] = '📊 분석 결과:\n' + parts[1].strip()
+    elif '📊 SWOT 분석:' in full_text:
+        parts = full_text.split('📊 SWOT 분석:')
+        idea['description'] = parts[0].strip()
+        idea['analysis'] = '📊 분석 결과:\n' + parts[1].strip()
+    else:
+        idea['analysis'] = ''
+    return idea
+
+
+class IdeaParser:
     """
-    아이디어 생성 및 SWOT 분석
-    
+    LLM 출력 줄 단위 파서 (일괄 응답 / 스트리밍 공용)
+
+    다음 "아이디어 N:" 줄이 들어오면 앞 아이디어가 끝난 것으로 보고 반환
+    """
+
+    def __init__(self):
+        self.current_idea = None
+        self.current_section = None
+
+    def feed(self, line: str) -> Optional[Dict[str, str]]:
+        line = line.strip()
+        if not line or line == '---':
+            return None
+
+        # 아이디어 시작
+        if re.match(r'^아이디어\s+\d+:', line):
+            finished = self.finish()
+
+            title = line.split(':', 1)[1].strip() if ':' in line else line
+            self.current_idea = {
+                'title': title,
+                'description': '',
+                'analysis': ''
+            }
+            self.current_section = None
+            return finished
+
+        # 섹션 구분
+        current_idea = self.current_idea
+        if current_idea:
+            if '📌 상황과 문제' in line or '상황과 문제' in line:
+                self.current_section = 'problem'
+                current_idea['description'] += '\n📌 상황과 문제\n'
+            elif '💡 해결 아이디어' in line or '해결 아이디어' in line:
+                self.current_section = 'solution'
+                current_idea['description'] += '\n\n💡 해결 아이디어\n'
+            elif '🎯 기대 효과' in line or '기대 효과' in line:
+                self.current_section = 'effect'
+                current_idea['description'] += '\n\n🎯 기대 효과\n'
+            elif '🎨 발상 기법' in line or '발상 기법' in line:
+                self.current_section = 'technique'
+                current_idea['description'] += '\n\n🎨 발상 기법\n'
+            elif '📊 분석 결과' in line or '분석 결과:' in line or '📊 SWOT 분석' in line:
+                self.current_section = 'analysis'
+                current_idea['description'] += '\n\n📊 분석 결과\n'
+
+            # 내용 추가
+            elif self.current_section in ['problem', 'solution', 'effect', 'technique', 'analysis']:
+                current_idea['description'] += line + '\n'
+        return None
+
+    def finish(self) -> Optional[Dict[str, str]]:
+        """진행 중인 아이디어 반환 (없으면 None)"""
+        idea, self.current_idea = self.current_idea, None
+        return _split_analysis(idea) if idea else None
+
+
+class PreparedIdeas(BaseModel):
+    """아이디어 생성 준비 결과 (LLM 메시지 + RAG 로 검색된 기법 원문)"""
+    messages: List[Dict[str, str]]
+    rag_context: List[str]
+
+
+async def prepare_ideas(session_id: str, session: dict) -> PreparedIdeas:
+    """
+    아이디어 생성 준비 - 키워드 추출, 트렌드 / RAG 기법 검색, 프롬프트 구성
+
     Args:
         session_id: 세션 ID
-        session: 세션 데이터 (Dependency)
-        
+        session: 세션 데이터
+
     Returns:
-        IdeaResponse: 아이디어 리스트
+        PreparedIdeas: LLM 메시지와 RAG 기법
     """
-    try:
-        purpose = session.get('q1_purpose')
-        associations = session.get('q3_associations', [])
-        
-        if not purpose or not associations:
-            raise HTTPException(status_code=400, detail="Q1 또는 Q3 데이터가 없습니다.")
-        
-        logger.info(f"💡 아이디어 생성 시작: {session_id}")
-        logger.info(f"   목적: {purpose}")
-        logger.info(f"   키워드: {associations}")
-        
-        # Ephemeral RAG 초기화 (JSON 기반)
-        ephemeral_rag = EphemeralRAG(session_id=session_id)
-        
-        # Q3 연상 키워드 추출 (유사도 기반)
-        keywords_data = ephemeral_rag.extract_keywords_by_similarity(
-            purpose=purpose,
-            top_k=5
+    purpose = session.get('q1_purpose')
+    associations = session.get('q3_associations', [])
+    
+    if not purpose or not associations:
+        raise HTTPException(status_code=400, detail="Q1 또는 Q3 데이터가 없습니다.")
+    
+    logger.info(f"💡 아이디어 생성 시작: {session_id}")
+    logger.info(f"   목적: {purpose}")
+    logger.info(f"   키워드: {associations}")
+    
+    # Ephemeral RAG 초기화 (JSON 기반)
+    ephemeral_rag = EphemeralRAG(session_id=session_id)
+    
+    # Q3 연상 키워드 추출 (유사도 기반)
+    keywords_data = ephemeral_rag.extract_keywords_by_similarity(
+        purpose=purpose,
+        top_k=5
+    )
+    
+    # 키워드만 추출
+    extracted_keywords = [kw['keyword'] for kw in keywords_data]
+    logger.info(f"   🔍 추출된 키워드: {extracted_keywords}")
+    
+    # 트렌드 키워드 검색 (네이버 뉴스, DuckDuckGo, 네이버 데이터랩)
+    logger.info("   🌐 트렌드 키워드 검색 시작...")
+    trend_keywords = await fetch_trend_keywords(purpose)
+    
+    # 트렌드 키워드 필터링 (사용자 키워드 기준)
+    if trend_keywords:
+        trend_keywords = ephemeral_rag.filter_trend_keywords(trend_keywords, top_k=10)
+        logger.info(f"   🎯 필터링된 트렌드 키워드: {trend_keywords}")
+    
+    # 영구 RAG에서 브레인스토밍 기법 검색 (ChromaDB)
+    rag_context = ""
+    rag_documents: List[str] = []
+    if permanent_collection:
+        purpose_embedding = openai_client.embeddings.create(
+            input=purpose,
+            model=embedding_model
+        ).data[0].embedding
+        
+        results = permanent_collection.query(
+            query_embeddings=[purpose_embedding],
+            n_results=3
         )
         
-        # 키워드만 추출
-        extracted_keywords = [kw['keyword'] for kw in keywords_data]
-        logger.info(f"   🔍 추출된 키워드: {extracted_keywords}")
-        
-        # 트렌드 키워드 검색 (네이버 뉴스, DuckDuckGo, 네이버 데이터랩)
-        logger.info("   🌐 트렌드 키워드 검색 시작...")
-        trend_keywords = await fetch_trend_keywords(purpose)
-        
-        # 트렌드 키워드 필터링 (사용자 키워드 기준)
-        if trend_keywords:
-            trend_keywords = ephemeral_rag.filter_trend_keywords(trend_keywords, top_k=10)
-            logger.info(f"   🎯 필터링된 트렌드 키워드: {trend_keywords}")
-        
-        # 영구 RAG에서 브레인스토밍 기법 검색 (ChromaDB)
-        rag_context = ""
-        if permanent_collection:
-            purpose_embedding = openai_client.embeddings.create(
-                input=purpose,
-                model=embedding_model
-            ).data[0].embedding
-            
-            results = permanent_collection.query(
-                query_embeddings=[purpose_embedding],
-                n_results=3
-            )
-            
-            if results and results.get('documents') and results['documents'][0]:
-                # RAG 기법 포맷팅
-                formatted_techniques = []
-                for i, doc in enumerate(results['documents'][0], 1):
-                    formatted_techniques.append(f"📌 **기법 {i}**:\n{doc}")
-                rag_context = "\n\n---\n\n".join(formatted_techniques)
-                logger.info(f"   📚 RAG 기법 {len(results['documents'][0])}개 검색됨")
-        
-        # 도메인 힌트 가져오기
-        domain_hint = get_domain_hint(purpose)
-        hint_text = format_hint_for_prompt(domain_hint) if domain_hint else ""
-        
-        # 아이디어 생성 프롬프트
-        trend_str = ", ".join(trend_keywords) if trend_keywords else "없음"
-        
-        prompt = f"""**역할**: 당신은 창의적이면서도 현실적인 기획자입니다.
+        if results and results.get('documents') and results['documents'][0]:
+            # RAG 기법 포맷팅 (원문은 gRPC SessionCompleted 로 전달)
+            rag_documents = list(results['documents'][0])
+            formatted_techniques = []
+            for i, doc in enumerate(results['documents'][0], 1):
+                formatted_techniques.append(f"📌 **기법 {i}**:\n{doc}")
+            rag_context = "\n\n---\n\n".join(formatted_techniques)
+            logger.info(f"   📚 RAG 기법 {len(results['documents'][0])}개 검색됨")
+    
+    # 도메인 힌트 가져오기
+    domain_hint = get_domain_hint(purpose)
+    hint_text = format_hint_for_prompt(domain_hint) if domain_hint else ""
+    
+    # 아이디어 생성 프롬프트
+    trend_str = ", ".join(trend_keywords) if trend_keywords else "없음"
+    
+    prompt = f"""**역할**: 당신은 창의적이면서도 현실적인 기획자입니다.
 
 **목적**: "{purpose}"
 
@@ -662,107 +753,108 @@ async def generate_ideas(
 
 **반드시 2-3개의 완전한 아이디어를 생성해야 합니다.**
 """
+
+    return PreparedIdeas(
+        messages=[
+            {"role": "system", "content": "당신은 현실적인 기획자입니다. 허구의 통계나 비용을 절대 지어내지 않으며, 사용자가 가진 자원과 역량으로 빠르게 시작 가능한 아이디어를 제안합니다. **반드시 2-3개의 완전한 아이디어를 생성해야 합니다.**"},
+            {"role": "user", "content": prompt}
+        ],
+        rag_context=rag_documents
+    )
+
+
+def _save_ideas(session_id: str, ideas: List[Dict[str, str]]) -> None:
+    """아이디어 검증 후 세션에 저장"""
+    if not ideas:
+        logger.error("❌ 아이디어 파싱 실패")
+        raise HTTPException(
+            status_code=500,
+            detail="아이디어 생성에 실패했습니다."
+        )
+
+    logger.info(f"✅ 아이디어 생성 완료: {len(ideas)}개")
+    for i, idea in enumerate(ideas, 1):
+        logger.info(f"   {i}. {idea['title']}")
+
+    session_manager.update_session(session_id, {
+        'generated_ideas': ideas
+    })
+
+
+async def stream_ideas(session_id: str, prepared: PreparedIdeas) -> AsyncIterator[Dict[str, str]]:
+    """
+    아이디어 스트리밍 생성 (gRPC 전송 경로)
+
+    LLM 출력을 스트림으로 받아, 아이디어 하나가 끝날 때마다 바로 반환한다.
+    끝까지 받은 뒤 REST 와 같이 세션에 저장한다.
+    (스트림 중간에 실패하면 이미 보낸 아이디어가 있으므로 재시도하지 않음)
+    """
+    logger.info("   🤖 LLM 아이디어 스트리밍 생성 중...")
+
+    parser = IdeaParser()
+    ideas = []
+    async for line in stream_llm_lines(
+        client=openai_client,
+        model=llm_model,
+        messages=prepared.messages,
+        verbosity="medium",
+        reasoning_effort="minimal",
+        max_output_tokens=2000
+    ):
+        idea = parser.feed(line)
+        if idea:
+            ideas.append(idea)
+            yield idea
+
+    idea = parser.finish()
+    if idea:
+        ideas.append(idea)
+        yield idea
+
+    _save_ideas(session_id, ideas)
+
+
+@router.get("/ideas/{session_id}", response_model=IdeaResponse)
+async def generate_ideas(
+    session_id: str,
+    session: dict = Depends(get_session_or_404)
+):
+    """
+    아이디어 생성 및 SWOT 분석
+    
+    Args:
+        session_id: 세션 ID
+        session: 세션 데이터 (Dependency)
         
+    Returns:
+        IdeaResponse: 아이디어 리스트
+    """
+    try:
+        prepared = await prepare_ideas(session_id, session)
+
         logger.info("   🤖 LLM 아이디어 생성 중...")
         
         # Retry 로직으로 LLM 호출
         ideas_text = call_llm_with_retry(
             client=openai_client,
             model=llm_model,
-            messages=[
-                {"role": "system", "content": "당신은 현실적인 기획자입니다. 허구의 통계나 비용을 절대 지어내지 않으며, 사용자가 가진 자원과 역량으로 빠르게 시작 가능한 아이디어를 제안합니다. **반드시 2-3개의 완전한 아이디어를 생성해야 합니다.**"},
-                {"role": "user", "content": prompt}
-            ],
+            messages=prepared.messages,
             verbosity="medium",
             reasoning_effort="minimal",
             max_output_tokens=2000
         )
         
         # 🔥 아이디어 파싱
-        ideas = []
-        current_idea = None
-        current_section = None
-        
-        import re
-        
-        for line in ideas_text.split('\n'):
-            line = line.strip()
-            if not line or line == '---':
-                continue
-            
-            # 아이디어 시작
-            if re.match(r'^아이디어\s+\d+:', line):
-                if current_idea:
-                    ideas.append(current_idea)
-                
-                title = line.split(':', 1)[1].strip() if ':' in line else line
-                current_idea = {
-                    'title': title,
-                    'description': '',
-                    'analysis': ''
-                }
-                current_section = None
-            
-            # 섹션 구분
-            elif current_idea:
-                if '📌 상황과 문제' in line or '상황과 문제' in line:
-                    current_section = 'problem'
-                    current_idea['description'] += '\n📌 상황과 문제\n'
-                elif '💡 해결 아이디어' in line or '해결 아이디어' in line:
-                    current_section = 'solution'
-                    current_idea['description'] += '\n\n💡 해결 아이디어\n'
-                elif '🎯 기대 효과' in line or '기대 효과' in line:
-                    current_section = 'effect'
-                    current_idea['description'] += '\n\n🎯 기대 효과\n'
-                elif '🎨 발상 기법' in line or '발상 기법' in line:
-                    current_section = 'technique'
-                    current_idea['description'] += '\n\n🎨 발상 기법\n'
-                elif '📊 분석 결과' in line or '분석 결과:' in line or '📊 SWOT 분석' in line:
-                    current_section = 'analysis'
-                    current_idea['description'] += '\n\n📊 분석 결과\n'
-                
-                # 내용 추가
-                elif current_section in ['problem', 'solution', 'effect', 'technique']:
-                    current_idea['description'] += line + '\n'
-                elif current_section == 'analysis':
-                    current_idea['description'] += line + '\n'
-        
-        if current_idea:
-            ideas.append(current_idea)
-        
-        # 아이디어 검증
-        if not ideas:
-            logger.error("❌ 아이디어 파싱 실패")
-            raise HTTPException(
-                status_code=500,
-                detail="아이디어 생성에 실패했습니다."
-            )
-        
-        # description과 analysis 분리
-        for idea in ideas:
-            full_text = idea['description']
-            
-            if '📊 분석 결과:' in full_text:
-                parts = full_text.split('📊 분석 결과:')
-                idea['description'] = parts[0].strip()
-                idea['analysis'] = '📊 분석 결과:\n' + parts[1].strip()
-            elif '📊 SWOT 분석:' in full_text:
-                parts = full_text.split('📊 SWOT 분석:')
-                idea['description'] = parts[0].strip()
-                idea['analysis'] = '📊 분석 결과:\n' + parts[1].strip()
-            else:
-                idea['analysis'] = ''
-        
-        logger.info(f"✅ 아이디어 생성 완료: {len(ideas)}개")
-        for i, idea in enumerate(ideas, 1):
-            logger.info(f"   {i}. {idea['title']}")
-        
-        # 세션에 저장
-        session_manager.update_session(session_id, {
-            'generated_ideas': ideas
-        })
+        parser = IdeaParser()
+        ideas = [idea for idea in map(parser.feed, ideas_text.split('\n')) if idea]
+        idea = parser.finish()
+        if idea:
+            ideas.append(idea)
+
+        # 검증 후 세션에 저장
+        _save_ideas(session_id, ideas)
         
-        return IdeaResponse(ideas=ideas)
+        return IdeaResponse(ideas=ideas, rag_context=prepared.rag_context)
         
     except HTTPException:
         raise
@@ -771,6 +863,31 @@ async def generate_ideas(
         raise HTTPException(status_code=500, detail=f"아이디어 생성 실패: {str(e)}")
 
 
+
+@router.post("/embed", response_model=EmbedResponse)
+async def embed_text(request: EmbedRequest):
+    """
+    텍스트 임베딩 (기법 코퍼스와 같은 모델)
+
+    Java 가 브레인스토밍 기법을 직접 검색할 때 질의 벡터를 얻는 용도
+
+    Args:
+        request: 임베딩할 텍스트
+
+    Returns:
+        EmbedResponse: 임베딩 벡터
+    """
+    try:
+        embedding = openai_client.embeddings.create(
+            input=request.text,
+            model=embedding_model
+        ).data[0].embedding
+        return EmbedResponse(embedding=embedding)
+    except Exception as e:
+        logger.error(f"❌ 임베딩 실패: {str(e)}")
+        raise HTTPException(status_code=500, detail=f"임베딩 실패: {str(e)}")
+
+
 @router.delete("/session/{session_id}", response_model=DeleteResponse)
 async def delete_session(
     session_id: str,
@@ -6,8 +6,9 @@ LLM 호출 헬퍼 함수
 """
 
 from pathlib import Path
-from typing import Optional, Dict, Any
+from typing import AsyncIterator, Optional, Dict, Any
 from openai import OpenAI
+import asyncio
 import time
 import logging
 
@@ -103,6 +104,68 @@ def call_llm_with_retry(
     raise Exception(f"LLM 호출 실패 (재시도 {max_retries}번): {last_error}")
 
 
+async def stream_llm_lines(
+    client: OpenAI,
+    model: str,
+    messages: list,
+    verbosity: str = "medium",
+    reasoning_effort: str = "minimal",
+    max_output_tokens: int = 2000,
+    **kwargs
+) -> AsyncIterator[str]:
+    """
+    LLM 스트리밍 호출 - 출력 텍스트를 줄 단위로 반환
+
+    동기 클라이언트의 스트림을 스레드에서 읽어 이벤트 루프를 막지 않음.
+    이미 일부를 반환한 뒤에는 다시 호출하면 중복되므로 재시도하지 않음 (호출자가 처리)
+
+    Args:
+        client: OpenAI 클라이언트
+        model: 모델 이름
+        messages: 메시지 리스트
+        verbosity: 상세도 (low, medium, high)
+        reasoning_effort: 추론 강도 (minimal, low, medium, high)
+        max_output_tokens: 최대 출력 토큰
+        **kwargs: 추가 파라미터
+
+    Yields:
+        str: 출력 텍스트 한 줄 (줄바꿈 제외)
+    """
+    logger.info("LLM 스트리밍 호출")
+
+    stream = await asyncio.to_thread(
+        client.responses.create,
+        model=model,
+        input=messages,
+        text={
+            "verbosity": verbosity
+        },
+        reasoning={
+            "effort": reasoning_effort
+        },
+        max_output_tokens=max_output_tokens,
+        stream=True,
+        **kwargs
+    )
+
+    events = iter(stream)
+    buffer = ""
+    while True:
+        event = await asyncio.to_thread(next, events, None)
+        if event is None:
+            break
+        if event.type == "response.output_text.delta":
+            buffer += event.delta
+            while "\n" in buffer:
+                line, buffer = buffer.split("\n", 1)
+                yield line
+        elif event.type in ("response.failed", "error"):
+            raise Exception(f"LLM 스트리밍 실패: {event}")
+
+    if buffer:
+        yield buffer
+
+
 def format_prompt(template: str, **kwargs) -> str:
     """
     프롬프트 템플릿 포맷팅
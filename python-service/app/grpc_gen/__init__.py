@@ -0,0 +1 @@
+# protoc 로 생성된 gRPC 스텁 (app/grpc_server.py 참고)
@@ -0,0 +1,100 @@
+"""
+gRPC 브레인스토밍 스트림 서버 (선택)
+
+Spring 에서 brainstorm.transport=grpc 로 설정했을 때 사용하는 전송 경로.
+양방향 스트림 하나가 브레인스토밍 세션 하나를 처리하며,
+내부적으로는 REST 엔드포인트와 동일한 함수를 순서대로 호출한다.
+아이디어 생성만 LLM 스트리밍으로 받아, 아이디어가 하나 끝날 때마다 바로 보낸다.
+
+스텁 생성 (python-service 디렉토리에서):
+    python -m grpc_tools.protoc -I../src/main/proto \
+        --python_out=app/grpc_gen --grpc_python_out=app/grpc_gen \
+        ../src/main/proto/brainstorming.proto
+
+실행:
+    python -m app.grpc_server          # 기본 포트 50051 (GRPC_PORT 로 변경)
+"""
+
+import asyncio
+import logging
+import os
+import sys
+from pathlib import Path
+
+import grpc
+
+# 생성된 스텁 경로 추가 (brainstorming_pb2_grpc 가 절대 import 사용)
+grpc_gen_path = Path(__file__).resolve().parent / "grpc_gen"
+sys.path.insert(0, str(grpc_gen_path))
+
+import brainstorming_pb2 as pb2
+import brainstorming_pb2_grpc as pb2_grpc
+
+from app.api.v1.endpoints import brainstorming
+from app.api.v1.endpoints.dependencies import get_session_or_404
+
+logger = logging.getLogger(__name__)
+
+
+class BrainstormingStreamServicer(pb2_grpc.BrainstormingStreamServicer):
+    """세션 하나 = 스트림 하나"""
+
+    async def Brainstorm(self, request_iterator, context):
+        session = await brainstorming.create_session()
+        session_id = session.session_id
+        yield pb2.SessionEvent(started=pb2.SessionStarted(session_id=session_id))
+        rag_context = []
+
+        try:
+            async for message in request_iterator:
+                kind = message.WhichOneof("body")
+
+                if kind == "purpose":
+                    # Q1 목적 → Q2 워밍업 → 확인
+                    await brainstorming.submit_purpose(
+                        brainstorming.PurposeRequest(session_id=session_id, purpose=message.purpose.purpose)
+                    )
+                    await brainstorming.get_warmup_questions(session_id, session=get_session_or_404(session_id))
+                    await brainstorming.confirm_warmup(session_id, session=get_session_or_404(session_id))
+
+                elif kind == "associations":
+                    # Q3 자유연상 → 아이디어 생성
+                    await brainstorming.submit_associations(
+                        session_id,
+                        brainstorming.AssociationsRequest(
+                            session_id=session_id,
+                            associations=list(message.associations.keywords)
+                        ),
+                        session=get_session_or_404(session_id)
+                    )
+                    prepared = await brainstorming.prepare_ideas(session_id, get_session_or_404(session_id))
+                    rag_context = prepared.rag_context
+
+                    # LLM 출력에서 아이디어 하나가 끝날 때마다 바로 전송
+                    async for idea in brainstorming.stream_ideas(session_id, prepared):
+                        yield pb2.SessionEvent(idea=pb2.Idea(
+                            title=idea.get("title", ""),
+                            description=idea.get("description", ""),
+                            analysis=idea.get("analysis", "")
+                        ))
+
+            yield pb2.SessionEvent(completed=pb2.SessionCompleted(rag_context=rag_context))
+
+        finally:
+            try:
+                await brainstorming.delete_session(session_id, session=get_session_or_404(session_id))
+            except Exception as e:
+                logger.warning(f"⚠️ 세션 삭제 실패: {session_id} - {e}")
+
+
+async def serve(port: int):
+    server = grpc.aio.server()
+    pb2_grpc.add_BrainstormingStreamServicer_to_server(BrainstormingStreamServicer(), server)
+    server.add_insecure_port(f"[::]:{port}")
+    await server.start()
+    logger.info(f"✅ gRPC 브레인스토밍 서버 시작: {port}")
+    await server.wait_for_termination()
+
+
+if __name__ == "__main__":
+    asyncio.run(serve(int(os.getenv("GRPC_PORT", "50051"))))
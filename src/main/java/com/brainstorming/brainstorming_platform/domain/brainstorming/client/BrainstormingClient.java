@@ -0,0 +1,28 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.client;
+
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.IdeasResponse;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Python 브레인스토밍 서비스 연동 클라이언트
+ * - brainstorm.transport=rest (기본): JSON/HTTP 호출 7회
+ * - brainstorm.transport=grpc : 양방향 스트림 1개
+ */
+public interface BrainstormingClient {
+
+    /**
+     * 세션 생성 → 목적 → 워밍업 → 자유연상 → 아이디어 생성 → 세션 삭제 까지 한 번에 실행
+     *
+     * @param purpose      Q1: 목적
+     * @param associations Q3: 자유연상 키워드
+     * @param onIdea       아이디어가 도착할 때마다 호출 (스트리밍 전송이면 생성되는 대로)
+     * @return 생성된 아이디어 목록 (sessionId 포함)
+     */
+    IdeasResponse brainstorm(String purpose, List<String> associations, Consumer<IdeasResponse.IdeaDto> onIdea);
+
+    default IdeasResponse brainstorm(String purpose, List<String> associations) {
+        return brainstorm(purpose, associations, idea -> { });
+    }
+}
@@ -0,0 +1,124 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.client;
+
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.IdeasResponse;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.Associations;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.BrainstormingStreamGrpc;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.Purpose;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.SessionEvent;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.SessionMessage;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * gRPC 양방향 스트림 기반 브레인스토밍 클라이언트
+ * - 세션 하나 = 스트림 하나 (HTTP/2 위에서 여러 세션이 소수의 채널을 공유)
+ * - 아이디어는 Python 이 생성하는 대로 onIdea 로 전달
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "brainstorm.transport", havingValue = "grpc")
+public class GrpcBrainstormingClient implements BrainstormingClient {
+
+    private final List<ManagedChannel> channels = new ArrayList<>();
+    private final AtomicInteger nextChannel = new AtomicInteger();
+    private final long deadlineSeconds;
+
+    public GrpcBrainstormingClient(
+            @Value("${brainstorm.grpc.target:localhost:50051}") String target,
+            @Value("${brainstorm.grpc.channels:2}") int channelCount,
+            @Value("${brainstorm.grpc.deadline-seconds:120}") long deadlineSeconds) {
+        this.deadlineSeconds = deadlineSeconds;
+        for (int i = 0; i < Math.max(1, channelCount); i++) {
+            channels.add(ManagedChannelBuilder.forTarget(target)
+                    .usePlaintext()
+                    .keepAliveTime(30, TimeUnit.SECONDS)
+                    .build());
+        }
+        log.info("gRPC 브레인스토밍 클라이언트 초기화 - target: {}, channels: {}", target, channels.size());
+    }
+
+    @Override
+    public IdeasResponse brainstorm(String purpose, List<String> associations, Consumer<IdeasResponse.IdeaDto> onIdea) {
+        IdeasResponse result = new IdeasResponse();
+        result.setIdeas(new ArrayList<>());
+        CompletableFuture<IdeasResponse> done = new CompletableFuture<>();
+
+        BrainstormingStreamGrpc.BrainstormingStreamStub stub = BrainstormingStreamGrpc.newStub(pickChannel())
+                .withDeadlineAfter(deadlineSeconds, TimeUnit.SECONDS);
+
+        StreamObserver<SessionMessage> requests = stub.brainstorm(new StreamObserver<>() {
+            @Override
+            public void onNext(SessionEvent event) {
+                switch (event.getBodyCase()) {
+                    case STARTED -> result.setSessionId(event.getStarted().getSessionId());
+                    case IDEA -> {
+                        IdeasResponse.IdeaDto idea = new IdeasResponse.IdeaDto();
+                        idea.setTitle(event.getIdea().getTitle());
+                        idea.setDescription(event.getIdea().getDescription());
+                        idea.setAnalysis(event.getIdea().getAnalysis());
+                        result.getIdeas().add(idea);
+                        onIdea.accept(idea);
+                    }
+                    case COMPLETED -> result.setRagContext(new ArrayList<>(event.getCompleted().getRagContextList()));
+                    default -> log.warn("알 수 없는 세션 이벤트: {}", event.getBodyCase());
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                done.complete(result);
+            }
+        });
+
+        requests.onNext(SessionMessage.newBuilder()
+                .setPurpose(Purpose.newBuilder().setPurpose(purpose))
+                .build());
+        requests.onNext(SessionMessage.newBuilder()
+                .setAssociations(Associations.newBuilder().addAllKeywords(associations))
+                .build());
+        requests.onCompleted();
+
+        try {
+            return done.get(deadlineSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("gRPC 브레인스토밍 실패: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("gRPC 브레인스토밍 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("gRPC 브레인스토밍 중단", e);
+        }
+    }
+
+    /**
+     * 채널 라운드로빈
+     */
+    private ManagedChannel pickChannel() {
+        return channels.get(Math.floorMod(nextChannel.getAndIncrement(), channels.size()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.forEach(ManagedChannel::shutdown);
+    }
+}
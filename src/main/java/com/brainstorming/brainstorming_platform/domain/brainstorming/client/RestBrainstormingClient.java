@@ -0,0 +1,113 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.client;
+
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JSON/HTTP 기반 브레인스토밍 클라이언트 (기본)
+ * Python FastAPI 엔드포인트를 순서대로 호출
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "brainstorm.transport", havingValue = "rest", matchIfMissing = true)
+public class RestBrainstormingClient implements BrainstormingClient {
+
+    private final RestTemplate restTemplate;
+
+    @Value("${python.api.url}")
+    private String pythonApiUrl;
+
+    @Override
+    public IdeasResponse brainstorm(String purpose, List<String> associations, Consumer<IdeasResponse.IdeaDto> onIdea) {
+        // 1. 세션 생성
+        SessionResponse session = createSession();
+        String sessionId = session.getSessionId();
+
+        // 2. Q1: 목적 입력
+        submitPurpose(sessionId, purpose);
+
+        // 3. Q2: 워밍업 질문 생성 (선택사항, 일단 호출만)
+        getWarmupQuestions(sessionId);
+
+        // 4. Q2 확인
+        confirmWarmup(sessionId);
+
+        // 5. Q3: 자유연상 입력
+        submitAssociations(sessionId, associations);
+
+        // 6. 아이디어 생성 (핵심!)
+        IdeasResponse ideasResponse = generateIdeas(sessionId);
+        ideasResponse.setSessionId(sessionId);
+        ideasResponse.getIdeas().forEach(onIdea);
+
+        // 7. 세션 삭제
+        deleteSession(sessionId);
+
+        return ideasResponse;
+    }
+
+    /**
+     * 1. 세션 생성
+     */
+    private SessionResponse createSession() {
+        String url = pythonApiUrl + "/api/v1/brainstorming/session";
+        return restTemplate.postForObject(url, null, SessionResponse.class);
+    }
+
+    /**
+     * 2. Q1 목적 입력
+     */
+    private PurposeResponse submitPurpose(String sessionId, String purpose) {
+        String url = pythonApiUrl + "/api/v1/brainstorming/purpose";
+        PurposeRequest request = new PurposeRequest(sessionId, purpose);
+        return restTemplate.postForObject(url, request, PurposeResponse.class);
+    }
+
+    /**
+     * 3. Q2 워밍업 질문 생성
+     */
+    private WarmupResponse getWarmupQuestions(String sessionId) {
+        String url = pythonApiUrl + "/api/v1/brainstorming/warmup/" + sessionId;
+        return restTemplate.getForObject(url, WarmupResponse.class);
+    }
+
+    /**
+     * 4. Q2 확인
+     */
+    private ConfirmResponse confirmWarmup(String sessionId) {
+        String url = pythonApiUrl + "/api/v1/brainstorming/confirm/" + sessionId;
+        return restTemplate.postForObject(url, null, ConfirmResponse.class);
+    }
+
+    /**
+     * 5. Q3 자유연상 입력
+     */
+    private AssociationsResponse submitAssociations(String sessionId, List<String> associations) {
+        String url = pythonApiUrl + "/api/v1/brainstorming/associations/" + sessionId;
+        AssociationsRequest request = new AssociationsRequest(sessionId, associations);
+        return restTemplate.postForObject(url, request, AssociationsResponse.class);
+    }
+
+    /**
+     * 6. 아이디어 생성 (핵심!)
+     */
+    private IdeasResponse generateIdeas(String sessionId) {
+        String url = pythonApiUrl + "/api/v1/brainstorming/ideas/" + sessionId;
+        return restTemplate.getForObject(url, IdeasResponse.class);
+    }
+
+    /**
+     * 7. 세션 삭제
+     */
+    private void deleteSession(String sessionId) {
+        String url = pythonApiUrl + "/api/v1/brainstorming/session/" + sessionId;
+        restTemplate.delete(url);
+    }
+}
@@ -1,22 +1,50 @@
 package com.brainstorming.brainstorming_platform.domain.brainstorming.controller;
 
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BatchBrainstormItemResult;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BatchBrainstormRequest;
 import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BrainstormRequest;
 import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BrainstormResponse;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BrainstormStreamEvent;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.service.BatchBrainstormingService;
 import com.brainstorming.brainstorming_platform.domain.brainstorming.service.BrainstormingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 브레인스토밍 컨트롤러
  * 사용자 요청을 받아 Python 브레인스토밍 모듈 호출
  */
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/brainstorm")
 public class BrainstormController {
 
+    private static final MediaType NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
     private final BrainstormingService brainstormingService;
+    private final BatchBrainstormingService batchBrainstormingService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${brainstorm.batch.timeout-ms:3600000}")
+    private long batchTimeoutMs;
 
     /**
      * 브레인스토밍 아이디어 생성
@@ -36,6 +64,118 @@ public class BrainstormController {
     @PostMapping("/generate")
     public ResponseEntity<BrainstormResponse> generateIdeas(@RequestBody BrainstormRequest request) {
         // 입력 검증
+        validate(request);
+
+        // 브레인스토밍 실행
+        BrainstormResponse response = brainstormingService.generate(request);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 브레인스토밍 아이디어 생성 (스트리밍)
+     *
+     * POST /api/brainstorm/generate/stream  (요청은 /generate 와 같음)
+     *
+     * 응답: application/x-ndjson
+     * - {"type":"idea", ...}      아이디어가 생성되는 대로 (gRPC 전송일 때 하나씩)
+     * - {"type":"completed", ...} 저장까지 끝난 최종 결과 (/generate 응답과 같음)
+     * - {"type":"error", ...}     실패
+     * - 클라이언트가 떠나도 생성은 끝까지 진행해 저장 (이미 비용을 낸 LLM 결과를 버리지 않음)
+     *
+     * @param request 브레인스토밍 요청
+     * @return 이벤트 스트림
+     */
+    @PostMapping("/generate/stream")
+    public ResponseEntity<StreamingResponseBody> generateIdeasStream(@RequestBody BrainstormRequest request) {
+        validate(request);
+
+        StreamingResponseBody body = out -> {
+            AtomicBoolean connected = new AtomicBoolean(true);
+            try {
+                BrainstormResponse response = brainstormingService.generate(request,
+                        idea -> writeLine(out, BrainstormStreamEvent.idea(idea), connected));
+                writeLine(out, BrainstormStreamEvent.completed(response), connected);
+            } catch (RuntimeException e) {
+                log.warn("브레인스토밍 스트리밍 실패 - userId: {}, 사유: {}", request.getUserId(), e.getMessage());
+                writeLine(out, BrainstormStreamEvent.error(e.getMessage()), connected);
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * 브레인스토밍 일괄 생성
+     *
+     * POST /api/brainstorm/batch
+     *
+     * 요청 예시:
+     * {
+     *   "userId": 1,
+     *   "items": [
+     *     { "purpose": "학생들을 위한 학습 앱 아이디어", "associations": ["학습", "AI"] },
+     *     { "purpose": "반려동물 산책 서비스", "associations": ["산책", "위치"] }
+     *   ]
+     * }
+     *
+     * 응답: application/x-ndjson, 항목이 끝나는 순서대로 한 줄씩 전송
+     * - 일괄 실행 대기열이 가득 차면 503 (Retry-After)
+     * - 연결이 끊기거나 시간 초과되면 남은 항목을 취소
+     *
+     * @param request 브레인스토밍 일괄 요청
+     * @return 항목별 결과 스트림
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseBodyEmitter> generateBatch(@RequestBody BatchBrainstormRequest request) {
+        // 입력 검증 (항목별 검증은 서비스에서 항목 결과로 반환)
+        if (request.getUserId() == null) {
+            throw new IllegalArgumentException("userId는 필수입니다.");
+        }
+
+        List<CompletableFuture<BatchBrainstormItemResult>> results;
+        try {
+            results = batchBrainstormingService.generateBatch(request);
+        } catch (RejectedExecutionException e) {
+            log.warn("브레인스토밍 일괄 실행 거절 - userId: {}, items: {}", request.getUserId(), request.getItems().size());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "60")
+                    .build();
+        }
+
+        // 완료 후에는 취소해도 아무 일 없음
+        Runnable cancel = () -> results.forEach(result -> result.cancel(true));
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(batchTimeoutMs);
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(e -> cancel.run());
+        for (CompletableFuture<BatchBrainstormItemResult> result : results) {
+            result.thenAccept(itemResult -> sendLine(emitter, itemResult, cancel));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, e) -> emitter.complete());
+
+        return ResponseEntity.ok().contentType(NDJSON).body(emitter);
+    }
+
+    /**
+     * 스트리밍 이벤트 한 줄 전송 후 flush
+     * - 전송 실패 = 클라이언트가 떠남 → 이후 이벤트는 보내지 않음 (생성 / 저장은 계속)
+     */
+    private void writeLine(OutputStream out, BrainstormStreamEvent event, AtomicBoolean connected) {
+        if (!connected.get()) {
+            return;
+        }
+        try {
+            out.write((objectMapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            connected.set(false);
+            log.info("브레인스토밍 스트리밍 연결 끊김, 생성은 계속 진행 - 사유: {}", e.getMessage());
+        }
+    }
+
+    private static void validate(BrainstormRequest request) {
         if (request.getUserId() == null) {
             throw new IllegalArgumentException("userId는 필수입니다.");
         }
@@ -45,11 +185,19 @@ public class BrainstormController {
         if (request.getAssociations() == null || request.getAssociations().isEmpty()) {
             throw new IllegalArgumentException("associations는 최소 1개 이상 필요합니다.");
         }
+    }
 
-        // 브레인스토밍 실행
-        BrainstormResponse response = brainstormingService.generate(request);
-        
-        return ResponseEntity.ok(response);
+    /**
+     * 항목 결과 한 줄 전송 (한 번의 send 로 줄 단위가 섞이지 않게)
+     * - 전송 실패 = 클라이언트가 떠남 → 남은 항목 취소
+     */
+    private void sendLine(ResponseBodyEmitter emitter, BatchBrainstormItemResult itemResult, Runnable cancel) {
+        try {
+            emitter.send(objectMapper.writeValueAsString(itemResult) + "\n", NDJSON);
+        } catch (Exception e) {
+            log.warn("일괄 결과 전송 실패, 남은 항목 취소 - index: {}, 사유: {}", itemResult.getIndex(), e.getMessage());
+            cancel.run();
+        }
     }
 
     /**
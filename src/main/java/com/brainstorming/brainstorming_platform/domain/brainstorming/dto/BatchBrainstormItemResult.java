@@ -0,0 +1,31 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.dto;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Java Controller → 사용자
+ * 브레인스토밍 일괄 요청의 항목별 결과 (NDJSON 한 줄)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBrainstormItemResult {
+    private int index;                            // 요청 items 의 순번
+    private String purpose;                       // 요청 목적
+    private boolean success;                      // 성공 여부
+    private List<IdeaResponseDto> ideas;          // 생성된 아이디어 (성공 시)
+    private String error;                         // 실패 사유 (실패 시)
+
+    public static BatchBrainstormItemResult success(int index, String purpose, List<IdeaResponseDto> ideas) {
+        return new BatchBrainstormItemResult(index, purpose, true, ideas, null);
+    }
+
+    public static BatchBrainstormItemResult failure(int index, String purpose, String error) {
+        return new BatchBrainstormItemResult(index, purpose, false, null, error);
+    }
+}
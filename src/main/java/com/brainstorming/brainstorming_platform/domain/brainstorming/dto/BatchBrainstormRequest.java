@@ -0,0 +1,24 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.dto;
+
+import lombok.Data;
+import java.util.List;
+
+/**
+ * 사용자 → Java Controller
+ * 브레인스토밍 일괄 요청 (목적/자유연상 세트 여러 개)
+ */
+@Data
+public class BatchBrainstormRequest {
+    private Long userId;                  // 사용자 ID
+    private String guestSessionId;        // 비로그인 사용자 임시저장용
+    private List<Item> items;             // 목적 + 자유연상 세트 목록
+
+    /**
+     * 일괄 요청의 항목 하나
+     */
+    @Data
+    public static class Item {
+        private String purpose;               // Q1: 목적
+        private List<String> associations;    // Q3: 자유연상 키워드
+    }
+}
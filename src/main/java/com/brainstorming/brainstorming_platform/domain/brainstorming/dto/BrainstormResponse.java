@@ -12,5 +12,6 @@ import java.util.List;
 public class BrainstormResponse {
     private String sessionId;                     // 세션 ID
     private List<IdeaResponseDto> ideas;          // 생성된 아이디어 목록 (DB 저장 후)
+    private int duplicateCount;                   // 기존 아이디어와 거의 같아 저장하지 않은 개수
     private String message;                       // 메시지
 }
@@ -0,0 +1,39 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Java Controller → 사용자
+ * 브레인스토밍 스트리밍 응답의 이벤트 (NDJSON 한 줄)
+ * - idea: Python 이 아이디어 하나를 끝낼 때마다 (저장 전이라 ID 없음)
+ * - completed: 저장까지 끝난 최종 결과 (/generate 응답과 같음)
+ * - error: 실패 사유
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrainstormStreamEvent {
+
+    public static final String IDEA = "idea";
+    public static final String COMPLETED = "completed";
+    public static final String ERROR = "error";
+
+    private String type;
+    private IdeasResponse.IdeaDto idea;           // 생성된 아이디어 (idea)
+    private BrainstormResponse result;            // 저장된 최종 결과 (completed)
+    private String error;                         // 실패 사유 (error)
+
+    public static BrainstormStreamEvent idea(IdeasResponse.IdeaDto idea) {
+        return new BrainstormStreamEvent(IDEA, idea, null, null);
+    }
+
+    public static BrainstormStreamEvent completed(BrainstormResponse result) {
+        return new BrainstormStreamEvent(COMPLETED, null, result, null);
+    }
+
+    public static BrainstormStreamEvent error(String error) {
+        return new BrainstormStreamEvent(ERROR, null, null, error);
+    }
+}
@@ -10,6 +10,9 @@ import java.util.List;
  */
 @Data
 public class IdeasResponse {
+    @JsonProperty("session_id")
+    private String sessionId;           // 브레인스토밍 세션 ID (클라이언트가 채움)
+
     private List<IdeaDto> ideas;
     
     @JsonProperty("rag_context")
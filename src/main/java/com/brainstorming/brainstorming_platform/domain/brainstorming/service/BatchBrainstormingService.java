@@ -0,0 +1,172 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.service;
+
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BatchBrainstormItemResult;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BatchBrainstormRequest;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BrainstormRequest;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BrainstormResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 브레인스토밍 일괄 실행 서비스
+ * - 모든 일괄 요청이 하나의 고정 크기 풀을 공유 (동시 실행 수 = brainstorm.batch.parallelism)
+ *   → 대화형 요청(/generate)은 이 풀을 쓰지 않으므로 일괄 실행이 몰려도 동시 LLM 호출 수가 제한됨
+ * - 대기열 크기 제한(brainstorm.batch.queue-capacity), 가득 차면 요청 전체를 거절 (RejectedExecutionException)
+ * - 항목 Future 를 취소하면 대기 중인 항목은 대기열에서 빠지고, 실행 중인 항목은 워커를 인터럽트
+ *   (gRPC 호출은 바로 중단, REST 호출은 진행 중인 HTTP 요청이 끝난 뒤 결과를 버림)
+ */
+@Slf4j
+@Service
+public class BatchBrainstormingService {
+
+    private final BrainstormingService brainstormingService;
+    private final ThreadPoolExecutor executor;
+    private final int maxItems;
+
+    public BatchBrainstormingService(
+            BrainstormingService brainstormingService,
+            @Value("${brainstorm.batch.parallelism:4}") int parallelism,
+            @Value("${brainstorm.batch.max-items:500}") int maxItems,
+            @Value("${brainstorm.batch.queue-capacity:1000}") int queueCapacity) {
+        this.brainstormingService = brainstormingService;
+        this.maxItems = maxItems;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "brainstorm-batch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 항목별로 브레인스토밍을 제출하고 항목별 결과 Future 를 요청 순서대로 반환
+     * - 항목 하나의 실패는 다른 항목에 영향을 주지 않음
+     * - 대기열에 모든 항목이 들어갈 자리가 없으면 하나도 실행하지 않고 RejectedExecutionException
+     * - 클라이언트가 떠나면 반환된 Future 를 cancel 해 남은 항목을 멈춤
+     */
+    public List<CompletableFuture<BatchBrainstormItemResult>> generateBatch(BatchBrainstormRequest request) {
+        List<BatchBrainstormRequest.Item> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("items는 최소 1개 이상 필요합니다.");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("items는 최대 " + maxItems + "개까지 요청할 수 있습니다.");
+        }
+
+        if (executor.getQueue().remainingCapacity() < items.size()) {
+            throw new RejectedExecutionException("브레인스토밍 일괄 실행 대기열이 가득 찼습니다.");
+        }
+
+        log.info("브레인스토밍 일괄 실행 시작 - userId: {}, items: {}", request.getUserId(), items.size());
+
+        List<CompletableFuture<BatchBrainstormItemResult>> results = new ArrayList<>(items.size());
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                ItemTask task = new ItemTask(request, i, items.get(i));
+                results.add(task);
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            // 확인 뒤 다른 요청이 먼저 채운 경우 - 이미 넣은 항목도 취소
+            results.forEach(result -> result.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    private BatchBrainstormItemResult runItem(BatchBrainstormRequest request, int index, BatchBrainstormRequest.Item item) {
+        if (item.getPurpose() == null || item.getPurpose().trim().isEmpty()) {
+            return BatchBrainstormItemResult.failure(index, item.getPurpose(), "purpose는 필수입니다.");
+        }
+        if (item.getAssociations() == null || item.getAssociations().isEmpty()) {
+            return BatchBrainstormItemResult.failure(index, item.getPurpose(), "associations는 최소 1개 이상 필요합니다.");
+        }
+
+        try {
+            BrainstormRequest single = new BrainstormRequest();
+            single.setUserId(request.getUserId());
+            single.setGuestSessionId(request.getGuestSessionId());
+            single.setPurpose(item.getPurpose());
+            single.setAssociations(item.getAssociations());
+
+            BrainstormResponse response = brainstormingService.generate(single);
+            return BatchBrainstormItemResult.success(index, item.getPurpose(), response.getIdeas());
+        } catch (Exception e) {
+            log.warn("브레인스토밍 일괄 실행 항목 실패 - index: {}, 사유: {}", index, e.getMessage());
+            return BatchBrainstormItemResult.failure(index, item.getPurpose(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 항목 하나 (결과 Future 이자 실행 작업)
+     * - 취소되면 대기열에서 빼고, 실행 중이면 워커 스레드를 인터럽트
+     */
+    private final class ItemTask extends CompletableFuture<BatchBrainstormItemResult> implements Runnable {
+
+        private final BatchBrainstormRequest request;
+        private final int index;
+        private final BatchBrainstormRequest.Item item;
+        private Thread worker; // 실행 중일 때만, this 로 보호
+
+        private ItemTask(BatchBrainstormRequest request, int index, BatchBrainstormRequest.Item item) {
+            this.request = request;
+            this.index = index;
+            this.item = item;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+                worker = Thread.currentThread();
+            }
+            try {
+                complete(runItem(request, index, item));
+            } finally {
+                synchronized (this) {
+                    worker = null;
+                }
+                // 취소 인터럽트가 다음 항목으로 넘어가지 않게
+                Thread.interrupted();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                executor.remove(this);
+                synchronized (this) {
+                    if (worker != null && mayInterruptIfRunning) {
+                        log.info("브레인스토밍 일괄 실행 항목 취소 - index: {}", index);
+                        worker.interrupt();
+                    }
+                }
+            }
+            return cancelled;
+        }
+    }
+}
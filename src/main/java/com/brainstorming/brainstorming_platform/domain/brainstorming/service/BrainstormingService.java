@@ -1,32 +1,38 @@
 package com.brainstorming.brainstorming_platform.domain.brainstorming.service;
 
+import com.brainstorming.brainstorming_platform.domain.brainstorming.client.BrainstormingClient;
 import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.*;
+import com.brainstorming.brainstorming_platform.domain.idea.dedup.IdeaDeduplicator;
 import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaRequestDto;
 import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaResponseDto;
 import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
 import com.brainstorming.brainstorming_platform.domain.idea.service.IdeaService;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWalRecord;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWriteAheadLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 브레인스토밍 서비스
- * Python FastAPI 호출 및 아이디어 DB 저장
+ * Python 브레인스토밍 서비스 호출(BrainstormingClient) 및 아이디어 DB 저장
  */
 @Service
 @RequiredArgsConstructor
 public class BrainstormingService {
 
-    private final RestTemplate restTemplate;
+    private final BrainstormingClient brainstormingClient;
     private final IdeaService ideaService;
+    private final IdeaWriteAheadLog ideaWriteAheadLog;
+    private final IdeaDeduplicator ideaDeduplicator;
 
-    @Value("${python.api.url}")
-    private String pythonApiUrl;
+    @Value("${idea.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
 
     /**
      * 브레인스토밍 전체 플로우 실행
@@ -36,37 +42,33 @@ public class BrainstormingService {
      */
     @Transactional
     public BrainstormResponse generate(BrainstormRequest request) {
-        try {
-            // 1. 세션 생성
-            SessionResponse session = createSession();
-            String sessionId = session.getSessionId();
-
-            // 2. Q1: 목적 입력
-            submitPurpose(sessionId, request.getPurpose());
-
-            // 3. Q2: 워밍업 질문 생성 (선택사항, 일단 호출만)
-            WarmupResponse warmup = getWarmupQuestions(sessionId);
-            
-            // 4. Q2 확인
-            confirmWarmup(sessionId);
-
-            // 5. Q3: 자유연상 입력
-            submitAssociations(sessionId, request.getAssociations());
-
-            // 6. 아이디어 생성 (핵심!)
-            IdeasResponse ideasResponse = generateIdeas(sessionId);
+        return generate(request, idea -> { });
+    }
 
-            // 7. DB 저장
-            List<IdeaResponseDto> savedIdeas = saveIdeasToDb(request.getUserId(), request.getGuestSessionId(), ideasResponse);
+    /**
+     * 브레인스토밍 전체 플로우 실행 (아이디어가 생성되는 대로 onIdea 호출, 저장은 모두 받은 뒤 한 번에)
+     *
+     * @param request 사용자 요청 (목적 + 키워드)
+     * @param onIdea  생성된 아이디어 (gRPC 전송이면 하나씩, REST 전송이면 마지막에 한꺼번에)
+     * @return 생성된 아이디어 목록
+     */
+    @Transactional
+    public BrainstormResponse generate(BrainstormRequest request, Consumer<IdeasResponse.IdeaDto> onIdea) {
+        try {
+            // 1. Python 브레인스토밍 세션 실행 (세션 생성 ~ 아이디어 생성 ~ 세션 삭제)
+            IdeasResponse ideasResponse = brainstormingClient.brainstorm(request.getPurpose(), request.getAssociations(), onIdea);
 
-            // 8. 세션 삭제
-            deleteSession(sessionId);
+            // 2. DB 저장
+            List<IdeaResponseDto> savedIdeas = saveIdeasToDb(request.getUserId(), request.getGuestSessionId(), request.getPurpose(), ideasResponse);
 
-            // 9. 응답 생성
+            // 3. 응답 생성
+            int duplicateCount = ideasResponse.getIdeas().size() - savedIdeas.size();
             BrainstormResponse response = new BrainstormResponse();
-            response.setSessionId(sessionId);
+            response.setSessionId(ideasResponse.getSessionId());
             response.setIdeas(savedIdeas);
-            response.setMessage("브레인스토밍 완료! " + savedIdeas.size() + "개의 아이디어가 생성되었습니다.");
+            response.setDuplicateCount(duplicateCount);
+            response.setMessage("브레인스토밍 완료! " + savedIdeas.size() + "개의 아이디어가 생성되었습니다."
+                    + (duplicateCount > 0 ? " (기존과 비슷한 아이디어 " + duplicateCount + "개 제외)" : ""));
 
             return response;
 
@@ -75,90 +77,55 @@ public class BrainstormingService {
         }
     }
 
-    /**
-     * 1. 세션 생성
-     */
-    private SessionResponse createSession() {
-        String url = pythonApiUrl + "/api/v1/brainstorming/session";
-        return restTemplate.postForObject(url, null, SessionResponse.class);
-    }
-
-    /**
-     * 2. Q1 목적 입력
-     */
-    private PurposeResponse submitPurpose(String sessionId, String purpose) {
-        String url = pythonApiUrl + "/api/v1/brainstorming/purpose";
-        PurposeRequest request = new PurposeRequest(sessionId, purpose);
-        return restTemplate.postForObject(url, request, PurposeResponse.class);
-    }
-
-    /**
-     * 3. Q2 워밍업 질문 생성
-     */
-    private WarmupResponse getWarmupQuestions(String sessionId) {
-        String url = pythonApiUrl + "/api/v1/brainstorming/warmup/" + sessionId;
-        return restTemplate.getForObject(url, WarmupResponse.class);
-    }
-
-    /**
-     * 4. Q2 확인
-     */
-    private ConfirmResponse confirmWarmup(String sessionId) {
-        String url = pythonApiUrl + "/api/v1/brainstorming/confirm/" + sessionId;
-        return restTemplate.postForObject(url, null, ConfirmResponse.class);
-    }
-
-    /**
-     * 5. Q3 자유연상 입력
-     */
-    private AssociationsResponse submitAssociations(String sessionId, List<String> associations) {
-        String url = pythonApiUrl + "/api/v1/brainstorming/associations/" + sessionId;
-        AssociationsRequest request = new AssociationsRequest(sessionId, associations);
-        return restTemplate.postForObject(url, request, AssociationsResponse.class);
-    }
-
-    /**
-     * 6. 아이디어 생성 (핵심!)
-     */
-    private IdeasResponse generateIdeas(String sessionId) {
-        String url = pythonApiUrl + "/api/v1/brainstorming/ideas/" + sessionId;
-        return restTemplate.getForObject(url, IdeasResponse.class);
-    }
-
-    /**
-     * 7. 세션 삭제
-     */
-    private void deleteSession(String sessionId) {
-        String url = pythonApiUrl + "/api/v1/brainstorming/session/" + sessionId;
-        restTemplate.delete(url);
-    }
-
     /**
      * Python에서 받은 아이디어를 DB에 저장
+     * - 기존 아이디어와 거의 같은(SimHash) 아이디어는 저장하지 않음
+     * - 로그인 사용자: WAL 에 fsync 후 바로 응답, DB 반영은 IdeaWriteBehindFlusher 가 담당
+     * - 그 외: 한 번의 saveAll 로 묶어서 저장
      */
-    private List<IdeaResponseDto> saveIdeasToDb(Long userId, String guestSessionId, IdeasResponse ideasResponse) {
-        List<IdeaResponseDto> savedIdeas = new ArrayList<>();
+    private List<IdeaResponseDto> saveIdeasToDb(Long userId, String guestSessionId, String purpose, IdeasResponse ideasResponse) {
+        List<Idea> ideas = new ArrayList<>();
 
         for (IdeasResponse.IdeaDto ideaDto : ideasResponse.getIdeas()) {
-            // description + analysis를 content에 포함
-            String content = ideaDto.getDescription() + "\n\n" + ideaDto.getAnalysis();
-
             // IdeaRequestDto 생성
             IdeaRequestDto requestDto = new IdeaRequestDto();
             requestDto.setUserId(userId);
             requestDto.setGuestSessionId(guestSessionId);
             requestDto.setTitle(ideaDto.getTitle());
-            requestDto.setContent(content);
-            requestDto.setPurpose("브레인스토밍으로 생성됨");
-
-            // Entity로 변환 후 저장
-            Idea idea = requestDto.toEntity();
-            Idea savedIdea = ideaService.save(idea);
+            // description / analysis 는 따로 저장 (content 는 조회 시 "설명\n\n분석" 으로 합쳐짐)
+            requestDto.setDescription(ideaDto.getDescription());
+            requestDto.setAnalysis(ideaDto.getAnalysis());
+            requestDto.setPurpose(purposeOf(purpose));
 
-            // ResponseDto로 변환
-            savedIdeas.add(IdeaResponseDto.from(savedIdea));
+            // Entity로 변환
+            ideas.add(requestDto.toEntity());
         }
+        ideas = ideaDeduplicator.collapse(userId, ideas);
+
+        // DB 가 느리거나 장애여도 이미 생성한 아이디어를 잃지 않도록 WAL 에 먼저 기록
+        if (writeBehindEnabled && userId != null) {
+            List<IdeaWalRecord> records = ideas.stream()
+                    .map(IdeaWalRecord::of)
+                    .toList();
+            return ideaWriteAheadLog.append(records).stream()
+                    .map(IdeaWalRecord::toResponseDto)
+                    .toList();
+        }
+
+        // 일괄 저장 후 ResponseDto로 변환
+        return ideaService.saveAll(ideas).stream()
+                .map(IdeaResponseDto::from)
+                .toList();
+    }
 
-        return savedIdeas;
+    /**
+     * Q1 답변을 아이디어 목적으로 저장 (자동완성에 사용, purpose 컬럼 길이 255)
+     */
+    private static String purposeOf(String purpose) {
+        if (purpose == null || purpose.isBlank()) {
+            return "브레인스토밍으로 생성됨";
+        }
+        String trimmed = purpose.trim();
+        return trimmed.length() > 255 ? trimmed.substring(0, 255) : trimmed;
     }
 }
@@ -0,0 +1,61 @@
+package com.brainstorming.brainstorming_platform.domain.idea.archive;
+
+import com.brainstorming.brainstorming_platform.domain.idea.compression.CompressedTextConverter;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 아이디어 (ideas_archive)
+ * - 행은 IdeaArchiveTask 가 ideas 에서 그대로 복사 (엔티티로 만들거나 수정하지 않음, 삭제만)
+ * - 자주 읽지 않으므로 2차 캐시 / 지연 로딩 없음
+ */
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "ideas_archive")
+@Getter
+public class ArchivedIdea {
+
+    @Id
+    private Long ideaId;
+
+    private Long userId;
+
+    private String title;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private String content;
+
+    private String purpose;
+
+    private String guestSessionId;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private String description;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private String analysis;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime archivedAt;
+
+    public Idea toIdea() {
+        return Idea.archived(ideaId, userId, title, content, purpose, guestSessionId,
+                description, analysis, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,96 @@
+package com.brainstorming.brainstorming_platform.domain.idea.archive;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSummary;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaText;
+import com.brainstorming.brainstorming_platform.global.shard.ShardedByUser;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@ShardedByUser
+@Transactional(readOnly = true)
+public interface ArchivedIdeaRepository extends JpaRepository<ArchivedIdea, Long> {
+
+    // 목록 / 본문 프로젝션 (IdeaRepository 와 같은 별칭)
+    String SUMMARY = "SELECT a.ideaId AS ideaId, a.userId AS userId, a.title AS title,"
+            + " a.purpose AS purpose, a.createdAt AS createdAt FROM ArchivedIdea a";
+
+    String TEXT = "SELECT a.ideaId AS ideaId, a.userId AS userId, a.title AS title,"
+            + " a.purpose AS purpose, a.createdAt AS createdAt,"
+            + " a.content AS content, a.description AS description, a.analysis AS analysis FROM ArchivedIdea a";
+
+    List<ArchivedIdea> findByUserId(Long userId);
+
+    @Query(SUMMARY + " WHERE a.userId = :userId")
+    List<IdeaSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query(TEXT + " WHERE a.userId = :userId")
+    List<IdeaText> findTextsByUserId(@Param("userId") Long userId);
+
+    // 내보내기용 본문 스트림 (IdeaRepository#streamTextsByUserId 와 같은 힌트)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TEXT + " WHERE a.userId = :userId ORDER BY a.ideaId")
+    Stream<IdeaText> streamTextsByUserId(@Param("userId") Long userId);
+
+    // 목록 페이지 keyset (IdeaRepository 와 같은 정렬, idx_ideas_archive_user)
+    @Query(SUMMARY + " WHERE a.userId = :userId ORDER BY a.createdAt DESC, a.ideaId DESC")
+    Stream<IdeaSummary> streamLatest(@Param("userId") Long userId, Limit limit);
+
+    @Query(SUMMARY + " WHERE a.userId = :userId"
+            + " AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.ideaId < :ideaId))"
+            + " ORDER BY a.createdAt DESC, a.ideaId DESC")
+    Stream<IdeaSummary> streamBefore(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("ideaId") Long ideaId,
+                                     Limit limit);
+
+    @Query(TEXT + " WHERE a.ideaId IN :ideaIds")
+    List<IdeaText> findTextsByIdIn(@Param("ideaIds") Collection<Long> ideaIds);
+
+    @Query(SUMMARY + " WHERE a.ideaId IN :ideaIds")
+    List<IdeaSummary> findSummariesByIdIn(@Param("ideaIds") Collection<Long> ideaIds);
+
+    @Query("SELECT COALESCE(a.updatedAt, a.createdAt) FROM ArchivedIdea a WHERE a.ideaId = :ideaId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("ideaId") Long ideaId);
+
+    // 현재 샤드의 사용자 ID keyset (리샤딩용, idx_ideas_archive_user)
+    @Query("SELECT DISTINCT a.userId FROM ArchivedIdea a WHERE a.userId > :afterUserId ORDER BY a.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Limit limit);
+
+    // 삭제 대상 행 잠금 조회 (IdeaRepository#findAllForUpdate 와 같음)
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ArchivedIdea a WHERE a.ideaId IN :ideaIds")
+    List<ArchivedIdea> findAllForUpdate(@Param("ideaIds") Collection<Long> ideaIds);
+
+    /**
+     * ideas 의 행을 그대로 복사 (텍스트 컬럼은 저장 형식 그대로, 압축 해제 없음)
+     * - 같은 트랜잭션에서 IdeaRepository#deleteByIdeaIds 로 원본 삭제
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ideas_archive"))
+    @Query(value = "INSERT INTO ideas_archive (idea_id, created_at, updated_at, archived_at, user_id, title,"
+            + " content, purpose, guest_session_id, description, analysis)"
+            + " SELECT idea_id, created_at, updated_at, :archivedAt, user_id, title,"
+            + " content, purpose, guest_session_id, description, analysis"
+            + " FROM ideas WHERE idea_id IN (:ideaIds)", nativeQuery = true)
+    int copyFromIdeas(@Param("ideaIds") Collection<Long> ideaIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
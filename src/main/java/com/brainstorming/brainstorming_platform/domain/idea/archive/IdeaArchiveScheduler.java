@@ -0,0 +1,69 @@
+package com.brainstorming.brainstorming_platform.domain.idea.archive;
+
+import com.brainstorming.brainstorming_platform.global.job.JobLeaseManager;
+import com.brainstorming.brainstorming_platform.global.job.RetentionJobRunner;
+import com.brainstorming.brainstorming_platform.global.shard.ShardContext;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdeaArchiveScheduler {
+
+    private static final String PARTITION_JOB = "idea-partitions";
+    private static final Duration PARTITION_LEASE = Duration.ofMinutes(30);
+
+    private final RetentionJobRunner retentionJobRunner;
+    private final IdeaArchiveTask ideaArchiveTask;
+    private final IdeaPartitions ideaPartitions;
+    private final JobLeaseManager jobLeaseManager;
+    private final ShardRouter shardRouter;
+
+    @Value("${idea.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    @Value("${idea.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    /**
+     * 오래된 아이디어 보관 (매일 새벽 4시 10분, 기본 365일 지난 아이디어)
+     * - 청크 / 리스 / 최대 실행 시간은 RetentionJobRunner 설정을 따름
+     */
+    @Scheduled(cron = "${idea.archive.cron:0 10 4 * * *}")
+    public void archiveOldIdeas() {
+        if (archiveEnabled) {
+            retentionJobRunner.submit(ideaArchiveTask);
+        }
+    }
+
+    /**
+     * 파티션 관리 (매일 새벽 2시 50분)
+     * - 다가올 달 파티션 추가
+     * - DDL 이라 여러 노드 중 리스를 얻은 한 곳만 실행, 샤드마다 따로
+     */
+    @Scheduled(cron = "${idea.partition.cron:0 50 2 * * *}")
+    public void maintainPartitions() {
+        if (!jobLeaseManager.tryAcquire(PARTITION_JOB, PARTITION_LEASE)) {
+            return;
+        }
+        try {
+            for (int shard : shardRouter.shards()) {
+                try {
+                    ShardContext.run(shard, () -> ideaPartitions.ensureAhead(YearMonth.now(), monthsAhead));
+                } catch (RuntimeException e) {
+                    log.warn("ideas 파티션 관리 실패 - shard={}: {}", shard, e.getMessage());
+                }
+            }
+        } finally {
+            jobLeaseManager.release(PARTITION_JOB);
+        }
+    }
+}
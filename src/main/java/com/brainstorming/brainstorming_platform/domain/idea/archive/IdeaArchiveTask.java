@@ -0,0 +1,49 @@
+package com.brainstorming.brainstorming_platform.domain.idea.archive;
+
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.global.job.ChunkedTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 아이디어를 ideas_archive 로 이동
+ * - 청크마다 INSERT ... SELECT 로 복사 후 원본 삭제 (러너가 청크마다 트랜잭션)
+ * - 카운터 / 목록 버전 / 색인은 그대로 (보관된 아이디어도 IdeaService 로 계속 조회되므로 삭제 이벤트 없음)
+ * - 게스트 아이디어는 대상이 아님 (GuestIdeaRetentionTask)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdeaArchiveTask implements ChunkedTask {
+
+    private final IdeaRepository ideaRepository;
+    private final ArchivedIdeaRepository archivedIdeaRepository;
+
+    @Value("${idea.archive.after-days:365}")
+    private long afterDays;
+
+    @Override
+    public String name() {
+        return "idea-archive";
+    }
+
+    @Override
+    public int processChunk(int chunkSize) {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(afterDays);
+        List<Long> ideaIds = ideaRepository.findArchivableIdeaIds(cutoffDate, Limit.of(chunkSize));
+        if (ideaIds.isEmpty()) {
+            return 0;
+        }
+        archivedIdeaRepository.copyFromIdeas(ideaIds, LocalDateTime.now());
+        ideaRepository.deleteByIdeaIds(ideaIds);
+        return ideaIds.size();
+    }
+
+    public long afterDays() {
+        return afterDays;
+    }
+}
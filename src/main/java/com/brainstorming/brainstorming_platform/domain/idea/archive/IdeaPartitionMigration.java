@@ -0,0 +1,82 @@
+package com.brainstorming.brainstorming_platform.domain.idea.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+
+/**
+ * V10: ideas 를 created_at 월 단위 RANGE 파티션으로 (MySQL 만)
+ *
+ * - 파티션 키는 모든 UNIQUE 키에 포함되어야 하므로 PK 를 (idea_id, created_at) 으로 바꿈
+ *   (엔티티 @Id 는 idea_id 그대로, AUTO_INCREMENT 라 idea_id 단독으로도 유일)
+ * - 가장 오래된 달부터 3달 뒤까지 만들고, 이후 달은 IdeaArchiveScheduler 가 추가
+ * - 테이블을 다시 쓰는 DDL 이라 행이 많으면 오래 걸림 (배포 전 점검 시간에 적용)
+ * - MySQL 이 아니면(H2 테스트) 건너뜀 - 파티션 없이 같은 스키마로 동작
+ * - Spring 빈이라 Flyway 자동 설정이 SQL 마이그레이션과 함께 실행함 (클래스 이름 대신 getVersion 으로 버전 지정)
+ */
+@Slf4j
+@Component
+public class IdeaPartitionMigration implements JavaMigration {
+
+    private static final int MONTHS_AHEAD = 3;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("10");
+    }
+
+    @Override
+    public String getDescription() {
+        return "ideas monthly partitions";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    // MySQL DDL 은 암묵적으로 커밋되어 트랜잭션으로 묶을 수 없음
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            log.info("MySQL 이 아니므로 ideas 파티션을 만들지 않음");
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            // 파티션 키 컬럼은 NULL 불가 (감사 컬럼이라 비어 있는 행은 거의 없음)
+            statement.executeUpdate("UPDATE ideas SET created_at = COALESCE(updated_at, NOW(6))"
+                    + " WHERE created_at IS NULL");
+
+            YearMonth current = YearMonth.now();
+            YearMonth oldest = current;
+            try (ResultSet resultSet = statement.executeQuery("SELECT MIN(created_at) FROM ideas")) {
+                if (resultSet.next()) {
+                    Timestamp min = resultSet.getTimestamp(1);
+                    if (min != null) {
+                        oldest = YearMonth.from(min.toLocalDateTime());
+                    }
+                }
+            }
+
+            statement.execute("ALTER TABLE ideas MODIFY created_at DATETIME(6) NOT NULL,"
+                    + " DROP PRIMARY KEY, ADD PRIMARY KEY (idea_id, created_at)");
+            statement.execute("ALTER TABLE ideas " + IdeaPartitions.partitionBy(oldest, current.plusMonths(MONTHS_AHEAD)));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.brainstorming.brainstorming_platform.domain.idea.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * ideas 월 단위 RANGE 파티션 (created_at, MySQL 전용)
+ *
+ * - 파티션 이름 pYYYYMM = 그 달에 생성된 행, 마지막은 pmax (MAXVALUE)
+ * - 다가올 달 파티션은 미리 pmax 에서 나눠 둠 (비어 있어 빠름)
+ * - 보관(IdeaArchiveTask)은 기준일 이전 파티션만 읽음
+ * - 파티션을 통째로 삭제하지는 않음: 사용자 행이 보관되는 365일 뒤에는 게스트 행도 이미 행 단위로 정리되어 있음
+ *   (GuestIdeaRetentionTask, 1일) → 게스트 정리를 대신할 수 없음
+ * - MySQL 이 아니거나(H2 테스트) 파티션이 없는 테이블이면 아무것도 안 함
+ */
+@Slf4j
+@Component
+public class IdeaPartitions {
+
+    static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean mysql;
+
+    public IdeaPartitions(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 현재 파티션 달 목록 (오래된 순, pmax 제외), 파티션이 없으면 빈 목록
+     */
+    public List<YearMonth> months() {
+        if (!isMySql()) {
+            return List.of();
+        }
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions"
+                        + " WHERE table_schema = DATABASE() AND table_name = 'ideas' AND partition_name IS NOT NULL"
+                        + " ORDER BY partition_ordinal_position", String.class);
+        List<YearMonth> months = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (!MAX_PARTITION.equals(name)) {
+                months.add(YearMonth.parse(name, NAME));
+            }
+        }
+        return months;
+    }
+
+    /**
+     * 이번 달부터 monthsAhead 달 뒤까지 파티션이 있게 pmax 를 나눔
+     *
+     * @return 추가한 파티션 개수
+     */
+    public int ensureAhead(YearMonth current, int monthsAhead) {
+        List<YearMonth> months = months();
+        if (months.isEmpty()) {
+            return 0;
+        }
+        YearMonth next = months.get(months.size() - 1).plusMonths(1);
+        YearMonth last = current.plusMonths(monthsAhead);
+        if (next.isAfter(last)) {
+            return 0;
+        }
+        jdbcTemplate.execute("ALTER TABLE ideas REORGANIZE PARTITION " + MAX_PARTITION
+                + " INTO (" + definitions(next, last) + ")");
+        log.info("ideas 파티션 추가 - {} ~ {}", next, last);
+        return (int) next.until(last, ChronoUnit.MONTHS) + 1;
+    }
+
+    static String partitionName(YearMonth month) {
+        return month.format(NAME);
+    }
+
+    /**
+     * from ~ to 월 파티션 + pmax 정의 (PARTITION BY / REORGANIZE 공통)
+     */
+    static String definitions(YearMonth from, YearMonth to) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            joiner.add("PARTITION " + partitionName(month) + " VALUES LESS THAN ('"
+                    + month.plusMonths(1).atDay(1) + " 00:00:00')");
+        }
+        joiner.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        return joiner.toString();
+    }
+
+    static String partitionBy(YearMonth from, YearMonth to) {
+        return "PARTITION BY RANGE COLUMNS (created_at) (" + definitions(from, to) + ")";
+    }
+
+    private boolean isMySql() {
+        Boolean cached = mysql;
+        if (cached == null) {
+            cached = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            mysql = cached;
+        }
+        return Boolean.TRUE.equals(cached);
+    }
+}
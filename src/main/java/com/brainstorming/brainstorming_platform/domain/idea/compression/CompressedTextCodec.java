@@ -0,0 +1,120 @@
+package com.brainstorming.brainstorming_platform.domain.idea.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 텍스트 저장 형식 (ideas.content / description / analysis)
+ *
+ * - 일반: UTF-8 바이트 그대로 (헤더 없음, 압축 도입 전 TEXT 로 저장된 행도 이 형식)
+ * - 헤더: [0x00][형식][원본 길이 4바이트(DEFLATE 만)][데이터]
+ *   - 0x00 으로 시작하는 UTF-8 텍스트는 사실상 없으므로 첫 바이트로 구분
+ *   - RAW(0x00): NUL 로 시작하는 텍스트를 일반 형식과 구분하기 위해서만 사용
+ *   - DEFLATE(0x01): threshold 이상이고 압축해서 실제로 줄어들 때만
+ */
+public final class CompressedTextCodec {
+
+    static final byte MARKER = 0x00;
+    static final byte RAW = 0x00;
+    static final byte DEFLATE = 0x01;
+
+    private static final int DEFLATE_HEADER = 6;
+
+    private CompressedTextCodec() {
+    }
+
+    public static byte[] encode(String text, int thresholdBytes, int level) {
+        if (text == null) {
+            return null;
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= thresholdBytes) {
+            byte[] compressed = deflate(utf8, level);
+            if (compressed.length + DEFLATE_HEADER < utf8.length) {
+                byte[] stored = new byte[DEFLATE_HEADER + compressed.length];
+                stored[0] = MARKER;
+                stored[1] = DEFLATE;
+                stored[2] = (byte) (utf8.length >>> 24);
+                stored[3] = (byte) (utf8.length >>> 16);
+                stored[4] = (byte) (utf8.length >>> 8);
+                stored[5] = (byte) utf8.length;
+                System.arraycopy(compressed, 0, stored, DEFLATE_HEADER, compressed.length);
+                return stored;
+            }
+        }
+        if (utf8.length > 0 && utf8[0] == MARKER) {
+            byte[] stored = new byte[utf8.length + 2];
+            stored[0] = MARKER;
+            stored[1] = RAW;
+            System.arraycopy(utf8, 0, stored, 2, utf8.length);
+            return stored;
+        }
+        return utf8;
+    }
+
+    public static String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (stored.length == 0 || stored[0] != MARKER) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        if (stored.length >= 2 && stored[1] == RAW) {
+            return new String(stored, 2, stored.length - 2, StandardCharsets.UTF_8);
+        }
+        if (stored.length >= DEFLATE_HEADER && stored[1] == DEFLATE) {
+            int length = ((stored[2] & 0xff) << 24) | ((stored[3] & 0xff) << 16)
+                    | ((stored[4] & 0xff) << 8) | (stored[5] & 0xff);
+            return new String(inflate(stored, length), StandardCharsets.UTF_8);
+        }
+        throw new IllegalStateException("알 수 없는 텍스트 저장 형식입니다.");
+    }
+
+    public static boolean isCompressed(byte[] stored) {
+        return stored != null && stored.length >= 2 && stored[0] == MARKER && stored[1] == DEFLATE;
+    }
+
+    private static byte[] deflate(byte[] input, int level) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[Math.min(8192, input.length + 64)];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, DEFLATE_HEADER, stored.length - DEFLATE_HEADER);
+            byte[] output = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int inflated = inflater.inflate(output, read, length - read);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != length) {
+                throw new IllegalStateException("압축된 텍스트가 손상되었습니다.");
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 텍스트가 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.brainstorming.brainstorming_platform.domain.idea.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * 긴 텍스트 컬럼 <-> 압축 저장 형식 (CompressedTextCodec)
+ *
+ * - 지연 로딩 컬럼에 쓰므로 압축 해제는 그 컬럼을 실제로 읽을 때만 일어남
+ * - Hibernate 가 Spring 빈 컨테이너로 생성해 설정값을 주입받음 (없으면 기본값)
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    @Value("${idea.compression.threshold-bytes:1024}")
+    private int thresholdBytes = 1024;
+
+    @Value("${idea.compression.level:6}")
+    private int level = 6;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return CompressedTextCodec.encode(attribute, thresholdBytes, level);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return CompressedTextCodec.decode(dbData);
+    }
+}
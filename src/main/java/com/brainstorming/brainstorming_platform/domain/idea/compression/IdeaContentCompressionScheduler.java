@@ -0,0 +1,30 @@
+package com.brainstorming.brainstorming_platform.domain.idea.compression;
+
+import com.brainstorming.brainstorming_platform.global.job.RetentionJobRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IdeaContentCompressionScheduler {
+
+    private final RetentionJobRunner retentionJobRunner;
+    private final IdeaContentCompressionTask ideaContentCompressionTask;
+
+    @Value("${idea.compression.backfill-enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 기존 행 압축 백필 (기본 새벽 4시, 켜져 있을 때만)
+     * - V7 마이그레이션 후 한 바퀴 다 돌 때까지만 켜 두면 됨 (새로 저장되는 값은 컨버터가 압축)
+     * - 청크 / 리스 / 최대 실행 시간은 RetentionJobRunner 설정을 따름
+     */
+    @Scheduled(cron = "${idea.compression.backfill-cron:0 0 4 * * *}")
+    public void backfill() {
+        if (enabled) {
+            retentionJobRunner.submit(ideaContentCompressionTask);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.brainstorming.brainstorming_platform.domain.idea.compression;
+
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.global.job.ChunkedTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 압축 도입 전에 저장된 긴 텍스트를 압축 형식으로 다시 저장 (백필)
+ *
+ * - PK 순서로 청크씩 읽어 threshold 이상인 일반 형식 값만 다시 씀
+ * - 위치(lastIdeaId)는 러너 전용 스레드에서만 다루고, 끝까지 가면 0 으로 돌아감
+ *   (시간 제한으로 멈추면 같은 노드의 다음 실행이 이어서 진행, 다른 노드는 처음부터 - 이미 압축된 행은 건너뜀)
+ * - 지표: ideas.compression.backfill.saved_bytes
+ */
+@Component
+public class IdeaContentCompressionTask implements ChunkedTask {
+
+    private final IdeaRepository ideaRepository;
+    private final Counter savedBytes;
+
+    @Value("${idea.compression.threshold-bytes:1024}")
+    private int thresholdBytes;
+
+    @Value("${idea.compression.level:6}")
+    private int level;
+
+    private long lastIdeaId;
+
+    public IdeaContentCompressionTask(IdeaRepository ideaRepository, MeterRegistry meterRegistry) {
+        this.ideaRepository = ideaRepository;
+        this.savedBytes = Counter.builder("ideas.compression.backfill.saved_bytes")
+                .description("백필로 줄어든 저장 바이트")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "idea-content-compression";
+    }
+
+    @Override
+    public int processChunk(int chunkSize) {
+        List<Object[]> rows = ideaRepository.findStoredTextsAfter(lastIdeaId, Limit.of(chunkSize));
+        long after = lastIdeaId;
+        for (Object[] row : rows) {
+            Long ideaId = ((Number) row[0]).longValue();
+            byte[] content = bytesOf(row[1]);
+            byte[] description = bytesOf(row[2]);
+            byte[] analysis = bytesOf(row[3]);
+
+            byte[] newContent = recompress(content);
+            byte[] newDescription = recompress(description);
+            byte[] newAnalysis = recompress(analysis);
+            if (newContent != content || newDescription != description || newAnalysis != analysis) {
+                ideaRepository.updateStoredTexts(ideaId, newContent, newDescription, newAnalysis);
+                savedBytes.increment(length(content) + length(description) + length(analysis)
+                        - length(newContent) - length(newDescription) - length(newAnalysis));
+            }
+            after = ideaId;
+        }
+        // 청크가 다 차지 않았으면 끝까지 간 것 (다음 실행은 처음부터)
+        lastIdeaId = rows.size() < chunkSize ? 0 : after;
+        return rows.size();
+    }
+
+    /**
+     * 압축 대상이면 새 바이트, 아니면 같은 배열 그대로
+     */
+    private byte[] recompress(byte[] stored) {
+        if (stored == null || stored.length < thresholdBytes || CompressedTextCodec.isCompressed(stored)) {
+            return stored;
+        }
+        byte[] encoded = CompressedTextCodec.encode(CompressedTextCodec.decode(stored), thresholdBytes, level);
+        return Arrays.equals(encoded, stored) ? stored : encoded;
+    }
+
+    private static long length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    /**
+     * MySQL 은 byte[], H2 등은 Blob 으로 돌려줌
+     */
+    private static byte[] bytesOf(Object value) {
+        if (value == null || value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        try {
+            Blob blob = (Blob) value;
+            return blob.getBytes(1, (int) blob.length());
+        } catch (SQLException e) {
+            throw new IllegalStateException("텍스트 컬럼을 읽지 못했습니다.", e);
+        }
+    }
+}
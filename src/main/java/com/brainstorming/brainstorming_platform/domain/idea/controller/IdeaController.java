@@ -1,18 +1,37 @@
 package com.brainstorming.brainstorming_platform.domain.idea.controller;
 
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaBatchResultDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaChangesDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaFields;
 import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaRequestDto;
 import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaResponseDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSearchResponseDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSuggestionDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.RelatedIdeaResponseDto;
 import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.export.IdeaExportFormat;
+import com.brainstorming.brainstorming_platform.domain.idea.export.IdeaExportWriter;
+import com.brainstorming.brainstorming_platform.domain.idea.paging.IdeaCursor;
+import com.brainstorming.brainstorming_platform.domain.idea.paging.IdeaPageWriter;
 import com.brainstorming.brainstorming_platform.domain.idea.service.IdeaService;
+import com.brainstorming.brainstorming_platform.domain.idea.sync.IdeaChangeFeed;
+import com.brainstorming.brainstorming_platform.global.etag.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,6 +39,18 @@ import java.util.List;
 public class IdeaController {
 
     private final IdeaService ideaService;
+    private final IdeaPageWriter ideaPageWriter;
+    private final IdeaExportWriter ideaExportWriter;
+    private final IdeaChangeFeed ideaChangeFeed;
+
+    @Value("${idea.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${idea.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${idea.batch.max-size:100}")
+    private int maxBatchSize;
 
     //Idea 생성
     @PostMapping
@@ -34,9 +65,49 @@ public class IdeaController {
         return ResponseEntity.ok(responseDto);
     }
 
-    //Idea 조회
+    /**
+     * Idea 일괄 생성 (샤드마다 한 트랜잭션, 항목별 결과)
+     * POST /api/ideas/batch  [{...}, {...}]
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<IdeaBatchResultDto>> createIdeas(@RequestBody List<IdeaRequestDto> requestDtos) {
+        checkBatchSize(requestDtos.size());
+        return ResponseEntity.ok(ideaService.createBatch(requestDtos));
+    }
+
+    /**
+     * Idea 일괄 조회 (IN 쿼리 한 번, 요청 순서대로 항목별 결과)
+     * GET /api/ideas?ids=1,2,3
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<IdeaBatchResultDto>> getIdeas(@RequestParam List<Long> ids) {
+        checkBatchSize(ids.size());
+        return ResponseEntity.ok(ideaService.findBatch(ids));
+    }
+
+    /**
+     * Idea 일괄 삭제 (한 트랜잭션, 항목별 결과)
+     * DELETE /api/ideas/batch  [1, 2, 3]
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<IdeaBatchResultDto>> deleteIdeas(@RequestBody List<Long> ideaIds) {
+        checkBatchSize(ideaIds.size());
+        return ResponseEntity.ok(ideaService.deleteBatch(ideaIds));
+    }
+
+    /**
+     * Idea 조회
+     * - If-None-Match 가 현재 ETag(수정 시각)와 같으면 본문 없이 304
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<IdeaResponseDto> getIdea(@PathVariable("id") Long ideaId) {
+    public ResponseEntity<IdeaResponseDto> getIdea(
+            @PathVariable("id") Long ideaId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> eTag = ideaService.findETag(ideaId);
+        if (eTag.isPresent()) {
+            return ETags.conditional(ifNoneMatch, eTag.get(),
+                    () -> IdeaResponseDto.from(ideaService.findById(ideaId)));
+        }
         // 1 Service 호출
         Idea findIdea = ideaService.findById(ideaId);
         // 2 Dto 변환
@@ -45,17 +116,124 @@ public class IdeaController {
         return ResponseEntity.ok(responseDto);
     }
 
-    //Idea 전체조회
+    /**
+     * 관련 아이디어 조회
+     * GET /api/ideas/{id}/related?k=5
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedIdeaResponseDto>> getRelatedIdeas(
+            @PathVariable("id") Long ideaId,
+            @RequestParam(defaultValue = "5") int k) {
+        if (k < 1 || k > 50) {
+            throw new IllegalArgumentException("k는 1~50 사이여야 합니다.");
+        }
+        return ResponseEntity.ok(ideaService.findRelated(ideaId, k));
+    }
+
+    /**
+     * Idea 전체조회
+     * GET /api/ideas?userId=1                              (본문 제외 목록 필드, 본문 컬럼을 읽지 않음)
+     * GET /api/ideas?userId=1&fields=ideaId,title,createdAt (요청한 필드만, content 를 넣어야 본문 포함)
+     * - 본문 전체는 GET /api/ideas/{id}
+     * - If-None-Match 가 목록 ETag 와 같으면 목록을 읽지 않고 304
+     */
     @GetMapping
-    public ResponseEntity<List<IdeaResponseDto>> getIdeasByUser(@RequestParam Long userId) {
-        // 1 Service 호출
-        List<Idea> ideas = ideaService.findByUserId(userId);
-        // 2 Dto 변환
-        List<IdeaResponseDto> responseDtos = ideas.stream()
-                .map(IdeaResponseDto::from)
-                .toList();
-        // 3 응답
-        return ResponseEntity.ok(responseDtos);
+    public ResponseEntity<List<Map<String, Object>>> getIdeasByUser(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        IdeaFields selected = fields == null ? IdeaFields.SUMMARY : IdeaFields.parse(fields);
+        String eTag = ideaService.listETag(userId, selected);
+        return ETags.conditional(ifNoneMatch, eTag, () -> ideaService.findFieldsByUserId(userId, selected));
+    }
+
+    /**
+     * 변경분 동기화 (since 이후 생성/수정된 아이디어 + 삭제된 ID)
+     * GET /api/ideas/changes?userId=1                 (첫 동기화: fullResync=true, nextSince 만)
+     * GET /api/ideas/changes?userId=1&since={이전 응답의 nextSince}
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<IdeaChangesDto> getIdeaChanges(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String since) {
+        return ResponseEntity.ok()
+                .cacheControl(ETags.PRIVATE_REVALIDATE)
+                .body(ideaChangeFeed.changes(userId, since));
+    }
+
+    /**
+     * Idea 페이지 조회 (최신순, 커서 기반)
+     * GET /api/ideas/page?userId=1&size=50
+     * GET /api/ideas/page?userId=1&cursor={이전 응답의 nextCursor}
+     * 응답: {"pending":[...], "items":[...], "nextCursor":"..." | null}
+     * - pending: 첫 페이지에만, 저장 대기 중이라 ideaId 가 없는 아이디어 (size 에 세지 않음)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<StreamingResponseBody> getIdeaPage(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("size는 1~" + maxPageSize + " 사이여야 합니다.");
+        }
+        IdeaCursor after = cursor == null || cursor.isBlank() ? null : IdeaCursor.decode(cursor);
+
+        StreamingResponseBody body = out -> ideaPageWriter.write(userId, after, pageSize, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 아이디어 전체 내보내기 (DB 커서로 읽으면서 바로 응답)
+     * GET /api/ideas/export?userId=1&format=ndjson
+     * GET /api/ideas/export?userId=1&format=csv
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIdeas(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        IdeaExportFormat exportFormat = IdeaExportFormat.from(format);
+
+        StreamingResponseBody body = out -> ideaExportWriter.write(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("ideas-" + userId + "." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * 아이디어 검색 (제목 + 내용)
+     * GET /api/ideas/search?userId=1&q=학습 앱&limit=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<IdeaSearchResponseDto>> searchIdeas(
+            @RequestParam Long userId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("limit는 1~100 사이여야 합니다.");
+        }
+        return ResponseEntity.ok(ideaService.search(userId, q, limit));
+    }
+
+    /**
+     * 자동완성 (아이디어 제목 + 이전 브레인스토밍 목적)
+     * GET /api/ideas/suggest?userId=1&prefix=학습&limit=10
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<IdeaSuggestionDto>> suggest(
+            @RequestParam Long userId,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > 50) {
+            throw new IllegalArgumentException("limit는 1~50 사이여야 합니다.");
+        }
+        return ResponseEntity.ok(ideaService.suggest(userId, prefix, limit));
     }
 
     @DeleteMapping("/{id}")
@@ -85,4 +263,10 @@ public class IdeaController {
         int linkedCount = ideaService.linkGuestIdeasToUser(guestSessionId, userId);
         return ResponseEntity.ok(linkedCount);
     }
+
+    private void checkBatchSize(int size) {
+        if (size < 1 || size > maxBatchSize) {
+            throw new IllegalArgumentException("일괄 요청은 1~" + maxBatchSize + "개까지 가능합니다.");
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package com.brainstorming.brainstorming_platform.domain.idea.counter;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "idea_counters")
+@Getter
+public class IdeaCounter {
+
+    @Id
+    private Long userId;
+
+    private long ideaCount;
+}
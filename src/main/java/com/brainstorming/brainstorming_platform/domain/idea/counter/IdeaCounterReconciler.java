@@ -0,0 +1,119 @@
+package com.brainstorming.brainstorming_platform.domain.idea.counter;
+
+import com.brainstorming.brainstorming_platform.global.job.JobLeaseManager;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 아이디어 카운터 재계산 (드리프트 복구)
+ * - 카운터를 user_id 순으로 배치씩 읽어 실제 개수와 비교, 다른 것만 다시 셈
+ * - 배치마다 짧은 트랜잭션, 여러 노드 중 리스를 얻은 한 곳만 실행
+ * - 샤드마다 차례로 (카운터와 아이디어는 같은 샤드)
+ */
+@Slf4j
+@Component
+public class IdeaCounterReconciler {
+
+    private static final String JOB_NAME = "idea-counter-reconcile";
+    private static final Duration LEASE = Duration.ofMinutes(30);
+
+    private final IdeaCounterRepository ideaCounterRepository;
+    private final IdeaCounterService ideaCounterService;
+    private final JobLeaseManager jobLeaseManager;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${idea.counter.reconcile-batch-size:500}")
+    private int batchSize;
+
+    public IdeaCounterReconciler(IdeaCounterRepository ideaCounterRepository,
+                                 IdeaCounterService ideaCounterService,
+                                 JobLeaseManager jobLeaseManager,
+                                 ShardRouter shardRouter,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.ideaCounterRepository = ideaCounterRepository;
+        this.ideaCounterService = ideaCounterService;
+        this.jobLeaseManager = jobLeaseManager;
+        this.shardRouter = shardRouter;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${idea.counter.reconcile-cron:0 40 4 * * *}")
+    public void reconcile() {
+        if (!jobLeaseManager.tryAcquire(JOB_NAME, LEASE)) {
+            return;
+        }
+        try {
+            long checked = 0;
+            long fixed = 0;
+            for (int shard : shardRouter.shards()) {
+                long[] result = shardRouter.callOn(shard, this::reconcileShard);
+                checked += result[0];
+                fixed += result[1];
+            }
+            meterRegistry.counter("ideas.counter.reconciled").increment(checked);
+            meterRegistry.counter("ideas.counter.drift").increment(fixed);
+            log.info("아이디어 카운터 재계산 완료 - 확인 {}개, 수정 {}개", checked, fixed);
+        } finally {
+            jobLeaseManager.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * @return {확인한 개수, 수정한 개수}
+     */
+    private long[] reconcileShard() {
+        long after = 0L;
+        long checked = 0;
+        long fixed = 0;
+        while (true) {
+            List<IdeaCounter> counters = ideaCounterRepository.findAfter(after, Limit.of(batchSize));
+            if (counters.isEmpty()) {
+                break;
+            }
+            fixed += reconcileBatch(counters);
+            checked += counters.size();
+            after = counters.get(counters.size() - 1).getUserId();
+        }
+        return new long[] {checked, fixed};
+    }
+
+    private int reconcileBatch(List<IdeaCounter> counters) {
+        List<Long> userIds = counters.stream().map(IdeaCounter::getUserId).toList();
+        Map<Long, Long> actual = ideaCounterRepository.countIdeasByUserIds(userIds).stream()
+                .collect(Collectors.toMap(UserIdeaCount::getUserId, UserIdeaCount::getIdeaCount));
+        ideaCounterRepository.countArchivedIdeasByUserIds(userIds)
+                .forEach(archived -> actual.merge(archived.getUserId(), archived.getIdeaCount(), Long::sum));
+
+        List<Long> drifted = new ArrayList<>();
+        for (IdeaCounter counter : counters) {
+            if (counter.getIdeaCount() != actual.getOrDefault(counter.getUserId(), 0L)) {
+                drifted.add(counter.getUserId());
+            }
+        }
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+        // 비교와 수정 사이의 저장도 반영되도록 수정은 한 문장으로 다시 셈
+        transaction.executeWithoutResult(status -> ideaCounterRepository.recount(drifted));
+        drifted.forEach(ideaCounterService::invalidate);
+        log.info("아이디어 카운터 드리프트 수정 - userIds={}", drifted);
+        return drifted.size();
+    }
+}
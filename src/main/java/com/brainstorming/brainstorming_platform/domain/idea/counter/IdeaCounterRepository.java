@@ -0,0 +1,69 @@
+package com.brainstorming.brainstorming_platform.domain.idea.counter;
+
+import com.brainstorming.brainstorming_platform.global.shard.ShardedByUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@ShardedByUser
+@Transactional(readOnly = true)
+public interface IdeaCounterRepository extends JpaRepository<IdeaCounter, Long> {
+
+    /**
+     * 카운터 증감 (행이 없으면 아무것도 안 함 - 처음 조회할 때 실제 개수로 생성)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdeaCounter c SET c.ideaCount = c.ideaCount + :delta WHERE c.userId = :userId")
+    int add(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 실제 개수로 카운터 생성 (이미 있으면 그대로 둠)
+     * - INSERT ... SELECT 한 문장이라 개수를 센 뒤 생성하기 전 사이의 저장을 놓치지 않음
+     * - 네이티브 쿼리는 영향받는 테이블을 지정하지 않으면 2차 캐시 전체를 비우므로 idea_counters 만 지정
+     * - 보관된 아이디어(ideas_archive)도 사용자 아이디어이므로 함께 셈
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idea_counters"))
+    @Query(value = "INSERT INTO idea_counters (user_id, idea_count)"
+            + " SELECT :userId, (SELECT COUNT(*) FROM ideas WHERE user_id = :userId)"
+            + " + (SELECT COUNT(*) FROM ideas_archive WHERE user_id = :userId)"
+            + " ON DUPLICATE KEY UPDATE idea_count = idea_count", nativeQuery = true)
+    int createFromIdeas(@Param("userId") Long userId);
+
+    /**
+     * 실제 개수로 다시 맞춤 (재계산 배치)
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idea_counters"))
+    @Query(value = "UPDATE idea_counters c"
+            + " SET idea_count = (SELECT COUNT(*) FROM ideas i WHERE i.user_id = c.user_id)"
+            + " + (SELECT COUNT(*) FROM ideas_archive a WHERE a.user_id = c.user_id)"
+            + " WHERE c.user_id IN (:userIds)", nativeQuery = true)
+    int recount(@Param("userIds") Collection<Long> userIds);
+
+    // 재계산 배치용 keyset (user_id 순)
+    @Query("SELECT c FROM IdeaCounter c WHERE c.userId > :afterUserId ORDER BY c.userId")
+    List<IdeaCounter> findAfter(@Param("afterUserId") Long afterUserId, Limit limit);
+
+    // 실제 개수 (idx_ideas_user_created 로 사용자별 범위만 셈)
+    @Query("SELECT i.userId AS userId, COUNT(i) AS ideaCount FROM Idea i"
+            + " WHERE i.userId IN :userIds GROUP BY i.userId")
+    List<UserIdeaCount> countIdeasByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 보관된 아이디어 개수 (idx_ideas_archive_user)
+    @Query("SELECT a.userId AS userId, COUNT(a) AS ideaCount FROM ArchivedIdea a"
+            + " WHERE a.userId IN :userIds GROUP BY a.userId")
+    List<UserIdeaCount> countArchivedIdeasByUserIds(@Param("userIds") Collection<Long> userIds);
+}
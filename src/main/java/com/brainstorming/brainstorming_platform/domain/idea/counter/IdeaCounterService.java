@@ -0,0 +1,113 @@
+package com.brainstorming.brainstorming_platform.domain.idea.counter;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasDeletedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasSavedEvent;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 아이디어 개수 (COUNT(*) 대신 idea_counters PK 조회)
+ *
+ * - 저장/삭제/게스트 연결 시 같은 트랜잭션에서 카운터 증감 (저장 이벤트를 동기 리스너로 처리)
+ * - 카운터 행이 없는 사용자는 처음 조회할 때 실제 개수로 생성
+ * - 노드 로컬 캐시는 커밋 후 무효화, 다른 노드의 변경은 TTL 로 반영
+ * - 어긋난 카운터는 IdeaCounterReconciler 가 주기적으로 바로잡음
+ */
+@Component
+public class IdeaCounterService {
+
+    private static final long MISSING = -1L;
+
+    private final IdeaCounterRepository ideaCounterRepository;
+    private final ShardRouter shardRouter;
+    private final LongLongCache cache;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdeaCounterService(
+            IdeaCounterRepository ideaCounterRepository,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${idea.counter.cache-size:100000}") int cacheSize,
+            @Value("${idea.counter.cache-ttl-seconds:30}") long cacheTtlSeconds) {
+        this.ideaCounterRepository = ideaCounterRepository;
+        this.shardRouter = shardRouter;
+        this.cache = new LongLongCache(cacheSize, TimeUnit.SECONDS.toNanos(cacheTtlSeconds));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("ideas.counter.cache_size", cache, LongLongCache::size)
+                .description("메모리에 캐시된 아이디어 카운터 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장된(DB) 아이디어 개수
+     * - 카운터는 사용자의 샤드에 있음 (첫 SQL 전에 샤드 지정)
+     * - 카운터 조회는 readOnly (레플리카 가능), 카운터가 없을 때만 쓰기 트랜잭션으로 생성 후 다시 읽음
+     */
+    public long count(Long userId) {
+        long cached = cache.get(userId, MISSING);
+        if (cached != MISSING) {
+            return cached;
+        }
+        int shard = shardRouter.shardOf(userId);
+        long count = shardRouter.callOn(shard, () -> ideaCounterRepository.findById(userId)
+                .map(IdeaCounter::getIdeaCount)
+                .orElseGet(() -> transactionTemplate.execute(status -> {
+                    ideaCounterRepository.createFromIdeas(userId);
+                    return ideaCounterRepository.findById(userId).map(IdeaCounter::getIdeaCount).orElse(0L);
+                })));
+        cache.put(userId, count);
+        return count;
+    }
+
+    @EventListener
+    @Transactional
+    public void onSaved(IdeasSavedEvent event) {
+        countByUser(event.getIdeas()).forEach(ideaCounterRepository::add);
+    }
+
+    @EventListener
+    @Transactional
+    public void onDeleted(IdeasDeletedEvent event) {
+        if (event.getUserId() != null && !event.getIdeaIds().isEmpty()) {
+            ideaCounterRepository.add(event.getUserId(), -event.getIdeaIds().size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void afterSaved(IdeasSavedEvent event) {
+        countByUser(event.getIdeas()).keySet().forEach(this::invalidate);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void afterDeleted(IdeasDeletedEvent event) {
+        if (event.getUserId() != null) {
+            invalidate(event.getUserId());
+        }
+    }
+
+    void invalidate(Long userId) {
+        cache.remove(userId);
+    }
+
+    private static Map<Long, Long> countByUser(Collection<Idea> ideas) {
+        return ideas.stream()
+                .filter(idea -> idea.getUserId() != null)
+                .collect(Collectors.groupingBy(Idea::getUserId, Collectors.counting()));
+    }
+}
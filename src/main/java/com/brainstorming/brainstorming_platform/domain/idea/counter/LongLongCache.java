@@ -0,0 +1,155 @@
+package com.brainstorming.brainstorming_platform.domain.idea.counter;
+
+import java.util.Arrays;
+
+/**
+ * long → long 캐시 (오픈 어드레싱, 박싱 없음)
+ *
+ * - 선형 탐사, 삭제는 backward shift (tombstone 없음)
+ * - 항목마다 만료 시각을 두고 만료된 값은 없는 것으로 처리
+ * - 최대 개수에 닿으면 통째로 비움 (카운터는 DB 에서 다시 채우면 되므로 단순하게)
+ */
+final class LongLongCache {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private long[] keys;
+    private long[] values;
+    private long[] expiresAt;
+    private int size;
+
+    LongLongCache(int maxEntries, long ttlNanos) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        allocate(tableSizeFor(Math.min(maxEntries, 1024)));
+    }
+
+    /**
+     * @return 값, 없거나 만료됐으면 missing
+     */
+    synchronized long get(long key, long missing) {
+        int slot = find(key);
+        if (slot < 0) {
+            return missing;
+        }
+        if (expiresAt[slot] - System.nanoTime() <= 0) {
+            removeAt(slot);
+            return missing;
+        }
+        return values[slot];
+    }
+
+    synchronized void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("사용할 수 없는 키입니다: " + key);
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            if (size >= maxEntries) {
+                clear();
+            }
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            slot = -find(key) - 1;
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        expiresAt[slot] = System.nanoTime() + ttlNanos;
+    }
+
+    synchronized void remove(long key) {
+        int slot = find(key);
+        if (slot >= 0) {
+            removeAt(slot);
+        }
+    }
+
+    synchronized void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return 키가 있는 슬롯, 없으면 -(넣을 빈 슬롯) - 1
+     */
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * 뒤에 이어진 항목을 당겨 와서 탐사 사슬이 끊기지 않게 함
+     */
+    private void removeAt(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            // home 이 (hole, next] 구간 밖이면 hole 로 옮길 수 있음
+            boolean movable = hole <= next
+                    ? home <= hole || home > next
+                    : home <= hole && home > next;
+            if (movable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                expiresAt[hole] = expiresAt[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        long[] oldExpiresAt = expiresAt;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = -find(oldKeys[i]) - 1;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                expiresAt[slot] = oldExpiresAt[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        expiresAt = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int tableSizeFor(int entries) {
+        int capacity = 16;
+        while (capacity < entries * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,9 @@
+package com.brainstorming.brainstorming_platform.domain.idea.counter;
+
+/**
+ * 사용자별 실제 아이디어 개수 (재계산 비교용 프로젝션)
+ */
+public interface UserIdeaCount {
+    Long getUserId();
+    long getIdeaCount();
+}
@@ -0,0 +1,183 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dedup;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaText;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasDeletedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasSavedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWalRecord;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWriteAheadLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 생성된 아이디어의 중복(거의 같은 제목/내용) 제거
+ *
+ * - 사용자별 SimHash 지문을 순열 테이블(SimHashTable)로 메모리에 보관
+ * - 처음 확인할 때 DB 아이디어로 채우고, 이후 커밋된 저장/삭제 이벤트로 갱신 (실제 ideaId 로만 등록)
+ * - 기존 아이디어, WAL 대기 아이디어, 같은 배치 안의 아이디어와 해밍 거리 max-distance 이내면 저장하지 않음
+ *   (WAL 대기 / 배치 지문은 확인할 때마다 따로 만들어 저장이 실패해도 남지 않음)
+ * - 게스트는 임시 아이디어라 같은 배치 안의 중복만 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdeaDeduplicator {
+
+    private final IdeaRepository ideaRepository;
+    private final IdeaWriteAheadLog ideaWriteAheadLog;
+
+    @Value("${idea.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${idea.dedup.max-distance:10}")
+    private int maxDistance;
+
+    @Value("${idea.dedup.max-users-in-memory:10000}")
+    private int maxUsersInMemory;
+
+    // 접근 순서 LinkedHashMap (LRU), 밀려난 사용자는 다음 확인 때 DB 에서 다시 채움
+    private final Map<Long, UserFingerprints> users = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserFingerprints> eldest) {
+            return size() > maxUsersInMemory;
+        }
+    };
+
+    /**
+     * 중복을 뺀 저장 대상 아이디어 (지문 등록은 저장 이벤트에서)
+     */
+    public List<Idea> collapse(Long userId, List<Idea> ideas) {
+        if (!enabled || ideas.isEmpty()) {
+            return ideas;
+        }
+
+        // 아직 DB ID 가 없는 지문 (WAL 대기 + 이번 배치)
+        SimHashTable unsaved = new SimHashTable(maxDistance);
+        UserFingerprints fingerprints = null;
+        if (userId != null) {
+            fingerprints = fingerprintsFor(userId);
+            for (IdeaWalRecord record : ideaWriteAheadLog.pendingFor(userId)) {
+                unsaved.add(SimHash.fingerprint(textOf(record.getTitle(), record.fullContent())), 0L);
+            }
+        }
+
+        List<Idea> unique = new ArrayList<>(ideas.size());
+        for (Idea idea : ideas) {
+            long fingerprint = SimHash.fingerprint(textOf(idea.getTitle(), idea.getContent()));
+            long existing = findNear(fingerprints, fingerprint);
+            if (existing < 0) {
+                existing = unsaved.findNear(fingerprint);
+            }
+            if (existing >= 0) {
+                log.debug("중복 아이디어 제외 - userId={}, title={}, 기존 ideaId={}",
+                        userId, idea.getTitle(), existing == 0 ? "(저장 대기)" : existing);
+                continue;
+            }
+            unsaved.add(fingerprint, 0L);
+            unique.add(idea);
+        }
+        return unique;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(IdeasSavedEvent event) {
+        for (Idea idea : event.getIdeas()) {
+            if (idea.getUserId() == null || idea.getIdeaId() == null) {
+                continue;
+            }
+            UserFingerprints fingerprints = cached(idea.getUserId());
+            if (fingerprints == null) {
+                continue;
+            }
+            long fingerprint = SimHash.fingerprint(textOf(idea.getTitle(), idea.getContent()));
+            synchronized (fingerprints) {
+                if (fingerprints.byId.containsKey(idea.getIdeaId())) {
+                    continue;
+                }
+                fingerprints.table.add(fingerprint, idea.getIdeaId());
+                fingerprints.byId.put(idea.getIdeaId(), fingerprint);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(IdeasDeletedEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        UserFingerprints fingerprints = cached(event.getUserId());
+        if (fingerprints == null) {
+            return;
+        }
+        synchronized (fingerprints) {
+            for (Long ideaId : event.getIdeaIds()) {
+                Long fingerprint = fingerprints.byId.remove(ideaId);
+                if (fingerprint != null) {
+                    fingerprints.table.remove(fingerprint, ideaId);
+                }
+            }
+        }
+    }
+
+    private static long findNear(UserFingerprints fingerprints, long fingerprint) {
+        if (fingerprints == null) {
+            return -1;
+        }
+        synchronized (fingerprints) {
+            return fingerprints.table.findNear(fingerprint);
+        }
+    }
+
+    private UserFingerprints cached(Long userId) {
+        synchronized (users) {
+            return users.get(userId);
+        }
+    }
+
+    private UserFingerprints fingerprintsFor(Long userId) {
+        UserFingerprints cached = cached(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserFingerprints loaded = new UserFingerprints(new SimHashTable(maxDistance));
+        for (IdeaText idea : ideaRepository.findTextsByUserId(userId)) {
+            long fingerprint = SimHash.fingerprint(textOf(idea.getTitle(), idea.getFullContent()));
+            loaded.table.add(fingerprint, idea.getIdeaId());
+            loaded.byId.put(idea.getIdeaId(), fingerprint);
+        }
+
+        synchronized (users) {
+            UserFingerprints existing = users.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+            users.put(userId, loaded);
+            return loaded;
+        }
+    }
+
+    private static String textOf(String title, String content) {
+        return (title == null ? "" : title) + "\n" + (content == null ? "" : content);
+    }
+
+    private static final class UserFingerprints {
+
+        private final SimHashTable table;
+        private final Map<Long, Long> byId = new HashMap<>();
+
+        private UserFingerprints(SimHashTable table) {
+            this.table = table;
+        }
+    }
+}
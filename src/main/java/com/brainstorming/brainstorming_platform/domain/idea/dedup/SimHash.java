@@ -0,0 +1,83 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dedup;
+
+import java.text.Normalizer;
+
+/**
+ * 64비트 SimHash
+ * - 정규화: NFKC, 소문자, 글자/숫자 외(공백·구두점) 제거
+ * - 특징: 공백을 뺀 글자 3-gram (한글은 띄어쓰기·조사 변형이 많아 단어 단위보다 안정적)
+ * - 문장이 조금 바뀌면 일부 비트만 바뀌므로 해밍 거리로 유사도를 판단
+ */
+public final class SimHash {
+
+    private static final int SHINGLE = 3;
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return 0L;
+        }
+
+        int[] weights = new int[64];
+        if (normalized.length() < SHINGLE) {
+            accumulate(weights, hash(normalized, 0, normalized.length()));
+        } else {
+            for (int i = 0; i + SHINGLE <= normalized.length(); i++) {
+                accumulate(weights, hash(normalized, i, i + SHINGLE));
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder builder = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void accumulate(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1L) == 0 ? -1 : 1;
+        }
+    }
+
+    /**
+     * FNV-1a 64 + fmix64
+     */
+    private static long hash(String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,173 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dedup;
+
+import java.util.Arrays;
+
+/**
+ * 해밍 거리 k 이내 지문 검색용 순열 테이블 (Manku et al., "Detecting Near-Duplicates for Web Crawling")
+ *
+ * 64비트를 k+1 개 블록으로 나누면, 거리 k 이하인 두 지문은 적어도 한 블록이 완전히 같음 (비둘기집 원리).
+ * 테이블 t 는 블록 t 가 최상위로 오도록 회전한 지문을 정렬해 보관하므로,
+ * 상위 블록이 같은 구간만 이진 탐색으로 찾아 해밍 거리를 확인하면 됨.
+ *
+ * 동기화하지 않음 (호출하는 쪽에서 사용자 단위로 잠금)
+ */
+public class SimHashTable {
+
+    public static final int MAX_SUPPORTED_DISTANCE = 15;
+
+    private static final long NO_MATCH = Long.MIN_VALUE;
+
+    private final int maxDistance;
+    private final int tableCount;
+    private final int[] blockStarts;
+    private final int[] blockBits;
+
+    // tables[t] = 회전한 지문 (정렬), owners[t] = 같은 위치의 아이디어 ID (0 = 아직 DB ID 없음)
+    private final long[][] tables;
+    private final long[][] owners;
+    private int size;
+
+    /**
+     * @param maxDistance 중복으로 볼 최대 해밍 거리 (블록이 4비트 이상 되도록 15 이하)
+     */
+    public SimHashTable(int maxDistance) {
+        if (maxDistance < 0 || maxDistance > MAX_SUPPORTED_DISTANCE) {
+            throw new IllegalArgumentException("최대 해밍 거리는 0~" + MAX_SUPPORTED_DISTANCE + " 사이여야 합니다: " + maxDistance);
+        }
+        this.maxDistance = maxDistance;
+        this.tableCount = maxDistance + 1;
+        this.blockStarts = new int[tableCount];
+        this.blockBits = new int[tableCount];
+
+        // 64비트를 최대한 고르게 나눔 (앞 블록이 1비트씩 더 큼)
+        int start = 0;
+        for (int t = 0; t < tableCount; t++) {
+            int bits = 64 / tableCount + (t < 64 % tableCount ? 1 : 0);
+            blockStarts[t] = start;
+            blockBits[t] = bits;
+            start += bits;
+        }
+
+        this.tables = new long[tableCount][8];
+        this.owners = new long[tableCount][8];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 해밍 거리 maxDistance 이내의 지문이 있으면 해당 아이디어 ID (DB ID 가 없으면 0), 없으면 -1
+     */
+    public long findNear(long fingerprint) {
+        for (int t = 0; t < tableCount; t++) {
+            long match = findInTable(t, fingerprint);
+            if (match != NO_MATCH) {
+                return match;
+            }
+        }
+        return -1L;
+    }
+
+    public void add(long fingerprint, long ideaId) {
+        for (int t = 0; t < tableCount; t++) {
+            long key = rotate(fingerprint, t);
+            int index = insertionPoint(tables[t], key);
+            if (size == tables[t].length) {
+                tables[t] = Arrays.copyOf(tables[t], size * 2);
+                owners[t] = Arrays.copyOf(owners[t], size * 2);
+            }
+            System.arraycopy(tables[t], index, tables[t], index + 1, size - index);
+            System.arraycopy(owners[t], index, owners[t], index + 1, size - index);
+            tables[t][index] = key;
+            owners[t][index] = ideaId;
+        }
+        size++;
+    }
+
+    /**
+     * DB ID 가 없던(0) 지문에 ID 연결, 이미 있으면 false
+     */
+    public boolean assignId(long fingerprint, long ideaId) {
+        boolean assigned = false;
+        for (int t = 0; t < tableCount; t++) {
+            long key = rotate(fingerprint, t);
+            int index = firstIndexOf(tables[t], key);
+            while (index >= 0 && index < size && tables[t][index] == key) {
+                if (owners[t][index] == 0L) {
+                    owners[t][index] = ideaId;
+                    assigned = true;
+                    break;
+                }
+                index++;
+            }
+        }
+        return assigned;
+    }
+
+    public boolean remove(long fingerprint, long ideaId) {
+        boolean removed = false;
+        for (int t = 0; t < tableCount; t++) {
+            long key = rotate(fingerprint, t);
+            int index = firstIndexOf(tables[t], key);
+            while (index >= 0 && index < size && tables[t][index] == key) {
+                if (owners[t][index] == ideaId) {
+                    System.arraycopy(tables[t], index + 1, tables[t], index, size - index - 1);
+                    System.arraycopy(owners[t], index + 1, owners[t], index, size - index - 1);
+                    removed = true;
+                    break;
+                }
+                index++;
+            }
+        }
+        if (removed) {
+            size--;
+        }
+        return removed;
+    }
+
+    private long findInTable(int t, long fingerprint) {
+        long key = rotate(fingerprint, t);
+        int shift = 64 - blockBits[t];
+        long prefix = key >>> shift;
+        long[] table = tables[t];
+
+        // 상위 블록이 같은 구간의 시작 (부호 없는 비교로 정렬되어 있음)
+        int index = insertionPoint(table, prefix << shift);
+        for (; index < size && (table[index] >>> shift) == prefix; index++) {
+            if (Long.bitCount(table[index] ^ key) <= maxDistance) {
+                return owners[t][index];
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private int firstIndexOf(long[] table, long key) {
+        int index = insertionPoint(table, key);
+        return index < size && table[index] == key ? index : -1;
+    }
+
+    /**
+     * key 이상인 첫 위치 (부호 없는 정렬)
+     */
+    private int insertionPoint(long[] table, long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(table[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 블록 t 가 최상위 비트로 오도록 회전 (비트 0 = 최상위 기준 위치)
+     */
+    private long rotate(long fingerprint, int t) {
+        return Long.rotateLeft(fingerprint, blockStarts[t]);
+    }
+}
@@ -0,0 +1,44 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 요청의 항목별 결과 (요청 순서대로)
+ * - index: 생성 요청에서 몇 번째 항목인지
+ * - idea: 조회 결과 (GET /api/ideas?ids=)
+ */
+@Getter
+@AllArgsConstructor
+public class IdeaBatchResultDto {
+
+    public enum Status {
+        CREATED, FOUND, DELETED, NOT_FOUND, INVALID
+    }
+
+    private Integer index;
+    private Long ideaId;
+    private Status status;
+    private String message;
+    private IdeaResponseDto idea;
+
+    public static IdeaBatchResultDto created(int index, Long ideaId) {
+        return new IdeaBatchResultDto(index, ideaId, Status.CREATED, null, null);
+    }
+
+    public static IdeaBatchResultDto invalid(int index, String message) {
+        return new IdeaBatchResultDto(index, null, Status.INVALID, message, null);
+    }
+
+    public static IdeaBatchResultDto found(IdeaResponseDto idea) {
+        return new IdeaBatchResultDto(null, idea.getIdeaId(), Status.FOUND, null, idea);
+    }
+
+    public static IdeaBatchResultDto deleted(Long ideaId) {
+        return new IdeaBatchResultDto(null, ideaId, Status.DELETED, null, null);
+    }
+
+    public static IdeaBatchResultDto notFound(Long ideaId) {
+        return new IdeaBatchResultDto(null, ideaId, Status.NOT_FOUND, "저장된 아이디어가 없습니다.", null);
+    }
+}
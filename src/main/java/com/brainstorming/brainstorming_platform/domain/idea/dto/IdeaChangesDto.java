@@ -0,0 +1,33 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 변경분 동기화 응답 (GET /api/ideas/changes)
+ * - ideas: since 이후 생성/수정된 아이디어 (ideaId 로 덮어쓰기, 겹치는 구간이 있어 중복될 수 있음)
+ * - deletedIds: since 이후 삭제된 아이디어 ID
+ * - pending: 아직 DB 반영 전인 아이디어 (ID 없음, 매번 전체)
+ * - fullResync: true 면 변경분 대신 전체 목록을 다시 받아야 함 (첫 동기화, 보존 기간 초과, 변경이 너무 많음)
+ * - nextSince: 다음 요청의 since
+ */
+@Getter
+@AllArgsConstructor
+public class IdeaChangesDto {
+    private List<IdeaResponseDto> ideas;
+    private List<Long> deletedIds;
+    private List<IdeaResponseDto> pending;
+    private boolean fullResync;
+    private String nextSince;
+
+    public static IdeaChangesDto of(List<IdeaResponseDto> ideas, List<Long> deletedIds,
+                                    List<IdeaResponseDto> pending, String nextSince) {
+        return new IdeaChangesDto(ideas, deletedIds, pending, false, nextSince);
+    }
+
+    public static IdeaChangesDto fullResync(List<IdeaResponseDto> pending, String nextSince) {
+        return new IdeaChangesDto(List.of(), List.of(), pending, true, nextSince);
+    }
+}
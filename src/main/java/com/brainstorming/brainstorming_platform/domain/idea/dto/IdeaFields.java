@@ -0,0 +1,75 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목록 조회 필드 선택 (?fields=ideaId,title,createdAt)
+ * - 지정하지 않으면 SUMMARY (본문 제외), 본문은 단건 조회나 fields=...,content 로만
+ * - content 를 요청하지 않으면 TEXT 컬럼 없이 IdeaSummary 프로젝션으로 조회
+ * - 응답 항목은 요청한 필드만, 요청한 순서대로
+ */
+public final class IdeaFields {
+
+    public static final String CONTENT = "content";
+
+    private static final Set<String> SUPPORTED = Set.of(
+            "ideaId", "userId", "title", CONTENT, "purpose", "createdAt");
+
+    // 기본 목록 필드 (content 제외)
+    public static final IdeaFields SUMMARY = new IdeaFields(List.of("ideaId", "userId", "title", "purpose", "createdAt"));
+
+    private final List<String> names;
+
+    private IdeaFields(List<String> names) {
+        this.names = names;
+    }
+
+    public static IdeaFields parse(String fields) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!SUPPORTED.contains(trimmed)) {
+                throw new IllegalArgumentException("지원하지 않는 필드입니다: " + trimmed);
+            }
+            names.add(trimmed);
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("fields가 비어 있습니다.");
+        }
+        return new IdeaFields(new ArrayList<>(names));
+    }
+
+    /**
+     * 요청한 필드 목록 (응답 모양이 달라지므로 ETag 에 포함)
+     */
+    public String key() {
+        return String.join(",", names);
+    }
+
+    public boolean includesContent() {
+        return names.contains(CONTENT);
+    }
+
+    public Map<String, Object> select(IdeaResponseDto idea) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (String name : names) {
+            selected.put(name, switch (name) {
+                case "ideaId" -> idea.getIdeaId();
+                case "userId" -> idea.getUserId();
+                case "title" -> idea.getTitle();
+                case CONTENT -> idea.getContent();
+                case "purpose" -> idea.getPurpose();
+                default -> idea.getCreatedAt();
+            });
+        }
+        return selected;
+    }
+}
@@ -14,6 +14,8 @@ public class IdeaRequestDto {
     private String content;
     private String purpose;
     private String guestSessionId;
+    private String description; // 선택, 있으면 content 대신 설명/분석 컬럼에 나눠 저장
+    private String analysis;
 
     public Idea toEntity() {
         return new Idea(
@@ -22,7 +24,9 @@ public class IdeaRequestDto {
                 title,
                 content,
                 purpose,       //아이디어 요청내용
-                guestSessionId
+                guestSessionId,
+                description,
+                analysis
         );
     }
 }
@@ -28,4 +28,32 @@ public class IdeaResponseDto {
                 idea.getCreatedAt()  // 추가!
         );
     }
+
+    /**
+     * 목록 프로젝션 → 응답 (content = null)
+     */
+    public static IdeaResponseDto summaryOf(IdeaSummary idea) {
+        return new IdeaResponseDto(
+                idea.getIdeaId(),
+                idea.getUserId(),
+                idea.getTitle(),
+                null,
+                idea.getPurpose(),
+                idea.getCreatedAt()
+        );
+    }
+
+    /**
+     * 본문 프로젝션 → 응답 (전체 목록 조회용, 지연 로딩 없이 한 번에 조회한 행)
+     */
+    public static IdeaResponseDto from(IdeaText idea) {
+        return new IdeaResponseDto(
+                idea.getIdeaId(),
+                idea.getUserId(),
+                idea.getTitle(),
+                idea.getFullContent(),
+                idea.getPurpose(),
+                idea.getCreatedAt()
+        );
+    }
 }
@@ -0,0 +1,31 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 항목 - 본문(content) 제외, 필요하면 GET /api/ideas/{id}
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaSearchResponseDto {
+    private Long ideaId;
+    private String title;
+    private String purpose;
+    private LocalDateTime createdAt;
+    private float score; // BM25 점수
+
+    public static IdeaSearchResponseDto of(IdeaSummary idea, float score) {
+        return new IdeaSearchResponseDto(
+                idea.getIdeaId(),
+                idea.getTitle(),
+                idea.getPurpose(),
+                idea.getCreatedAt(),
+                score
+        );
+    }
+}
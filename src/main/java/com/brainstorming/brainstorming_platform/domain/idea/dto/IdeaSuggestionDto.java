@@ -0,0 +1,22 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import com.brainstorming.brainstorming_platform.domain.idea.suggest.CompactTrie;
+import com.brainstorming.brainstorming_platform.domain.idea.suggest.IdeaSuggestIndex;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaSuggestionDto {
+    private String text;
+    private String type; // title / purpose
+
+    public static IdeaSuggestionDto from(CompactTrie.Suggestion suggestion) {
+        return new IdeaSuggestionDto(
+                suggestion.getText(),
+                suggestion.getType() == IdeaSuggestIndex.TYPE_PURPOSE ? "purpose" : "title"
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록용 아이디어 프로젝션 (TEXT 컬럼 없이 조회)
+ * - IdeaRepository 의 @Query 에서 별칭(AS)으로 매핑
+ */
+public interface IdeaSummary {
+    Long getIdeaId();
+    Long getUserId();
+    String getTitle();
+    String getPurpose();
+    LocalDateTime getCreatedAt();
+}
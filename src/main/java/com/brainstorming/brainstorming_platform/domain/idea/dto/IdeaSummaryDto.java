@@ -0,0 +1,45 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWalRecord;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 페이지 항목 (본문 제외)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdeaSummaryDto {
+    private Long ideaId;
+    private Long userId;
+    private String title;
+    private String purpose;
+    private LocalDateTime createdAt;
+
+    public static IdeaSummaryDto from(IdeaSummary idea) {
+        return new IdeaSummaryDto(
+                idea.getIdeaId(),
+                idea.getUserId(),
+                idea.getTitle(),
+                idea.getPurpose(),
+                idea.getCreatedAt()
+        );
+    }
+
+    /**
+     * 아직 DB ID 가 없는 아이디어 (ideaId = null)
+     */
+    public static IdeaSummaryDto from(IdeaWalRecord record) {
+        return new IdeaSummaryDto(
+                null,
+                record.getUserId(),
+                record.getTitle(),
+                record.getPurpose(),
+                record.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+
+/**
+ * 본문까지 한 번에 조회하는 프로젝션
+ * - 엔티티로 읽으면 지연 로딩 컬럼마다 행 단위 SELECT 가 추가로 나가므로
+ *   전체 목록 / 색인 재생성처럼 여러 행의 본문이 필요할 때 사용
+ */
+public interface IdeaText extends IdeaSummary {
+    String getContent();
+    String getDescription();
+    String getAnalysis();
+
+    /**
+     * Idea#getContent 와 같은 형식의 본문
+     */
+    default String getFullContent() {
+        return Idea.composeContent(getContent(), getDescription(), getAnalysis());
+    }
+}
@@ -0,0 +1,31 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관련 아이디어 항목 (제목/목적만, 본문은 상세 조회로)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RelatedIdeaResponseDto {
+    private Long ideaId;
+    private String title;
+    private String purpose;
+    private LocalDateTime createdAt;
+    private float score; // 코사인 유사도
+
+    public static RelatedIdeaResponseDto of(IdeaSummary idea, float score) {
+        return new RelatedIdeaResponseDto(
+                idea.getIdeaId(),
+                idea.getTitle(),
+                idea.getPurpose(),
+                idea.getCreatedAt(),
+                score
+        );
+    }
+}
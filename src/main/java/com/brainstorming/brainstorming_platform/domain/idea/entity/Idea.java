@@ -1,15 +1,35 @@
 package com.brainstorming.brainstorming_platform.domain.idea.entity;
 
+import com.brainstorming.brainstorming_platform.domain.idea.compression.CompressedTextConverter;
 import com.brainstorming.brainstorming_platform.global.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.LazyGroup;
 
+import java.time.LocalDateTime;
+
+/**
+ * 2차 캐시 (ehcache.xml idea 영역)
+ * - 지연 로딩 컬럼은 읽힌 경우에만 캐시 항목에 포함
+ * - 벌크 DELETE(deleteByIdeaIds) 는 idea 영역 전체를 비움
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "idea")
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "ideas")
+@Table(name = "ideas", indexes = {
+        // 사용자별 최신순 목록 / keyset 페이지네이션
+        @Index(name = "idx_ideas_user_created", columnList = "user_id, created_at, idea_id"),
+        // 게스트 아이디어 연결
+        @Index(name = "idx_ideas_guest_session", columnList = "guest_session_id"),
+        // 변경분 동기화 (updated_at 이후 변경)
+        @Index(name = "idx_ideas_user_updated", columnList = "user_id, updated_at")
+})
 @Getter
 public class Idea extends BaseEntity{
 
@@ -21,10 +41,16 @@ public class Idea extends BaseEntity{
 
     /**
      * 아이디어 제목, 아이디어 내용, 아이디어 요구사항
+     * - 긴 텍스트 컬럼은 모두 지연 로딩 (목록 조회는 IdeaSummary 프로젝션 사용)
+     * - 바이트코드 향상(build.gradle hibernate.enhancement)이 있어야 필드 단위로 지연 로딩됨
+     * - 긴 텍스트는 일정 크기 이상이면 압축해 BLOB 으로 저장 (CompressedTextConverter, 읽을 때 해제)
      */
     private String title;
     
-    @Column(columnDefinition = "TEXT")  // ✅ 긴 내용 저장 가능
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
     private String content;
     
     private String purpose; //브레인스토밍 프로세스 Q1의 답변을 저장하는 용도
@@ -32,4 +58,55 @@ public class Idea extends BaseEntity{
     //비로그인 사용자 임시 저장용 세션 ID
     private String guestSessionId;
 
+    // 브레인스토밍으로 생성된 아이디어의 설명 / SWOT 분석 (각각 따로 지연 로딩)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("description")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private String description;
+
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("analysis")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private String analysis;
+
+    public Idea(Long ideaId, Long userId, String title, String content, String purpose, String guestSessionId) {
+        this(ideaId, userId, title, content, purpose, guestSessionId, null, null);
+    }
+
+    /**
+     * 보관 테이블(ideas_archive)에서 읽은 아이디어
+     * - 영속 상태가 아니므로 수정/저장하지 않음 (읽기 전용)
+     */
+    public static Idea archived(Long ideaId, Long userId, String title, String content, String purpose,
+                                String guestSessionId, String description, String analysis,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Idea idea = new Idea(ideaId, userId, title, content, purpose, guestSessionId, description, analysis);
+        idea.restoreAuditDates(createdAt, updatedAt);
+        return idea;
+    }
+
+    /**
+     * 아이디어 내용
+     * - 설명/분석으로 나눠 저장된 아이디어는 "설명\n\n분석" 으로 합쳐서 반환 (기존 content 형식)
+     */
+    public String getContent() {
+        return composeContent(content, description, analysis);
+    }
+
+    /**
+     * 설명/분석 컬럼으로 나눠 저장된 아이디어인지
+     */
+    public boolean hasSections() {
+        return description != null || analysis != null;
+    }
+
+    public static String composeContent(String content, String description, String analysis) {
+        if (content != null || (description == null && analysis == null)) {
+            return content;
+        }
+        return (description == null ? "" : description) + "\n\n" + (analysis == null ? "" : analysis);
+    }
+
 }
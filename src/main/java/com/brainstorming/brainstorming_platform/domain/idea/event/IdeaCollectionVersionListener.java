@@ -0,0 +1,36 @@
+package com.brainstorming.brainstorming_platform.domain.idea.event;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.global.etag.CollectionVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * 아이디어 저장/삭제 시 사용자 아이디어 목록 버전 증가 (저장과 같은 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdeaCollectionVersionListener {
+
+    private final CollectionVersionService collectionVersionService;
+
+    @EventListener
+    @Transactional
+    public void onSaved(IdeasSavedEvent event) {
+        event.getIdeas().stream()
+                .map(Idea::getUserId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(userId -> collectionVersionService.bump(CollectionVersionService.IDEAS, userId));
+    }
+
+    @EventListener
+    @Transactional
+    public void onDeleted(IdeasDeletedEvent event) {
+        collectionVersionService.bump(CollectionVersionService.IDEAS, event.getUserId());
+    }
+}
@@ -0,0 +1,50 @@
+package com.brainstorming.brainstorming_platform.domain.idea.event;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 아이디어 저장/삭제를 아웃박스에 기록 (저장과 같은 트랜잭션)
+ * - 게스트 연결(linkGuestIdeasToUser)도 저장 이벤트로 들어옴
+ * - payload 는 본문 없이 식별 정보만 (본문은 구독자가 필요하면 조회)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdeaOutboxListener {
+
+    public static final String IDEA_SAVED = "IDEA_SAVED";
+    public static final String IDEA_DELETED = "IDEA_DELETED";
+
+    private final OutboxWriter outboxWriter;
+
+    @EventListener
+    @Transactional
+    public void onSaved(IdeasSavedEvent event) {
+        for (Idea idea : event.getIdeas()) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("ideaId", idea.getIdeaId());
+            payload.put("userId", idea.getUserId());
+            payload.put("title", idea.getTitle());
+            payload.put("purpose", idea.getPurpose());
+            outboxWriter.append(OutboxWriter.IDEA, idea.getIdeaId(), IDEA_SAVED, idea.getUserId(), payload);
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onDeleted(IdeasDeletedEvent event) {
+        for (Long ideaId : event.getIdeaIds()) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("ideaId", ideaId);
+            payload.put("userId", event.getUserId());
+            outboxWriter.append(OutboxWriter.IDEA, ideaId, IDEA_DELETED, event.getUserId(), payload);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.brainstorming.brainstorming_platform.domain.idea.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자의 아이디어가 ideas 테이블에서 삭제됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class IdeasDeletedEvent {
+
+    private final Long userId;
+    private final List<Long> ideaIds;
+}
@@ -0,0 +1,19 @@
+package com.brainstorming.brainstorming_platform.domain.idea.event;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ideas 테이블에 아이디어가 저장(또는 사용자에게 연결)됨
+ * - 트랜잭션 안에서 발행되면 커밋 후에 리스너가 실행됨 (@TransactionalEventListener)
+ * - 아이디어 부가 인덱스(관련 아이디어 등)를 증분 갱신하는 용도
+ */
+@Getter
+@RequiredArgsConstructor
+public class IdeasSavedEvent {
+
+    private final List<Idea> ideas;
+}
@@ -0,0 +1,23 @@
+package com.brainstorming.brainstorming_platform.domain.idea.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdeaExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 JSON 하나
+    CSV("text/csv", "csv"); // 엑셀 호환 (UTF-8 BOM)
+
+    private final String contentType;
+    private final String extension;
+
+    public static IdeaExportFormat from(String format) {
+        for (IdeaExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+    }
+}
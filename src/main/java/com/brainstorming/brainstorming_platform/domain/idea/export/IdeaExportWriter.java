@@ -0,0 +1,147 @@
+package com.brainstorming.brainstorming_platform.domain.idea.export;
+
+import com.brainstorming.brainstorming_platform.domain.idea.archive.ArchivedIdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaResponseDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaText;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWalRecord;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWriteAheadLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 아이디어 전체 내보내기 (NDJSON / CSV)
+ *
+ * - 읽기 전용 트랜잭션 안에서 DB 커서(fetch size)로 한 행씩 읽어 바로 응답에 씀
+ * - 본문까지 한 번에 읽는 프로젝션이라 영속성 컨텍스트에 쌓이는 엔티티가 없음
+ *   → 아이디어가 10개든 100만 개든 메모리 사용량이 일정
+ * - 보관된 아이디어(ideas_archive)를 먼저, 이어서 ideas 를 씀 (두 커서를 차례로 열고 닫음)
+ * - 마지막에 아직 DB 반영 전인(WAL 대기) 아이디어를 덧붙임
+ */
+@Component
+@RequiredArgsConstructor
+public class IdeaExportWriter {
+
+    private static final int FLUSH_EVERY = 500;
+    private static final String[] CSV_HEADER = {"ideaId", "userId", "title", "purpose", "content", "createdAt"};
+
+    private final IdeaRepository ideaRepository;
+    private final ArchivedIdeaRepository archivedIdeaRepository;
+    private final IdeaWriteAheadLog ideaWriteAheadLog;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    public void write(Long userId, IdeaExportFormat format, OutputStream out) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        transaction.executeWithoutResult(status -> {
+            // Writer 를 닫으면 응답 스트림도 닫히므로 flush 만 하고 닫기는 컨테이너에 맡김
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try {
+                RowWriter rows = format == IdeaExportFormat.CSV ? csv(writer) : ndjson(writer);
+
+                int written = 0;
+                try (Stream<IdeaText> archived = archivedIdeaRepository.streamTextsByUserId(userId)) {
+                    written = writeAll(archived, rows, writer, written);
+                }
+                try (Stream<IdeaText> ideas = ideaRepository.streamTextsByUserId(userId)) {
+                    writeAll(ideas, rows, writer, written);
+                }
+                for (IdeaWalRecord record : ideaWriteAheadLog.pendingFor(userId)) {
+                    rows.write(record.toResponseDto());
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * @return 지금까지 쓴 행 수 (FLUSH_EVERY 마다 flush)
+     */
+    private static int writeAll(Stream<IdeaText> ideas, RowWriter rows, Writer writer, int written) throws IOException {
+        Iterator<IdeaText> iterator = ideas.iterator();
+        while (iterator.hasNext()) {
+            rows.write(IdeaResponseDto.from(iterator.next()));
+            if (++written % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        return written;
+    }
+
+    private RowWriter ndjson(Writer writer) {
+        ObjectWriter json = objectMapper.writer();
+        return idea -> {
+            writer.write(json.writeValueAsString(idea));
+            writer.write('\n');
+        };
+    }
+
+    private static RowWriter csv(Writer writer) throws IOException {
+        writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+        writeCsvRow(writer, CSV_HEADER);
+        return idea -> writeCsvRow(writer, new String[]{
+                idea.getIdeaId() == null ? "" : String.valueOf(idea.getIdeaId()),
+                idea.getUserId() == null ? "" : String.valueOf(idea.getUserId()),
+                idea.getTitle(),
+                idea.getPurpose(),
+                idea.getContent(),
+                idea.getCreatedAt() == null ? "" : idea.getCreatedAt().toString()
+        });
+    }
+
+    static void writeCsvRow(Writer writer, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, fields[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+     * 수식으로 해석될 수 있는 첫 글자(= + - @)는 앞에 ' 를 붙임 (CSV 인젝션 방지)
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(IdeaResponseDto idea) throws IOException;
+    }
+}
@@ -0,0 +1,471 @@
+package com.brainstorming.brainstorming_platform.domain.idea.guest;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게스트 아이디어 임시 저장소 (ideas 테이블 대신)
+ * - 아이디어 본문은 힙 밖(direct ByteBuffer)에 직렬화해서 보관
+ * - guestSessionId 단위 TTL 만료, 전체 메모리 상한, 상한 초과 시 오래된 세션부터 디스크로 내보내기(선택)
+ * - 로그인 시 IdeaService.linkGuestIdeasToUser 가 drain 해서 ideas 테이블로 옮김
+ * - 프로세스 재시작 시 메모리/스필 파일 내용은 사라짐 (어차피 대부분 연결되지 않는 임시 데이터)
+ * - 저장소와 블룸 필터는 노드마다 따로 있음
+ *   → 여러 노드면 게스트 요청을 같은 노드로 보내거나(sticky session, guestSessionId 기준)
+ *     enabled=false 로 끄고 기존처럼 ideas 테이블(게스트 샤드)에 저장
+ * - 스필 파일은 두 개를 번갈아 사용: 쓰는 파일의 죽은 데이터가 절반을 넘고 다른 파일이 비었으면 그쪽으로 전환
+ *   (살아있는 데이터가 남은 파일은 TTL 안에 모두 비워지므로 그때 잘라 냄)
+ */
+@Slf4j
+@Component
+public class GuestIdeaStore {
+
+    private final ConcurrentHashMap<String, GuestSession> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapBytes = new AtomicLong();
+    private final GuestSessionBloomFilter bloomFilter;
+    private final IdeaRepository ideaRepository;
+
+    private final long maxOffHeapBytes;
+    private final int maxIdeasPerSession;
+    private final Duration ttl;
+
+    private final boolean enabled;
+
+    // 스필 파일 두 개 (선택, this 락 안에서만)
+    private final SpillFile[] spillFiles;
+    private final long maxSpillBytes;
+    private int activeSpill;
+
+    public GuestIdeaStore(
+            IdeaRepository ideaRepository,
+            @Value("${idea.guest-store.max-bytes:67108864}") long maxOffHeapBytes,
+            @Value("${idea.guest-store.max-ideas-per-session:50}") int maxIdeasPerSession,
+            @Value("${idea.guest-store.ttl-hours:24}") long ttlHours,
+            @Value("${idea.guest-store.spill-file:}") String spillFile,
+            @Value("${idea.guest-store.max-spill-bytes:1073741824}") long maxSpillBytes,
+            @Value("${idea.guest-store.bloom-expected-sessions:100000}") int bloomExpectedSessions,
+            @Value("${idea.guest-store.enabled:true}") boolean enabled) {
+        this.ideaRepository = ideaRepository;
+        this.enabled = enabled;
+        this.maxOffHeapBytes = maxOffHeapBytes;
+        this.maxIdeasPerSession = maxIdeasPerSession;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.spillFiles = spillFile.isBlank() ? null : new SpillFile[]{
+                new SpillFile(Paths.get(spillFile)), new SpillFile(Paths.get(spillFile + ".1"))};
+        this.maxSpillBytes = maxSpillBytes;
+        this.bloomFilter = new GuestSessionBloomFilter(bloomExpectedSessions, 0.01);
+    }
+
+    /**
+     * 꺼져 있으면 게스트 아이디어도 ideas 테이블에 저장 (IdeaService)
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * 게스트 아이디어 저장
+     * - 세션당 개수를 넘으면 그 세션의 가장 오래된 아이디어를 버림 (이미 생성한 아이디어 저장을 실패시키지 않도록)
+     */
+    public void put(Idea idea) {
+        String guestSessionId = idea.getGuestSessionId();
+        ByteBuffer payload = encode(idea);
+
+        GuestSession session = sessions.computeIfAbsent(guestSessionId, id -> {
+            insertionOrder.add(id);
+            return new GuestSession(System.currentTimeMillis());
+        });
+        synchronized (session) {
+            if (session.removed) {
+                // drain/만료와 경합한 경우 새 세션으로 다시 시도
+                put(idea);
+                return;
+            }
+            while (session.slots.size() >= maxIdeasPerSession) {
+                release(session.slots.remove(0));
+                log.debug("게스트 세션당 최대 {}개 초과로 가장 오래된 아이디어 제거: {}", maxIdeasPerSession, guestSessionId);
+            }
+            session.slots.add(Slot.offHeap(payload));
+        }
+        offHeapBytes.addAndGet(payload.capacity());
+        bloomFilter.put(guestSessionId);
+
+        enforceMemoryLimit();
+    }
+
+    /**
+     * 아이디어를 만든 적이 있을 수도 있는 세션인지 (false 면 확실히 없음)
+     */
+    public boolean mightContain(String guestSessionId) {
+        return bloomFilter.mightContain(guestSessionId);
+    }
+
+    /**
+     * 세션의 아이디어를 꺼내고 저장소에서 제거
+     */
+    public List<Idea> drain(String guestSessionId) {
+        GuestSession session = sessions.remove(guestSessionId);
+        if (session == null) {
+            return List.of();
+        }
+        synchronized (session) {
+            session.removed = true;
+            List<Idea> ideas = new ArrayList<>(session.slots.size());
+            for (Slot slot : session.slots) {
+                ideas.add(decode(read(slot), guestSessionId));
+            }
+            release(session);
+            return ideas;
+        }
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    public long offHeapBytes() {
+        return offHeapBytes.get();
+    }
+
+    /**
+     * 기존 ideas 테이블에 남아 있는 게스트 세션도 블룸 필터에 등록 (배포 이전 데이터 연결용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedLegacySessions() {
+        List<String> legacySessionIds = ideaRepository.findGuestSessionIds();
+        legacySessionIds.forEach(bloomFilter::put);
+        log.info("게스트 블룸 필터 초기화 - 테이블에 남은 게스트 세션: {}개", legacySessionIds.size());
+    }
+
+    /**
+     * TTL 이 지난 세션 제거 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttl.toMillis();
+        int evicted = 0;
+        for (var entry : sessions.entrySet()) {
+            if (entry.getValue().createdAt < cutoff && sessions.remove(entry.getKey(), entry.getValue())) {
+                synchronized (entry.getValue()) {
+                    entry.getValue().removed = true;
+                    release(entry.getValue());
+                }
+                evicted++;
+            }
+        }
+        insertionOrder.removeIf(id -> !sessions.containsKey(id));
+        if (evicted > 0) {
+            log.info("게스트 아이디어 만료 정리: {}개 세션", evicted);
+        }
+    }
+
+    /**
+     * 블룸 필터 세대 교체 (TTL 주기), 살아있는 세션은 새 세대에 다시 등록
+     */
+    @Scheduled(initialDelayString = "#{${idea.guest-store.ttl-hours:24} * 3600000}",
+            fixedDelayString = "#{${idea.guest-store.ttl-hours:24} * 3600000}")
+    public void rotateBloomFilter() {
+        bloomFilter.rotate();
+        sessions.keySet().forEach(bloomFilter::put);
+    }
+
+    /**
+     * 메모리 상한 초과 시 오래된 세션부터 디스크로 내보내거나 버림
+     */
+    private void enforceMemoryLimit() {
+        while (offHeapBytes.get() > maxOffHeapBytes) {
+            String oldestId = insertionOrder.poll();
+            if (oldestId == null) {
+                return;
+            }
+            GuestSession oldest = sessions.get(oldestId);
+            if (oldest == null) {
+                continue;
+            }
+            synchronized (oldest) {
+                if (oldest.removed) {
+                    continue;
+                }
+                if (!spill(oldest)) {
+                    sessions.remove(oldestId, oldest);
+                    oldest.removed = true;
+                    release(oldest);
+                    log.warn("게스트 아이디어 저장소 용량 초과로 세션 폐기: {}", oldestId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 세션의 힙 밖 슬롯을 스필 파일로 이동
+     */
+    private boolean spill(GuestSession session) {
+        if (spillFiles == null) {
+            return false;
+        }
+        synchronized (this) {
+            try {
+                for (int i = 0; i < session.slots.size(); i++) {
+                    Slot slot = session.slots.get(i);
+                    if (slot.buffer == null) {
+                        continue;
+                    }
+                    if (spillFiles[0].size() + spillFiles[1].size() + slot.length > maxSpillBytes) {
+                        return false;
+                    }
+                    SpillFile file = spillFiles[activeSpill];
+                    long offset = file.size();
+                    ByteBuffer source = slot.buffer.duplicate();
+                    source.clear();
+                    while (source.hasRemaining()) {
+                        file.channel().write(source, offset + source.position());
+                    }
+                    session.slots.set(i, Slot.spilled(file, offset, slot.length));
+                    offHeapBytes.addAndGet(-slot.length);
+                    file.liveBytes += slot.length;
+                }
+                return true;
+            } catch (IOException e) {
+                log.warn("게스트 아이디어 스필 실패: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    private ByteBuffer read(Slot slot) {
+        if (slot.buffer != null) {
+            ByteBuffer view = slot.buffer.duplicate();
+            view.clear();
+            return view;
+        }
+        synchronized (this) {
+            try {
+                ByteBuffer target = ByteBuffer.allocate(slot.length);
+                while (target.hasRemaining()) {
+                    if (slot.file.channel().read(target, slot.offset + target.position()) < 0) {
+                        throw new IOException("스필 파일이 예상보다 짧습니다.");
+                    }
+                }
+                target.flip();
+                return target;
+            } catch (IOException e) {
+                throw new IllegalStateException("게스트 아이디어 스필 읽기 실패", e);
+            }
+        }
+    }
+
+    private void release(GuestSession session) {
+        for (Slot slot : session.slots) {
+            release(slot);
+        }
+        session.slots.clear();
+    }
+
+    private void release(Slot slot) {
+        if (slot.buffer != null) {
+            offHeapBytes.addAndGet(-slot.length);
+        } else {
+            releaseSpilled(slot);
+        }
+    }
+
+    private synchronized void releaseSpilled(Slot slot) {
+        SpillFile file = slot.file;
+        file.liveBytes -= slot.length;
+        try {
+            // 살아있는 스필 데이터가 없으면 파일 비우기
+            if (file.liveBytes == 0) {
+                file.truncate();
+            }
+            // 쓰는 파일의 죽은 데이터가 절반을 넘으면 비어 있는 다른 파일로 전환
+            SpillFile active = spillFiles[activeSpill];
+            SpillFile other = spillFiles[1 - activeSpill];
+            if (other.liveBytes == 0 && active.size() - active.liveBytes > active.size() / 2) {
+                other.truncate();
+                activeSpill = 1 - activeSpill;
+                log.debug("게스트 스필 파일 전환 - 이전 파일 살아있는 데이터: {}바이트", active.liveBytes);
+            }
+        } catch (IOException e) {
+            log.warn("게스트 스필 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스필 파일에 남은 바이트 (죽은 데이터 포함)
+     */
+    public synchronized long spillBytes() {
+        if (spillFiles == null) {
+            return 0;
+        }
+        try {
+            return spillFiles[0].size() + spillFiles[1].size();
+        } catch (IOException e) {
+            throw new IllegalStateException("게스트 스필 파일 크기 조회 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (spillFiles != null) {
+            for (SpillFile file : spillFiles) {
+                file.close();
+            }
+        }
+    }
+
+    /**
+     * [제목][내용][목적][설명][분석] 을 길이(int, null 은 -1) + UTF-8 바이트로 직렬화
+     * - 설명/분석으로 나눠진 아이디어는 내용을 null 로 (합친 내용을 따로 저장하지 않음)
+     */
+    private static ByteBuffer encode(Idea idea) {
+        byte[] title = bytes(idea.getTitle());
+        byte[] content = bytes(idea.hasSections() ? null : idea.getContent());
+        byte[] purpose = bytes(idea.getPurpose());
+        byte[] description = bytes(idea.getDescription());
+        byte[] analysis = bytes(idea.getAnalysis());
+
+        int size = 20 + length(title) + length(content) + length(purpose) + length(description) + length(analysis);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        putField(buffer, title);
+        putField(buffer, content);
+        putField(buffer, purpose);
+        putField(buffer, description);
+        putField(buffer, analysis);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static Idea decode(ByteBuffer buffer, String guestSessionId) {
+        String title = getField(buffer);
+        String content = getField(buffer);
+        String purpose = getField(buffer);
+        String description = getField(buffer);
+        String analysis = getField(buffer);
+        return new Idea(null, null, title, content, purpose, guestSessionId, description, analysis);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void putField(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String getField(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 게스트 세션 하나의 아이디어 슬롯 목록
+     */
+    private static class GuestSession {
+        private final long createdAt;
+        private final List<Slot> slots = new ArrayList<>();
+        private boolean removed;
+
+        private GuestSession(long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * 아이디어 하나의 위치 (힙 밖 버퍼 또는 스필 파일 오프셋)
+     */
+    private static class Slot {
+        private final ByteBuffer buffer;
+        private final SpillFile file;
+        private final long offset;
+        private final int length;
+
+        private Slot(ByteBuffer buffer, SpillFile file, long offset, int length) {
+            this.buffer = buffer;
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        static Slot offHeap(ByteBuffer buffer) {
+            return new Slot(buffer, null, -1, buffer.capacity());
+        }
+
+        static Slot spilled(SpillFile file, long offset, int length) {
+            return new Slot(null, file, offset, length);
+        }
+    }
+
+    /**
+     * 스필 파일 하나 (처음 쓸 때 생성, GuestIdeaStore 락 안에서만 사용)
+     */
+    private static class SpillFile {
+        private final Path path;
+        private FileChannel channel;
+        private long liveBytes;
+
+        private SpillFile(Path path) {
+            this.path = path;
+        }
+
+        FileChannel channel() throws IOException {
+            if (channel == null) {
+                channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            }
+            return channel;
+        }
+
+        long size() throws IOException {
+            return channel == null ? 0 : channel.size();
+        }
+
+        void truncate() throws IOException {
+            if (channel != null) {
+                channel.truncate(0);
+            }
+        }
+
+        void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.brainstorming.brainstorming_platform.domain.idea.guest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 아이디어를 만든 게스트 세션 ID 의 블룸 필터
+ * - 두 세대(current / previous)를 번갈아 사용해 오래된 세션이 자연스럽게 빠지도록 함
+ * - mightContain 이 false 면 해당 세션은 아이디어를 만든 적이 없음 (거짓 음성 없음)
+ */
+public class GuestSessionBloomFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile long[] current;
+    private volatile long[] previous;
+
+    /**
+     * @param expectedInsertions 한 세대에 들어갈 예상 세션 수
+     * @param falsePositiveRate  목표 오탐률 (예: 0.01)
+     */
+    public GuestSessionBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 64));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.current = new long[(bitCount + 63) >>> 6];
+        this.previous = new long[current.length];
+    }
+
+    public synchronized void put(String key) {
+        long[] bits = current;
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int combined = h1 + i * h2;
+            int index = (combined & Integer.MAX_VALUE) % bitCount;
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    /**
+     * 세대 교체: previous 를 버리고 current 를 previous 로
+     */
+    public synchronized void rotate() {
+        previous = current;
+        current = new long[previous.length];
+    }
+
+    private boolean contains(long[] bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int combined = h1 + i * h2;
+            int index = (combined & Integer.MAX_VALUE) % bitCount;
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64 + 비트 혼합 (MurmurHash3 fmix64)
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
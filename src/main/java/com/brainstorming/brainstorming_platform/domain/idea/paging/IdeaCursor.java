@@ -0,0 +1,47 @@
+package com.brainstorming.brainstorming_platform.domain.idea.paging;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSummary;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 아이디어 목록 커서 (createdAt, ideaId) - 클라이언트에는 불투명한 문자열로 전달
+ * 정렬이 (createdAt DESC, ideaId DESC) 이므로 ideaId 가 같은 시각 행의 순서를 고정함
+ */
+@Getter
+@RequiredArgsConstructor
+public class IdeaCursor {
+
+    private static final String VERSION = "v1";
+
+    private final LocalDateTime createdAt;
+    private final Long ideaId;
+
+    public static IdeaCursor of(IdeaSummary idea) {
+        return new IdeaCursor(idea.getCreatedAt(), idea.getIdeaId());
+    }
+
+    public String encode() {
+        String raw = VERSION + "|" + createdAt + "|" + ideaId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static IdeaCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new IdeaCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.brainstorming.brainstorming_platform.domain.idea.paging;
+
+import com.brainstorming.brainstorming_platform.domain.idea.archive.ArchivedIdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSummary;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSummaryDto;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWalRecord;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWriteAheadLog;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * 아이디어 목록 한 페이지를 JSON 으로 바로 써 내려감
+ *
+ * {"pending":[...], "items":[...], "nextCursor":"..."}
+ *
+ * - (createdAt, ideaId) keyset 조건 + LIMIT size+1 (OFFSET 없음, idx_ideas_user_created 사용)
+ * - 목록 컬럼만 읽는 프로젝션 (본문 TEXT 컬럼 제외, 영속성 컨텍스트에 쌓이지 않음)
+ * - 결과를 리스트로 모으지 않고 한 행씩 직렬화
+ * - 보관된 아이디어(ideas_archive)도 같은 keyset 으로 읽어 정렬 순서대로 합침
+ * - size+1 번째 행이 있으면 size 번째 행으로 nextCursor 생성
+ * - WAL 에 대기 중인(아직 DB 에 없어 ideaId 가 없는) 아이디어는 첫 페이지의 pending 에 따로
+ *   → items / size / nextCursor 는 DB 행만으로 정해지고, 반영되면 이후 조회부터 items 에 나옴
+ */
+@Component
+@RequiredArgsConstructor
+public class IdeaPageWriter {
+
+    private static final int FLUSH_EVERY = 50;
+
+    // (createdAt, ideaId) 최신순
+    private static final Comparator<IdeaSummary> NEWEST_FIRST = Comparator
+            .comparing(IdeaSummary::getCreatedAt)
+            .thenComparing(IdeaSummary::getIdeaId)
+            .reversed();
+
+    private final IdeaRepository ideaRepository;
+    private final ArchivedIdeaRepository archivedIdeaRepository;
+    private final IdeaWriteAheadLog ideaWriteAheadLog;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * @param cursor null 이면 첫 페이지 (WAL 대기 중인 아이디어를 pending 에 포함, 이후 페이지는 빈 배열)
+     */
+    public void write(Long userId, IdeaCursor cursor, int size, OutputStream out) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        transaction.executeWithoutResult(status -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out);
+                 Stream<IdeaSummary> ideas = cursor == null
+                         ? ideaRepository.streamLatest(userId, Limit.of(size + 1))
+                         : ideaRepository.streamBefore(userId, cursor.getCreatedAt(), cursor.getIdeaId(), Limit.of(size + 1));
+                 Stream<IdeaSummary> archived = cursor == null
+                         ? archivedIdeaRepository.streamLatest(userId, Limit.of(size + 1))
+                         : archivedIdeaRepository.streamBefore(userId, cursor.getCreatedAt(), cursor.getIdeaId(), Limit.of(size + 1))) {
+
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("pending");
+                if (cursor == null) {
+                    for (IdeaWalRecord record : ideaWriteAheadLog.pendingFor(userId)) {
+                        generator.writeObject(IdeaSummaryDto.from(record));
+                    }
+                }
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart("items");
+
+                int written = 0;
+                IdeaSummary last = null;
+                boolean hasNext = false;
+                Iterator<IdeaSummary> iterator = merge(ideas.iterator(), archived.iterator());
+                while (iterator.hasNext()) {
+                    IdeaSummary idea = iterator.next();
+                    if (written == size) {
+                        hasNext = true;
+                        break;
+                    }
+                    generator.writeObject(IdeaSummaryDto.from(idea));
+                    last = idea;
+                    if (++written % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+
+                generator.writeEndArray();
+                generator.writeStringField("nextCursor", hasNext ? IdeaCursor.of(last).encode() : null);
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 같은 순서로 정렬된 두 결과를 정렬 순서대로 합침
+     */
+    private static Iterator<IdeaSummary> merge(Iterator<IdeaSummary> first, Iterator<IdeaSummary> second) {
+        return new Iterator<>() {
+            private IdeaSummary nextFirst = first.hasNext() ? first.next() : null;
+            private IdeaSummary nextSecond = second.hasNext() ? second.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return nextFirst != null || nextSecond != null;
+            }
+
+            @Override
+            public IdeaSummary next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                IdeaSummary result;
+                if (nextSecond == null || (nextFirst != null && NEWEST_FIRST.compare(nextFirst, nextSecond) <= 0)) {
+                    result = nextFirst;
+                    nextFirst = first.hasNext() ? first.next() : null;
+                } else {
+                    result = nextSecond;
+                    nextSecond = second.hasNext() ? second.next() : null;
+                }
+                return result;
+            }
+        };
+    }
+}
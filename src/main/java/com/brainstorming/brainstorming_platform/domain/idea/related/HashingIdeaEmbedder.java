@@ -0,0 +1,75 @@
+package com.brainstorming.brainstorming_platform.domain.idea.related;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 임베딩 (feature hashing)
+ * - 공백 단위 단어 + 글자 2-gram 을 고정 차원 버킷에 해싱 (부호 해시로 충돌 상쇄)
+ * - 한글은 띄어쓰기·조사 변형이 많아 글자 2-gram 이 단어보다 안정적
+ * - 의미 유사도는 Python 임베딩보다 약하지만 저장 경로에 네트워크 호출이 없음
+ */
+@Component
+@ConditionalOnProperty(name = "idea.related.embedder", havingValue = "local", matchIfMissing = true)
+public class HashingIdeaEmbedder implements IdeaEmbedder {
+
+    private static final int DIMENSION = 256;
+
+    @Override
+    public int dimension() {
+        return DIMENSION;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[DIMENSION];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+        String normalized = text.toLowerCase();
+
+        // 단어
+        for (String word : normalized.split("[\\s\\p{Punct}]+")) {
+            if (!word.isEmpty()) {
+                add(vector, hash(word, 0x9e3779b9), 1.0f);
+            }
+        }
+
+        // 글자 2-gram (공백/구두점 제외)
+        char previous = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                previous = 0;
+                continue;
+            }
+            if (previous != 0) {
+                add(vector, mix(previous * 31 + c), 0.5f);
+            }
+            previous = c;
+        }
+        return vector;
+    }
+
+    private static void add(float[] vector, int hash, float weight) {
+        int bucket = (hash & Integer.MAX_VALUE) % DIMENSION;
+        vector[bucket] += (hash & 0x80000000) == 0 ? weight : -weight;
+    }
+
+    private static int hash(String word, int seed) {
+        int h = seed;
+        for (int i = 0; i < word.length(); i++) {
+            h = h * 31 + word.charAt(i);
+        }
+        return mix(h);
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,666 @@
+package com.brainstorming.brainstorming_platform.domain.idea.related;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ *
+ * - 벡터는 노드 순서대로 하나의 float[] 에 연속 저장 (단위 벡터, 유사도 = 내적)
+ * - 이웃 목록은 레벨별 int[] ([0] = 이웃 수, [1..] = 노드 번호)
+ * - 삭제는 tombstone: 그래프 탐색에는 계속 쓰고 결과에서만 제외
+ * - 검색은 읽기 락(동시 실행), 추가/삭제는 쓰기 락
+ */
+public class HnswIndex {
+
+    static final int MAGIC = 0x484e5731; // "HNW1"
+    static final int VERSION = 1;
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private float[] vectors;
+    private long[] ids;
+    private int[] levels;
+    private int[][][] links;
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+
+    private int size;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    /**
+     * @param dimension      벡터 차원
+     * @param m              레벨 1 이상에서 노드당 최대 이웃 수 (레벨 0 은 2m)
+     * @param efConstruction 추가 시 탐색 후보 수
+     */
+    public HnswIndex(int dimension, int m, int efConstruction) {
+        this(dimension, m, efConstruction, 16, 42L);
+    }
+
+    private HnswIndex(int dimension, int m, int efConstruction, int initialCapacity, long seed) {
+        if (dimension <= 0 || m < 2) {
+            throw new IllegalArgumentException("HNSW 설정이 올바르지 않습니다: dimension=" + dimension + ", m=" + m);
+        }
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+
+        int capacity = Math.max(1, initialCapacity);
+        this.vectors = new float[capacity * dimension];
+        this.ids = new long[capacity];
+        this.levels = new int[capacity];
+        this.links = new int[capacity][][];
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * tombstone 제외 노드 수
+     */
+    public int liveCount() {
+        lock.readLock().lock();
+        try {
+            return size - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 노드 중 tombstone 비율 (압축 판단용)
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return size == 0 ? 0 : (double) deletedCount / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            return node != null && !deleted.get(node);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된(정규화된) 벡터 복사본, 없으면 null
+     */
+    public float[] vectorOf(long id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            if (node == null || deleted.get(node)) {
+                return null;
+            }
+            return Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터 추가 (이미 있는 ID 면 기존 노드를 tombstone 처리 후 새로 추가)
+     */
+    public void add(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 다릅니다: " + vector.length + " != " + dimension);
+        }
+        float[] query = vector.clone();
+        normalize(query);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = nodeById.get(id);
+            if (existing != null && !deleted.get(existing)) {
+                deleted.set(existing);
+                deletedCount++;
+            }
+
+            int node = size;
+            ensureCapacity(node + 1);
+            System.arraycopy(query, 0, vectors, node * dimension, dimension);
+            ids[node] = id;
+            int level = randomLevel();
+            levels[node] = level;
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = new int[maxNeighbors(l) + 1];
+            }
+            size++;
+            nodeById.put(id, node);
+
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+
+            int current = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                current = greedyClosest(query, current, l);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                NodeHeap candidates = searchLayer(query, current, efConstruction, l);
+                int[] selected = selectNeighbors(candidates, m);
+                for (int neighbor : selected) {
+                    connect(node, neighbor, l);
+                    connect(neighbor, node, l);
+                }
+                current = candidates.best();
+            }
+            if (level > maxLevel) {
+                entryPoint = node;
+                maxLevel = level;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * tombstone 처리
+     *
+     * @return 삭제된 노드가 있었는지
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeById.remove(id);
+            if (node == null || deleted.get(node)) {
+                return false;
+            }
+            deleted.set(node);
+            deletedCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유사도 상위 k 개 (tombstone, excludeId 제외)
+     *
+     * @param outIds    결과 ID (유사도 내림차순)
+     * @param outScores 결과 유사도 (코사인)
+     * @return 채워진 결과 개수
+     */
+    public int search(float[] vector, int k, int ef, long excludeId, long[] outIds, float[] outScores) {
+        float[] query = vector.clone();
+        normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return 0;
+            }
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedyClosest(query, current, l);
+            }
+            // tombstone 이 많을수록 후보를 넓게 잡아 결과 수를 보장
+            int effectiveEf = Math.max(ef, k + 1) + Math.min(deletedCount, ef);
+            NodeHeap results = searchLayer(query, current, effectiveEf, 0);
+
+            int[] nodes = results.sortedNodesDescending();
+            int found = 0;
+            for (int node : nodes) {
+                if (found == k) {
+                    break;
+                }
+                if (deleted.get(node) || ids[node] == excludeId) {
+                    continue;
+                }
+                outIds[found] = ids[node];
+                outScores[found] = similarity(query, node);
+                found++;
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * tombstone 을 제외한 노드만으로 새 인덱스 생성
+     */
+    public HnswIndex compact() {
+        lock.readLock().lock();
+        try {
+            HnswIndex compacted = new HnswIndex(dimension, m, efConstruction, Math.max(16, size - deletedCount), 42L);
+            float[] vector = new float[dimension];
+            for (int node = 0; node < size; node++) {
+                if (deleted.get(node)) {
+                    continue;
+                }
+                System.arraycopy(vectors, node * dimension, vector, 0, dimension);
+                compacted.add(ids[node], vector);
+            }
+            return compacted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일 기록 후 원자적 교체)
+     */
+    public void save(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(dimension);
+            out.writeInt(m);
+            out.writeInt(efConstruction);
+            out.writeInt(size);
+            out.writeInt(entryPoint);
+            out.writeInt(maxLevel);
+            for (int node = 0; node < size; node++) {
+                out.writeLong(ids[node]);
+                out.writeBoolean(deleted.get(node));
+                out.writeInt(levels[node]);
+                int offset = node * dimension;
+                for (int d = 0; d < dimension; d++) {
+                    out.writeFloat(vectors[offset + d]);
+                }
+                for (int l = 0; l <= levels[node]; l++) {
+                    int[] neighbors = links[node][l];
+                    out.writeInt(neighbors[0]);
+                    for (int i = 1; i <= neighbors[0]; i++) {
+                        out.writeInt(neighbors[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static HnswIndex load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("HNSW 스냅샷 형식이 올바르지 않습니다: " + file);
+            }
+            int dimension = in.readInt();
+            int m = in.readInt();
+            int efConstruction = in.readInt();
+            int size = in.readInt();
+
+            HnswIndex index = new HnswIndex(dimension, m, efConstruction, Math.max(16, size), 42L + size);
+            index.entryPoint = in.readInt();
+            index.maxLevel = in.readInt();
+            for (int node = 0; node < size; node++) {
+                long id = in.readLong();
+                boolean isDeleted = in.readBoolean();
+                int level = in.readInt();
+                index.ids[node] = id;
+                index.levels[node] = level;
+                int offset = node * dimension;
+                for (int d = 0; d < dimension; d++) {
+                    index.vectors[offset + d] = in.readFloat();
+                }
+                index.links[node] = new int[level + 1][];
+                for (int l = 0; l <= level; l++) {
+                    int[] neighbors = new int[index.maxNeighbors(l) + 1];
+                    neighbors[0] = in.readInt();
+                    for (int i = 1; i <= neighbors[0]; i++) {
+                        neighbors[i] = in.readInt();
+                    }
+                    index.links[node][l] = neighbors;
+                }
+                if (isDeleted) {
+                    index.deleted.set(node);
+                    index.deletedCount++;
+                } else {
+                    index.nodeById.put(id, node);
+                }
+            }
+            index.size = size;
+            return index;
+        }
+    }
+
+    // ---- 그래프 탐색 ----
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = similarity(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int candidate = neighbors[i];
+                float score = similarity(query, candidate);
+                if (score > best) {
+                    best = score;
+                    current = candidate;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레벨에서 ef 개 후보 탐색 (결과는 최소 힙: 가장 덜 유사한 후보가 맨 위)
+     */
+    private NodeHeap searchLayer(float[] query, int entry, int ef, int level) {
+        BitSet visited = new BitSet(size);
+        NodeHeap candidates = new NodeHeap(ef * 2, true);
+        NodeHeap results = new NodeHeap(ef + 1, false);
+
+        float entryScore = similarity(query, entry);
+        visited.set(entry);
+        candidates.push(entry, entryScore);
+        results.push(entry, entryScore);
+
+        while (!candidates.isEmpty()) {
+            float candidateScore = candidates.topScore();
+            if (results.size() >= ef && candidateScore < results.topScore()) {
+                break;
+            }
+            int candidate = candidates.pop();
+            int[] neighbors = links[candidate][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = similarity(query, neighbor);
+                if (results.size() < ef || score > results.topScore()) {
+                    candidates.push(neighbor, score);
+                    results.push(neighbor, score);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 이웃 선택 휴리스틱: 이미 고른 이웃보다 질의에 더 가까운 후보만 선택해 방향을 분산
+     * 부족하면 남은 후보 중 가까운 순서로 채움
+     */
+    private int[] selectNeighbors(NodeHeap candidates, int limit) {
+        int[] sorted = candidates.sortedNodesDescending();
+        float[] sortedScores = candidates.sortedScoresDescending();
+        int[] selected = new int[Math.min(limit, sorted.length)];
+        boolean[] used = new boolean[sorted.length];
+        int count = 0;
+
+        for (int i = 0; i < sorted.length && count < selected.length; i++) {
+            boolean diverse = true;
+            for (int j = 0; j < count; j++) {
+                if (similarity(sorted[i], selected[j]) > sortedScores[i]) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = sorted[i];
+                used[i] = true;
+            }
+        }
+        for (int i = 0; i < sorted.length && count < selected.length; i++) {
+            if (!used[i]) {
+                selected[count++] = sorted[i];
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * from → to 간선 추가, 이웃 수 초과 시 from 기준 가장 먼 이웃 제거
+     */
+    private void connect(int from, int to, int level) {
+        int[] neighbors = links[from][level];
+        int count = neighbors[0];
+        for (int i = 1; i <= count; i++) {
+            if (neighbors[i] == to) {
+                return;
+            }
+        }
+        if (count < neighbors.length - 1) {
+            neighbors[++count] = to;
+            neighbors[0] = count;
+            return;
+        }
+
+        int worstIndex = -1;
+        float worstScore = similarity(from, to);
+        for (int i = 1; i <= count; i++) {
+            float score = similarity(from, neighbors[i]);
+            if (score < worstScore) {
+                worstScore = score;
+                worstIndex = i;
+            }
+        }
+        if (worstIndex > 0) {
+            neighbors[worstIndex] = to;
+        }
+    }
+
+    private int maxNeighbors(int level) {
+        return level == 0 ? maxM0 : m;
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - random.nextDouble(); // (0, 1]
+        return (int) (-Math.log(uniform) * levelMultiplier);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        vectors = Arrays.copyOf(vectors, capacity * dimension);
+        ids = Arrays.copyOf(ids, capacity);
+        levels = Arrays.copyOf(levels, capacity);
+        links = Arrays.copyOf(links, capacity);
+    }
+
+    private float similarity(float[] query, int node) {
+        int offset = node * dimension;
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        int bound = dimension & ~3;
+        for (; i < bound; i += 4) {
+            s0 += query[i] * vectors[offset + i];
+            s1 += query[i + 1] * vectors[offset + i + 1];
+            s2 += query[i + 2] * vectors[offset + i + 2];
+            s3 += query[i + 3] * vectors[offset + i + 3];
+        }
+        for (; i < dimension; i++) {
+            s0 += query[i] * vectors[offset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private float similarity(int a, int b) {
+        int offsetA = a * dimension;
+        int offsetB = b * dimension;
+        float sum = 0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += vectors[offsetA + i] * vectors[offsetB + i];
+        }
+        return sum;
+    }
+
+    static void normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm == 0) {
+            return;
+        }
+        float inverse = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverse;
+        }
+    }
+
+    /**
+     * (노드, 점수) 이진 힙 - 박싱 없이 int[] / float[] 로 관리
+     */
+    private static final class NodeHeap {
+
+        private final boolean maxHeap;
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+
+        NodeHeap(int capacity, boolean maxHeap) {
+            this.maxHeap = maxHeap;
+            this.nodes = new int[Math.max(4, capacity)];
+            this.scores = new float[nodes.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        float topScore() {
+            return scores[0];
+        }
+
+        void push(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int index = size++;
+            nodes[index] = node;
+            scores[index] = score;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!higher(scores[index], scores[parent])) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        int pop() {
+            int top = nodes[0];
+            size--;
+            nodes[0] = nodes[size];
+            scores[0] = scores[size];
+            int index = 0;
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    break;
+                }
+                int child = left;
+                if (left + 1 < size && higher(scores[left + 1], scores[left])) {
+                    child = left + 1;
+                }
+                if (!higher(scores[child], scores[index])) {
+                    break;
+                }
+                swap(index, child);
+                index = child;
+            }
+            return top;
+        }
+
+        /**
+         * 가장 유사한 노드
+         */
+        int best() {
+            int best = nodes[0];
+            float bestScore = scores[0];
+            for (int i = 1; i < size; i++) {
+                if (scores[i] > bestScore) {
+                    bestScore = scores[i];
+                    best = nodes[i];
+                }
+            }
+            return best;
+        }
+
+        int[] sortedNodesDescending() {
+            Integer[] order = order();
+            int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = nodes[order[i]];
+            }
+            return sorted;
+        }
+
+        float[] sortedScoresDescending() {
+            Integer[] order = order();
+            float[] sorted = new float[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = scores[order[i]];
+            }
+            return sorted;
+        }
+
+        private Integer[] order() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+            return order;
+        }
+
+        private boolean higher(float a, float b) {
+            return maxHeap ? a > b : a < b;
+        }
+
+        private void swap(int a, int b) {
+            int node = nodes[a];
+            nodes[a] = nodes[b];
+            nodes[b] = node;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
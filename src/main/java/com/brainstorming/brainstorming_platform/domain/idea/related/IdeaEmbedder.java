@@ -0,0 +1,16 @@
+package com.brainstorming.brainstorming_platform.domain.idea.related;
+
+/**
+ * 아이디어 텍스트 → 임베딩 벡터
+ * - idea.related.embedder=local (기본): 외부 호출 없는 해싱 임베딩
+ * - idea.related.embedder=python: Python 서비스 /embed (OpenAI 임베딩)
+ */
+public interface IdeaEmbedder {
+
+    /**
+     * 벡터 차원 (스냅샷과 다르면 인덱스를 다시 만듦)
+     */
+    int dimension();
+
+    float[] embed(String text);
+}
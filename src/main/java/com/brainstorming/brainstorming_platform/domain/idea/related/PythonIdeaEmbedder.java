@@ -0,0 +1,47 @@
+package com.brainstorming.brainstorming_platform.domain.idea.related;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+/**
+ * Python 서비스 임베딩 (기법 코퍼스와 같은 모델)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "idea.related.embedder", havingValue = "python")
+public class PythonIdeaEmbedder implements IdeaEmbedder {
+
+    private final RestTemplate restTemplate;
+
+    @Value("${python.api.url}")
+    private String pythonApiUrl;
+
+    @Value("${idea.related.python-dimension:3072}")
+    private int dimension;
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        String url = pythonApiUrl + "/api/v1/brainstorming/embed";
+        EmbedResponse response = restTemplate.postForObject(url, Map.of("text", text), EmbedResponse.class);
+        if (response == null || response.getEmbedding() == null) {
+            throw new IllegalStateException("아이디어 임베딩을 받지 못했습니다.");
+        }
+        return response.getEmbedding();
+    }
+
+    @Data
+    static class EmbedResponse {
+        private float[] embedding;
+    }
+}
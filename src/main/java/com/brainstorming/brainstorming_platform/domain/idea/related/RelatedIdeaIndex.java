@@ -0,0 +1,238 @@
+package com.brainstorming.brainstorming_platform.domain.idea.related;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaText;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasDeletedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasSavedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 "관련 아이디어" HNSW 인덱스
+ *
+ * - 처음 조회될 때 스냅샷에서 복원 (스냅샷이 없거나 DB 와 개수가 다르면 DB 에서 재생성)
+ * - 저장/삭제 이벤트로 증분 갱신 (삭제는 tombstone, 비율이 높아지면 압축)
+ * - 변경된 사용자 인덱스만 주기적으로 스냅샷, 종료 시 한 번 더 저장
+ * - 메모리에는 최근 사용한 사용자 인덱스만 유지 (LRU)
+ * - 락 순서: indexes 와 사용자 인덱스 락을 겹쳐 잡지 않음 (스냅샷 파일 쓰기도 indexes 락 밖에서)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedIdeaIndex {
+
+    private final IdeaRepository ideaRepository;
+    private final IdeaEmbedder ideaEmbedder;
+
+    @Value("${idea.related.dir:./data/idea-hnsw}")
+    private String snapshotDir;
+
+    @Value("${idea.related.m:16}")
+    private int m;
+
+    @Value("${idea.related.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${idea.related.ef-search:64}")
+    private int efSearch;
+
+    @Value("${idea.related.max-users-in-memory:1000}")
+    private int maxUsersInMemory;
+
+    @Value("${idea.related.compact-ratio:0.3}")
+    private double compactRatio;
+
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    // indexes 에서 밀려나 아직 스냅샷하지 않은 인덱스 (indexes 락 안에서만 접근)
+    private final Map<Long, HnswIndex> evicted = new LinkedHashMap<>();
+
+    // 접근 순서 LinkedHashMap (LRU), 넘치면 가장 오래 안 쓴 인덱스를 제거하고 락을 푼 뒤 스냅샷
+    private final Map<Long, HnswIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, HnswIndex> eldest) {
+            if (size() <= maxUsersInMemory) {
+                return false;
+            }
+            evicted.put(eldest.getKey(), eldest.getValue());
+            return true;
+        }
+    };
+
+    /**
+     * 관련 아이디어 검색
+     *
+     * @param outIds    결과 아이디어 ID (유사도 내림차순)
+     * @param outScores 결과 유사도
+     * @return 채워진 결과 개수
+     */
+    public int findRelated(Idea idea, int k, long[] outIds, float[] outScores) {
+        HnswIndex index = indexFor(idea.getUserId());
+        float[] vector = index.vectorOf(idea.getIdeaId());
+        if (vector == null) {
+            vector = ideaEmbedder.embed(textOf(idea.getTitle(), idea.getContent()));
+        }
+        return index.search(vector, k, efSearch, idea.getIdeaId(), outIds, outScores);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(IdeasSavedEvent event) {
+        Map<Long, List<Idea>> byUser = event.getIdeas().stream()
+                .filter(idea -> idea.getUserId() != null && idea.getIdeaId() != null)
+                .collect(Collectors.groupingBy(Idea::getUserId));
+
+        byUser.forEach((userId, ideas) -> {
+            try {
+                HnswIndex index = indexFor(userId);
+                synchronized (index) {
+                    for (Idea idea : ideas) {
+                        index.add(idea.getIdeaId(), ideaEmbedder.embed(textOf(idea.getTitle(), idea.getContent())));
+                    }
+                }
+                dirtyUsers.add(userId);
+            } catch (Exception e) {
+                // 인덱스 갱신 실패가 저장을 막지 않도록 함 (다음 로드 시 개수 불일치로 재생성)
+                log.warn("관련 아이디어 인덱스 갱신 실패 - userId={}: {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(IdeasDeletedEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        HnswIndex index;
+        synchronized (indexes) {
+            index = indexes.get(event.getUserId());
+        }
+        if (index == null) {
+            // 메모리에 없으면 다음 로드 때 개수 검증으로 반영
+            return;
+        }
+
+        HnswIndex compacted = null;
+        synchronized (index) {
+            event.getIdeaIds().forEach(index::remove);
+            if (index.deletedRatio() > compactRatio) {
+                compacted = index.compact();
+            }
+        }
+        if (compacted != null) {
+            // 그 사이 밀려났거나 바뀌었으면 그대로 둠
+            synchronized (indexes) {
+                indexes.replace(event.getUserId(), index, compacted);
+            }
+        }
+        dirtyUsers.add(event.getUserId());
+    }
+
+    /**
+     * 변경된 사용자 인덱스 스냅샷
+     */
+    @Scheduled(fixedDelayString = "${idea.related.snapshot-interval-ms:60000}")
+    @PreDestroy
+    public void snapshotDirty() {
+        for (Long userId : List.copyOf(dirtyUsers)) {
+            HnswIndex index;
+            synchronized (indexes) {
+                index = indexes.get(userId);
+            }
+            if (index != null) {
+                snapshot(userId, index);
+            }
+        }
+    }
+
+    private HnswIndex indexFor(Long userId) {
+        synchronized (indexes) {
+            HnswIndex cached = indexes.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 로드/재생성은 락 밖에서 (동시에 두 번 만들어져도 먼저 넣은 쪽 사용)
+        HnswIndex loaded = loadOrBuild(userId);
+        Map<Long, HnswIndex> toSnapshot;
+        synchronized (indexes) {
+            HnswIndex existing = indexes.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+            indexes.put(userId, loaded);
+            toSnapshot = Map.copyOf(evicted);
+            evicted.clear();
+        }
+        toSnapshot.forEach(this::snapshot);
+        return loaded;
+    }
+
+    private HnswIndex loadOrBuild(Long userId) {
+        Path file = snapshotFile(userId);
+        if (Files.exists(file)) {
+            try {
+                HnswIndex index = HnswIndex.load(file);
+                if (index.dimension() == ideaEmbedder.dimension()
+                        && index.liveCount() == ideaRepository.countByUserId(userId)) {
+                    return index;
+                }
+                log.info("관련 아이디어 스냅샷이 DB 와 달라 재생성 - userId={}", userId);
+            } catch (IOException e) {
+                log.warn("관련 아이디어 스냅샷 로드 실패, 재생성 - userId={}: {}", userId, e.getMessage());
+            }
+        }
+
+        HnswIndex index = new HnswIndex(ideaEmbedder.dimension(), m, efConstruction);
+        for (IdeaText idea : ideaRepository.findTextsByUserId(userId)) {
+            index.add(idea.getIdeaId(), ideaEmbedder.embed(textOf(idea.getTitle(), idea.getFullContent())));
+        }
+        dirtyUsers.add(userId);
+        return index;
+    }
+
+    private void snapshot(Long userId, HnswIndex index) {
+        try {
+            Files.createDirectories(Paths.get(snapshotDir));
+            synchronized (index) {
+                index.save(snapshotFile(userId));
+            }
+            dirtyUsers.remove(userId);
+        } catch (IOException e) {
+            log.warn("관련 아이디어 스냅샷 저장 실패 - userId={}: {}", userId, e.getMessage());
+        }
+    }
+
+    private Path snapshotFile(Long userId) {
+        return Paths.get(snapshotDir, "user-" + userId + ".hnsw");
+    }
+
+    private static String textOf(String title, String content) {
+        List<String> parts = new ArrayList<>(2);
+        if (title != null) {
+            parts.add(title);
+        }
+        if (content != null) {
+            parts.add(content);
+        }
+        return String.join("\n", parts);
+    }
+}
@@ -1,32 +1,183 @@
 package com.brainstorming.brainstorming_platform.domain.idea.repository;
 
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSummary;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaText;
 import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.global.shard.AllShards;
+import com.brainstorming.brainstorming_platform.global.shard.ShardedByUser;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * 아이디어 리포지토리
+ * - 조회 메서드는 readOnly (트랜잭션 밖에서 부르면 레플리카로 갈 수 있음), 변경 쿼리만 읽기/쓰기
+ */
+@ShardedByUser
+@Transactional(readOnly = true)
 public interface IdeaRepository extends JpaRepository<Idea, Long>  {
 
     //특정 사용자의 모든 아이디어 조회
     List<Idea> findByUserId(Long userId);
 
+    // 목록 프로젝션 공통 SELECT 절 (TEXT 컬럼 제외)
+    String SUMMARY = "SELECT i.ideaId AS ideaId, i.userId AS userId, i.title AS title,"
+            + " i.purpose AS purpose, i.createdAt AS createdAt FROM Idea i";
+
+    // 본문 프로젝션 SELECT 절 (지연 로딩 컬럼을 한 번의 쿼리로)
+    String TEXT = "SELECT i.ideaId AS ideaId, i.userId AS userId, i.title AS title,"
+            + " i.purpose AS purpose, i.createdAt AS createdAt,"
+            + " i.content AS content, i.description AS description, i.analysis AS analysis FROM Idea i";
+
+    //특정 사용자의 아이디어 목록 (제목/목적/날짜만)
+    @Query(SUMMARY + " WHERE i.userId = :userId")
+    List<IdeaSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    //특정 사용자의 아이디어 목록 (본문 포함)
+    @Query(TEXT + " WHERE i.userId = :userId")
+    List<IdeaText> findTextsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 내보내기용 본문 스트림 (ID 순)
+     * - fetch size 만큼씩 DB 커서로 읽음 (MySQL 은 JDBC URL 에 useCursorFetch=true 필요)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TEXT + " WHERE i.userId = :userId ORDER BY i.ideaId")
+    Stream<IdeaText> streamTextsByUserId(@Param("userId") Long userId);
+
+    // ID 목록으로 목록 프로젝션 조회 (검색/관련 아이디어 결과)
+    @Query(SUMMARY + " WHERE i.ideaId IN :ideaIds")
+    List<IdeaSummary> findSummariesByIdIn(@Param("ideaIds") Collection<Long> ideaIds);
+
+    // ID 목록으로 본문 프로젝션 조회 (일괄 조회, IN 한 번)
+    @Query(TEXT + " WHERE i.ideaId IN :ideaIds")
+    List<IdeaText> findTextsByIdIn(@Param("ideaIds") Collection<Long> ideaIds);
+
+    /**
+     * (since, until] 사이에 생성/수정된 아이디어 (변경분 동기화, idx_ideas_user_updated)
+     */
+    @Query(TEXT + " WHERE i.userId = :userId AND i.updatedAt > :since AND i.updatedAt <= :until"
+            + " ORDER BY i.updatedAt, i.ideaId")
+    List<IdeaText> findTextsUpdatedBetween(@Param("userId") Long userId,
+                                           @Param("since") LocalDateTime since,
+                                           @Param("until") LocalDateTime until,
+                                           Limit limit);
+
+    // ETag 용 수정 시각만 (PK 조회, 본문 컬럼은 읽지 않음)
+    @Query("SELECT COALESCE(i.updatedAt, i.createdAt) FROM Idea i WHERE i.ideaId = :ideaId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("ideaId") Long ideaId);
+
+    /**
+     * 사용자 아이디어 최신순 스트림 (첫 페이지)
+     * - 정렬 (createdAt DESC, ideaId DESC) 은 idx_ideas_user_created 순서와 같음
+     */
+    @Query(SUMMARY + " WHERE i.userId = :userId ORDER BY i.createdAt DESC, i.ideaId DESC")
+    Stream<IdeaSummary> streamLatest(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 커서 (createdAt, ideaId) 다음 페이지 스트림 (keyset, OFFSET 없음)
+     */
+    @Query(SUMMARY + " WHERE i.userId = :userId"
+            + " AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.ideaId < :ideaId))"
+            + " ORDER BY i.createdAt DESC, i.ideaId DESC")
+    Stream<IdeaSummary> streamBefore(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("ideaId") Long ideaId,
+                                     Limit limit);
+
     //특정 사용자의 아이디어 갯수
     long countByUserId(Long userId);
 
     // 게스느 세션 ID로 아이디어 조회 (로그인후 연결용)
     List<Idea> findByGuestSessionId(String guestSessionId);
+
+    // 아이디어를 가진 사용자 ID 목록 (검색 색인 생성용)
+    @AllShards
+    @Query("SELECT DISTINCT i.userId FROM Idea i WHERE i.userId IS NOT NULL")
+    List<Long> findUserIds();
+
+    // 현재 샤드의 사용자 ID keyset (리샤딩용, idx_ideas_user_created)
+    @Query("SELECT DISTINCT i.userId FROM Idea i WHERE i.userId > :afterUserId ORDER BY i.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Limit limit);
+
+    // 테이블에 남아 있는 게스트 세션 ID 목록 (게스트 블룸 필터 초기화용)
+    @AllShards
+    @Query("SELECT DISTINCT i.guestSessionId FROM Idea i WHERE i.guestSessionId IS NOT NULL")
+    List<String> findGuestSessionIds();
     /**
-     * 오래된 게스트 아이디어 삭제(고아 DB 삭제)
+     * 오래된 게스트 아이디어 ID (고아 DB 삭제 대상, 오래된 순)
      * -userId가 NULL
      * -guestSessionId 존재
-     * -생성일이 기준일 이전인 데이터 삭제
+     * -생성일이 기준일 이전
+     * - (user_id IS NULL, created_at) 범위라 idx_ideas_user_created 순서대로 읽음
+     */
+    @Query("SELECT i.ideaId FROM Idea i WHERE i.userId IS NULL AND i.guestSessionId IS NOT NULL"
+            + " AND i.createdAt < :cutoffDate ORDER BY i.createdAt, i.ideaId")
+    List<Long> findOldGuestIdeaIds(@Param("cutoffDate") LocalDateTime cutoffDate, Limit limit);
+
+    /**
+     * 보관 대상 (로그인 사용자의 오래된 아이디어, 오래된 순)
+     * - created_at 범위라 idx_ideas_created (MySQL 은 기준일 이전 파티션만) 를 읽음
      */
+    @Query("SELECT i.ideaId FROM Idea i WHERE i.userId IS NOT NULL AND i.createdAt < :cutoffDate"
+            + " ORDER BY i.createdAt, i.ideaId")
+    List<Long> findArchivableIdeaIds(@Param("cutoffDate") LocalDateTime cutoffDate, Limit limit);
+
+    /**
+     * 저장된 텍스트 원본 바이트 (압축 백필, PK 순 keyset)
+     * - 컨버터를 거치지 않도록 네이티브 쿼리
+     */
+    @Query(value = "SELECT idea_id, content, description, analysis FROM ideas"
+            + " WHERE idea_id > :afterIdeaId ORDER BY idea_id", nativeQuery = true)
+    List<Object[]> findStoredTextsAfter(@Param("afterIdeaId") Long afterIdeaId, Limit limit);
+
+    // 압축 백필 결과 저장 (2차 캐시는 ideas 영역만 비움)
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ideas"))
+    @Query(value = "UPDATE ideas SET content = :content, description = :description, analysis = :analysis"
+            + " WHERE idea_id = :ideaId", nativeQuery = true)
+    int updateStoredTexts(@Param("ideaId") Long ideaId,
+                          @Param("content") byte[] content,
+                          @Param("description") byte[] description,
+                          @Param("analysis") byte[] analysis);
+
+    // 삭제 대상 행 잠금 조회 (리샤딩 이동과 겹치면 이동이 끝날 때까지 기다림)
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Idea i WHERE i.ideaId IN :ideaIds")
+    List<Idea> findAllForUpdate(@Param("ideaIds") Collection<Long> ideaIds);
+
+    // 같은 샤드에 남은 게스트 아이디어를 사용자에게 연결 (본문 / 설명 / 분석 컬럼은 그대로)
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Idea i SET i.userId = :userId, i.guestSessionId = NULL, i.updatedAt = :updatedAt"
+            + " WHERE i.ideaId IN :ideaIds")
+    int linkGuestIdeas(@Param("ideaIds") Collection<Long> ideaIds,
+                       @Param("userId") Long userId,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // PK 로 삭제 (보존 작업 청크)
     @Modifying
-    @Query("DELETE FROM Idea i WHERE i.userId IS NULL AND i.guestSessionId IS NOT NULL AND i.createdAt < :cutoffDate")
-    int deleteOldGuestIdeas(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Transactional
+    @Query("DELETE FROM Idea i WHERE i.ideaId IN :ideaIds")
+    int deleteByIdeaIds(@Param("ideaIds") Collection<Long> ideaIds);
 
 }
@@ -0,0 +1,40 @@
+package com.brainstorming.brainstorming_platform.domain.idea.scheduler;
+
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.global.job.RetentionTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자에게 연결되지 않은 오래된 게스트 아이디어 삭제
+ * - (user_id IS NULL, created_at) 순서로 idx_ideas_user_created 를 따라 오래된 것부터
+ */
+@Component
+@RequiredArgsConstructor
+public class GuestIdeaRetentionTask implements RetentionTask {
+
+    private final IdeaRepository ideaRepository;
+
+    @Value("${idea.cleanup.guest-retention-days:1}")
+    private long retentionDays;
+
+    @Override
+    public String name() {
+        return "guest-idea-cleanup";
+    }
+
+    @Override
+    public int deleteChunk(int chunkSize) {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
+        List<Long> ideaIds = ideaRepository.findOldGuestIdeaIds(cutoffDate, Limit.of(chunkSize));
+        if (ideaIds.isEmpty()) {
+            return 0;
+        }
+        return ideaRepository.deleteByIdeaIds(ideaIds);
+    }
+}
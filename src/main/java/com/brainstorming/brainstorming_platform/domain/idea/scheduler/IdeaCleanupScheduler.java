@@ -1,35 +1,34 @@
 package com.brainstorming.brainstorming_platform.domain.idea.scheduler;
 
-import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.sync.IdeaDeletionRetentionTask;
+import com.brainstorming.brainstorming_platform.global.job.RetentionJobRunner;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class IdeaCleanupScheduler {
 
-    private final IdeaRepository ideaRepository;
+    private final RetentionJobRunner retentionJobRunner;
+    private final GuestIdeaRetentionTask guestIdeaRetentionTask;
+    private final IdeaDeletionRetentionTask ideaDeletionRetentionTask;
 
     /**
      * 오래된 게스트 아이디어 정리 (매일 새벽 3시 실행)
      * - 전일(1일) 이전에 생성한 게스트 아이디어 삭제
+     * - 청크 단위로 삭제, 여러 노드 중 리스를 얻은 한 곳만 실행 (RetentionJobRunner)
      */
     @Scheduled(cron = "0 0 3 * * *") //매일 새벽 3시
-    @Transactional
     public void cleanupOldGuestIdeas() {
-        log.info("게스트 아이디어 정리 시작 ... ");
-
-        // 1일 전 기준
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(1);
-
-        int deletedCount = ideaRepository.deleteOldGuestIdeas(cutoffDate);
+        retentionJobRunner.submit(guestIdeaRetentionTask);
+    }
 
-        log.info("게스트 아이디어 정리 완료: {}개 삭제 (기준: {} 이전)", deletedCount, cutoffDate);
+    /**
+     * 변경분 동기화용 삭제 기록 정리 (매일 새벽 3시 30분, 기본 30일 보존)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void cleanupIdeaDeletions() {
+        retentionJobRunner.submit(ideaDeletionRetentionTask);
     }
 }
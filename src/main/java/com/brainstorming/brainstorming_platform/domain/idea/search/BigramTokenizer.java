@@ -0,0 +1,59 @@
+package com.brainstorming.brainstorming_platform.domain.idea.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * 검색용 2-gram 토크나이저
+ * - NFKC + 소문자 후 글자/숫자 연속 구간(단어)마다 글자 2-gram 생성
+ * - 한국어는 조사·어미가 붙어 단어 단위로는 "앱을" / "앱" 이 매칭되지 않으므로 2-gram 사용
+ * - 문서는 글자 1-gram 도 색인해 한 글자 질의("앱")도 포스팅 하나로 처리
+ * - 토큰은 두 글자를 int 하나로 묶어 표현 ((c1 << 16) | c2, 1-gram 은 c2 = 0)
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 문서 토큰 (2-gram + 1-gram, 중복 포함, 빈도 계산용)
+     */
+    public static int[] tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 질의 토큰 (2-gram, 한 글자 단어만 1-gram, 중복 제거)
+     */
+    public static int[] distinctTokens(String text) {
+        return Arrays.stream(tokenize(text, false)).distinct().toArray();
+    }
+
+    private static int[] tokenize(String text, boolean withUnigrams) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+
+        int[] tokens = new int[normalized.length() * 2];
+        int count = 0;
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                for (int j = wordStart; j + 1 < i; j++) {
+                    tokens[count++] = (normalized.charAt(j) << 16) | normalized.charAt(j + 1);
+                }
+                if (withUnigrams || i - wordStart == 1) {
+                    for (int j = wordStart; j < i; j++) {
+                        tokens[count++] = normalized.charAt(j) << 16;
+                    }
+                }
+                wordStart = -1;
+            }
+        }
+        return Arrays.copyOf(tokens, count);
+    }
+}
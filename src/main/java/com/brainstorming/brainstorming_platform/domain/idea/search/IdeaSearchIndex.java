@@ -0,0 +1,176 @@
+package com.brainstorming.brainstorming_platform.domain.idea.search;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaText;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasDeletedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasSavedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 아이디어 전문 검색용 메모리 역색인 (사용자별 파티션)
+ *
+ * - 시작 시 사용자 단위로 병렬 재생성 (search-index.rebuild-threads, 최대 max-users-in-memory 명)
+ * - 메모리에 없는 사용자는 검색/저장 때 DB 로 파티션 생성, 오래 안 쓴 사용자부터 내림 (LRU)
+ * - 저장·게스트 연결·삭제 이벤트로 증분 갱신 (MySQL 은 결과 행 조회에만 사용)
+ */
+@Slf4j
+@Component
+public class IdeaSearchIndex {
+
+    private final IdeaRepository ideaRepository;
+
+    @Value("${idea.search-index.rebuild-threads:4}")
+    private int rebuildThreads;
+
+    @Value("${idea.search-index.max-users-in-memory:1000}")
+    private int maxUsersInMemory;
+
+    // 접근 순서 LinkedHashMap (LRU), 넘치면 가장 오래 안 쓴 파티션을 버림 (다음 접근 때 DB 로 다시 생성)
+    private final Map<Long, UserSearchPartition> partitions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserSearchPartition> eldest) {
+            return size() > maxUsersInMemory;
+        }
+    };
+
+    public IdeaSearchIndex(IdeaRepository ideaRepository, MeterRegistry meterRegistry) {
+        this.ideaRepository = ideaRepository;
+
+        Gauge.builder("ideas.search_index.users", this, IdeaSearchIndex::userCount)
+                .description("메모리 역색인에 올라온 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("ideas.search_index.postings", this, IdeaSearchIndex::postingBytes)
+                .description("압축된 포스팅 리스트 전체 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 사용자 역색인을 병렬로 생성 (메모리 한도까지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Long> userIds = ideaRepository.findUserIds();
+        if (userIds.size() > maxUsersInMemory) {
+            userIds = userIds.subList(0, maxUsersInMemory);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, rebuildThreads), runnable -> {
+            Thread thread = new Thread(runnable, "idea-search-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<UserSearchPartition>> futures = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                futures.add(executor.submit(() -> partitionFor(userId)));
+            }
+            for (Future<UserSearchPartition> future : futures) {
+                future.get();
+            }
+            log.info("아이디어 검색 색인 생성 완료 - 사용자 {}명, {}ms", userIds.size(), System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 실패한 사용자는 첫 검색 때 다시 생성
+            log.error("아이디어 검색 색인 생성 실패: {}", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @param outIds    결과 아이디어 ID (점수 내림차순)
+     * @param outScores 점수
+     * @return 채워진 결과 개수
+     */
+    public int search(Long userId, String query, int limit, long[] outIds, float[] outScores) {
+        return partitionFor(userId).search(query, limit, outIds, outScores);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(IdeasSavedEvent event) {
+        for (Idea idea : event.getIdeas()) {
+            if (idea.getUserId() == null || idea.getIdeaId() == null) {
+                continue;
+            }
+            partitionFor(idea.getUserId()).add(idea.getIdeaId(), textOf(idea.getTitle(), idea.getContent()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(IdeasDeletedEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        UserSearchPartition partition;
+        synchronized (partitions) {
+            partition = partitions.get(event.getUserId());
+        }
+        if (partition != null) {
+            event.getIdeaIds().forEach(partition::remove);
+        }
+    }
+
+    /**
+     * 파티션이 없으면 DB 에서 생성
+     * - DB 조회는 락 밖에서 (동시에 두 번 만들어져도 먼저 넣은 쪽 사용, add 는 중복 무시)
+     */
+    private UserSearchPartition partitionFor(Long userId) {
+        synchronized (partitions) {
+            UserSearchPartition cached = partitions.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        UserSearchPartition loaded = new UserSearchPartition();
+        for (IdeaText idea : ideaRepository.findTextsByUserId(userId)) {
+            loaded.add(idea.getIdeaId(), textOf(idea.getTitle(), idea.getFullContent()));
+        }
+
+        synchronized (partitions) {
+            UserSearchPartition existing = partitions.putIfAbsent(userId, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    private double userCount() {
+        synchronized (partitions) {
+            return partitions.size();
+        }
+    }
+
+    private double postingBytes() {
+        List<UserSearchPartition> snapshot;
+        synchronized (partitions) {
+            snapshot = new ArrayList<>(partitions.values());
+        }
+        long bytes = 0;
+        for (UserSearchPartition partition : snapshot) {
+            bytes += partition.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private static String textOf(String title, String content) {
+        return (title == null ? "" : title) + "\n" + (content == null ? "" : content);
+    }
+}
@@ -0,0 +1,120 @@
+package com.brainstorming.brainstorming_platform.domain.idea.search;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 압축된 포스팅 리스트
+ * - (아이디어 ID 차이값, 빈도) 쌍을 varint 로 기록 (ID 오름차순)
+ * - 새 아이디어는 보통 ID 가 가장 크므로 끝에 덧붙이고, 아니면 풀어서 다시 인코딩
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int docCount;
+    private long lastDocId;
+
+    int docCount() {
+        return docCount;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    void add(long docId, int frequency) {
+        if (docCount == 0 || docId > lastDocId) {
+            writeVarLong(docId - lastDocId);
+            writeVarLong(frequency);
+            lastDocId = docId;
+            docCount++;
+            return;
+        }
+
+        // 중간 삽입 (게스트 아이디어 연결 등 ID 가 작은 아이디어)
+        long[] docIds = new long[docCount + 1];
+        int[] frequencies = new int[docCount + 1];
+        int count = decode(docIds, frequencies);
+        int index = Arrays.binarySearch(docIds, 0, count, docId);
+        if (index >= 0) {
+            frequencies[index] = frequency;
+        } else {
+            index = -index - 1;
+            System.arraycopy(docIds, index, docIds, index + 1, count - index);
+            System.arraycopy(frequencies, index, frequencies, index + 1, count - index);
+            docIds[index] = docId;
+            frequencies[index] = frequency;
+            count++;
+        }
+        reset();
+        for (int i = 0; i < count; i++) {
+            add(docIds[i], frequencies[i]);
+        }
+    }
+
+    /**
+     * 삭제된 아이디어를 뺀 새 리스트
+     */
+    PostingList without(Set<Long> deleted) {
+        long[] docIds = new long[docCount];
+        int[] frequencies = new int[docCount];
+        int count = decode(docIds, frequencies);
+
+        PostingList compacted = new PostingList();
+        for (int i = 0; i < count; i++) {
+            if (!deleted.contains(docIds[i])) {
+                compacted.add(docIds[i], frequencies[i]);
+            }
+        }
+        return compacted;
+    }
+
+    /**
+     * @return 디코딩한 개수 (배열 크기는 docCount 이상이어야 함)
+     */
+    int decode(long[] docIds, int[] frequencies) {
+        int position = 0;
+        long docId = 0;
+        for (int i = 0; i < docCount; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                frequency |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docId += delta;
+            docIds[i] = docId;
+            frequencies[i] = frequency;
+        }
+        return docCount;
+    }
+
+    private void reset() {
+        length = 0;
+        docCount = 0;
+        lastDocId = 0;
+    }
+
+    private void writeVarLong(long value) {
+        if (length + 10 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+        }
+        while ((value & ~0x7fL) != 0) {
+            data[length++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+}
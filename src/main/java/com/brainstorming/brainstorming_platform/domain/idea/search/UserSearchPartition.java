@@ -0,0 +1,250 @@
+package com.brainstorming.brainstorming_platform.domain.idea.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 한 명의 역색인 (2-gram → 포스팅 리스트)
+ * - 삭제는 tombstone 후 비율이 넘으면 전체 포스팅을 압축
+ * - 순위는 BM25, 질의 2-gram 을 모두 포함한 아이디어만 결과 (LIKE '%질의%' 에 가까운 동작)
+ */
+final class UserSearchPartition {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double COMPACT_RATIO = 0.2;
+
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private final Set<Long> deleted = new HashSet<>();
+    private long totalLength;
+
+    synchronized int documentCount() {
+        return documentLengths.size();
+    }
+
+    /**
+     * 아이디어 추가 (이미 있으면 무시 - 저장 이벤트와 재생성이 겹쳐도 한 번만 반영)
+     */
+    synchronized void add(long ideaId, String text) {
+        if (documentLengths.containsKey(ideaId)) {
+            return;
+        }
+        int[] tokens = BigramTokenizer.tokenize(text);
+        Arrays.sort(tokens);
+
+        int i = 0;
+        while (i < tokens.length) {
+            int token = tokens[i];
+            int frequency = 0;
+            while (i < tokens.length && tokens[i] == token) {
+                frequency++;
+                i++;
+            }
+            postings.computeIfAbsent(token, key -> new PostingList()).add(ideaId, frequency);
+        }
+
+        // 삭제됐던 ID 가 다시 들어오는 경우는 없지만 tombstone 은 정리
+        deleted.remove(ideaId);
+        documentLengths.put(ideaId, tokens.length);
+        totalLength += tokens.length;
+    }
+
+    synchronized void remove(long ideaId) {
+        Integer length = documentLengths.remove(ideaId);
+        if (length == null) {
+            return;
+        }
+        totalLength -= length;
+        deleted.add(ideaId);
+
+        if (deleted.size() > Math.max(16, documentLengths.size() * COMPACT_RATIO)) {
+            compact();
+        }
+    }
+
+    /**
+     * @param outIds    결과 아이디어 ID (점수 내림차순)
+     * @param outScores BM25 점수
+     * @return 채워진 결과 개수
+     */
+    synchronized int search(String query, int limit, long[] outIds, float[] outScores) {
+        int[] terms = BigramTokenizer.distinctTokens(query);
+        if (terms.length == 0 || documentLengths.isEmpty()) {
+            return 0;
+        }
+
+        long[][] docIds = new long[terms.length][];
+        int[][] frequencies = new int[terms.length][];
+        for (int t = 0; t < terms.length; t++) {
+            if (!decodeTerm(terms[t], t, docIds, frequencies)) {
+                return 0; // 한 토큰이라도 없으면 결과 없음
+            }
+        }
+        // 짧은 리스트부터 교집합
+        Integer[] order = new Integer[terms.length];
+        for (int t = 0; t < terms.length; t++) {
+            order[t] = t;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(docIds[a].length, docIds[b].length));
+        long[][] sortedDocIds = new long[terms.length][];
+        int[][] sortedFrequencies = new int[terms.length][];
+        for (int t = 0; t < terms.length; t++) {
+            sortedDocIds[t] = docIds[order[t]];
+            sortedFrequencies[t] = frequencies[order[t]];
+        }
+        return intersect(sortedDocIds, sortedFrequencies, limit, outIds, outScores);
+    }
+
+    private int intersect(long[][] docIds, int[][] frequencies, int limit, long[] outIds, float[] outScores) {
+        int termCount = docIds.length;
+        int documentCount = documentLengths.size();
+        double averageLength = (double) totalLength / documentCount;
+        double[] idf = new double[termCount];
+        for (int t = 0; t < termCount; t++) {
+            int df = docIds[t].length;
+            idf[t] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        TopK top = new TopK(limit);
+        int[] cursors = new int[termCount];
+        outer:
+        for (int i = 0; i < docIds[0].length; i++) {
+            long docId = docIds[0][i];
+            if (deleted.contains(docId)) {
+                continue;
+            }
+            for (int t = 1; t < termCount; t++) {
+                // 정렬된 리스트라 커서는 앞으로만 이동
+                while (cursors[t] < docIds[t].length && docIds[t][cursors[t]] < docId) {
+                    cursors[t]++;
+                }
+                if (cursors[t] == docIds[t].length) {
+                    break outer;
+                }
+                if (docIds[t][cursors[t]] != docId) {
+                    continue outer;
+                }
+            }
+
+            double lengthNorm = K1 * (1 - B + B * documentLengths.get(docId) / averageLength);
+            double score = 0;
+            for (int t = 0; t < termCount; t++) {
+                int tf = t == 0 ? frequencies[0][i] : frequencies[t][cursors[t]];
+                score += idf[t] * tf * (K1 + 1) / (tf + lengthNorm);
+            }
+            top.offer(docId, (float) score);
+        }
+        return top.drainDescending(outIds, outScores);
+    }
+
+    private boolean decodeTerm(int term, int slot, long[][] outDocIds, int[][] outFrequencies) {
+        PostingList list = postings.get(term);
+        if (list == null) {
+            return false;
+        }
+        outDocIds[slot] = new long[list.docCount()];
+        outFrequencies[slot] = new int[list.docCount()];
+        list.decode(outDocIds[slot], outFrequencies[slot]);
+        return true;
+    }
+
+    /**
+     * 포스팅 압축 바이트 수 (지표용)
+     */
+    synchronized long sizeInBytes() {
+        long bytes = 0;
+        for (PostingList list : postings.values()) {
+            bytes += list.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private void compact() {
+        postings.replaceAll((token, list) -> list.without(deleted));
+        postings.values().removeIf(list -> list.docCount() == 0);
+        deleted.clear();
+    }
+
+    /**
+     * 점수 상위 k 개 (최소 힙)
+     */
+    private static final class TopK {
+
+        private final long[] ids;
+        private final float[] scores;
+        private int size;
+
+        TopK(int capacity) {
+            this.ids = new long[capacity];
+            this.scores = new float[capacity];
+        }
+
+        void offer(long id, float score) {
+            if (ids.length == 0) {
+                return;
+            }
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size] = score;
+                int index = size++;
+                while (index > 0) {
+                    int parent = (index - 1) >>> 1;
+                    if (scores[parent] <= scores[index]) {
+                        break;
+                    }
+                    swap(parent, index);
+                    index = parent;
+                }
+            } else if (score > scores[0]) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(size);
+            }
+        }
+
+        int drainDescending(long[] outIds, float[] outScores) {
+            int count = size;
+            for (int i = count - 1; i >= 0; i--) {
+                outIds[i] = ids[0];
+                outScores[i] = scores[0];
+                ids[0] = ids[i];
+                scores[0] = scores[i];
+                siftDown(i);
+            }
+            size = 0;
+            return count;
+        }
+
+        private void siftDown(int heapSize) {
+            int index = 0;
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= heapSize) {
+                    return;
+                }
+                int smallest = left;
+                if (left + 1 < heapSize && scores[left + 1] < scores[left]) {
+                    smallest = left + 1;
+                }
+                if (scores[index] <= scores[smallest]) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
@@ -1,76 +1,509 @@
 package com.brainstorming.brainstorming_platform.domain.idea.service;
 
+import com.brainstorming.brainstorming_platform.domain.idea.archive.ArchivedIdea;
+import com.brainstorming.brainstorming_platform.domain.idea.archive.ArchivedIdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.counter.IdeaCounterService;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaBatchResultDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaFields;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaRequestDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaResponseDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSearchResponseDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSuggestionDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSummary;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaText;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.RelatedIdeaResponseDto;
 import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasDeletedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasSavedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.guest.GuestIdeaStore;
+import com.brainstorming.brainstorming_platform.domain.idea.related.RelatedIdeaIndex;
 import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.search.IdeaSearchIndex;
+import com.brainstorming.brainstorming_platform.domain.idea.suggest.IdeaSuggestIndex;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWalRecord;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWriteAheadLog;
+import com.brainstorming.brainstorming_platform.global.etag.CollectionVersionService;
+import com.brainstorming.brainstorming_platform.global.etag.ETags;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class IdeaService {
 
     private final IdeaRepository ideaRepository;
+    private final ArchivedIdeaRepository archivedIdeaRepository;
+    private final IdeaWriteAheadLog ideaWriteAheadLog;
+    private final GuestIdeaStore guestIdeaStore;
+    private final RelatedIdeaIndex relatedIdeaIndex;
+    private final IdeaSearchIndex ideaSearchIndex;
+    private final IdeaSuggestIndex ideaSuggestIndex;
+    private final IdeaCounterService ideaCounterService;
+    private final CollectionVersionService collectionVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 아이디어 저장
+     * - 게스트 아이디어는 테이블 대신 GuestIdeaStore 에 보관 (로그인 연결 시 테이블로 이동, 저장소를 끄면 테이블)
+     * - 카운터 증가와 같은 트랜잭션
+     * - 사용자의 샤드에 저장 (카운터 / 목록 버전 / 아웃박스도 같은 샤드)
      */
+    @Transactional
     public Idea save(Idea idea) {
-        return ideaRepository.save(idea);
+        if (isGuestIdea(idea)) {
+            guestIdeaStore.put(idea);
+            return idea;
+        }
+        return shardRouter.callOn(shardRouter.shardOf(idea.getUserId()), () -> {
+            Idea saved = ideaRepository.save(idea);
+            eventPublisher.publishEvent(new IdeasSavedEvent(List.of(saved)));
+            return saved;
+        });
+    }
+
+    /**
+     * 아이디어 일괄 저장 (샤드마다 한 트랜잭션)
+     * - 한 트랜잭션은 한 샤드에서만 가능하므로 사용자의 샤드별로 나눠 저장
+     * - 샤드가 하나면 기존처럼 한 트랜잭션 (바깥 트랜잭션이 있으면 참여)
+     */
+    public List<Idea> saveAll(List<Idea> ideas) {
+        List<Idea> saved = new ArrayList<>(ideas.size());
+        Map<Integer, List<Idea>> userIdeasByShard = new LinkedHashMap<>();
+        for (Idea idea : ideas) {
+            if (isGuestIdea(idea)) {
+                guestIdeaStore.put(idea);
+                saved.add(idea);
+            } else {
+                userIdeasByShard.computeIfAbsent(shardRouter.shardOf(idea.getUserId()), shard -> new ArrayList<>())
+                        .add(idea);
+            }
+        }
+        userIdeasByShard.forEach((shard, userIdeas) -> saved.addAll(saveOnShard(shard, userIdeas)));
+        return saved;
+    }
+
+    private List<Idea> saveOnShard(int shard, List<Idea> ideas) {
+        return shardRouter.callOn(shard, () -> transactionTemplate.execute(status -> {
+            List<Idea> stored = ideaRepository.saveAll(ideas);
+            eventPublisher.publishEvent(new IdeasSavedEvent(stored));
+            return stored;
+        }));
+    }
+
+    /**
+     * 아이디어 일괄 생성 (샤드마다 한 트랜잭션)
+     * - 잘못된 항목은 INVALID 로 표시하고 나머지만 저장
+     * - 여러 샤드 사용자의 아이디어가 섞여 있어도 항목별 결과 (saveAll)
+     * - 저장 중 DB 오류가 나면 그 샤드의 트랜잭션 전체 롤백
+     */
+    public List<IdeaBatchResultDto> createBatch(List<IdeaRequestDto> requests) {
+        List<IdeaBatchResultDto> results = new ArrayList<>(requests.size());
+        List<Idea> ideas = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String invalid = validate(requests.get(i));
+            if (invalid != null) {
+                results.add(IdeaBatchResultDto.invalid(i, invalid));
+                continue;
+            }
+            ideas.add(requests.get(i).toEntity());
+            indexes.add(i);
+            results.add(null);
+        }
+
+        // 새 엔티티는 persist 되며 같은 객체에 ID 가 채워짐 (게스트 아이디어는 ID 없음)
+        saveAll(ideas);
+        for (int i = 0; i < ideas.size(); i++) {
+            results.set(indexes.get(i), IdeaBatchResultDto.created(indexes.get(i), ideas.get(i).getIdeaId()));
+        }
+        return results;
+    }
+
+    /**
+     * 아이디어 일괄 조회 (샤드마다 IN 쿼리 한 번, 요청 순서대로)
+     * - ideas 에 없는 ID 만 보관 테이블에서 한 번 더 조회
+     */
+    public List<IdeaBatchResultDto> findBatch(List<Long> ideaIds) {
+        Map<Long, IdeaText> found = new HashMap<>();
+        onIdeaShards(ideaIds, (shard, ids) -> {
+            Map<Long, IdeaText> texts = shardRouter.callOn(shard, () -> findTextsByIdIn(ids));
+            found.putAll(texts);
+            return texts.keySet();
+        });
+        return ideaIds.stream()
+                .map(ideaId -> found.containsKey(ideaId)
+                        ? IdeaBatchResultDto.found(IdeaResponseDto.from(found.get(ideaId)))
+                        : IdeaBatchResultDto.notFound(ideaId))
+                .toList();
+    }
+
+    /**
+     * 아이디어 일괄 삭제 (샤드마다 한 트랜잭션)
+     * - 대상은 IN 쿼리 한 번으로 읽고, DELETE 는 JDBC 배치로 전송 (JpaBatchConfig)
+     */
+    public List<IdeaBatchResultDto> deleteBatch(List<Long> ideaIds) {
+        Map<Long, Long> found = new HashMap<>();
+        onIdeaShards(ideaIds, (shard, ids) -> {
+            Map<Long, Long> deleted = deleteOnShard(shard, ids);
+            found.putAll(deleted);
+            return deleted.keySet();
+        });
+
+        return ideaIds.stream()
+                .map(ideaId -> found.containsKey(ideaId)
+                        ? IdeaBatchResultDto.deleted(ideaId)
+                        : IdeaBatchResultDto.notFound(ideaId))
+                .toList();
+    }
+
+    /**
+     * 한 샤드에서 삭제 (한 트랜잭션)
+     *
+     * @return 삭제한 아이디어 ID → 사용자 ID
+     */
+    private Map<Long, Long> deleteOnShard(int shard, List<Long> ideaIds) {
+        return shardRouter.callOn(shard, () -> transactionTemplate.execute(status -> deleteOnCurrentShard(ideaIds)));
+    }
+
+    private Map<Long, Long> deleteOnCurrentShard(List<Long> ideaIds) {
+        Map<Long, Long> found = new HashMap<>();
+        // 잠금 조회: 리샤딩이 옮기는 중이면 원본 커밋까지 기다린 뒤 없으면 다음 샤드(대상)에서 삭제
+        List<Idea> ideas = ideaRepository.findAllForUpdate(ideaIds);
+        ideaRepository.deleteAll(ideas);
+        ideas.forEach(idea -> found.put(idea.getIdeaId(), idea.getUserId()));
+
+        // ideas 에 없으면 보관된 아이디어
+        List<Long> missing = ideaIds.stream().filter(ideaId -> !found.containsKey(ideaId)).distinct().toList();
+        if (!missing.isEmpty()) {
+            List<ArchivedIdea> archived = archivedIdeaRepository.findAllForUpdate(missing);
+            archivedIdeaRepository.deleteAll(archived);
+            archived.forEach(idea -> found.put(idea.getIdeaId(), idea.getUserId()));
+        }
+
+        // 사용자별로 삭제 이벤트 (카운터 / 목록 버전 / 색인)
+        found.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((userId, deletedIds) ->
+                        eventPublisher.publishEvent(new IdeasDeletedEvent(userId, deletedIds)));
+        return found;
     }
 
     /**
      * ID로 아이디어 조회
+     * - ideas 에 없으면 보관 테이블에서 조회 (보관된 아이디어는 영속 상태가 아닌 읽기 전용 객체)
+     * - 아이디어를 만든 샤드부터 찾음
      */
     public Idea findById(Long ideaId) {
-        return ideaRepository.findById(ideaId)
+        return shardRouter.findFirst(ideaId, () -> ideaRepository.findById(ideaId)
+                        .or(() -> archivedIdeaRepository.findById(ideaId).map(ArchivedIdea::toIdea)))
                 .orElseThrow(() -> new RuntimeException("저장된 아이디어가 없습니다."));
     }
 
 
     /**
-     * 저장된 userID의 모든 아이디어를 조회
+     * 아이디어 ETag (수정 시각 기준, 본문은 읽지 않음)
+     * - 없는 아이디어면 empty (조회에서 기존 예외 그대로)
+     */
+    public Optional<String> findETag(Long ideaId) {
+        return shardRouter.findFirst(ideaId, () -> ideaRepository.findModifiedAtById(ideaId)
+                        .or(() -> archivedIdeaRepository.findModifiedAtById(ideaId)))
+                .map(modifiedAt -> ETags.strong("idea", ideaId,
+                        Long.toHexString(modifiedAt.toEpochSecond(ZoneOffset.UTC)),
+                        Integer.toHexString(modifiedAt.getNano())));
+    }
+
+    /**
+     * 사용자 아이디어 목록 ETag
+     * - 목록 버전 + WAL 대기 개수 + 요청 필드 (WAL 반영 시에도 저장 이벤트로 버전이 바뀜)
+     * - 목록보다 먼저 호출해야 함 (CollectionVersionService 참고)
+     */
+    public String listETag(Long userId, IdeaFields fields) {
+        long version = collectionVersionService.current(CollectionVersionService.IDEAS, userId);
+        return ETags.strong("ideas", userId, "v" + version,
+                "p" + ideaWriteAheadLog.pendingFor(userId).size(),
+                Integer.toHexString(fields.key().hashCode()));
+    }
+
+    /**
+     * 저장된 userID의 모든 아이디어를 조회 (보관된 아이디어 포함)
      */
     public List<Idea> findByUserId(Long userId) {
-        return ideaRepository.findByUserId(userId);
+        return Stream.concat(
+                        archivedIdeaRepository.findByUserId(userId).stream().map(ArchivedIdea::toIdea),
+                        ideaRepository.findByUserId(userId).stream())
+                .toList();
+    }
+
+    /**
+     * 사용자 아이디어 목록 중 요청한 필드만 (?fields=, 없으면 IdeaFields.SUMMARY)
+     * - content 가 없으면 TEXT 컬럼을 읽지 않는 목록 프로젝션으로 조회
+     * - 아직 DB 반영 전인 아이디어도 포함 (read-your-writes)
+     * - 보관된 아이디어도 포함 (오래된 것이라 앞쪽에)
+     */
+    public List<Map<String, Object>> findFieldsByUserId(Long userId, IdeaFields fields) {
+        Stream<IdeaResponseDto> stored = fields.includesContent()
+                ? Stream.concat(archivedIdeaRepository.findTextsByUserId(userId).stream(),
+                        ideaRepository.findTextsByUserId(userId).stream()).map(IdeaResponseDto::from)
+                : Stream.concat(archivedIdeaRepository.findSummariesByUserId(userId).stream(),
+                        ideaRepository.findSummariesByUserId(userId).stream()).map(IdeaResponseDto::summaryOf);
+        return Stream.concat(stored, findPendingByUserId(userId).stream().map(IdeaWalRecord::toResponseDto))
+                .map(fields::select)
+                .toList();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은(WAL 대기 중) 사용자의 아이디어
+     */
+    public List<IdeaWalRecord> findPendingByUserId(Long userId) {
+        return ideaWriteAheadLog.pendingFor(userId);
+    }
+
+    /**
+     * 관련 아이디어 (같은 사용자의 아이디어 중 유사도 상위 k 개)
+     */
+    public List<RelatedIdeaResponseDto> findRelated(Long ideaId, int k) {
+        Idea idea = findById(ideaId);
+        if (idea.getUserId() == null) {
+            return List.of();
+        }
+
+        long[] ids = new long[k];
+        float[] scores = new float[k];
+        int found = relatedIdeaIndex.findRelated(idea, k, ids, scores);
+
+        Map<Long, IdeaSummary> ideasById = findSummariesById(ids, found);
+
+        // 유사도 순서 유지, 인덱스 반영 직후 삭제된 아이디어는 제외
+        List<RelatedIdeaResponseDto> related = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            IdeaSummary relatedIdea = ideasById.get(ids[i]);
+            if (relatedIdea != null) {
+                related.add(RelatedIdeaResponseDto.of(relatedIdea, scores[i]));
+            }
+        }
+        return related;
+    }
+
+    /**
+     * 사용자 아이디어 전문 검색 (제목 + 내용)
+     * - 후보 선정과 순위는 메모리 역색인, DB 는 결과 행(PK)의 목록 컬럼만 조회
+     */
+    public List<IdeaSearchResponseDto> search(Long userId, String query, int limit) {
+        long[] ids = new long[limit];
+        float[] scores = new float[limit];
+        int found = ideaSearchIndex.search(userId, query, limit, ids, scores);
+
+        Map<Long, IdeaSummary> ideasById = findSummariesById(ids, found);
+        List<IdeaSearchResponseDto> results = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            IdeaSummary idea = ideasById.get(ids[i]);
+            if (idea != null) {
+                results.add(IdeaSearchResponseDto.of(idea, scores[i]));
+            }
+        }
+        return results;
     }
 
     /**
-     * 아이디어 삭제
+     * 자동완성 (아이디어 제목 + 브레인스토밍 목적, 자주 쓴 순)
+     */
+    public List<IdeaSuggestionDto> suggest(Long userId, String prefix, int limit) {
+        return ideaSuggestIndex.suggest(userId, prefix, limit).stream()
+                .map(IdeaSuggestionDto::from)
+                .toList();
+    }
+
+    /**
+     * 아이디어 삭제 (보관된 아이디어면 보관 테이블에서 삭제)
      */
     public void delete(Long ideaId) {
-        ideaRepository.deleteById(ideaId);
+        onIdeaShards(List.of(ideaId), (shard, ids) -> deleteOnShard(shard, ids).keySet());
     }
 
     /**
-     * ID의 아이디어 갯수
+     * ID의 아이디어 갯수 (WAL 대기 중인 아이디어 포함)
+     * - COUNT(*) 대신 사용자별 카운터 (IdeaCounterService)
      */
     public long countByUserId(Long userId) {
-        return ideaRepository.countByUserId(userId);
+        return ideaCounterService.count(userId) + ideaWriteAheadLog.pendingFor(userId).size();
     }
 
     /**
      * 게스트 세션의 아이디어를 로그인한 사용자에게 연결
+     * - GuestIdeaStore 의 아이디어를 테이블로 이동 (저장 실패 시 저장소에 되돌림)
+     * - 이전 방식으로 테이블에 저장된 게스트 아이디어도 연결
+     *   - 게스트 샤드와 사용자 샤드가 같으면 UPDATE 로 userId 만 설정 (저장된 컬럼은 그대로)
+     *   - 다르면 사용자 샤드에 새로 저장한 뒤 게스트 샤드에서 삭제
+     * - 설명/분석으로 나눠 저장된 아이디어는 나눠진 그대로 옮김
      */
-    @Transactional
     public int linkGuestIdeasToUser(String guestSessionId, Long userId) {
-        List<Idea> guestIdeas = ideaRepository.findByGuestSessionId(guestSessionId);
-
-        for (Idea idea : guestIdeas) {
-            //기존 아이디어에 userId설정하고 guestSessionId제거
-            Idea linkedIdea = new Idea(
-                    idea.getIdeaId(),
-                    userId,
-                    idea.getTitle(),
-                    idea.getContent(),
-                    idea.getPurpose(),
-                    null // guestSessionId 제거
-            );
-            ideaRepository.save(linkedIdea);
-        }
-        return guestIdeas.size(); //연결된 아이디어 개수 반환
+        // 아이디어를 만든 적 없는 세션이면 바로 종료 (저장소를 끄면 테이블에만 있으므로 확인하지 않음)
+        if (guestIdeaStore.enabled() && !guestIdeaStore.mightContain(guestSessionId)) {
+            return 0;
+        }
+        int userShard = shardRouter.shardOf(userId);
+        boolean crossShard = userShard != shardRouter.guestShard();
+
+        List<Idea> storedIdeas = guestIdeaStore.drain(guestSessionId);
+        List<Idea> linkedIdeas = new ArrayList<>();
+        for (Idea idea : storedIdeas) {
+            linkedIdeas.add(linkedCopy(idea, userId));
+        }
+
+        // 게스트 샤드에서 조회 (다른 샤드로 옮기면 지연 로딩 컬럼까지 읽어 새 ID 로 사본을 만듦)
+        List<Long> guestIdeaIds = new ArrayList<>();
+        shardRouter.callOn(shardRouter.guestShard(), () -> transactionTemplate.execute(status -> {
+            for (Idea idea : ideaRepository.findByGuestSessionId(guestSessionId)) {
+                guestIdeaIds.add(idea.getIdeaId());
+                if (crossShard) {
+                    linkedIdeas.add(linkedCopy(idea, userId));
+                }
+            }
+            return null;
+        }));
+
+        try {
+            shardRouter.callOn(userShard, () -> transactionTemplate.execute(status -> {
+                List<Idea> savedIdeas = new ArrayList<>(ideaRepository.saveAll(linkedIdeas));
+                if (!crossShard && !guestIdeaIds.isEmpty()) {
+                    ideaRepository.linkGuestIdeas(guestIdeaIds, userId, LocalDateTime.now());
+                    savedIdeas.addAll(ideaRepository.findAllById(guestIdeaIds));
+                }
+                eventPublisher.publishEvent(new IdeasSavedEvent(savedIdeas));
+                return savedIdeas;
+            }));
+        } catch (RuntimeException e) {
+            // 저장이 롤백되면 꺼낸 아이디어를 저장소에 되돌려 다음 로그인 때 다시 연결
+            storedIdeas.forEach(guestIdeaStore::put);
+            throw e;
+        }
+
+        if (crossShard && !guestIdeaIds.isEmpty()) {
+            // 여기서 실패해 남은 게스트 행은 GuestIdeaRetentionTask 가 정리 (사용자 목록에는 보이지 않음)
+            shardRouter.callOn(shardRouter.guestShard(), () -> transactionTemplate.execute(status ->
+                    ideaRepository.deleteByIdeaIds(guestIdeaIds)));
+        }
+        return storedIdeas.size() + guestIdeaIds.size(); //연결된 아이디어 개수 반환
+    }
+
+    /**
+     * 사용자에게 연결할 게스트 아이디어 사본 (새 ID, guestSessionId 제거)
+     */
+    private static Idea linkedCopy(Idea idea, Long userId) {
+        return new Idea(
+                null,
+                userId,
+                idea.getTitle(),
+                idea.hasSections() ? null : idea.getContent(),
+                idea.getPurpose(),
+                null, // guestSessionId 제거
+                idea.getDescription(),
+                idea.getAnalysis()
+        );
+    }
+
+    private Map<Long, IdeaSummary> findSummariesById(long[] ids, int count) {
+        if (count == 0) {
+            return Map.of();
+        }
+        List<Long> idList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            idList.add(ids[i]);
+        }
+        Map<Long, IdeaSummary> found = new HashMap<>();
+        onIdeaShards(idList, (shard, shardIds) -> {
+            Map<Long, IdeaSummary> summaries = shardRouter.callOn(shard, () -> findSummariesByIdIn(shardIds));
+            found.putAll(summaries);
+            return summaries.keySet();
+        });
+        return found;
+    }
+
+    private Map<Long, IdeaSummary> findSummariesByIdIn(List<Long> ideaIds) {
+        Map<Long, IdeaSummary> found = ideaRepository.findSummariesByIdIn(ideaIds).stream()
+                .collect(Collectors.toMap(IdeaSummary::getIdeaId, Function.identity()));
+        // 색인 생성 후 보관된 아이디어
+        List<Long> missing = ideaIds.stream().filter(ideaId -> !found.containsKey(ideaId)).toList();
+        if (!missing.isEmpty()) {
+            archivedIdeaRepository.findSummariesByIdIn(missing).forEach(idea -> found.put(idea.getIdeaId(), idea));
+        }
+        return found;
+    }
+
+    private Map<Long, IdeaText> findTextsByIdIn(List<Long> ideaIds) {
+        Map<Long, IdeaText> found = ideaRepository.findTextsByIdIn(ideaIds).stream()
+                .collect(Collectors.toMap(IdeaText::getIdeaId, Function.identity()));
+        List<Long> missing = ideaIds.stream().filter(ideaId -> !found.containsKey(ideaId)).distinct().toList();
+        if (!missing.isEmpty()) {
+            archivedIdeaRepository.findTextsByIdIn(missing).forEach(idea -> found.put(idea.getIdeaId(), idea));
+        }
+        return found;
+    }
+
+    /**
+     * 아이디어 ID 를 샤드별로 처리
+     * - ID 를 발급한 샤드에서 먼저, 거기 없던 ID 만 나머지 샤드에서 (리샤딩으로 옮겨진 아이디어)
+     *
+     * @param action (샤드, 그 샤드에서 찾을 ID) → 찾은 ID
+     */
+    private void onIdeaShards(Collection<Long> ideaIds, BiFunction<Integer, List<Long>, Collection<Long>> action) {
+        Set<Long> remaining = new LinkedHashSet<>(ideaIds);
+        remaining.stream()
+                .collect(Collectors.groupingBy(shardRouter::shardOfId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((shard, ids) -> remaining.removeAll(action.apply(shard, ids)));
+        for (int shard : shardRouter.shards()) {
+            if (remaining.isEmpty()) {
+                return;
+            }
+            List<Long> ids = remaining.stream().filter(ideaId -> shardRouter.shardOfId(ideaId) != shard).toList();
+            if (!ids.isEmpty()) {
+                remaining.removeAll(action.apply(shard, ids));
+            }
+        }
+    }
+
+    private static String validate(IdeaRequestDto request) {
+        if (request == null) {
+            return "요청 항목이 비어 있습니다.";
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            return "제목이 비어 있습니다.";
+        }
+        if (request.getUserId() == null && request.getGuestSessionId() == null) {
+            return "userId 또는 guestSessionId가 필요합니다.";
+        }
+        return null;
+    }
+
+    /**
+     * GuestIdeaStore 에 보관할 게스트 아이디어인지 (저장소를 끄면 테이블의 게스트 샤드에 저장)
+     */
+    private boolean isGuestIdea(Idea idea) {
+        return guestIdeaStore.enabled() && idea.getUserId() == null && idea.getGuestSessionId() != null;
     }
 
 }
@@ -0,0 +1,32 @@
+package com.brainstorming.brainstorming_platform.domain.idea.shard;
+
+import com.brainstorming.brainstorming_platform.global.job.RetentionJobRunner;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IdeaReshardScheduler {
+
+    private final RetentionJobRunner retentionJobRunner;
+    private final IdeaReshardTask ideaReshardTask;
+    private final ShardRouter shardRouter;
+
+    @Value("${idea.reshard.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 리샤딩 중(datasource.shards.previous-count 지정)일 때만 사용자 이동 (기본 10분마다)
+     * - 청크 / 리스 / 최대 실행 시간은 RetentionJobRunner 설정을 따름
+     * - 모든 사용자를 옮긴 뒤 previous-count 를 빼고 재배포하면 이전 샤드 조회가 멈춤
+     */
+    @Scheduled(cron = "${idea.reshard.cron:0 */10 * * * *}")
+    public void reshard() {
+        if (enabled && shardRouter.resharding()) {
+            retentionJobRunner.submit(ideaReshardTask);
+        }
+    }
+}
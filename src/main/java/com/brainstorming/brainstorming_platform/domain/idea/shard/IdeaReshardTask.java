@@ -0,0 +1,139 @@
+package com.brainstorming.brainstorming_platform.domain.idea.shard;
+
+import com.brainstorming.brainstorming_platform.domain.idea.archive.ArchivedIdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.global.etag.CollectionVersionService;
+import com.brainstorming.brainstorming_platform.global.job.ChunkedTask;
+import com.brainstorming.brainstorming_platform.global.shard.ShardContext;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 리샤딩: 새 배치(datasource.shards.count)와 샤드가 달라진 사용자의 아이디어를 옮김
+ *
+ * - RetentionJobRunner 가 샤드마다 실행 → 현재 샤드(원본)의 사용자를 user_id 순으로 청크씩 확인
+ * - 옮길 사용자는 ideas / ideas_archive 행을 그대로(ID 포함) 대상 샤드에 복사(별도 트랜잭션으로 먼저 커밋) 후 원본에서 삭제
+ *   - 원본 행은 FOR UPDATE 로 잠가 읽음 → 옮기는 동안의 삭제(IdeaService, 잠금 조회)는 원본 커밋 뒤 대상에서 지움
+ *     (먼저 삭제된 행은 복사하지 않으므로 대상에 되살아나지 않음)
+ *   - 복사 전에 대상의 같은 ID 를 지우므로, 원본 삭제 전에 실패해도 다시 실행하면 이어짐
+ *   - 옮기는 동안에도 조회는 이전 + 새 샤드를 함께 읽음 (ShardRoutingInterceptor)
+ * - 대상 샤드 카운터는 지워 다음 조회 때 다시 셈, 목록 버전은 올림
+ * - idea_deletions(동기화 삭제 기록)는 옮기지 않음 → 옮긴 사용자의 동기화 클라이언트는 전체 재동기화가 필요할 수 있음
+ * - 청크 크기는 옮긴 수가 아니라 확인한 사용자 수
+ */
+@Slf4j
+@Component
+public class IdeaReshardTask implements ChunkedTask {
+
+    private static final String[] TABLES = {"ideas", "ideas_archive"};
+
+    private final IdeaRepository ideaRepository;
+    private final ArchivedIdeaRepository archivedIdeaRepository;
+    private final CollectionVersionService collectionVersionService;
+    private final ShardRouter shardRouter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate targetTransaction;
+
+    // 샤드별 다음 청크 시작 위치 (샤드를 다 돌면 처음부터)
+    private final Map<Integer, Long> cursors = new ConcurrentHashMap<>();
+
+    public IdeaReshardTask(IdeaRepository ideaRepository,
+                           ArchivedIdeaRepository archivedIdeaRepository,
+                           CollectionVersionService collectionVersionService,
+                           ShardRouter shardRouter,
+                           DataSource dataSource,
+                           PlatformTransactionManager transactionManager) {
+        this.ideaRepository = ideaRepository;
+        this.archivedIdeaRepository = archivedIdeaRepository;
+        this.collectionVersionService = collectionVersionService;
+        this.shardRouter = shardRouter;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.targetTransaction = new TransactionTemplate(transactionManager);
+        this.targetTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public String name() {
+        return "idea-reshard";
+    }
+
+    @Override
+    public int processChunk(int chunkSize) {
+        int source = ShardContext.current();
+        long after = cursors.getOrDefault(source, 0L);
+
+        TreeSet<Long> candidates = new TreeSet<>(ideaRepository.findUserIdsAfter(after, Limit.of(chunkSize)));
+        candidates.addAll(archivedIdeaRepository.findUserIdsAfter(after, Limit.of(chunkSize)));
+        List<Long> userIds = candidates.stream().limit(chunkSize).toList();
+
+        int moved = 0;
+        for (Long userId : userIds) {
+            int target = shardRouter.shardOf(userId);
+            if (target != source) {
+                move(userId, source, target);
+                moved++;
+            }
+        }
+
+        if (userIds.size() < chunkSize) {
+            cursors.remove(source);
+        } else {
+            cursors.put(source, userIds.get(userIds.size() - 1));
+        }
+        if (moved > 0) {
+            log.info("리샤딩 - shard {} 에서 사용자 {}명 이동", source, moved);
+        }
+        return userIds.size();
+    }
+
+    private void move(Long userId, int source, int target) {
+        Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            rows.put(table, jdbcTemplate.queryForList("SELECT * FROM " + table + " WHERE user_id = ? FOR UPDATE", userId));
+        }
+
+        ShardContext.run(target, () -> targetTransaction.executeWithoutResult(status -> {
+            rows.forEach((table, tableRows) -> {
+                List<Object> ideaIds = tableRows.stream().map(row -> row.get("idea_id")).toList();
+                if (!ideaIds.isEmpty()) {
+                    jdbcTemplate.update("DELETE FROM " + table + " WHERE idea_id IN ("
+                            + ideaIds.stream().map(id -> "?").collect(Collectors.joining(", ")) + ")",
+                            ideaIds.toArray());
+                }
+                tableRows.forEach(row -> insert(table, row));
+            });
+            jdbcTemplate.update("DELETE FROM idea_counters WHERE user_id = ?", userId);
+            collectionVersionService.bump(CollectionVersionService.IDEAS, userId);
+        }));
+
+        // 원본 삭제는 러너의 청크 트랜잭션(원본 샤드)에서
+        for (String table : TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE user_id = ?", userId);
+        }
+        jdbcTemplate.update("DELETE FROM idea_counters WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM collection_versions WHERE user_id = ? AND collection_name = ?",
+                userId, CollectionVersionService.IDEAS);
+        log.debug("리샤딩 - userId={}, shard {} → {}", userId, source, target);
+    }
+
+    private void insert(String table, Map<String, Object> row) {
+        String columns = String.join(", ", row.keySet());
+        String placeholders = row.keySet().stream().map(column -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")",
+                row.values().toArray());
+    }
+}
@@ -0,0 +1,288 @@
+package com.brainstorming.brainstorming_platform.domain.idea.suggest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * 자동완성용 압축 트라이 (radix tree) - 만든 뒤에는 읽기 전용
+ *
+ * - 노드 정보는 int 배열, 간선 라벨은 char 배열 하나에 이어 붙여 보관 (노드 객체 없음)
+ * - 자식 노드는 연속된 번호로 배치되고 첫 글자 순으로 정렬되어 있어 이진 탐색
+ * - 노드마다 하위 최대 가중치를 저장해 접두사 아래 상위 k 개를 최선 우선 탐색으로 찾음
+ */
+public final class CompactTrie {
+
+    private final char[] labels;
+    private final int[] labelStart;
+    private final int[] labelLength;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] terminal;   // 값 번호, 없으면 -1
+    private final int[] maxWeight;  // 하위 노드 포함 최대 가중치
+
+    private final String[] values;
+    private final byte[] types;
+    private final int[] weights;
+
+    private CompactTrie(Builder builder) {
+        this.labels = builder.labels.toString().toCharArray();
+        this.labelStart = Arrays.copyOf(builder.labelStart, builder.nodeCount);
+        this.labelLength = Arrays.copyOf(builder.labelLength, builder.nodeCount);
+        this.firstChild = Arrays.copyOf(builder.firstChild, builder.nodeCount);
+        this.childCount = Arrays.copyOf(builder.childCount, builder.nodeCount);
+        this.terminal = Arrays.copyOf(builder.terminal, builder.nodeCount);
+        this.maxWeight = Arrays.copyOf(builder.maxWeight, builder.nodeCount);
+        this.values = builder.values;
+        this.types = builder.types;
+        this.weights = builder.weights;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (메모리 예산 계산용)
+     */
+    public long estimatedBytes() {
+        long bytes = 16L + labels.length * 2L + labelStart.length * 6L * Integer.BYTES;
+        for (String value : values) {
+            bytes += 40 + value.length() * 2L + 1 + Integer.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * 접두사로 시작하는 항목 중 가중치 상위 limit 개
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (values.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String key = normalizePrefix(prefix);
+
+        int node = 0;
+        int position = 0;
+        while (position < key.length()) {
+            int child = findChild(node, key.charAt(position));
+            if (child < 0) {
+                return List.of();
+            }
+            int length = Math.min(labelLength[child], key.length() - position);
+            for (int i = 0; i < length; i++) {
+                if (labels[labelStart[child] + i] != key.charAt(position + i)) {
+                    return List.of();
+                }
+            }
+            position += length;
+            node = child;
+        }
+
+        // 최선 우선 탐색: 우선순위 = 가중치, 하위 비트 = (값 여부, 번호)
+        PriorityQueue<Long> queue = new PriorityQueue<>(Collections.reverseOrder());
+        queue.add(encode(maxWeight[node], false, node));
+        List<Suggestion> suggestions = new ArrayList<>(limit);
+        while (!queue.isEmpty() && suggestions.size() < limit) {
+            long item = queue.poll();
+            int id = (int) (item & 0x7fffffffL);
+            if ((item & 0x80000000L) != 0) {
+                suggestions.add(new Suggestion(values[id], types[id], weights[id]));
+                continue;
+            }
+            if (terminal[id] >= 0) {
+                queue.add(encode(weights[terminal[id]], true, terminal[id]));
+            }
+            for (int c = firstChild[id]; c < firstChild[id] + childCount[id]; c++) {
+                queue.add(encode(maxWeight[c], false, c));
+            }
+        }
+        return suggestions;
+    }
+
+    private int findChild(int node, char first) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char c = labels[labelStart[mid]];
+            if (c < first) {
+                low = mid + 1;
+            } else if (c > first) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static long encode(int weight, boolean value, int id) {
+        return ((long) weight << 32) | (value ? 0x80000000L : 0L) | id;
+    }
+
+    /**
+     * 키 정규화: NFKC, 소문자, 공백 하나로
+     */
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase()
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 입력 중인 접두사는 끝 공백을 유지 ("학습 " 다음 단어 대기)
+     */
+    private static String normalizePrefix(String prefix) {
+        return Normalizer.normalize(prefix, Normalizer.Form.NFKC)
+                .toLowerCase()
+                .stripLeading()
+                .replaceAll("\\s+", " ");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Suggestion {
+        private final String text;
+        private final byte type;
+        private final int weight;
+    }
+
+    /**
+     * 항목을 모은 뒤 정렬된 키로 한 번에 트라이 생성
+     * 같은 키가 여러 번 들어오면 가중치를 더하고 먼저 들어온 표기/종류를 사용
+     */
+    public static final class Builder {
+
+        private final Map<String, Entry> entries = new TreeMap<>();
+
+        private final StringBuilder labels = new StringBuilder();
+        private int[] labelStart = new int[16];
+        private int[] labelLength = new int[16];
+        private int[] firstChild = new int[16];
+        private int[] childCount = new int[16];
+        private int[] terminal = new int[16];
+        private int[] maxWeight = new int[16];
+        private int nodeCount;
+
+        private String[] values;
+        private byte[] types;
+        private int[] weights;
+
+        private Builder() {
+        }
+
+        public Builder add(String text, byte type, int weight) {
+            if (text == null || text.isBlank()) {
+                return this;
+            }
+            String key = normalize(text);
+            entries.merge(key, new Entry(text.trim(), type, weight),
+                    (existing, added) -> new Entry(existing.text, existing.type, existing.weight + added.weight));
+            return this;
+        }
+
+        public CompactTrie build() {
+            String[] keys = entries.keySet().toArray(new String[0]);
+            values = new String[keys.length];
+            types = new byte[keys.length];
+            weights = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Entry entry = entries.get(keys[i]);
+                values[i] = entry.text;
+                types[i] = entry.type;
+                weights[i] = entry.weight;
+            }
+
+            int root = allocate(1);
+            labelStart[root] = 0;
+            labelLength[root] = 0;
+            fill(root, keys, 0, keys.length, 0);
+            return new CompactTrie(this);
+        }
+
+        /**
+         * keys[from, to) 는 node 까지의 경로(길이 depth)를 공유함
+         */
+        private void fill(int node, String[] keys, int from, int to, int depth) {
+            terminal[node] = -1;
+            int weight = 0;
+            if (from < to && keys[from].length() == depth) {
+                terminal[node] = from;
+                weight = weights[from];
+                from++;
+            }
+
+            // 다음 글자별 그룹 수를 세고 자식을 연속 번호로 할당
+            int groups = 0;
+            for (int i = from; i < to; ) {
+                char c = keys[i].charAt(depth);
+                while (i < to && keys[i].charAt(depth) == c) {
+                    i++;
+                }
+                groups++;
+            }
+            int first = allocate(groups);
+            firstChild[node] = first;
+            childCount[node] = groups;
+
+            int child = first;
+            for (int i = from; i < to; child++) {
+                int groupStart = i;
+                char c = keys[i].charAt(depth);
+                while (i < to && keys[i].charAt(depth) == c) {
+                    i++;
+                }
+                // 정렬되어 있으므로 그룹의 첫 키와 마지막 키의 공통 접두사 = 그룹 전체 공통 접두사
+                String head = keys[groupStart];
+                String tail = keys[i - 1];
+                int end = depth + 1;
+                while (end < head.length() && end < tail.length() && head.charAt(end) == tail.charAt(end)) {
+                    end++;
+                }
+                labelStart[child] = labels.length();
+                labelLength[child] = end - depth;
+                labels.append(head, depth, end);
+
+                fill(child, keys, groupStart, i, end);
+                weight = Math.max(weight, maxWeight[child]);
+            }
+            maxWeight[node] = weight;
+        }
+
+        private int allocate(int count) {
+            int first = nodeCount;
+            nodeCount += count;
+            if (nodeCount > labelStart.length) {
+                int capacity = Math.max(nodeCount, labelStart.length * 2);
+                labelStart = Arrays.copyOf(labelStart, capacity);
+                labelLength = Arrays.copyOf(labelLength, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                terminal = Arrays.copyOf(terminal, capacity);
+                maxWeight = Arrays.copyOf(maxWeight, capacity);
+            }
+            return first;
+        }
+
+        @RequiredArgsConstructor
+        private static final class Entry {
+            private final String text;
+            private final byte type;
+            private final int weight;
+        }
+    }
+}
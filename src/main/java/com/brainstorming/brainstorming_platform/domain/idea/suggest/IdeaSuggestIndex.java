@@ -0,0 +1,163 @@
+package com.brainstorming.brainstorming_platform.domain.idea.suggest;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaSummary;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasDeletedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasSavedEvent;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 자동완성 트라이 (아이디어 제목 + 브레인스토밍 목적)
+ *
+ * - 트라이는 읽기 전용이라 변경 이벤트가 오면 dirty 표시만 하고, 다음 조회 때 DB 에서 다시 생성
+ * - 전체 메모리 예산(idea.suggest.max-bytes)을 넘으면 가장 오래 안 쓴 사용자부터 제거
+ * - idle-minutes 동안 조회가 없는 사용자는 주기적으로 제거
+ */
+@Slf4j
+@Component
+public class IdeaSuggestIndex {
+
+    public static final byte TYPE_TITLE = 0;
+    public static final byte TYPE_PURPOSE = 1;
+
+    private final IdeaRepository ideaRepository;
+    private final Map<Long, UserTrie> tries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    @Value("${idea.suggest.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${idea.suggest.idle-minutes:30}")
+    private long idleMinutes;
+
+    public IdeaSuggestIndex(IdeaRepository ideaRepository, MeterRegistry meterRegistry) {
+        this.ideaRepository = ideaRepository;
+
+        Gauge.builder("ideas.suggest.users", tries, Map::size)
+                .description("메모리에 올라온 자동완성 트라이 수")
+                .register(meterRegistry);
+        Gauge.builder("ideas.suggest.bytes", totalBytes, AtomicLong::get)
+                .description("자동완성 트라이 추정 메모리")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public List<CompactTrie.Suggestion> suggest(Long userId, String prefix, int limit) {
+        UserTrie userTrie = tries.computeIfAbsent(userId, id -> new UserTrie());
+        userTrie.lastAccess = System.nanoTime();
+
+        CompactTrie trie = userTrie.trie;
+        if (trie == null || userTrie.dirty) {
+            trie = rebuild(userId, userTrie);
+        }
+        return trie.suggest(prefix, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(IdeasSavedEvent event) {
+        for (Idea idea : event.getIdeas()) {
+            markDirty(idea.getUserId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(IdeasDeletedEvent event) {
+        markDirty(event.getUserId());
+    }
+
+    /**
+     * 오래 조회가 없는 사용자 트라이 제거
+     */
+    @Scheduled(fixedDelayString = "${idea.suggest.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - idleMinutes * 60_000_000_000L;
+        tries.forEach((userId, userTrie) -> {
+            if (userTrie.lastAccess < cutoff) {
+                remove(userId, userTrie);
+            }
+        });
+    }
+
+    private void markDirty(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        UserTrie userTrie = tries.get(userId);
+        if (userTrie != null) {
+            userTrie.dirty = true;
+        }
+    }
+
+    private CompactTrie rebuild(Long userId, UserTrie userTrie) {
+        synchronized (userTrie) {
+            if (userTrie.trie != null && !userTrie.dirty) {
+                return userTrie.trie;
+            }
+            // 먼저 dirty 를 내려야 생성 중에 들어온 변경이 다음 조회에서 반영됨
+            userTrie.dirty = false;
+
+            CompactTrie.Builder builder = CompactTrie.builder();
+            for (IdeaSummary idea : ideaRepository.findSummariesByUserId(userId)) {
+                builder.add(idea.getTitle(), TYPE_TITLE, 1);
+                builder.add(idea.getPurpose(), TYPE_PURPOSE, 1);
+            }
+            CompactTrie trie = builder.build();
+
+            long bytes = trie.estimatedBytes();
+            totalBytes.addAndGet(bytes - userTrie.bytes);
+            userTrie.bytes = bytes;
+            userTrie.trie = trie;
+        }
+        enforceBudget(userId);
+        return userTrie.trie;
+    }
+
+    /**
+     * 예산 초과 시 LRU 순서로 제거 (방금 만든 사용자는 제외)
+     */
+    private void enforceBudget(Long currentUserId) {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        List<Map.Entry<Long, UserTrie>> entries = new ArrayList<>(tries.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        for (Map.Entry<Long, UserTrie> entry : entries) {
+            if (totalBytes.get() <= maxBytes) {
+                return;
+            }
+            if (!entry.getKey().equals(currentUserId)) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void remove(Long userId, UserTrie userTrie) {
+        if (tries.remove(userId, userTrie)) {
+            synchronized (userTrie) {
+                totalBytes.addAndGet(-userTrie.bytes);
+                userTrie.bytes = 0;
+            }
+        }
+    }
+
+    private static final class UserTrie {
+        private volatile CompactTrie trie;
+        private volatile boolean dirty;
+        private volatile long lastAccess;
+        private long bytes;
+    }
+}
@@ -0,0 +1,72 @@
+package com.brainstorming.brainstorming_platform.domain.idea.sync;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaChangesDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaResponseDto;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWalRecord;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWriteAheadLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 아이디어 변경분 (since 이후 생성/수정 + 삭제 tombstone)
+ *
+ * - 생성/수정은 ideas.updated_at, 삭제는 idea_deletions 로 판단
+ * - 시각은 커밋이 아니라 저장 시점에 찍히므로, 늦게 커밋된 변경을 놓치지 않도록
+ *   다음 since 를 조회 시각보다 overlap 만큼 앞으로 돌려 줌 (겹친 구간은 다시 내려가고 클라이언트가 덮어씀)
+ * - overlap 보다 오래 걸린 트랜잭션의 변경은 놓칠 수 있음 (이 경우도 다음 전체 재동기화나 수정 때 반영)
+ */
+@Component
+@RequiredArgsConstructor
+public class IdeaChangeFeed {
+
+    private final IdeaRepository ideaRepository;
+    private final IdeaDeletionRepository ideaDeletionRepository;
+    private final IdeaWriteAheadLog ideaWriteAheadLog;
+
+    @Value("${idea.sync.max-changes:500}")
+    private int maxChanges;
+
+    @Value("${idea.sync.overlap-seconds:5}")
+    private long overlapSeconds;
+
+    @Value("${idea.sync.deletion-retention-days:30}")
+    private long retentionDays;
+
+    /**
+     * @param since 이전 응답의 nextSince, 없으면 전체 재동기화 요청으로 응답
+     */
+    @Transactional(readOnly = true)
+    public IdeaChangesDto changes(Long userId, String since) {
+        LocalDateTime until = LocalDateTime.now();
+        List<IdeaResponseDto> pending = ideaWriteAheadLog.pendingFor(userId).stream()
+                .map(IdeaWalRecord::toResponseDto)
+                .toList();
+
+        LocalDateTime from = since == null || since.isBlank() ? null : IdeaSyncCursor.decode(since);
+        if (from == null || from.isBefore(until.minusDays(retentionDays))) {
+            // 삭제 기록이 이미 정리됐을 수 있으므로 전체 목록부터
+            return IdeaChangesDto.fullResync(pending, IdeaSyncCursor.encode(until.minusSeconds(overlapSeconds)));
+        }
+
+        LocalDateTime next = until.minusSeconds(overlapSeconds);
+        String nextSince = IdeaSyncCursor.encode(next.isAfter(from) ? next : from);
+
+        List<IdeaResponseDto> changed = ideaRepository
+                .findTextsUpdatedBetween(userId, from, until, Limit.of(maxChanges + 1)).stream()
+                .map(IdeaResponseDto::from)
+                .toList();
+        List<Long> deletedIds = ideaDeletionRepository
+                .findIdeaIdsDeletedBetween(userId, from, until, Limit.of(maxChanges + 1));
+        if (changed.size() + deletedIds.size() > maxChanges) {
+            return IdeaChangesDto.fullResync(pending, nextSince);
+        }
+        return IdeaChangesDto.of(changed, deletedIds, pending, nextSince);
+    }
+}
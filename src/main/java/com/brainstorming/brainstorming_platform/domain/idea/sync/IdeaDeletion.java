@@ -0,0 +1,41 @@
+package com.brainstorming.brainstorming_platform.domain.idea.sync;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 아이디어 기록 (변경분 동기화의 tombstone)
+ */
+@Entity
+@NoArgsConstructor
+@Table(name = "idea_deletions", indexes = {
+        @Index(name = "idx_idea_deletions_user", columnList = "user_id, deleted_at"),
+        @Index(name = "idx_idea_deletions_deleted_at", columnList = "deleted_at")
+})
+@Getter
+public class IdeaDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long deletionId;
+
+    private Long ideaId;
+
+    private Long userId;
+
+    private LocalDateTime deletedAt;
+
+    public IdeaDeletion(Long ideaId, Long userId, LocalDateTime deletedAt) {
+        this.ideaId = ideaId;
+        this.userId = userId;
+        this.deletedAt = deletedAt;
+    }
+}
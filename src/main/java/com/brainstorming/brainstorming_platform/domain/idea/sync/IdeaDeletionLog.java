@@ -0,0 +1,34 @@
+package com.brainstorming.brainstorming_platform.domain.idea.sync;
+
+import com.brainstorming.brainstorming_platform.domain.idea.event.IdeasDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 아이디어 삭제 기록 (삭제와 같은 트랜잭션)
+ * - 게스트 아이디어 정리는 사용자 목록과 무관해 기록하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class IdeaDeletionLog {
+
+    private final IdeaDeletionRepository ideaDeletionRepository;
+
+    @EventListener
+    @Transactional
+    public void onDeleted(IdeasDeletedEvent event) {
+        if (event.getUserId() == null || event.getIdeaIds().isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<IdeaDeletion> deletions = event.getIdeaIds().stream()
+                .map(ideaId -> new IdeaDeletion(ideaId, event.getUserId(), now))
+                .toList();
+        ideaDeletionRepository.saveAll(deletions);
+    }
+}
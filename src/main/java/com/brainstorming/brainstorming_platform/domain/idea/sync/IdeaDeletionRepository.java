@@ -0,0 +1,32 @@
+package com.brainstorming.brainstorming_platform.domain.idea.sync;
+
+import com.brainstorming.brainstorming_platform.global.shard.ShardedByUser;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@ShardedByUser
+public interface IdeaDeletionRepository extends JpaRepository<IdeaDeletion, Long> {
+
+    // (since, until] 사이에 삭제된 아이디어 ID (idx_idea_deletions_user)
+    @Query("SELECT d.ideaId FROM IdeaDeletion d WHERE d.userId = :userId"
+            + " AND d.deletedAt > :since AND d.deletedAt <= :until ORDER BY d.deletedAt")
+    List<Long> findIdeaIdsDeletedBetween(@Param("userId") Long userId,
+                                         @Param("since") LocalDateTime since,
+                                         @Param("until") LocalDateTime until,
+                                         Limit limit);
+
+    // 보존 기간이 지난 기록 (idx_idea_deletions_deleted_at 순서)
+    @Query("SELECT d.deletionId FROM IdeaDeletion d WHERE d.deletedAt < :cutoff ORDER BY d.deletedAt")
+    List<Long> findIdsDeletedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM IdeaDeletion d WHERE d.deletionId IN :deletionIds")
+    int deleteByDeletionIds(@Param("deletionIds") Collection<Long> deletionIds);
+}
@@ -0,0 +1,39 @@
+package com.brainstorming.brainstorming_platform.domain.idea.sync;
+
+import com.brainstorming.brainstorming_platform.global.job.RetentionTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보존 기간이 지난 삭제 기록 정리
+ * - 이보다 오래된 since 로 요청하면 IdeaChangeFeed 가 전체 재동기화를 요구함
+ */
+@Component
+@RequiredArgsConstructor
+public class IdeaDeletionRetentionTask implements RetentionTask {
+
+    private final IdeaDeletionRepository ideaDeletionRepository;
+
+    @Value("${idea.sync.deletion-retention-days:30}")
+    private long retentionDays;
+
+    @Override
+    public String name() {
+        return "idea-deletion-cleanup";
+    }
+
+    @Override
+    public int deleteChunk(int chunkSize) {
+        List<Long> deletionIds = ideaDeletionRepository.findIdsDeletedBefore(
+                LocalDateTime.now().minusDays(retentionDays), Limit.of(chunkSize));
+        if (deletionIds.isEmpty()) {
+            return 0;
+        }
+        return ideaDeletionRepository.deleteByDeletionIds(deletionIds);
+    }
+}
@@ -0,0 +1,35 @@
+package com.brainstorming.brainstorming_platform.domain.idea.sync;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 변경분 동기화 커서 (이 시각 이후 변경분) - 클라이언트에는 불투명한 문자열로 전달
+ */
+public final class IdeaSyncCursor {
+
+    private static final String VERSION = "s1";
+
+    private IdeaSyncCursor() {
+    }
+
+    public static String encode(LocalDateTime since) {
+        String raw = VERSION + "|" + since;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LocalDateTime decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 since 커서입니다.");
+            }
+            return LocalDateTime.parse(parts[1]);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 since 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.brainstorming.brainstorming_platform.domain.idea.writebehind;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaResponseDto;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쓰기 전 로그(WAL)의 레코드 한 줄
+ * - DB 에 아직 반영되지 않은 아이디어
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdeaWalRecord {
+    private long seq;                    // 로그 순번 (WAL 이 부여)
+    private Long userId;
+    private String guestSessionId;
+    private String title;
+    private String content;
+    private String purpose;
+    private LocalDateTime createdAt;     // 사용자에게 응답한 시각
+    private String description;          // 설명/분석으로 나눠 저장하는 아이디어 (이전 레코드는 null)
+    private String analysis;
+
+    public IdeaWalRecord(long seq, Long userId, String guestSessionId, String title, String content,
+                         String purpose, LocalDateTime createdAt) {
+        this(seq, userId, guestSessionId, title, content, purpose, createdAt, null, null);
+    }
+
+    public static IdeaWalRecord of(Idea idea) {
+        return new IdeaWalRecord(
+                0L,
+                idea.getUserId(),
+                idea.getGuestSessionId(),
+                idea.getTitle(),
+                idea.hasSections() ? null : idea.getContent(),
+                idea.getPurpose(),
+                LocalDateTime.now(),
+                idea.getDescription(),
+                idea.getAnalysis()
+        );
+    }
+
+    public Idea toEntity() {
+        return new Idea(null, userId, title, content, purpose, guestSessionId, description, analysis);
+    }
+
+    /**
+     * Idea#getContent 와 같은 형식의 본문
+     */
+    public String fullContent() {
+        return Idea.composeContent(content, description, analysis);
+    }
+
+    /**
+     * 아직 DB ID 가 없는 아이디어 응답 (ideaId = null)
+     */
+    public IdeaResponseDto toResponseDto() {
+        return new IdeaResponseDto(null, userId, title, fullContent(), purpose, createdAt);
+    }
+}
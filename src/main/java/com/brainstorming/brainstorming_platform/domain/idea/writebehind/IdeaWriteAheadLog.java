@@ -0,0 +1,335 @@
+package com.brainstorming.brainstorming_platform.domain.idea.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 생성된 아이디어의 로컬 쓰기 전 로그(WAL)
+ * - append: NDJSON 한 줄씩 기록 후 fsync → 그 시점에 사용자에게 응답
+ * - checkpoint: DB 반영이 끝난 순번을 별도 파일에 기록, 전부 반영되면 로그를 비움
+ *   (계속 쌓이는 중이면 반영된 앞부분이 compact-bytes 를 넘을 때 미반영 레코드만 새 파일로 옮겨 교체)
+ * - 재시작 시 checkpoint 이후 레코드를 다시 읽어 pending 으로 복원
+ *   (기록 도중 죽어 줄바꿈 없이 잘린 마지막 줄은 잘라 내고 이어 씀 - 다음 레코드가 붙어 함께 손상되지 않도록)
+ *
+ * DB 커밋과 checkpoint 기록 사이에 프로세스가 죽으면 해당 배치가 한 번 더 저장될 수 있음 (at-least-once)
+ */
+@Slf4j
+@Component
+public class IdeaWriteAheadLog {
+
+    private static final String LOG_FILE = "ideas.wal";
+    private static final String CHECKPOINT_FILE = "ideas.checkpoint";
+    private static final String COMPACT_FILE = "ideas.wal.compact";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long compactBytes;
+
+    // 순번 순으로 정렬된 미반영 레코드
+    private final ConcurrentSkipListMap<Long, IdeaWalRecord> pending = new ConcurrentSkipListMap<>();
+
+    // 미반영 레코드의 로그 줄 크기 (바이트, 줄바꿈 포함) - synchronized 메서드에서만 사용
+    private final Map<Long, Integer> lineBytes = new HashMap<>();
+
+    private FileChannel channel;
+    private long lastSeq;
+    // 로그 파일 중 이미 DB 에 반영된 레코드가 차지하는 바이트
+    private long flushedBytes;
+    // 실패한 append 의 시작 위치 (잘라 내지 못했으면 다음 append 전에 다시 시도, 없으면 -1)
+    private long tornAt = -1;
+
+    public IdeaWriteAheadLog(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${idea.write-behind.dir:./data/idea-wal}") String directory,
+            @Value("${idea.write-behind.compact-bytes:16777216}") long compactBytes) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory);
+        this.compactBytes = compactBytes;
+
+        Gauge.builder("ideas.write_behind.pending", this, IdeaWriteAheadLog::pendingCount)
+                .description("DB에 아직 반영되지 않은 아이디어 수")
+                .register(meterRegistry);
+        Gauge.builder("ideas.write_behind.lag", this, IdeaWriteAheadLog::lagSeconds)
+                .description("가장 오래된 미반영 아이디어의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기존 로그를 읽어 checkpoint 이후 레코드를 복원
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+
+        Path checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        long checkpoint = Files.exists(checkpointPath)
+                ? Long.parseLong(Files.readString(checkpointPath).trim())
+                : 0L;
+        lastSeq = checkpoint;
+
+        // 압축 도중 죽었으면 원본 로그가 그대로 있으므로 임시 파일은 버림
+        Files.deleteIfExists(directory.resolve(COMPACT_FILE));
+
+        Path logPath = directory.resolve(LOG_FILE);
+        long complete = 0;
+        if (Files.exists(logPath)) {
+            byte[] bytes = Files.readAllBytes(logPath);
+            int start = 0;
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] != '\n') {
+                    continue;
+                }
+                restore(new String(bytes, start, i - start, StandardCharsets.UTF_8), i + 1 - start, checkpoint);
+                start = i + 1;
+            }
+            complete = start;
+            if (complete < bytes.length) {
+                // 마지막 줄이 기록 도중 잘린 경우 (fsync 이전이라 응답하지 않은 레코드)
+                log.warn("WAL 끝의 잘린 레코드 제거: {}바이트", bytes.length - complete);
+            }
+        }
+
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (channel.size() > complete) {
+            channel.truncate(complete);
+            channel.force(true);
+        }
+        channel.position(complete);
+        flushedBytes = complete - lineBytes.values().stream().mapToLong(Integer::longValue).sum();
+
+        log.info("아이디어 WAL 열기 완료 - 복원된 미반영 레코드: {}개, checkpoint: {}", pending.size(), checkpoint);
+    }
+
+    private void restore(String line, int size, long checkpoint) {
+        if (line.isBlank()) {
+            return;
+        }
+        try {
+            IdeaWalRecord record = objectMapper.readValue(line, IdeaWalRecord.class);
+            lastSeq = Math.max(lastSeq, record.getSeq());
+            if (record.getSeq() > checkpoint) {
+                pending.put(record.getSeq(), record);
+                lineBytes.put(record.getSeq(), size);
+            }
+        } catch (IOException e) {
+            log.warn("WAL 손상된 레코드 무시: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 레코드를 로그에 기록하고 디스크에 fsync (반환 시점에 내구성 보장)
+     * - 기록 / fsync 가 실패하면 기록 전 위치로 잘라 내고 순번도 되돌림
+     *   (일부만 기록된 줄 뒤에 다음 레코드가 붙어 재시작 시 함께 버려지지 않도록)
+     */
+    public synchronized List<IdeaWalRecord> append(List<IdeaWalRecord> records) {
+        long prevSeq = lastSeq;
+        List<byte[]> lines = new ArrayList<>(records.size());
+        int total = 0;
+        for (IdeaWalRecord record : records) {
+            record.setSeq(++lastSeq);
+            byte[] line = toLine(record);
+            lines.add(line);
+            total += line.length;
+        }
+
+        long position = -1;
+        try {
+            truncateTorn();
+            position = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(total);
+            lines.forEach(buffer::put);
+            buffer.flip();
+            write(channel, buffer);
+            channel.force(false);
+        } catch (IOException e) {
+            lastSeq = prevSeq;
+            if (position >= 0) {
+                tornAt = position;
+                try {
+                    truncateTorn();
+                } catch (IOException truncateFailure) {
+                    // 다음 append 에서 다시 잘라 냄
+                    e.addSuppressed(truncateFailure);
+                }
+            }
+            throw new UncheckedIOException("WAL 기록 실패", e);
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            IdeaWalRecord record = records.get(i);
+            lineBytes.put(record.getSeq(), lines.get(i).length);
+            pending.put(record.getSeq(), record);
+        }
+        return records;
+    }
+
+    /**
+     * 버퍼를 끝까지 기록 (실패 주입 테스트에서 재정의)
+     */
+    void write(FileChannel target, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    /**
+     * 실패한 append 가 남긴 일부 기록을 잘라 냄
+     */
+    private void truncateTorn() throws IOException {
+        if (tornAt < 0) {
+            return;
+        }
+        if (channel.size() > tornAt) {
+            channel.truncate(tornAt);
+            channel.force(true);
+        }
+        channel.position(tornAt);
+        tornAt = -1;
+    }
+
+    private byte[] toLine(IdeaWalRecord record) {
+        try {
+            return (objectMapper.writeValueAsString(record) + '\n').getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 순번이 가장 낮은 미반영 레코드부터 최대 max 개
+     */
+    public List<IdeaWalRecord> peek(int max) {
+        List<IdeaWalRecord> batch = new ArrayList<>(Math.min(max, pending.size()));
+        for (IdeaWalRecord record : pending.values()) {
+            if (batch.size() >= max) {
+                break;
+            }
+            batch.add(record);
+        }
+        return batch;
+    }
+
+    /**
+     * seq 까지 DB 반영 완료 기록
+     */
+    public synchronized void checkpoint(long seq) {
+        try {
+            Path checkpointPath = directory.resolve(CHECKPOINT_FILE);
+            Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel out = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                out.write(ByteBuffer.wrap(Long.toString(seq).getBytes(StandardCharsets.UTF_8)));
+                out.force(true);
+            }
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL checkpoint 기록 실패", e);
+        }
+
+        Map<Long, IdeaWalRecord> flushed = pending.headMap(seq, true);
+        for (Long flushedSeq : flushed.keySet()) {
+            Integer size = lineBytes.remove(flushedSeq);
+            flushedBytes += size == null ? 0 : size;
+        }
+        flushed.clear();
+
+        try {
+            if (pending.isEmpty()) {
+                // 전부 반영되었으면 로그 비우기 (checkpoint 가 마지막 순번을 보존)
+                channel.truncate(0);
+                channel.position(0);
+                channel.force(true);
+                flushedBytes = 0;
+            } else if (flushedBytes >= compactBytes) {
+                compact();
+            }
+        } catch (IOException e) {
+            log.warn("WAL 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 미반영 레코드만 새 파일에 쓰고 로그를 원자적으로 교체
+     */
+    private void compact() throws IOException {
+        Path logPath = directory.resolve(LOG_FILE);
+        Path compactPath = directory.resolve(COMPACT_FILE);
+        try (FileChannel out = FileChannel.open(compactPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (IdeaWalRecord record : pending.values()) {
+                ByteBuffer buffer = ByteBuffer.wrap(toLine(record));
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+            out.force(true);
+        }
+        channel.close();
+        try {
+            Files.move(compactPath, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            // 교체에 실패해도 기존 로그에 계속 기록
+            channel = FileChannel.open(logPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        log.info("WAL 압축 - 반영된 {}바이트 제거, 미반영 {}개 유지", flushedBytes, pending.size());
+        flushedBytes = 0;
+    }
+
+    /**
+     * 사용자의 미반영 아이디어 (read-your-writes)
+     */
+    public List<IdeaWalRecord> pendingFor(Long userId) {
+        return pending.values().stream()
+                .filter(record -> Objects.equals(record.getUserId(), userId))
+                .toList();
+    }
+
+    public long pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 가장 오래된 미반영 레코드의 대기 시간 (초)
+     */
+    public double lagSeconds() {
+        Map.Entry<Long, IdeaWalRecord> oldest = pending.firstEntry();
+        if (oldest == null) {
+            return 0;
+        }
+        return Duration.between(oldest.getValue().getCreatedAt(), LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.brainstorming.brainstorming_platform.domain.idea.writebehind;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.service.IdeaService;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * WAL 의 미반영 아이디어를 ideas 테이블로 옮기는 백그라운드 작업
+ * - 배치 단위로 저장 후 checkpoint (샤드를 쓰면 앞에서부터 같은 샤드 사용자 레코드까지만 한 배치)
+ * - DB 장애 시 레코드를 그대로 두고 다음 주기에 재시도
+ * - 재시작 직후 첫 주기에 복원된 레코드를 재반영(replay)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdeaWriteBehindFlusher {
+
+    private final IdeaWriteAheadLog writeAheadLog;
+    private final IdeaService ideaService;
+    private final ShardRouter shardRouter;
+
+    @Value("${idea.write-behind.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${idea.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        while (true) {
+            List<IdeaWalRecord> batch = sameShardRun(writeAheadLog.peek(batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                List<Idea> ideas = batch.stream()
+                        .map(IdeaWalRecord::toEntity)
+                        .toList();
+                ideaService.saveAll(ideas);
+            } catch (Exception e) {
+                log.warn("WAL → DB 반영 실패, 다음 주기에 재시도 - 대기 {}개: {}",
+                        writeAheadLog.pendingCount(), e.getMessage());
+                return;
+            }
+
+            writeAheadLog.checkpoint(batch.get(batch.size() - 1).getSeq());
+            log.debug("WAL → DB 반영 완료: {}개", batch.size());
+        }
+    }
+
+    /**
+     * 앞에서부터 첫 레코드와 같은 샤드인 레코드까지 (checkpoint 가 seq 순서라 건너뛰지 않음)
+     */
+    private List<IdeaWalRecord> sameShardRun(List<IdeaWalRecord> batch) {
+        if (batch.isEmpty() || !shardRouter.enabled()) {
+            return batch;
+        }
+        int shard = shardRouter.shardOf(batch.get(0).getUserId());
+        int end = 1;
+        while (end < batch.size() && shardRouter.shardOf(batch.get(end).getUserId()) == shard) {
+            end++;
+        }
+        return batch.subList(0, end);
+    }
+}
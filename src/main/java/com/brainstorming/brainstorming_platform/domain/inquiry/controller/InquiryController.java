@@ -6,7 +6,9 @@ import com.brainstorming.brainstorming_platform.domain.inquiry.dto.InquiryRespon
 import com.brainstorming.brainstorming_platform.domain.inquiry.dto.InquiryUpdateRequestDto;
 import com.brainstorming.brainstorming_platform.domain.inquiry.entity.Inquiry;
 import com.brainstorming.brainstorming_platform.domain.inquiry.service.InquiryService;
+import com.brainstorming.brainstorming_platform.global.etag.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -51,17 +53,22 @@ public class InquiryController {
 
     /**
      * Id로 유저 모든 문의 찾기
+     * - If-None-Match 가 목록 ETag 와 같으면 목록을 읽지 않고 304
      */
     @GetMapping
-    public ResponseEntity<List<InquiryResponseDto>> getInquiries(@RequestParam Long userId) {
-        // 1 service 호출
-        List<Inquiry> inquiries = inquiryService.findByUserId(userId);
-        // 2 dto 변환
-        List<InquiryResponseDto> inquiryResponseDtos = inquiries.stream()
-                .map(InquiryResponseDto::from)
-                .toList();
-        // 3 응답
-        return ResponseEntity.ok(inquiryResponseDtos);
+    public ResponseEntity<List<InquiryResponseDto>> getInquiries(
+            @RequestParam Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 1 목록 버전 (목록보다 먼저)
+        String eTag = inquiryService.listETag(userId);
+        return ETags.conditional(ifNoneMatch, eTag, () -> {
+            // 2 service 호출
+            List<Inquiry> inquiries = inquiryService.findByUserId(userId);
+            // 3 dto 변환
+            return inquiries.stream()
+                    .map(InquiryResponseDto::from)
+                    .toList();
+        });
     }
 
     /**
@@ -5,11 +5,18 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "inquiries")
+@Table(name = "inquiries", indexes = {
+        @Index(name = "idx_inquiries_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_inquiries_status", columnList = "status")
+})
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "inquiry") // 2차 캐시 (ehcache.xml)
 @Getter
 public class Inquiry extends BaseEntity {
 
@@ -2,13 +2,17 @@ package com.brainstorming.brainstorming_platform.domain.inquiry.repository;
 
 import com.brainstorming.brainstorming_platform.domain.inquiry.entity.Inquiry;
 import com.brainstorming.brainstorming_platform.domain.inquiry.entity.InquiryStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
 
-    //특정 사용자의 문의 목록
+    //특정 사용자의 문의 목록 (쿼리 캐시 - inquiries 테이블이 바뀌면 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Inquiry> findByUserId(Long userId);
 
 
@@ -16,5 +20,6 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     List<Inquiry> findByStatus(InquiryStatus status);
 
     //특정 사용자의 답변 대기 문의
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Inquiry> findByUserIdAndStatus(Long userId, InquiryStatus status);
 }
@@ -5,23 +5,39 @@ import com.brainstorming.brainstorming_platform.domain.inquiry.dto.InquiryUpdate
 import com.brainstorming.brainstorming_platform.domain.inquiry.entity.Inquiry;
 import com.brainstorming.brainstorming_platform.domain.inquiry.entity.InquiryStatus;
 import com.brainstorming.brainstorming_platform.domain.inquiry.repository.InquiryRepository;
+import com.brainstorming.brainstorming_platform.global.etag.CollectionVersionService;
+import com.brainstorming.brainstorming_platform.global.etag.ETags;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class InquiryService {
 
+    public static final String INQUIRY_CREATED = "INQUIRY_CREATED";
+    public static final String INQUIRY_REPLIED = "INQUIRY_REPLIED";
+
     private final InquiryRepository inquiryRepository;
+    private final CollectionVersionService collectionVersionService;
+    private final OutboxWriter outboxWriter;
 
     /**
      * 문의사항 저장
+     * - 문의 목록이 바뀌는 작업은 같은 트랜잭션에서 목록 버전(ETag) 증가
+     * - 등록/답변은 같은 트랜잭션에서 아웃박스에 기록
      */
+    @Transactional
     public Inquiry save(Inquiry inquiry) {
-        return inquiryRepository.save(inquiry);
+        Inquiry saved = inquiryRepository.save(inquiry);
+        collectionVersionService.bump(CollectionVersionService.INQUIRIES, saved.getUserId());
+        appendOutbox(saved, INQUIRY_CREATED);
+        return saved;
     }
 
     /**
@@ -32,6 +48,14 @@ public class InquiryService {
                 .orElseThrow(()-> new RuntimeException("저장된 문의사항이 없습니다."));
     }
 
+    /**
+     * 사용자 문의 목록 ETag (목록보다 먼저 호출)
+     */
+    public String listETag(Long userId) {
+        return ETags.strong("inquiries", userId,
+                "v" + collectionVersionService.current(CollectionVersionService.INQUIRIES, userId));
+    }
+
     /**
      * Id로 유저 모든 문의 찾기
      */
@@ -42,8 +66,12 @@ public class InquiryService {
     /**
      * 문의사항 삭제
      */
+    @Transactional
     public void delete(Long inquiryId) {
-        inquiryRepository.deleteById(inquiryId);
+        inquiryRepository.findById(inquiryId).ifPresent(inquiry -> {
+            inquiryRepository.delete(inquiry);
+            collectionVersionService.bump(CollectionVersionService.INQUIRIES, inquiry.getUserId());
+        });
     }
 
     /**
@@ -65,6 +93,7 @@ public class InquiryService {
         inquiry.update(dto.getTitle(), dto.getContent());
 
         // 4. 저장 및 변환
+        collectionVersionService.bump(CollectionVersionService.INQUIRIES, inquiry.getUserId());
         return inquiryRepository.save(inquiry);
     }
 
@@ -81,7 +110,10 @@ public class InquiryService {
         inquiry.reply(dto.getReply());
 
         // 3. 저장 및 반환
-        return inquiryRepository.save(inquiry);
+        collectionVersionService.bump(CollectionVersionService.INQUIRIES, inquiry.getUserId());
+        Inquiry saved = inquiryRepository.save(inquiry);
+        appendOutbox(saved, INQUIRY_REPLIED);
+        return saved;
     }
 
     /**
@@ -92,4 +124,11 @@ public class InquiryService {
         return inquiryRepository.findAll();
     }
 
+    private void appendOutbox(Inquiry inquiry, String eventType) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("inquiryId", inquiry.getInquiryId());
+        payload.put("userId", inquiry.getUserId());
+        payload.put("status", inquiry.getStatus());
+        outboxWriter.append(OutboxWriter.INQUIRY, inquiry.getInquiryId(), eventType, inquiry.getUserId(), payload);
+    }
 }
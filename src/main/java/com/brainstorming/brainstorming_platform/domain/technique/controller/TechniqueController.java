@@ -0,0 +1,34 @@
+package com.brainstorming.brainstorming_platform.domain.technique.controller;
+
+import com.brainstorming.brainstorming_platform.domain.technique.dto.TechniqueSearchResponseDto;
+import com.brainstorming.brainstorming_platform.domain.technique.service.TechniqueSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 브레인스토밍 기법 검색 컨트롤러
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/techniques")
+public class TechniqueController {
+
+    private final TechniqueSearchService techniqueSearchService;
+
+    /**
+     * 기법 검색
+     * GET /api/techniques/search?q=학습 앱 아이디어&k=3
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TechniqueSearchResponseDto>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "3") int k) {
+        if (k < 1 || k > 20) {
+            throw new IllegalArgumentException("k는 1~20 사이여야 합니다.");
+        }
+        return ResponseEntity.ok(techniqueSearchService.search(q, k));
+    }
+}
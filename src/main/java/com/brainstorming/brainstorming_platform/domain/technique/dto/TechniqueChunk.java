@@ -0,0 +1,18 @@
+package com.brainstorming.brainstorming_platform.domain.technique.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 브레인스토밍 기법 청크 메타데이터 (벡터 제외)
+ * 인덱스 파일의 행 번호 순서와 같음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechniqueChunk {
+    private String chunkId;
+    private String title;
+    private String content;
+}
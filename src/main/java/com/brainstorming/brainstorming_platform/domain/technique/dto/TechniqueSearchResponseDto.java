@@ -0,0 +1,24 @@
+package com.brainstorming.brainstorming_platform.domain.technique.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechniqueSearchResponseDto {
+    private String chunkId;
+    private String title;
+    private String content;
+    private float score;     // 코사인 유사도
+
+    public static TechniqueSearchResponseDto of(TechniqueChunk chunk, float score) {
+        return new TechniqueSearchResponseDto(
+                chunk.getChunkId(),
+                chunk.getTitle(),
+                chunk.getContent(),
+                score
+        );
+    }
+}
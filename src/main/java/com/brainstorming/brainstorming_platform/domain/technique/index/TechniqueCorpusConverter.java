@@ -0,0 +1,107 @@
+package com.brainstorming.brainstorming_platform.domain.technique.index;
+
+import com.brainstorming.brainstorming_platform.domain.technique.dto.TechniqueChunk;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * embedded_chunks.json → 패킹된 float32 파일 + 메타데이터 JSON 변환
+ * - 벡터는 단위 벡터로 정규화해서 저장 (검색 시 내적만 계산)
+ */
+public class TechniqueCorpusConverter {
+
+    private final ObjectMapper objectMapper;
+
+    public TechniqueCorpusConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 원본이 패킹 파일보다 새로우면(또는 패킹 파일이 없으면) 변환 필요
+     */
+    public boolean needsConversion(Path source, Path packedFile, Path metadataFile) throws IOException {
+        if (!Files.exists(packedFile) || !Files.exists(metadataFile)) {
+            return true;
+        }
+        return Files.getLastModifiedTime(source).compareTo(Files.getLastModifiedTime(packedFile)) > 0;
+    }
+
+    public void convert(Path source, Path packedFile, Path metadataFile) throws IOException {
+        JsonNode root = objectMapper.readTree(source.toFile());
+
+        List<TechniqueChunk> chunks = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+        for (JsonNode node : root) {
+            JsonNode embedding = node.get("embedding");
+            if (embedding == null || !embedding.isArray() || embedding.isEmpty()) {
+                continue;
+            }
+            float[] vector = new float[embedding.size()];
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = (float) embedding.get(i).asDouble();
+            }
+            vectors.add(vector);
+            chunks.add(new TechniqueChunk(
+                    node.path("chunk_id").asText(),
+                    node.path("title").asText(),
+                    node.path("content").asText()
+            ));
+        }
+
+        Files.createDirectories(packedFile.toAbsolutePath().getParent());
+        writePacked(packedFile, vectors);
+        objectMapper.writeValue(metadataFile.toFile(), chunks);
+    }
+
+    /**
+     * 임시 파일에 기록 후 원자적으로 교체 (읽는 쪽이 반쯤 쓴 파일을 보지 않도록)
+     */
+    static void writePacked(Path packedFile, List<float[]> vectors) throws IOException {
+        int count = vectors.size();
+        int dimension = count == 0 ? 0 : vectors.get(0).length;
+
+        Path temp = packedFile.resolveSibling(packedFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(TechniqueVectorIndex.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(TechniqueVectorIndex.MAGIC)
+                    .putInt(TechniqueVectorIndex.VERSION)
+                    .putInt(count)
+                    .putInt(dimension)
+                    .flip();
+            writeFully(channel, header);
+
+            ByteBuffer row = ByteBuffer.allocate(dimension * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (float[] vector : vectors) {
+                if (vector.length != dimension) {
+                    throw new IOException("임베딩 차원이 일정하지 않습니다: " + vector.length + " != " + dimension);
+                }
+                float[] normalized = vector.clone();
+                TechniqueVectorIndex.normalize(normalized);
+                row.clear();
+                row.asFloatBuffer().put(normalized);
+                row.limit(dimension * Float.BYTES);
+                writeFully(channel, row);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, packedFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.brainstorming.brainstorming_platform.domain.technique.index;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 브레인스토밍 기법 임베딩 벡터 인덱스 (메모리 맵)
+ *
+ * 파일 형식 (little-endian):
+ * [magic int][version int][count int][dimension int][count * dimension float32 (단위 벡터)]
+ *
+ * 벡터가 저장 시점에 정규화되어 있어 코사인 유사도 = 내적
+ */
+public class TechniqueVectorIndex {
+
+    public static final int MAGIC = 0x54514631; // "TQF1"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+
+    private final FloatBuffer vectors;
+    private final int count;
+    private final int dimension;
+
+    private TechniqueVectorIndex(FloatBuffer vectors, int count, int dimension) {
+        this.vectors = vectors;
+        this.count = count;
+        this.dimension = dimension;
+    }
+
+    /**
+     * 패킹된 파일을 읽기 전용으로 메모리 맵
+     */
+    public static TechniqueVectorIndex open(Path packedFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(packedFile, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                throw new IOException("기법 인덱스 파일 형식이 올바르지 않습니다: " + packedFile);
+            }
+            int count = mapped.getInt(8);
+            int dimension = mapped.getInt(12);
+            if (channel.size() != HEADER_BYTES + (long) count * dimension * Float.BYTES) {
+                throw new IOException("기법 인덱스 파일 크기가 올바르지 않습니다: " + packedFile);
+            }
+
+            // slice() 는 바이트 순서를 초기화하므로 다시 지정
+            FloatBuffer vectors = mapped.position(HEADER_BYTES).slice()
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asFloatBuffer();
+            return new TechniqueVectorIndex(vectors, count, dimension);
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 코사인 유사도 상위 k 개
+     *
+     * @param query 질의 벡터 (정규화 여부 무관)
+     * @param k     반환 개수
+     * @param outRows   결과 행 번호 (점수 내림차순)
+     * @param outScores 결과 점수
+     * @return 채워진 결과 개수
+     */
+    public int search(float[] query, int k, int[] outRows, float[] outScores) {
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("질의 벡터 차원이 다릅니다: " + query.length + " != " + dimension);
+        }
+        float[] normalized = query.clone();
+        normalize(normalized);
+
+        int limit = Math.min(k, count);
+        // 최소 힙 (heapScores[0] 이 현재 k 개 중 최저 점수)
+        int[] heapRows = new int[limit];
+        float[] heapScores = new float[limit];
+        int size = 0;
+
+        float[] row = new float[dimension];
+        for (int r = 0; r < count; r++) {
+            vectors.get(r * dimension, row);
+            float score = dot(normalized, row, dimension);
+
+            if (size < limit) {
+                heapRows[size] = r;
+                heapScores[size] = score;
+                siftUp(heapRows, heapScores, size++);
+            } else if (limit > 0 && score > heapScores[0]) {
+                heapRows[0] = r;
+                heapScores[0] = score;
+                siftDown(heapRows, heapScores, size);
+            }
+        }
+
+        // 힙에서 꺼내며 뒤에서부터 채움 → 점수 내림차순
+        for (int i = size - 1; i >= 0; i--) {
+            outRows[i] = heapRows[0];
+            outScores[i] = heapScores[0];
+            heapRows[0] = heapRows[i];
+            heapScores[0] = heapScores[i];
+            siftDown(heapRows, heapScores, i);
+        }
+        return size;
+    }
+
+    /**
+     * 누산기 4개로 펼친 내적 (JIT 자동 벡터화가 잘 되는 형태)
+     */
+    static float dot(float[] a, float[] b, int length) {
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[i] * b[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static void normalize(float[] vector) {
+        float norm = (float) Math.sqrt(dot(vector, vector, vector.length));
+        if (norm == 0f) {
+            return;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= norm;
+        }
+    }
+
+    private static void siftUp(int[] rows, float[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(rows, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] rows, float[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(rows, scores, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] rows, float[] scores, int a, int b) {
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,124 @@
+package com.brainstorming.brainstorming_platform.domain.technique.service;
+
+import com.brainstorming.brainstorming_platform.domain.technique.dto.TechniqueChunk;
+import com.brainstorming.brainstorming_platform.domain.technique.dto.TechniqueSearchResponseDto;
+import com.brainstorming.brainstorming_platform.domain.technique.index.TechniqueCorpusConverter;
+import com.brainstorming.brainstorming_platform.domain.technique.index.TechniqueVectorIndex;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브레인스토밍 기법 검색 서비스 (Java 내장 벡터 검색)
+ * - 시작 시 embedded_chunks.json 을 한 번 패킹(변경 시에만)하고 메모리 맵으로 열기
+ * - 질의 임베딩은 Python 서비스(/embed)에서 받아 Java 에서 top-k 코사인 검색
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TechniqueSearchService {
+
+    private static final String PACKED_FILE = "techniques.f32";
+    private static final String METADATA_FILE = "techniques.meta.json";
+
+    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate;
+
+    @Value("${python.api.url}")
+    private String pythonApiUrl;
+
+    @Value("${technique.corpus.source:python-service/app/domain/brainstorming/data/embeddings/embedded_chunks.json}")
+    private String corpusSource;
+
+    @Value("${technique.corpus.dir:./data/techniques}")
+    private String corpusDir;
+
+    private volatile TechniqueVectorIndex index;
+    private volatile List<TechniqueChunk> chunks = List.of();
+
+    /**
+     * 패킹 파일 준비 후 인덱스 열기 (코퍼스가 없으면 검색 비활성화)
+     */
+    @PostConstruct
+    public void load() {
+        Path source = Paths.get(corpusSource);
+        Path packedFile = Paths.get(corpusDir, PACKED_FILE);
+        Path metadataFile = Paths.get(corpusDir, METADATA_FILE);
+
+        try {
+            TechniqueCorpusConverter converter = new TechniqueCorpusConverter(objectMapper);
+            if (Files.exists(source) && converter.needsConversion(source, packedFile, metadataFile)) {
+                converter.convert(source, packedFile, metadataFile);
+                log.info("기법 코퍼스 변환 완료: {} → {}", source, packedFile);
+            }
+            if (!Files.exists(packedFile)) {
+                log.warn("기법 코퍼스가 없어 기법 검색을 비활성화합니다: {}", source);
+                return;
+            }
+
+            chunks = objectMapper.readValue(metadataFile.toFile(), new TypeReference<List<TechniqueChunk>>() {});
+            index = TechniqueVectorIndex.open(packedFile);
+            log.info("기법 인덱스 로드 완료 - {}개, {}차원", index.count(), index.dimension());
+        } catch (Exception e) {
+            log.error("기법 인덱스 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 텍스트 질의로 기법 검색
+     */
+    public List<TechniqueSearchResponseDto> search(String query, int k) {
+        return search(embed(query), k);
+    }
+
+    /**
+     * 임베딩 벡터로 기법 검색
+     */
+    public List<TechniqueSearchResponseDto> search(float[] queryVector, int k) {
+        TechniqueVectorIndex current = index;
+        if (current == null) {
+            throw new IllegalStateException("기법 인덱스가 준비되지 않았습니다.");
+        }
+
+        int[] rows = new int[k];
+        float[] scores = new float[k];
+        int found = current.search(queryVector, k, rows, scores);
+
+        List<TechniqueSearchResponseDto> results = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            results.add(TechniqueSearchResponseDto.of(chunks.get(rows[i]), scores[i]));
+        }
+        return results;
+    }
+
+    private float[] embed(String text) {
+        String url = pythonApiUrl + "/api/v1/brainstorming/embed";
+        EmbedResponse response = restTemplate.postForObject(url, Map.of("text", text), EmbedResponse.class);
+        if (response == null || response.getEmbedding() == null) {
+            throw new IllegalStateException("질의 임베딩을 받지 못했습니다.");
+        }
+        return response.getEmbedding();
+    }
+
+    /**
+     * Python → Java
+     * POST /api/v1/brainstorming/embed 응답
+     */
+    @Data
+    static class EmbedResponse {
+        private float[] embedding;
+    }
+}
@@ -2,6 +2,8 @@ package com.brainstorming.brainstorming_platform.domain.user.controller;
 
 import com.brainstorming.brainstorming_platform.domain.user.dto.UserResponseDto;
 import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import com.brainstorming.brainstorming_platform.domain.user.service.UserService;
+import com.brainstorming.brainstorming_platform.global.security.jwt.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -20,11 +22,15 @@ import org.springframework.web.bind.annotation.RestController;
  */
 public class AuthController {
 
+    private final UserService userService;
+
     @GetMapping("/me")
-    public ResponseEntity<UserResponseDto> getCurrentUser(@AuthenticationPrincipal User user) {
+    public ResponseEntity<UserResponseDto> getCurrentUser(@AuthenticationPrincipal JwtPrincipal principal) {
 
-        log.info("현재 사용자 정보조회 - userId: {}", user.getUserId());
+        log.info("현재 사용자 정보조회 - userId: {}", principal.getUserId());
 
+        // 이름 / 가입일 등은 토큰에 없으므로 전체 User 조회 (2차 캐시)
+        User user = userService.findById(principal.getUserId());
         UserResponseDto responseDto = UserResponseDto.from(user);
         return ResponseEntity.ok(responseDto);
     }
@@ -2,10 +2,13 @@ package com.brainstorming.brainstorming_platform.domain.user.controller;
 
 import com.brainstorming.brainstorming_platform.domain.user.dto.UserRequestDto;
 import com.brainstorming.brainstorming_platform.domain.user.dto.UserResponseDto;
+import com.brainstorming.brainstorming_platform.domain.user.entity.MyRole;
 import com.brainstorming.brainstorming_platform.domain.user.entity.User;
 import com.brainstorming.brainstorming_platform.domain.user.service.UserService;
+import com.brainstorming.brainstorming_platform.global.security.jwt.JwtPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -59,6 +62,24 @@ public class UserController {
         return ResponseEntity.ok(UserResponseDto.from(user));
     }
 
+    //역할 변경 (ADMIN 만) - PATCH /api/users/{id}/role?role=ADMIN
+    //이전에 발급된 토큰의 역할은 모든 노드에서 무효 처리 (RoleChangeLog)
+    @PatchMapping("/{id}/role")
+    public ResponseEntity<UserResponseDto> changeRole(
+            @PathVariable Long id,
+            @RequestParam MyRole role,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        // 1 권한 확인 (/api/** 가 아직 permitAll 이라 여기서)
+        if (principal == null || principal.getRole() != MyRole.ADMIN) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        // 2 Service 호출
+        User user = userService.changeRole(id, role);
+        log.info("역할 변경 - userId: {}, role: {}, by: {}", id, role, principal.getUserId());
+        // 3 응답
+        return ResponseEntity.ok(UserResponseDto.from(user));
+    }
+
     //회원탈퇴
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
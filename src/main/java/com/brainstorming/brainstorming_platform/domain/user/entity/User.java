@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -14,9 +16,13 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user") // 2차 캐시 (ehcache.xml)
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users",
+        indexes = @Index(name = "idx_users_email", columnList = "email"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_users_provider", columnNames = {"provider", "provider_id"}))
 @Getter
 @Builder
 public class User extends BaseEntity {
@@ -35,11 +41,23 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private MyRole role;
 
+    // 마지막 역할 변경 시각 (이전 토큰 무효화 기록 복원용, RoleChangeLog)
+    private LocalDateTime roleChangedAt;
+
+    public User(Long userId, String email, String username, LoginProvider provider, String providerId, MyRole role) {
+        this(userId, email, username, provider, providerId, role, null);
+    }
+
     public void updateOAuthInfo(String name, String email) {
         this.username = name;
         this.email = email;
     }
 
+    public void changeRole(MyRole role) {
+        this.role = role;
+        this.roleChangedAt = LocalDateTime.now();
+    }
+
     /**
      * Spring Security가 권한을 확인할 때 사용
      */
@@ -0,0 +1,14 @@
+package com.brainstorming.brainstorming_platform.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 탈퇴 (이전에 발급한 토큰은 더 이상 인증되면 안 됨)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserDeletedEvent {
+
+    private final Long userId;
+}
@@ -0,0 +1,61 @@
+package com.brainstorming.brainstorming_platform.domain.user.event;
+
+import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxMessage;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxWriter;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자 역할 변경 / 탈퇴를 아웃박스로 모든 노드에 전달
+ * - 변경과 같은 트랜잭션에서 기록
+ * - 받은 노드는 2차 캐시(노드 로컬)의 이전 사용자 정보를 버림 (RoleChangeLog 도 같은 이벤트로 기록)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserOutboxListener {
+
+    public static final String USER_ROLE_CHANGED = "USER_ROLE_CHANGED";
+    public static final String USER_DELETED = "USER_DELETED";
+
+    private final OutboxWriter outboxWriter;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener
+    @Transactional
+    public void onRoleChanged(UserRoleChangedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("userId", event.getUserId());
+        payload.put("role", event.getRole().name());
+        outboxWriter.append(OutboxWriter.USER, event.getUserId(), USER_ROLE_CHANGED, event.getUserId(), payload);
+    }
+
+    @EventListener
+    @Transactional
+    public void onDeleted(UserDeletedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("userId", event.getUserId());
+        outboxWriter.append(OutboxWriter.USER, event.getUserId(), USER_DELETED, event.getUserId(), payload);
+    }
+
+    @EventListener
+    public void onOutbox(OutboxMessage message) {
+        if (revokesTokens(message)) {
+            entityManagerFactory.getCache().evict(User.class, message.getAggregateId());
+        }
+    }
+
+    /**
+     * 이전에 발급한 토큰을 무효로 만드는 이벤트인지 (역할 변경 / 탈퇴)
+     */
+    public static boolean revokesTokens(OutboxMessage message) {
+        return OutboxWriter.USER.equals(message.getAggregateType())
+                && (USER_ROLE_CHANGED.equals(message.getEventType()) || USER_DELETED.equals(message.getEventType()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.brainstorming.brainstorming_platform.domain.user.event;
+
+import com.brainstorming.brainstorming_platform.domain.user.entity.MyRole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 역할이 바뀜 (이전에 발급한 토큰의 role 클레임은 더 이상 믿을 수 없음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserRoleChangedEvent {
+
+    private final Long userId;
+    private final MyRole role;
+}
@@ -2,20 +2,40 @@ package com.brainstorming.brainstorming_platform.domain.user.repository;
 
 import com.brainstorming.brainstorming_platform.domain.user.entity.LoginProvider;
 import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    //이메일로 사용자 찾기
+    //이메일로 사용자 찾기 (쿼리 캐시 - users 테이블이 바뀌면 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     //이메일 존재 여부 확인
     boolean existsByEmail(String email);
 
-    //  OAuth 2.0 사용
+    //  OAuth 2.0 사용 (로그인마다 호출되므로 쿼리 캐시)
+    //  없으면 바로 가입하므로 레플리카 지연으로 중복 가입하지 않도록 프라이머리에서 조회
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByProviderAndProviderId(
             LoginProvider provider,
             String providerId);
+
+    //  역할 변경 전 토큰 확인용 (JwtAuthenticationFilter)
+    //  쿼리라 2차 캐시를 거치지 않고, 레플리카 지연으로 이전 역할을 읽지 않도록 프라이머리에서 조회
+    @Transactional
+    Optional<User> findByUserId(Long userId);
+
+    //  시작할 때 RoleChangeLog 복원 (토큰 만료 시간 안에 역할이 바뀐 사용자, 프라이머리)
+    @Transactional
+    List<User> findByRoleChangedAtAfter(LocalDateTime after);
 }
@@ -1,9 +1,14 @@
 package com.brainstorming.brainstorming_platform.domain.user.service;
 
+import com.brainstorming.brainstorming_platform.domain.user.entity.MyRole;
 import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import com.brainstorming.brainstorming_platform.domain.user.event.UserDeletedEvent;
+import com.brainstorming.brainstorming_platform.domain.user.event.UserRoleChangedEvent;
 import com.brainstorming.brainstorming_platform.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -12,6 +17,7 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 저장 (OAuth 자동 가입 시 사용)
@@ -23,22 +29,50 @@ public class UserService {
     /**
      * 아이디 찾기
      */
+    @Transactional(readOnly = true)
     public User findById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("아이디가 존재하지 않습니다."));
     }
 
+    /**
+     * 인증용 현재 사용자 (역할 변경 전에 발급된 토큰 확인, 프라이머리에서 바로 조회)
+     */
+    public User findCurrent(Long userId) {
+        return userRepository.findByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("아이디가 존재하지 않습니다."));
+    }
+
     /**
      * 이메일로 아이디 찾기
      */
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * 역할 변경
+     * - 이전에 발급한 토큰의 role 클레임은 커밋 후 무효 처리 (RoleChangeLog)
+     * - 다른 노드에는 아웃박스로 전달 (UserOutboxListener)
+     */
+    @Transactional
+    public User changeRole(Long userId, MyRole role) {
+        User user = findById(userId);
+        if (user.getRole() != role) {
+            user.changeRole(role);
+            eventPublisher.publishEvent(new UserRoleChangedEvent(userId, role));
+        }
+        return user;
+    }
+
     /**
      * 아이디 삭제
+     * - 이미 발급한 토큰은 커밋 후 모든 노드에서 무효 처리 (RoleChangeLog, 아웃박스로 전달)
      */
+    @Transactional
     public void delete(Long userId) {
         userRepository.deleteById(userId);
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
     }
 }
@@ -22,5 +22,12 @@ public class BaseEntity {
     @LastModifiedDate  //자동으로 updatedAt 이 채워짐
     private LocalDateTime updatedAt;
 
+    /**
+     * 저장된 시각을 그대로 옮겨 올 때 (보관 테이블에서 읽은 아이디어 등)
+     */
+    protected void restoreAuditDates(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 
 }
@@ -0,0 +1,83 @@
+package com.brainstorming.brainstorming_platform.global.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate 2차 캐시 설정 (User / Idea / Inquiry 엔티티 + 자주 쓰는 조회 쿼리)
+ *
+ * - JCache(Ehcache) 사용, 영역별 최대 개수/TTL 은 ehcache.xml
+ * - 적중률 지표: hibernate.cache.hit_ratio{cache=entity|query}
+ * - jpa.second-level-cache.enabled=false 면 끔 (spring.jpa.properties 로 직접 준 값이 있으면 그 값 우선)
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * 애플리케이션 컨텍스트마다 별도 CacheManager
+     * - 같은 URI 로 가져오면 JVM 안에서 공유되어, DB 가 다른 컨텍스트(테스트) 끼리 엔티티가 섞일 수 있음
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() throws IOException {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider)
+                Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        XmlConfiguration configuration = new XmlConfiguration(new ClassPathResource("ehcache.xml").getURL());
+        return provider.getCacheManager(URI.create("urn:brainstorming:l2:" + UUID.randomUUID()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${jpa.second-level-cache.enabled:true}") boolean enabled) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, enabled);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            // 적중률 지표용 (카운터 증가 정도의 비용)
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            Gauge.builder("hibernate.cache.hit_ratio", statistics,
+                            ratio(Statistics::getSecondLevelCacheHitCount, Statistics::getSecondLevelCacheMissCount))
+                    .tag("cache", "entity")
+                    .register(registry);
+            Gauge.builder("hibernate.cache.hit_ratio", statistics,
+                            ratio(Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount))
+                    .tag("cache", "query")
+                    .register(registry);
+        };
+    }
+
+    private static ToDoubleFunction<Statistics> ratio(ToDoubleFunction<Statistics> hits,
+                                                      ToDoubleFunction<Statistics> misses) {
+        return statistics -> {
+            double hit = hits.applyAsDouble(statistics);
+            double total = hit + misses.applyAsDouble(statistics);
+            return total == 0 ? 0 : hit / total;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.brainstorming.brainstorming_platform.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 (UPDATE / DELETE / SEQUENCE·직접 할당 ID INSERT 를 묶어서 전송)
+ *
+ * - IDENTITY ID 엔티티(아이디어 등)의 INSERT 는 생성된 키를 바로 받아야 해서 Hibernate 가 묶지 않음
+ * - MySQL 은 URL 에 rewriteBatchedStatements=true 가 있어야 한 번의 왕복으로 전송
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc-batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
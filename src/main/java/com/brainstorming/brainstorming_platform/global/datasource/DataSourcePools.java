@@ -0,0 +1,89 @@
+package com.brainstorming.brainstorming_platform.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프라이머리 / 레플리카 커넥션 풀
+ * - 풀은 빈으로 등록하지 않음 (DataSource 빈은 라우팅 프록시 하나)
+ */
+public class DataSourcePools implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public DataSourcePools(HikariDataSource primary, List<Replica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    public HikariDataSource primary() {
+        return primary;
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * 지연이 허용 범위 안인 레플리카 중 하나 (라운드 로빈), 없으면 null
+     */
+    public Replica nextAvailable() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+        primary.close();
+    }
+
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+
+        // ReplicaLagProbe 가 갱신, 첫 측정 전에는 사용하지 않음
+        private volatile boolean available;
+        private volatile long lagMillis = -1;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public long lagMillis() {
+            return lagMillis;
+        }
+
+        void update(long lagMillis, boolean available) {
+            this.lagMillis = lagMillis;
+            this.available = available;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.brainstorming.brainstorming_platform.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 레플리카 라우팅 (datasource.replica.urls 가 있을 때만, 없으면 기본 단일 DataSource)
+ *
+ * - 프라이머리는 spring.datasource.*, 레플리카는 URL 목록 + 같은 계정 (username/password 를 따로 줄 수 있음)
+ * - readOnly 트랜잭션만 레플리카로 감: @Transactional(readOnly = true) 서비스 메서드, 리포지토리에 readOnly 를 선언한 조회
+ *   (Spring Data 는 상속한 CRUD 조회만 기본 readOnly, 직접 선언한 조회 메서드는 아님), 그 밖의 호출은 프라이머리
+ * - 풀 지표: hikaricp.*{pool=primary|replica-N}
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replica.urls")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public DataSourcePools dataSourcePools(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls}") List<String> replicaUrls,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${datasource.replica.maximum-pool-size:10}") int replicaPoolSize) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(DataSourcePools.PRIMARY);
+        primary.setMetricsTrackerFactory(metrics);
+
+        List<DataSourcePools.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            // 잘못 라우팅된 쓰기를 드라이버 단계에서 막음
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(metrics);
+            replicas.add(new DataSourcePools.Replica(replica.getPoolName(), replica));
+        }
+        return new DataSourcePools(primary, replicas);
+    }
+
+    @Bean
+    public ReadYourWritesPins readYourWritesPins(@Value("${datasource.replica.pin-after-write-ms:5000}") long windowMillis) {
+        return new ReadYourWritesPins(windowMillis);
+    }
+
+    @Bean
+    public ReplicaLagProbe replicaLagProbe(DataSourcePools dataSourcePools,
+                                           ReadYourWritesPins readYourWritesPins,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${datasource.replica.max-lag:2s}") Duration maxLag) {
+        return new ReplicaLagProbe(dataSourcePools, readYourWritesPins, maxLag, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션이 쓰는 유일한 DataSource 빈 (JPA / Flyway / JdbcTemplate 모두 이걸 사용)
+     * - 커넥션을 첫 SQL 시점에 가져와야 트랜잭션 readOnly 여부로 고를 수 있음
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourcePools dataSourcePools,
+                                 ReadYourWritesPins readYourWritesPins,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(dataSourcePools, readYourWritesPins, meterRegistry));
+    }
+}
@@ -0,0 +1,47 @@
+package com.brainstorming.brainstorming_platform.global.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 직후 잠시 동안 그 사용자의 읽기를 프라이머리로 고정
+ * - 자기가 방금 저장한 아이디어가 지연된 레플리카에서 안 보이는 일을 막음
+ * - 노드 메모리 기준 (다른 노드로 간 요청은 레플리카 지연 한도까지만 보장)
+ */
+public class ReadYourWritesPins {
+
+    private final long windowNanos;
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesPins(long windowMillis) {
+        this.windowNanos = windowMillis * 1_000_000L;
+    }
+
+    public void pin(Long userId) {
+        pinnedUntil.put(userId, System.nanoTime() + windowNanos);
+    }
+
+    public boolean isPinned(Long userId) {
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(userId, until);
+        return false;
+    }
+
+    /**
+     * 만료된 항목 정리 (쓰고 다시 읽지 않은 사용자)
+     */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+
+    public int size() {
+        return pinnedUntil.size();
+    }
+}
@@ -0,0 +1,82 @@
+package com.brainstorming.brainstorming_platform.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 레플리카 복제 지연 측정
+ *
+ * - 프라이머리 replication_heartbeat 에 현재 시각을 쓰고, 각 레플리카에서 읽은 값과의 차이를 지연으로 봄
+ * - 지연이 max-lag 이하인 레플리카만 읽기에 사용 (조회 실패 / 행 없음도 제외)
+ * - 레플리카가 방금 쓴 값을 아직 못 받았으면 이전 값 기준이라 측정값이 probe 간격만큼 커질 수 있음
+ * - 여러 노드가 같은 행을 갱신하므로 노드 간 시계 차이만큼 오차가 있음
+ * - 지표: datasource.replica.lag{pool} (초, 측정 실패 시 -1)
+ */
+@Slf4j
+public class ReplicaLagProbe {
+
+    private static final String HEARTBEAT = "INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)"
+            + " ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)";
+
+    private final DataSourcePools pools;
+    private final ReadYourWritesPins pins;
+    private final long maxLagMillis;
+
+    public ReplicaLagProbe(DataSourcePools pools, ReadYourWritesPins pins,
+                           Duration maxLag, MeterRegistry meterRegistry) {
+        this.pools = pools;
+        this.pins = pins;
+        this.maxLagMillis = maxLag.toMillis();
+        for (DataSourcePools.Replica replica : pools.replicas()) {
+            Gauge.builder("datasource.replica.lag", replica,
+                            r -> r.lagMillis() < 0 ? -1 : r.lagMillis() / 1000.0)
+                    .tag("pool", replica.name())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.probe-interval-ms:1000}")
+    public void probe() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            new JdbcTemplate(pools.primary()).update(HEARTBEAT, Timestamp.valueOf(now));
+        } catch (RuntimeException e) {
+            log.warn("복제 heartbeat 기록 실패: {}", e.getMessage());
+        }
+        for (DataSourcePools.Replica replica : pools.replicas()) {
+            probe(replica, now);
+        }
+        pins.purgeExpired();
+    }
+
+    private void probe(DataSourcePools.Replica replica, LocalDateTime now) {
+        try {
+            List<Timestamp> beats = new JdbcTemplate(replica.dataSource()).queryForList(
+                    "SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+            if (beats.isEmpty()) {
+                replica.update(-1, false);
+                return;
+            }
+            long lag = Math.max(0, Duration.between(beats.get(0).toLocalDateTime(), now).toMillis());
+            boolean available = lag <= maxLagMillis;
+            if (replica.isAvailable() && !available) {
+                log.warn("레플리카 지연 초과, 프라이머리로 읽음 - pool={}, lag={}ms", replica.name(), lag);
+            }
+            replica.update(lag, available);
+        } catch (RuntimeException e) {
+            if (replica.isAvailable()) {
+                log.warn("레플리카 조회 실패, 프라이머리로 읽음 - pool={}: {}", replica.name(), e.getMessage());
+            }
+            replica.update(-1, false);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.brainstorming.brainstorming_platform.global.datasource;
+
+import com.brainstorming.brainstorming_platform.global.security.jwt.JwtPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * readOnly 트랜잭션은 레플리카로, 나머지는 프라이머리로
+ *
+ * - LazyConnectionDataSourceProxy 뒤에 두어 트랜잭션의 readOnly 가 정해진 뒤(첫 SQL 시점)에 고름
+ * - 레플리카로 보내지 않는 경우: 쓰기/트랜잭션 밖, 방금 쓴 사용자(pinned), 지연 한도를 넘은 레플리카뿐(lagging)
+ * - 고정(pin) 대상 사용자는 SecurityContext 의 JwtPrincipal 에서만 알 수 있음
+ *   → 요청 밖의 쓰기(WAL 반영 IdeaWriteBehindFlusher, 스케줄러 작업)는 고정하지 않음
+ *   (WAL 대기 아이디어는 목록 조회가 WAL 에서 직접 합치고, 배치 작업 결과는 max-lag 안에서 늦게 보일 수 있음)
+ * - 지표: datasource.routing{pool, reason}
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSourcePools pools;
+    private final ReadYourWritesPins pins;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSourcePools pools, ReadYourWritesPins pins, MeterRegistry meterRegistry) {
+        this.pools = pools;
+        this.pins = pins;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourcePools.PRIMARY, pools.primary());
+        pools.replicas().forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.primary());
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit();
+            return route(DataSourcePools.PRIMARY, "write");
+        }
+        Long userId = currentUserId();
+        if (userId != null && pins.isPinned(userId)) {
+            return route(DataSourcePools.PRIMARY, "pinned");
+        }
+        DataSourcePools.Replica replica = pools.nextAvailable();
+        if (replica == null) {
+            return route(DataSourcePools.PRIMARY, "lagging");
+        }
+        return route(replica.name(), "read");
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 그 사용자를 잠시 프라이머리로 고정
+     */
+    private void pinAfterCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pins.pin(userId);
+            }
+        });
+    }
+
+    private String route(String pool, String reason) {
+        counters.computeIfAbsent(pool + "|" + reason, key -> Counter.builder("datasource.routing")
+                        .tag("pool", pool)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+        return pool;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.brainstorming.brainstorming_platform.global.etag;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 사용자별 목록 버전 (목록이 바뀔 때마다 1 증가)
+ * - 행은 처음 바뀔 때 생김, 없으면 버전 0
+ */
+@Entity
+@NoArgsConstructor
+@IdClass(CollectionVersion.Key.class)
+@Table(name = "collection_versions")
+@Getter
+public class CollectionVersion {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private String collectionName;
+
+    private long version;
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private String collectionName;
+    }
+}
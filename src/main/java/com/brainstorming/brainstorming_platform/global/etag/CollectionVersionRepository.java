@@ -0,0 +1,29 @@
+package com.brainstorming.brainstorming_platform.global.etag;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, CollectionVersion.Key> {
+
+    /**
+     * 버전 1 증가 (행이 없으면 1 로 생성)
+     * - 쿼리 공간을 지정해 2차 캐시 전체가 비워지지 않게 함
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "collection_versions"))
+    @Query(value = "INSERT INTO collection_versions (user_id, collection_name, version)"
+            + " VALUES (:userId, :collectionName, 1)"
+            + " ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int increment(@Param("userId") Long userId, @Param("collectionName") String collectionName);
+
+    @Query("SELECT v.version FROM CollectionVersion v"
+            + " WHERE v.userId = :userId AND v.collectionName = :collectionName")
+    Optional<Long> findVersion(@Param("userId") Long userId, @Param("collectionName") String collectionName);
+}
@@ -0,0 +1,39 @@
+package com.brainstorming.brainstorming_platform.global.etag;
+
+import com.brainstorming.brainstorming_platform.global.shard.ShardContext;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 목록 버전 (목록 ETag 용)
+ *
+ * - 목록을 바꾸는 쪽이 같은 트랜잭션에서 bump, 커밋되어야 새 버전이 보임
+ * - 조회 쪽은 버전을 먼저 읽고 목록을 읽어야 함
+ *   (반대로 읽으면 커밋 직전 목록에 새 버전이 붙어 오래된 목록이 304 로 계속 재사용될 수 있음)
+ * - 아이디어 목록 버전은 아이디어와 같은 트랜잭션이라 사용자의 샤드에, 나머지는 홈 샤드에 있음
+ */
+@Service
+@RequiredArgsConstructor
+public class CollectionVersionService {
+
+    public static final String IDEAS = "ideas";
+    public static final String INQUIRIES = "inquiries";
+
+    private final CollectionVersionRepository collectionVersionRepository;
+    private final ShardRouter shardRouter;
+
+    public long current(String collectionName, Long userId) {
+        int shard = IDEAS.equals(collectionName) ? shardRouter.shardOf(userId) : ShardContext.HOME;
+        return shardRouter.callOn(shard,
+                () -> collectionVersionRepository.findVersion(userId, collectionName).orElse(0L));
+    }
+
+    @Transactional
+    public void bump(String collectionName, Long userId) {
+        if (userId != null) {
+            collectionVersionRepository.increment(userId, collectionName);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.brainstorming.brainstorming_platform.global.etag;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * ETag 조건부 GET 응답
+ *
+ * - ETag 는 본문이 아니라 버전 정보(updatedAt, 목록 버전)로 만들어 304 일 때 본문을 읽지 않음
+ * - 사용자 데이터라 공유 캐시에는 저장하지 않고(private), 브라우저는 매번 재검증(no-cache)
+ */
+public final class ETags {
+
+    public static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * 강한 ETag ("ideas-1-v3")
+     */
+    public static String strong(Object... parts) {
+        StringJoiner joiner = new StringJoiner("-", "\"", "\"");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * If-None-Match 일치 여부 (RFC 9110 - If-None-Match 는 약한 비교, "*" 는 모두 일치)
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = stripWeak(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 일치하면 본문 없이 304, 아니면 본문을 만들어 200
+     */
+    public static <T> ResponseEntity<T> conditional(String ifNoneMatch, String eTag, Supplier<T> body) {
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(PRIVATE_REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(PRIVATE_REVALIDATE)
+                .body(body.get());
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,19 @@
+package com.brainstorming.brainstorming_platform.global.job;
+
+/**
+ * 대상을 청크 단위로 나눠 처리하는 배치 작업 (RetentionJobRunner 가 실행)
+ */
+public interface ChunkedTask {
+
+    /**
+     * 리스 / 지표 이름 (노드 간에 같은 작업이면 같은 이름)
+     */
+    String name();
+
+    /**
+     * 최대 chunkSize 개 처리 (러너가 청크마다 새 트랜잭션으로 호출)
+     *
+     * @return 처리한 개수, chunkSize 보다 작으면 남은 대상이 없는 것으로 보고 종료
+     */
+    int processChunk(int chunkSize);
+}
@@ -0,0 +1,34 @@
+package com.brainstorming.brainstorming_platform.global.job;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 리스 (작업당 한 행)
+ * - lockedUntil 이 지났으면 어느 노드든 가져갈 수 있음
+ */
+@Entity
+@NoArgsConstructor
+@Table(name = "job_leases")
+@Getter
+public class JobLease {
+
+    @Id
+    private String jobName;
+
+    private String owner;
+
+    private LocalDateTime lockedAt;
+
+    private LocalDateTime lockedUntil;
+
+    public JobLease(String jobName) {
+        this.jobName = jobName;
+        this.lockedUntil = LocalDateTime.of(1970, 1, 1, 0, 0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.brainstorming.brainstorming_platform.global.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DB 리스로 여러 노드 중 한 곳에서만 작업 실행
+ * - 리스 변경은 호출 쪽 트랜잭션과 분리 (REQUIRES_NEW) 해서 바로 커밋
+ * - 노드 시계 기준이라 노드 간 시계 차이보다 리스 시간을 충분히 길게 잡아야 함
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate transaction;
+    private final String owner;
+
+    public JobLeaseManager(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    /**
+     * @return 리스를 얻었으면 true (다른 노드가 유효한 리스를 갖고 있으면 false)
+     */
+    public boolean tryAcquire(String jobName, Duration duration) {
+        createIfAbsent(jobName);
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transaction.execute(status ->
+                jobLeaseRepository.tryAcquire(jobName, owner, now, now.plus(duration)));
+        return updated != null && updated == 1;
+    }
+
+    /**
+     * @return 아직 내 리스면 true (만료 후 다른 노드가 가져갔으면 false)
+     */
+    public boolean renew(String jobName, Duration duration) {
+        Integer updated = transaction.execute(status ->
+                jobLeaseRepository.renew(jobName, owner, LocalDateTime.now().plus(duration)));
+        return updated != null && updated == 1;
+    }
+
+    public void release(String jobName) {
+        try {
+            transaction.execute(status -> jobLeaseRepository.release(jobName, owner, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // 반납에 실패해도 만료 시각이 지나면 다른 노드가 가져감
+            log.warn("리스 반납 실패 - job={}: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void createIfAbsent(String jobName) {
+        if (jobLeaseRepository.existsById(jobName)) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> jobLeaseRepository.saveAndFlush(new JobLease(jobName)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 만든 경우
+            log.debug("리스 행이 이미 있음 - job={}", jobName);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.brainstorming.brainstorming_platform.global.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 만료됐거나 이미 내 리스면 가져감 (조건부 UPDATE 한 번이라 노드 간 경쟁에도 한 곳만 1 반환)
+     */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.lockedAt = :now, l.lockedUntil = :until"
+            + " WHERE l.jobName = :jobName AND (l.lockedUntil < :now OR l.owner = :owner)")
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("until") LocalDateTime until);
+
+    // 내 리스일 때만 연장
+    @Modifying
+    @Query("UPDATE JobLease l SET l.lockedUntil = :until WHERE l.jobName = :jobName AND l.owner = :owner")
+    int renew(@Param("jobName") String jobName,
+              @Param("owner") String owner,
+              @Param("until") LocalDateTime until);
+
+    // 내 리스면 바로 만료시켜 다음 실행이 기다리지 않게 함
+    @Modifying
+    @Query("UPDATE JobLease l SET l.lockedUntil = :now WHERE l.jobName = :jobName AND l.owner = :owner")
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
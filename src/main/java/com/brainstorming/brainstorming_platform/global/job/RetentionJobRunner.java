@@ -0,0 +1,186 @@
+package com.brainstorming.brainstorming_platform.global.job;
+
+import com.brainstorming.brainstorming_platform.global.shard.ShardContext;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보존(삭제) 작업 / 청크 배치 작업 실행기
+ *
+ * - DB 리스를 얻은 노드 하나만 실행 (다른 노드는 건너뜀)
+ * - 청크 단위 트랜잭션으로 삭제(처리)하고 청크 사이에 쉬어 잠금/undo 를 짧게 유지
+ * - 최대 실행 시간을 넘기면 멈추고 남은 대상은 다음 실행에서 이어서 삭제
+ * - 스케줄러 스레드를 붙잡지 않도록 전용 스레드에서 실행
+ * - 샤드마다 차례로 실행 (청크는 ShardContext 로 그 샤드를 지정한 트랜잭션)
+ *
+ * 지표 (태그 job)
+ * - retention.job.duration (outcome 태그) / retention.job.deleted / retention.job.chunks
+ * - retention.job.skipped (다른 노드가 실행 중) / retention.job.progress (현재 실행에서 지운 개수)
+ * - 삭제가 아닌 작업(ChunkedTask)은 deleted / progress 가 처리한 개수
+ */
+@Slf4j
+@Component
+public class RetentionJobRunner {
+
+    // 마지막 청크가 끝나고 반납하기까지의 여유
+    private static final Duration LEASE_MARGIN = Duration.ofMinutes(1);
+
+    private final JobLeaseManager jobLeaseManager;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+    private final Duration maxRuntime;
+
+    private final ExecutorService executor;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> progress = new ConcurrentHashMap<>();
+
+    public enum Outcome {
+        COMPLETED,   // 대상이 더 없음
+        TIME_LIMIT,  // 최대 실행 시간 도달
+        LEASE_BUSY,  // 다른 노드가 실행 중
+        LEASE_LOST,  // 실행 중 리스를 잃음
+        INTERRUPTED,
+        FAILED
+    }
+
+    public RetentionJobRunner(
+            JobLeaseManager jobLeaseManager,
+            ShardRouter shardRouter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${retention.chunk-size:1000}") int chunkSize,
+            @Value("${retention.chunk-pause-ms:200}") long chunkPauseMillis,
+            @Value("${retention.max-runtime:10m}") Duration maxRuntime) {
+        this.jobLeaseManager = jobLeaseManager;
+        this.shardRouter = shardRouter;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+        this.maxRuntime = maxRuntime;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "retention-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 전용 스레드에서 실행 (같은 작업이 이 노드에서 이미 실행 중이면 무시)
+     */
+    public void submit(ChunkedTask task) {
+        if (!running.add(task.name())) {
+            log.info("보존 작업이 이미 실행 중 - job={}", task.name());
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                run(task);
+            } finally {
+                running.remove(task.name());
+            }
+        });
+    }
+
+    public Outcome run(ChunkedTask task) {
+        String job = task.name();
+        if (!jobLeaseManager.tryAcquire(job, maxRuntime.plus(LEASE_MARGIN))) {
+            log.info("다른 노드가 보존 작업 실행 중, 건너뜀 - job={}", job);
+            meterRegistry.counter("retention.job.skipped", "job", job).increment();
+            return Outcome.LEASE_BUSY;
+        }
+
+        AtomicLong deleted = progressOf(job);
+        deleted.set(0);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxRuntime.toNanos();
+        int chunks = 0;
+        Outcome outcome = Outcome.COMPLETED;
+
+        log.info("보존 작업 시작 - job={}, owner={}", job, jobLeaseManager.owner());
+        try {
+            shards:
+            for (int shard : shardRouter.shards()) {
+                while (true) {
+                    Integer count = ShardContext.call(shard,
+                            () -> transaction.execute(status -> task.processChunk(chunkSize)));
+                    int removed = count == null ? 0 : count;
+                    chunks++;
+                    deleted.addAndGet(removed);
+                    meterRegistry.counter("retention.job.deleted", "job", job).increment(removed);
+                    meterRegistry.counter("retention.job.chunks", "job", job).increment();
+
+                    if (removed < chunkSize) {
+                        // 이 샤드는 끝, 다음 샤드로
+                        break;
+                    }
+                    if (System.nanoTime() >= deadline) {
+                        outcome = Outcome.TIME_LIMIT;
+                        break shards;
+                    }
+                    if (!jobLeaseManager.renew(job, maxRuntime.plus(LEASE_MARGIN))) {
+                        outcome = Outcome.LEASE_LOST;
+                        break shards;
+                    }
+                    if (chunkPauseMillis > 0) {
+                        Thread.sleep(chunkPauseMillis);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = Outcome.INTERRUPTED;
+        } catch (RuntimeException e) {
+            log.error("보존 작업 실패 - job={}: {}", job, e.getMessage(), e);
+            outcome = Outcome.FAILED;
+        } finally {
+            jobLeaseManager.release(job);
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        Timer.builder("retention.job.duration")
+                .tag("job", job)
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsed));
+        log.info("보존 작업 종료 - job={}, outcome={}, deleted={}, chunks={}, {}ms",
+                job, outcome, deleted.get(), chunks, elapsed / 1_000_000);
+        return outcome;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중인 청크는 sleep 중 인터럽트로 멈춤 (남은 대상은 다음 실행에서 삭제)
+        executor.shutdownNow();
+    }
+
+    private AtomicLong progressOf(String job) {
+        return progress.computeIfAbsent(job, name -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("retention.job.progress", value, AtomicLong::get)
+                    .description("현재(마지막) 실행에서 삭제한 행 수")
+                    .tag("job", name)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
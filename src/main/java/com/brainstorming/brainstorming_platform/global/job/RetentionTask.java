@@ -0,0 +1,20 @@
+package com.brainstorming.brainstorming_platform.global.job;
+
+/**
+ * 오래된 데이터를 조금씩 지우는 보존 작업 (RetentionJobRunner 가 실행)
+ */
+public interface RetentionTask extends ChunkedTask {
+
+    /**
+     * 최대 chunkSize 개 삭제 (러너가 청크마다 새 트랜잭션으로 호출)
+     * - 인덱스 순서로 대상 PK 를 고른 뒤 PK 로 삭제해 잠금 범위를 청크로 제한
+     *
+     * @return 삭제한 개수, chunkSize 보다 작으면 남은 대상이 없는 것으로 보고 종료
+     */
+    int deleteChunk(int chunkSize);
+
+    @Override
+    default int processChunk(int chunkSize) {
+        return deleteChunk(chunkSize);
+    }
+}
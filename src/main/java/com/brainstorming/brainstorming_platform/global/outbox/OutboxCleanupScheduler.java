@@ -0,0 +1,22 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import com.brainstorming.brainstorming_platform.global.job.RetentionJobRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxCleanupScheduler {
+
+    private final RetentionJobRunner retentionJobRunner;
+    private final OutboxRetentionTask outboxRetentionTask;
+
+    /**
+     * 전달이 끝난 아웃박스 이벤트 정리 (매일 새벽 3시 45분, 기본 7일 보존)
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 45 3 * * *}")
+    public void cleanupOutbox() {
+        retentionJobRunner.submit(outboxRetentionTask);
+    }
+}
@@ -0,0 +1,38 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달 위치 다음 이벤트 (PK 범위)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.eventId > :afterEventId ORDER BY e.eventId")
+    List<OutboxEvent> findAfter(@Param("afterEventId") Long afterEventId, Limit limit);
+
+    // 한 종류의 최근 이벤트 (시작할 때 RoleChangeLog 복원)
+    List<OutboxEvent> findByEventTypeAndCreatedAtAfter(String eventType, LocalDateTime after);
+
+    // 현재 마지막 이벤트 번호 (없으면 0, 노드 시작 시 내부 구독자 위치)
+    @Query("SELECT COALESCE(MAX(e.eventId), 0) FROM OutboxEvent e")
+    Long findLastEventId();
+
+    /**
+     * 정리 대상 (보존 기간이 지났고 모든 소비자에게 전달된 이벤트)
+     */
+    @Query("SELECT e.eventId FROM OutboxEvent e WHERE e.createdAt < :cutoffDate AND e.eventId <= :deliveredEventId"
+            + " ORDER BY e.createdAt")
+    List<Long> findDeliveredBefore(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                   @Param("deliveredEventId") Long deliveredEventId,
+                                   Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.eventId IN :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,28 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독자에게 전달되는 아웃박스 이벤트 (payload 는 JSON 문자열)
+ * - 최소 한 번 전달이라 구독자는 eventId 로 중복을 걸러야 함
+ */
+@Getter
+@RequiredArgsConstructor
+public class OutboxMessage {
+
+    private final Long eventId;
+    private final String aggregateType;
+    private final Long aggregateId;
+    private final String eventType;
+    private final Long userId;
+    private final String payload;
+    private final LocalDateTime createdAt;
+
+    static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getEventId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getUserId(), event.getPayload(), event.getCreatedAt());
+    }
+}
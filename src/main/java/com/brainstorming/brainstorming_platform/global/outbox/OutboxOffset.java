@@ -0,0 +1,37 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소비자별 마지막으로 전달한 event_id
+ */
+@Entity
+@NoArgsConstructor
+@Table(name = "outbox_offsets")
+@Getter
+public class OutboxOffset {
+
+    @Id
+    private String consumer;
+
+    private Long lastEventId;
+
+    private LocalDateTime updatedAt;
+
+    public OutboxOffset(String consumer, Long lastEventId, LocalDateTime updatedAt) {
+        this.consumer = consumer;
+        this.lastEventId = lastEventId;
+        this.updatedAt = updatedAt;
+    }
+
+    public void advance(Long lastEventId, LocalDateTime updatedAt) {
+        this.lastEventId = lastEventId;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffset, String> {
+}
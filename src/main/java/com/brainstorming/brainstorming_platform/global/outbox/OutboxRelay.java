@@ -0,0 +1,213 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import com.brainstorming.brainstorming_platform.global.job.JobLeaseManager;
+import com.brainstorming.brainstorming_platform.global.shard.ShardContext;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 아웃박스 이벤트를 event_id 순서대로 소비자에게 전달
+ *
+ * - 소비자: 애플리케이션 내부 구독자 (OutboxMessage 를 @EventListener 로 받음) + 등록된 OutboxSink
+ * - 내부 구독자(노드 로컬 캐시/색인)는 모든 노드에서 각자 전달, 위치도 노드 메모리에
+ *   - 시작할 때 샤드의 마지막 이벤트부터 (노드 로컬 상태는 시작할 때 DB 에서 채우므로 이전 이벤트는 필요 없음)
+ * - OutboxSink 는 리스를 얻은 한 노드만 전달, 소비자별 위치(outbox_offsets)를 전달 후에 저장
+ *   → 재시작하거나 리스가 넘어가도 이어서 전달 (최소 한 번)
+ * - 전달에 실패하면 위치를 그대로 두고 다음 주기에 같은 이벤트부터 다시 전달 (순서 유지)
+ * - 샤드를 쓰면 이벤트/전달 위치 모두 샤드별 (사용자 하나의 이벤트는 한 샤드에 있어 사용자 안의 순서는 유지)
+ *
+ * event_id 빈 번호
+ * - AUTO_INCREMENT 는 커밋 순서와 달라서, 아직 커밋되지 않은 앞 번호가 있으면 그 앞에서 멈춤
+ * - 빈 번호 다음 이벤트가 gap-timeout 보다 오래되었으면 롤백된 번호로 보고 건너뜀
+ *   - created_at 은 커밋이 아니라 INSERT 시각이라 gap-timeout 은 가장 긴 쓰기 트랜잭션보다 길게 (기본 5분)
+ *   - 건너뛴 번호는 경고 로그 + outbox.relay.skipped 로 남김
+ *
+ * 지표 (태그 consumer): outbox.relay.delivered / outbox.relay.failures / outbox.relay.skipped
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    public static final String IN_PROCESS = "in-process";
+
+    private static final String JOB = "outbox-relay";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<OutboxSink> sinks;
+    private final MeterRegistry meterRegistry;
+    // 읽기 전용이 아니라 항상 주 DB 에서 읽음 (복제 지연으로 이벤트를 건너뛰지 않도록)
+    private final TransactionTemplate transaction;
+    // 이 노드 내부 구독자의 샤드별 전달 위치
+    private final Map<Integer, Long> localOffsets = new ConcurrentHashMap<>();
+
+    @Value("${outbox.relay-enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.gap-timeout:5m}")
+    private Duration gapTimeout;
+
+    @Value("${outbox.lease:30s}")
+    private Duration lease;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxOffsetRepository outboxOffsetRepository,
+                       JobLeaseManager jobLeaseManager,
+                       ShardRouter shardRouter,
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectProvider<OutboxSink> sinks,
+                       MeterRegistry meterRegistry,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxOffsetRepository = outboxOffsetRepository;
+        this.jobLeaseManager = jobLeaseManager;
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+        this.sinks = sinks;
+        this.meterRegistry = meterRegistry;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:500}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        for (int shard : shardRouter.shards()) {
+            ShardContext.run(shard, () -> deliverInProcess(shard));
+        }
+        // 이미 내 리스면 연장됨
+        if (sinks.orderedStream().findAny().isEmpty() || !jobLeaseManager.tryAcquire(JOB, lease)) {
+            return;
+        }
+        for (int shard : shardRouter.shards()) {
+            ShardContext.run(shard, () -> sinks.orderedStream().forEach(sink -> deliver(sink.name(), sink::publish)));
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        jobLeaseManager.release(JOB);
+    }
+
+    /**
+     * 한 소비자에게 현재 샤드(ShardContext)의 다음 묶음 전달
+     *
+     * @return 전달한 개수
+     */
+    int deliver(String consumer, Consumer<List<OutboxMessage>> publisher) {
+        try {
+            long offset = transaction.execute(status -> outboxOffsetRepository.findById(consumer)
+                    .map(OutboxOffset::getLastEventId)
+                    .orElse(0L));
+            List<OutboxMessage> messages = next(consumer, offset);
+            if (messages.isEmpty()) {
+                return 0;
+            }
+
+            publisher.accept(messages);
+
+            Long lastEventId = messages.get(messages.size() - 1).getEventId();
+            transaction.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                outboxOffsetRepository.findById(consumer).ifPresentOrElse(
+                        saved -> saved.advance(lastEventId, now),
+                        () -> outboxOffsetRepository.save(new OutboxOffset(consumer, lastEventId, now)));
+            });
+            meterRegistry.counter("outbox.relay.delivered", "consumer", consumer).increment(messages.size());
+            return messages.size();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("outbox.relay.failures", "consumer", consumer).increment();
+            log.warn("아웃박스 전달 실패, 다음 주기에 재시도 - consumer={}: {}", consumer, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 이 노드의 내부 구독자에게 현재 샤드의 다음 묶음 전달 (위치는 메모리에만)
+     *
+     * @return 전달한 개수
+     */
+    int deliverInProcess(int shard) {
+        try {
+            Long offset = localOffsets.get(shard);
+            if (offset == null) {
+                localOffsets.put(shard, transaction.execute(status -> outboxEventRepository.findLastEventId()));
+                return 0;
+            }
+            List<OutboxMessage> messages = next(IN_PROCESS, offset);
+            if (messages.isEmpty()) {
+                return 0;
+            }
+
+            messages.forEach(eventPublisher::publishEvent);
+
+            localOffsets.put(shard, messages.get(messages.size() - 1).getEventId());
+            meterRegistry.counter("outbox.relay.delivered", "consumer", IN_PROCESS).increment(messages.size());
+            return messages.size();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("outbox.relay.failures", "consumer", IN_PROCESS).increment();
+            log.warn("아웃박스 내부 전달 실패, 다음 주기에 재시도 - shard={}: {}", shard, e.getMessage());
+            return 0;
+        }
+    }
+
+    private List<OutboxMessage> next(String consumer, long offset) {
+        List<OutboxEvent> events = transaction.execute(status ->
+                outboxEventRepository.findAfter(offset, Limit.of(batchSize)));
+        List<OutboxMessage> messages = deliverable(offset, events, LocalDateTime.now(), gapTimeout);
+
+        long expected = offset + 1;
+        for (OutboxMessage message : messages) {
+            if (message.getEventId() != expected) {
+                meterRegistry.counter("outbox.relay.skipped", "consumer", consumer)
+                        .increment(message.getEventId() - expected);
+                log.warn("아웃박스 빈 번호를 롤백으로 보고 건너뜀 - consumer={}, eventId={}~{}",
+                        consumer, expected, message.getEventId() - 1);
+            }
+            expected = message.getEventId() + 1;
+        }
+        return messages;
+    }
+
+    /**
+     * 전달 위치 다음부터 번호가 이어지는 이벤트 (최근 빈 번호에서 멈춤)
+     */
+    static List<OutboxMessage> deliverable(long offset, List<OutboxEvent> events,
+                                           LocalDateTime now, Duration gapTimeout) {
+        List<OutboxMessage> messages = new ArrayList<>(events.size());
+        long expected = offset + 1;
+        for (OutboxEvent event : events) {
+            if (event.getEventId() != expected && event.getCreatedAt().isAfter(now.minus(gapTimeout))) {
+                break;
+            }
+            messages.add(OutboxMessage.from(event));
+            expected = event.getEventId() + 1;
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,54 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import com.brainstorming.brainstorming_platform.global.job.RetentionTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보존 기간이 지난 아웃박스 이벤트 정리
+ * - 등록된 OutboxSink 모두에게 전달된 이벤트만 삭제 (OutboxSink 가 없으면 보존 기간만 봄)
+ * - 전달 위치가 아직 없는 OutboxSink 가 있으면 아무것도 지우지 않음
+ * - 내부 구독자 위치는 노드 메모리에만 있고 보존 기간보다 훨씬 앞서 있으므로 보지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRetentionTask implements RetentionTask {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+    private final ObjectProvider<OutboxSink> sinks;
+
+    @Value("${outbox.retention-days:7}")
+    private long retentionDays;
+
+    @Override
+    public String name() {
+        return "outbox-cleanup";
+    }
+
+    @Override
+    public int deleteChunk(int chunkSize) {
+        long delivered = sinks.orderedStream()
+                .mapToLong(sink -> outboxOffsetRepository.findById(sink.name())
+                        .map(OutboxOffset::getLastEventId)
+                        .orElse(0L))
+                .min()
+                .orElse(Long.MAX_VALUE);
+        if (delivered == 0) {
+            return 0;
+        }
+
+        List<Long> eventIds = outboxEventRepository.findDeliveredBefore(
+                LocalDateTime.now().minusDays(retentionDays), delivered, Limit.of(chunkSize));
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return outboxEventRepository.deleteByEventIds(eventIds);
+    }
+}
@@ -0,0 +1,20 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import java.util.List;
+
+/**
+ * 외부 전달 대상 (메시지 브로커 등), 빈으로 등록하면 OutboxRelay 가 전달
+ * - 소비자마다 전달 위치를 따로 저장하므로 한 대상의 장애가 다른 대상을 막지 않음
+ */
+public interface OutboxSink {
+
+    /**
+     * 전달 위치 저장 키 (outbox_offsets.consumer, 바꾸면 처음부터 다시 전달)
+     */
+    String name();
+
+    /**
+     * event_id 순서대로 전달, 예외를 던지면 같은 이벤트부터 다시 전달
+     */
+    void publish(List<OutboxMessage> messages);
+}
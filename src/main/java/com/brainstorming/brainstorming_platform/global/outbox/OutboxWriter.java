@@ -0,0 +1,42 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 아웃박스 기록
+ * - 변경과 같은 트랜잭션에서만 호출 (변경이 롤백되면 이벤트도 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    public static final String IDEA = "IDEA";
+    public static final String INQUIRY = "INQUIRY";
+    public static final String USER = "USER";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Long aggregateId, String eventType, Long userId,
+                       Map<String, Object> payload) {
+        outboxEventRepository.save(new OutboxEvent(
+                aggregateType, aggregateId, eventType, userId, toJson(payload), LocalDateTime.now()));
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package com.brainstorming.brainstorming_platform.global.security.jwt;
 
 
-import com.brainstorming.brainstorming_platform.domain.user.entity.User;
-import com.brainstorming.brainstorming_platform.domain.user.repository.UserRepository;
+import com.brainstorming.brainstorming_platform.domain.user.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,15 +17,19 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 
 /**
  * JWT 인증 필터
  * <p>
- * 모든 API 요청을 가로채서 :
+ * API 요청(/api/**)을 가로채서 :
  * 1. Authorization 헤더에서 JWT 토큰추출
- * 2. 토큰 검증
- * 3. 유효하면 spring security에 인증 정보 등록
+ * 2. 토큰 검증 (서명 검증 + 클레임 추출 한 번)
+ * 3. 유효하면 클레임으로 만든 JwtPrincipal 을 spring security에 인증 정보로 등록 (DB 조회 없음)
+ * <p>
+ * - 정적 파일 / OAuth 로그인 / 에러 페이지 등 API 밖 경로와 CORS preflight 는 처리하지 않음
+ * - 역할이 바뀐 뒤(RoleChangeLog)의 이전 토큰만 현재 사용자 정보로 다시 확인
  */
 @Slf4j
 @Component
@@ -32,8 +37,20 @@ import java.io.IOException;
 // OncePerRequestFilter = 요청당 딱 1번만 실행됨  [doFilterInternal() 메서드를 오버라이드해야 함]
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String API_PREFIX = "/api/";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final RoleChangeLog roleChangeLog;
+    private final UserService userService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(API_PREFIX);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -45,46 +62,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             //1 . Authorization 헤더에서 JWT 추출
             String token = extractToken(request);
 
-            // 2. 토큰이 있고 유효한지 확ㅇ니
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-
-                log.info("JWT 토큰 발견 및 검증 성공");
-
-                // 3. 토큰에서 userId 추출
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            // 2. 토큰이 있고 유효한지 확인
+            Optional<Claims> claims = token == null ? Optional.empty() : jwtTokenProvider.parseClaims(token);
+            if (claims.isPresent()) {
 
-                log.info("userId 추출: {}", userId);
+                // 3. 클레임으로 principal 구성
+                JwtPrincipal principal = principalOf(claims.get());
 
-                // 4. DB에서 User 조회
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+                log.debug("JWT 인증 - userId: {}, role: {}", principal.getUserId(), principal.getRole());
 
-                log.info("User 조회 성공: {}", user.getEmail());
-
-                // 5. Spring security에 인증 정보 등록
+                // 4. Spring security에 인증 정보 등록
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                user,                   //principal(주체)
-                                null,                   //credentials( 비멀번호, 필요없음)
-                                user.getAuthorities()   // 권한
+                                principal,                   //principal(주체)
+                                null,                        //credentials( 비멀번호, 필요없음)
+                                principal.getAuthorities()   // 권한
                         );
 
-                // 6. 요청 정보 추가( IP, 세션 등)
+                // 5. 요청 정보 추가( IP, 세션 등)
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                // 7. SecurityContext에 인증정보 저장
+                // 6. SecurityContext에 인증정보 저장
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                log.info("Spring Security 인증 완료");
             }
         } catch (Exception e) {
             log.error("JWT 인증 실패: {}", e.getMessage());
         }
 
-        // 8. 다음 필터로 넘어가기
+        // 7. 다음 필터로 넘어가기
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 클레임 → principal
+     * - 역할 변경 전에 발급된 토큰이면 현재 사용자 정보로 (프라이머리 조회, 없으면 예외 → 인증 안 함)
+     */
+    private JwtPrincipal principalOf(Claims claims) {
+        JwtPrincipal principal = JwtPrincipal.from(claims);
+        if (roleChangeLog.isStale(principal.getUserId(), claims.getIssuedAt())) {
+            log.info("역할 변경 / 탈퇴 전 토큰, 현재 사용자로 인증 - userId: {}", principal.getUserId());
+            return JwtPrincipal.from(userService.findCurrent(principal.getUserId()));
+        }
+        return principal;
+    }
 
     /**
      * HTTP 요청 헤더에서 JWT 토큰 추출 (Bearer 제거)
@@ -93,9 +113,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Authorization 헤더 가져오기
         String bearerToken = request.getHeader("Authorization");
 
-        log.info("Authorization 헤더: {}",
-                bearerToken != null ? bearerToken.substring(0, Math.min(20, bearerToken.length())) + "..." : "없음");
-
         //"Bearer" 로 시작하는지 확인
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             //"Bearer" 제거하고 토큰만 반환
@@ -0,0 +1,46 @@
+package com.brainstorming.brainstorming_platform.global.security.jwt;
+
+import com.brainstorming.brainstorming_platform.domain.user.entity.MyRole;
+import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * JWT 로 인증된 사용자 (SecurityContext 의 principal)
+ *
+ * - 검증된 토큰 클레임(sub, role, email)만으로 만듦 → 인증에 DB 조회 없음
+ * - 이름 / 가입일 등 전체 User 가 필요하면 UserService#findById (2차 캐시)
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtPrincipal {
+
+    private final Long userId;
+    private final MyRole role;
+    private final String email;
+
+    public static JwtPrincipal from(Claims claims) {
+        return new JwtPrincipal(
+                Long.valueOf(claims.getSubject()),
+                MyRole.valueOf(claims.get("role", String.class)),
+                claims.get("email", String.class)
+        );
+    }
+
+    public static JwtPrincipal from(User user) {
+        return new JwtPrincipal(user.getUserId(), user.getRole(), user.getEmail());
+    }
+
+    /**
+     * Spring Security가 권한을 확인할 때 사용 (User#getAuthorities 와 같은 형식)
+     */
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
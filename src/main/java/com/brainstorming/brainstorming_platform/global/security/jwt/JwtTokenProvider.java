@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증 담당
@@ -56,6 +57,7 @@ public class JwtTokenProvider {
                 // Payload  설정
                 .subject(String.valueOf(user.getUserId())) // "sub": "1"
                 .claim("role", user.getRole().name())      // "role": "ADMIN" ← 추가!
+                .claim("email", user.getEmail())           // "email": 인증 시 DB 조회 없이 principal 구성
                 .issuedAt(now)                             // "iat": 현재시간
                 .expiration(expiration)                    // "exp": 만료시간
 
@@ -70,48 +72,58 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    /**
+     * 토큰 검증 + Claims 추출 (서명 검증은 한 번)
+     * - 요청마다 호출되므로 성공 로그는 debug
+     * @return 유효하지 않으면 empty
+     */
+    public Optional<Claims> parseClaims(String token) {
 
         try {
-            log.info(" JWT 토큰 검증 시작");
+            log.debug(" JWT 토큰 검증 시작");
 
             //토큰 파싱 & 검증
-            Jwts.parser()
+            Claims claims = Jwts.parser()
                     .verifyWith(getSignKey())
                     .build()
-                    .parseSignedClaims(token);
+                    .parseSignedClaims(token)
+                    .getPayload();
 
-            log.info(" JWT 토큰 검증 성공");
-            return true;
+            log.debug(" JWT 토큰 검증 성공");
+            return Optional.of(claims);
 
         } catch (ExpiredJwtException e) {
             //만료된 토큰
             log.error("만료된 JWT 토큰 : {}", e.getMessage());
-            return false;
+            return Optional.empty();
 
         } catch (UnsupportedJwtException e) {
             //지원하지 않는 토큰
             log.error("지원하지 않는 JWT 토큰: {}", e.getMessage());
-            return false;
+            return Optional.empty();
 
         } catch (MalformedJwtException e) {
             // 형식이 잘못된 토큰
             log.error("잘못된 JWT 토큰: {}", e.getMessage());
-            return false;
+            return Optional.empty();
 
         } catch (SecurityException e) {
             // 잘못된 서명 토큰
             log.error("서명이 잘못된 JWT 토큰: {}", e.getMessage());
-            return false;
+            return Optional.empty();
 
         } catch (IllegalArgumentException e) {
             //빈토큰
             log.error("빈 JWT 토큰: {}", e.getMessage());
-            return false;
+            return Optional.empty();
 
         } catch (Exception e) {
             // 기타 예외
             log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -0,0 +1,104 @@
+package com.brainstorming.brainstorming_platform.global.security.jwt;
+
+import com.brainstorming.brainstorming_platform.domain.user.event.UserDeletedEvent;
+import com.brainstorming.brainstorming_platform.domain.user.event.UserOutboxListener;
+import com.brainstorming.brainstorming_platform.domain.user.event.UserRoleChangedEvent;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 마지막 역할 변경 / 탈퇴 시각 (노드마다 메모리에)
+ *
+ * - 그 전에 발급된 토큰은 role 클레임 대신 DB(프라이머리)의 현재 사용자로 인증 (JwtAuthenticationFilter)
+ *   → 탈퇴한 사용자는 조회에 실패해 인증되지 않음
+ * - 변경한 노드는 커밋 직후, 다른 노드는 아웃박스 이벤트(USER_ROLE_CHANGED / USER_DELETED)를 받았을 때 기록
+ *   → 다른 노드는 아웃박스 전달 주기(outbox.relay-interval-ms)만큼 늦게 반영
+ *   - 받은 시각으로 기록하므로 그 전에 발급된 토큰은 모두 DB 에서 한 번 더 확인
+ * - 시작할 때 토큰 만료 시간 안의 기록을 DB 에서 다시 읽음 (RoleChangeLogLoader)
+ * - 토큰 만료 시간이 지난 기록만 버림
+ *   - 만료 전 기록이 max-entries 를 넘으면 기록을 비우고, 그때까지 발급된 모든 토큰을 DB 에서 확인 (버린 기록으로 이전 역할이 통하지 않게)
+ */
+@Slf4j
+@Component
+public class RoleChangeLog {
+
+    private final JwtProperties jwtProperties;
+    private final int maxEntries;
+
+    private final Map<Long, Long> changedAt = new HashMap<>();
+
+    // 기록이 넘쳐 비운 시각 (이 시각 이전에 발급된 토큰은 모두 DB 에서 확인, changedAt 락 안에서만)
+    private long overflowedAt;
+
+    public RoleChangeLog(JwtProperties jwtProperties,
+                         @Value("${jwt.role-change.max-entries:10000}") int maxEntries) {
+        this.jwtProperties = jwtProperties;
+        this.maxEntries = maxEntries;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(UserRoleChangedEvent event) {
+        record(event.getUserId(), System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(UserDeletedEvent event) {
+        record(event.getUserId(), System.currentTimeMillis());
+    }
+
+    /**
+     * 아웃박스로 받은 역할 변경 / 탈퇴 (다른 노드에서 일어난 것 포함, 같은 노드면 한 번 더 기록될 뿐)
+     */
+    @EventListener
+    public void onOutbox(OutboxMessage message) {
+        if (UserOutboxListener.revokesTokens(message)) {
+            record(message.getAggregateId(), System.currentTimeMillis());
+        }
+    }
+
+    void record(Long userId, long changedAtMillis) {
+        synchronized (changedAt) {
+            changedAt.merge(userId, changedAtMillis, Math::max);
+            if (changedAt.size() <= maxEntries) {
+                return;
+            }
+
+            long horizon = System.currentTimeMillis() - jwtProperties.getExpiration();
+            changedAt.values().removeIf(changed -> changed < horizon);
+            if (changedAt.size() > maxEntries) {
+                overflowedAt = Math.max(overflowedAt, Collections.max(changedAt.values()));
+                changedAt.clear();
+                log.warn("역할 변경 기록이 {}개를 넘어 비움 - 그 전에 발급된 토큰은 만료될 때까지 DB 에서 확인", maxEntries);
+            }
+        }
+    }
+
+    /**
+     * issuedAt 에 발급된 토큰이 역할 변경 / 탈퇴 전 토큰인지
+     * - iat 는 초 단위라 같은 초에 발급된 토큰도 변경 전으로 봄 (DB 에서 한 번 더 확인할 뿐)
+     */
+    public boolean isStale(Long userId, Date issuedAt) {
+        long horizon = System.currentTimeMillis() - jwtProperties.getExpiration();
+        Long changed;
+        synchronized (changedAt) {
+            changed = changedAt.get(userId);
+            if (changed != null && changed < horizon) {
+                changedAt.remove(userId);
+                changed = null;
+            }
+            if (overflowedAt >= horizon) {
+                changed = changed == null ? overflowedAt : Math.max(changed, overflowedAt);
+            }
+        }
+        return changed != null && (issuedAt == null || issuedAt.getTime() <= changed);
+    }
+}
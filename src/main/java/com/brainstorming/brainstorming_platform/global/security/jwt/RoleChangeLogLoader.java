@@ -0,0 +1,60 @@
+package com.brainstorming.brainstorming_platform.global.security.jwt;
+
+import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import com.brainstorming.brainstorming_platform.domain.user.event.UserOutboxListener;
+import com.brainstorming.brainstorming_platform.domain.user.repository.UserRepository;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxEvent;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 시작할 때 RoleChangeLog 복원 (웹 서버가 요청을 받기 전)
+ *
+ * - 역할 변경: users.role_changed_at 이 토큰 만료 시간 안인 사용자
+ * - 탈퇴: 행이 없으므로 아웃박스의 USER_DELETED 이벤트
+ *   (outbox.retention-days 가 jwt.expiration 보다 길어야 함, 기본 7일 / 2시간)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleChangeLogLoader implements SmartInitializingSingleton {
+
+    private final RoleChangeLog roleChangeLog;
+    private final UserRepository userRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final JwtProperties jwtProperties;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * @return 복원한 기록 수
+     */
+    public int load() {
+        LocalDateTime after = LocalDateTime.now().minus(jwtProperties.getExpiration(), ChronoUnit.MILLIS);
+        int loaded = 0;
+        for (User user : userRepository.findByRoleChangedAtAfter(after)) {
+            roleChangeLog.record(user.getUserId(), toMillis(user.getRoleChangedAt()));
+            loaded++;
+        }
+        for (OutboxEvent event : outboxEventRepository.findByEventTypeAndCreatedAtAfter(UserOutboxListener.USER_DELETED, after)) {
+            roleChangeLog.record(event.getAggregateId(), toMillis(event.getCreatedAt()));
+            loaded++;
+        }
+        log.info("역할 변경 / 탈퇴 기록 복원 - {}건", loaded);
+        return loaded;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
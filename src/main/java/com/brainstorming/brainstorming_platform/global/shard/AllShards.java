@@ -0,0 +1,15 @@
+package com.brainstorming.brainstorming_platform.global.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 모든 샤드에 병렬로 실행해 결과를 합치는 조회 (관리/배치용 전체 조회)
+ * - List 는 샤드 순서대로 이어 붙이고, 개수(long/int)는 더함
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AllShards {
+}
@@ -0,0 +1,50 @@
+package com.brainstorming.brainstorming_platform.global.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 쓸 샤드 번호 (ShardRoutingDataSource 가 커넥션을 고를 때 사용)
+ *
+ * - 지정하지 않으면 홈 샤드(0) - users / inquiries / 리스 등 샤딩하지 않는 테이블이 있는 곳
+ * - 직접 지정한 샤드는 리포지토리 라우팅(ShardRoutingInterceptor)보다 우선
+ * - 트랜잭션은 첫 SQL 에서 커넥션을 가져오므로, 트랜잭션 안에서 바꾸면 이후 SQL 에는 반영되지 않음
+ */
+public final class ShardContext {
+
+    public static final int HOME = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? HOME : shard;
+    }
+
+    public static boolean isSet() {
+        return CURRENT.get() != null;
+    }
+
+    public static <T> T call(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(int shard, Runnable action) {
+        call(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.brainstorming.brainstorming_platform.global.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.List;
+
+/**
+ * 샤드별 커넥션 풀 (순서 = 샤드 번호)
+ * - 풀은 빈으로 등록하지 않음 (DataSource 빈은 라우팅 프록시 하나)
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<HikariDataSource> shards;
+
+    public ShardDataSources(List<HikariDataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    public HikariDataSource get(int shard) {
+        return shards.get(shard);
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+}
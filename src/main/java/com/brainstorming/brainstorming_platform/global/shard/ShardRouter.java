@@ -0,0 +1,163 @@
+package com.brainstorming.brainstorming_platform.global.shard;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * 사용자 → 샤드 배치 (datasource.shards.*)
+ *
+ * - 샤드 0 은 spring.datasource, 1.. 은 datasource.shards.urls 순서 (설정이 없으면 샤드 0 하나)
+ * - 사용자는 jump consistent hash 로 배치 → 샤드를 N → N+1 로 늘려도 약 1/(N+1) 사용자만 이동
+ * - 게스트 아이디어(userId 없음)는 guest-shard 에 둠
+ * - 리샤딩 중(previous-count 지정)에는 이전 배치도 함께 읽고, 쓰기는 새 배치로 (IdeaReshardTask 가 이동)
+ * - 아이디어 ID 는 샤드마다 ID_RANGE 단위로 구간을 나눠 발급 → ID 로 만든 샤드를 먼저 찾음
+ */
+@Component
+public class ShardRouter {
+
+    public static final long ID_RANGE = 1L << 40;
+
+    private final int physicalCount;
+    private final int count;
+    private final int previousCount;
+    private final int guestShard;
+    private final ExecutorService executor;
+
+    public ShardRouter(@Value("${datasource.shards.urls:}") List<String> urls,
+                       @Value("${datasource.shards.count:0}") int count,
+                       @Value("${datasource.shards.previous-count:0}") int previousCount,
+                       @Value("${datasource.shards.guest-shard:0}") int guestShard) {
+        this.physicalCount = urls.size() + 1;
+        this.count = count > 0 ? count : physicalCount;
+        this.previousCount = previousCount > 0 ? previousCount : this.count;
+        this.guestShard = guestShard;
+        if (this.count > physicalCount || this.previousCount > physicalCount || guestShard >= physicalCount) {
+            throw new IllegalArgumentException("샤드 설정이 DataSource 개수(" + physicalCount + ")보다 큽니다.");
+        }
+        this.executor = physicalCount == 1 ? null : Executors.newFixedThreadPool(physicalCount, runnable -> {
+            Thread thread = new Thread(runnable, "shard-gather");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean enabled() {
+        return physicalCount > 1;
+    }
+
+    public boolean resharding() {
+        return previousCount != count;
+    }
+
+    /**
+     * DataSource 가 있는 모든 샤드 번호
+     */
+    public List<Integer> shards() {
+        return IntStream.range(0, physicalCount).boxed().toList();
+    }
+
+    public int guestShard() {
+        return guestShard;
+    }
+
+    public int shardOf(Long userId) {
+        return userId == null ? guestShard : jumpHash(userId, count);
+    }
+
+    public int previousShardOf(Long userId) {
+        return userId == null ? guestShard : jumpHash(userId, previousCount);
+    }
+
+    /**
+     * 아이디어를 만든 샤드 (리샤딩으로 옮겨졌으면 다른 샤드에 있을 수 있음)
+     */
+    public int shardOfId(Long ideaId) {
+        return (int) Math.min(Math.max(ideaId / ID_RANGE, 0), physicalCount - 1);
+    }
+
+    /**
+     * 아이디어를 찾을 샤드 순서 (만든 샤드 먼저)
+     */
+    public List<Integer> candidates(Long ideaId) {
+        int first = shardOfId(ideaId);
+        List<Integer> shards = new ArrayList<>(physicalCount);
+        shards.add(first);
+        for (int shard = 0; shard < physicalCount; shard++) {
+            if (shard != first) {
+                shards.add(shard);
+            }
+        }
+        return shards;
+    }
+
+    public <T> T callOn(int shard, Supplier<T> action) {
+        return ShardContext.call(shard, action);
+    }
+
+    /**
+     * ID 로 만든 샤드부터 찾아 처음 나온 결과
+     */
+    public <T> Optional<T> findFirst(Long ideaId, Supplier<Optional<T>> query) {
+        for (int shard : candidates(ideaId)) {
+            Optional<T> found = callOn(shard, query);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 모든 샤드에 병렬 실행 (결과는 샤드 순서)
+     */
+    public <T> List<T> gather(IntFunction<T> query) {
+        if (!enabled()) {
+            return Collections.singletonList(callOn(ShardContext.HOME, () -> query.apply(ShardContext.HOME)));
+        }
+        List<CompletableFuture<T>> futures = shards().stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> callOn(shard, () -> query.apply(shard)), executor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Jump consistent hash (Lamping, Veach) - 버킷이 늘면 새 버킷으로만 이동
+     */
+    static int jumpHash(long key, int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+}
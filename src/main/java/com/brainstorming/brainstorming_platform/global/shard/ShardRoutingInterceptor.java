@@ -0,0 +1,220 @@
+package com.brainstorming.brainstorming_platform.global.shard;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ShardedByUser 리포지토리 메서드를 샤드로 라우팅
+ *
+ * - userId → 그 사용자의 샤드, userIds → 샤드별로 나눠 실행 후 합침, guestSessionId → 게스트 샤드
+ * - @AllShards → 모든 샤드에 병렬 실행 후 합침
+ * - ShardContext 를 직접 지정했으면 (샤드별 배치, 리샤딩) 그대로 둠
+ * - 리샤딩 중 조회는 이전 샤드도 함께 읽음 (호출 쪽 트랜잭션이 없을 때만 - 트랜잭션 안에서는 커넥션이 하나)
+ * - 호출 쪽 트랜잭션이 없으면 호출마다 트랜잭션으로 감쌈
+ *   (OSIV 세션이 트랜잭션 밖에서 가져온 커넥션을 요청 끝까지 잡고 있으면 다음 호출이 다른 샤드로 가지 못함)
+ *   - 리포지토리 메서드의 @Transactional(readOnly) 를 그대로 따름 → 조회는 레플리카로 갈 수 있음
+ */
+public class ShardRoutingInterceptor implements MethodInterceptor {
+
+    private enum KeyType { NONE, USER, USERS, GUEST, ALL }
+
+    private record Key(KeyType type, int index) {
+    }
+
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionAttributeSource transactionAttributes = new AnnotationTransactionAttributeSource();
+    private final Map<Method, Key> keys = new ConcurrentHashMap<>();
+    private final Map<Method, Boolean> readOnly = new ConcurrentHashMap<>();
+
+    public ShardRoutingInterceptor(ShardRouter shardRouter, PlatformTransactionManager transactionManager) {
+        this.shardRouter = shardRouter;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!shardRouter.enabled()) {
+            return invocation.proceed();
+        }
+        if (ShardContext.isSet()) {
+            return proceed(invocation, invocation.getArguments());
+        }
+        Method method = invocation.getMethod();
+        Key key = keys.computeIfAbsent(method, ShardRoutingInterceptor::keyOf);
+        Object[] arguments = invocation.getArguments();
+
+        switch (key.type()) {
+            case ALL:
+                return merge(method, shardRouter.gather(shard -> wrap(proceed(invocation, arguments))));
+            case GUEST:
+                return shardRouter.callOn(shardRouter.guestShard(), () -> proceed(invocation, arguments));
+            case USER:
+                return invokeForUser(invocation, method, (Long) arguments[key.index()]);
+            case USERS:
+                return invokeForUsers(invocation, method, key.index(), (Collection<?>) arguments[key.index()]);
+            default:
+                return proceed(invocation, arguments);
+        }
+    }
+
+    private Object invokeForUser(MethodInvocation invocation, Method method, Long userId) {
+        Object[] arguments = invocation.getArguments();
+        int shard = shardRouter.shardOf(userId);
+        int previous = shardRouter.previousShardOf(userId);
+        Object result = shardRouter.callOn(shard, () -> proceed(invocation, arguments));
+        if (previous == shard || !dualRead(method)) {
+            return result;
+        }
+        Object old = shardRouter.callOn(previous, () -> proceed(invocation, arguments));
+        return merge(method, List.of(wrap(old), wrap(result)));
+    }
+
+    private Object invokeForUsers(MethodInvocation invocation, Method method, int index, Collection<?> userIds) {
+        boolean dualRead = dualRead(method);
+        Map<Integer, List<Object>> byShard = new LinkedHashMap<>();
+        for (Object userId : userIds) {
+            Long id = (Long) userId;
+            byShard.computeIfAbsent(shardRouter.shardOf(id), shard -> new ArrayList<>()).add(id);
+            int previous = shardRouter.previousShardOf(id);
+            if (dualRead && previous != shardRouter.shardOf(id)) {
+                byShard.computeIfAbsent(previous, shard -> new ArrayList<>()).add(id);
+            }
+        }
+        List<Object> results = new ArrayList<>(byShard.size());
+        byShard.forEach((shard, ids) -> {
+            Object[] arguments = invocation.getArguments().clone();
+            arguments[index] = ids;
+            results.add(wrap(shardRouter.callOn(shard, () -> proceed(invocation, arguments))));
+        });
+        return merge(method, results);
+    }
+
+    /**
+     * 리샤딩 중 이전 샤드까지 읽을 조회 (목록 / 단건 / 개수)
+     */
+    private boolean dualRead(Method method) {
+        if (!shardRouter.resharding() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        Class<?> type = method.getReturnType();
+        return List.class.isAssignableFrom(type) || Optional.class.equals(type)
+                || (method.getName().startsWith("count") && (type == long.class || type == Long.class));
+    }
+
+    private Object proceed(MethodInvocation invocation, Object[] arguments) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return proceedDirectly(invocation, arguments);
+        }
+        TransactionTemplate template = isReadOnly(invocation) ? readOnlyTransaction : transaction;
+        return template.execute(status -> proceedDirectly(invocation, arguments));
+    }
+
+    /**
+     * 리포지토리가 선언한 트랜잭션 속성이 readOnly 인지
+     * (메서드 → 리포지토리 인터페이스 → SimpleJpaRepository 순, Spring Data 와 같은 규칙)
+     */
+    private boolean isReadOnly(MethodInvocation invocation) {
+        return readOnly.computeIfAbsent(invocation.getMethod(), method -> {
+            Class<?> targetClass = invocation.getThis() == null ? null : AopUtils.getTargetClass(invocation.getThis());
+            TransactionAttribute attribute = transactionAttributes.getTransactionAttribute(method, targetClass);
+            return attribute != null && attribute.isReadOnly();
+        });
+    }
+
+    private static Object proceedDirectly(MethodInvocation invocation, Object[] arguments) {
+        try {
+            return ((ProxyMethodInvocation) invocation).invocableClone(arguments).proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // null 도 결과 목록에 넣을 수 있도록 (List.of 는 null 불가)
+    private static Object wrap(Object result) {
+        return result == null ? Optional.empty() : result;
+    }
+
+    private static Object merge(Method method, List<?> results) {
+        Class<?> type = method.getReturnType();
+        if (results.size() == 1) {
+            Object only = results.get(0);
+            return type != Optional.class && only instanceof Optional<?> empty && empty.isEmpty() ? null : only;
+        }
+        if (List.class.isAssignableFrom(type) || Collection.class.equals(type)) {
+            List<Object> merged = new ArrayList<>();
+            results.forEach(result -> {
+                if (result instanceof Collection<?> collection) {
+                    merged.addAll(collection);
+                }
+            });
+            return merged;
+        }
+        if (type == long.class || type == Long.class) {
+            return results.stream().filter(Number.class::isInstance).mapToLong(r -> ((Number) r).longValue()).sum();
+        }
+        if (type == int.class || type == Integer.class) {
+            return results.stream().filter(Number.class::isInstance).mapToInt(r -> ((Number) r).intValue()).sum();
+        }
+        if (type == Optional.class) {
+            return results.stream()
+                    .map(result -> (Optional<?>) result)
+                    .filter(Optional::isPresent)
+                    .findFirst()
+                    .orElse(Optional.empty());
+        }
+        throw new IllegalStateException("여러 샤드의 결과를 합칠 수 없는 반환 타입: " + method);
+    }
+
+    private static Key keyOf(Method method) {
+        if (method.isAnnotationPresent(AllShards.class)) {
+            return new Key(KeyType.ALL, -1);
+        }
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            String name = nameOf(parameters[i]);
+            if ("userId".equals(name) && parameters[i].getType() == Long.class) {
+                return new Key(KeyType.USER, i);
+            }
+            if ("userIds".equals(name) && Collection.class.isAssignableFrom(parameters[i].getType())) {
+                return new Key(KeyType.USERS, i);
+            }
+            if ("guestSessionId".equals(name)) {
+                return new Key(KeyType.GUEST, i);
+            }
+        }
+        return new Key(KeyType.NONE, -1);
+    }
+
+    private static String nameOf(Parameter parameter) {
+        Param param = parameter.getAnnotation(Param.class);
+        if (param != null) {
+            return param.value();
+        }
+        return parameter.isNamePresent() ? parameter.getName() : null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.brainstorming.brainstorming_platform.global.shard;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * @ShardedByUser 리포지토리 프록시 맨 앞에 ShardRoutingInterceptor 추가
+ * - 리포지토리 트랜잭션보다 먼저 샤드를 정해야 해서 가장 바깥에 둠
+ */
+@Component
+public class ShardRoutingRepositoryPostProcessor implements BeanPostProcessor {
+
+    // BeanPostProcessor 는 일찍 만들어지므로 의존 빈은 리포지토리를 만들 때 가져옴
+    private final ObjectProvider<ShardRouter> shardRouter;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    public ShardRoutingRepositoryPostProcessor(ObjectProvider<ShardRouter> shardRouter,
+                                               ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.shardRouter = shardRouter;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean
+                && factoryBean.getObjectType() != null
+                && factoryBean.getObjectType().isAnnotationPresent(ShardedByUser.class)) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(0, new ShardRoutingInterceptor(
+                                    shardRouter.getObject(), transactionManager.getObject()))));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,16 @@
+package com.brainstorming.brainstorming_platform.global.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자별로 샤딩된 테이블의 리포지토리
+ * - userId / userIds / guestSessionId 파라미터가 있는 메서드는 해당 샤드로 라우팅 (ShardRoutingInterceptor)
+ * - 그 외 메서드는 현재 샤드(ShardContext)에서 실행
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardedByUser {
+}
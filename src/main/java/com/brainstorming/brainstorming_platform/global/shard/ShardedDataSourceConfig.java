@@ -0,0 +1,120 @@
+package com.brainstorming.brainstorming_platform.global.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 샤딩 (datasource.shards.urls 가 있을 때만, 없으면 기본 단일 DataSource)
+ *
+ * - 샤드 0 은 spring.datasource.* (users / inquiries 등 샤딩하지 않는 테이블도 여기), 1.. 은 URL 목록 + 같은 계정
+ * - 모든 샤드가 같은 스키마 - 샤드 0 은 Flyway 자동 설정, 나머지는 여기서 같은 마이그레이션 적용
+ * - 샤드마다 ideas AUTO_INCREMENT 시작 값을 ShardRouter.ID_RANGE 구간으로 나눠 아이디어 ID 가 겹치지 않게 함
+ * - 읽기 레플리카 라우팅(datasource.replica.urls)과 함께 쓸 수 없음
+ * - 풀 지표: hikaricp.*{pool=shard-N}
+ */
+@Configuration
+@ConditionalOnProperty("datasource.shards.urls")
+public class ShardedDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<JavaMigration> javaMigrations,
+            @Value("${datasource.shards.urls}") List<String> shardUrls,
+            @Value("${datasource.shards.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.shards.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.shards.maximum-pool-size:10}") int poolSize,
+            @Value("${datasource.replica.urls:}") String replicaUrls,
+            @Value("${spring.flyway.baseline-on-migrate:false}") boolean baselineOnMigrate) {
+        if (!replicaUrls.isBlank()) {
+            throw new IllegalStateException("datasource.shards.urls 와 datasource.replica.urls 는 함께 쓸 수 없습니다.");
+        }
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        List<HikariDataSource> shards = new ArrayList<>();
+        HikariDataSource home = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        home.setPoolName("shard-0");
+        home.setMetricsTrackerFactory(metrics);
+        shards.add(home);
+
+        JavaMigration[] migrations = javaMigrations.orderedStream().toArray(JavaMigration[]::new);
+        for (int i = 0; i < shardUrls.size(); i++) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setPoolName("shard-" + (i + 1));
+            shard.setJdbcUrl(shardUrls.get(i).trim());
+            shard.setUsername(username);
+            shard.setPassword(password);
+            shard.setMaximumPoolSize(poolSize);
+            shard.setMetricsTrackerFactory(metrics);
+
+            Flyway.configure()
+                    .dataSource(shard)
+                    .javaMigrations(migrations)
+                    .baselineOnMigrate(baselineOnMigrate)
+                    .load()
+                    .migrate();
+            reserveIdRange(shard, (i + 1) * ShardRouter.ID_RANGE);
+            shards.add(shard);
+        }
+        return new ShardDataSources(shards);
+    }
+
+    /**
+     * 애플리케이션이 쓰는 유일한 DataSource 빈 (JPA / Flyway / JdbcTemplate 모두 이걸 사용)
+     * - 커넥션을 첫 SQL 시점에 가져와야 그 전에 정한 샤드(ShardContext)로 연결됨
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            targets.put(shard, shardDataSources.get(shard));
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(shardDataSources.get(ShardContext.HOME));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 이 샤드에서 발급할 아이디어 ID 를 start 이상으로 (이미 그 구간이면 그대로)
+     */
+    private static void reserveIdRange(DataSource shard, long start) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shard);
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(idea_id), 0) FROM ideas", Long.class);
+        if (max != null && max >= start) {
+            return;
+        }
+        String product;
+        try (Connection connection = shard.getConnection()) {
+            product = connection.getMetaData().getDatabaseProductName();
+        } catch (SQLException e) {
+            throw new IllegalStateException("샤드 DB 종류를 확인할 수 없습니다.", e);
+        }
+        jdbcTemplate.execute("MySQL".equalsIgnoreCase(product)
+                ? "ALTER TABLE ideas AUTO_INCREMENT = " + start
+                : "ALTER TABLE ideas ALTER COLUMN idea_id RESTART WITH " + start);
+    }
+}
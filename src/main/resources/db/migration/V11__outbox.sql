@@ -0,0 +1,22 @@
+-- 트랜잭션 아웃박스 (변경과 같은 트랜잭션에서 기록, OutboxRelay 가 event_id 순서로 전달)
+CREATE TABLE outbox_events (
+    event_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(32)  NOT NULL,
+    aggregate_id   BIGINT       NOT NULL,
+    event_type     VARCHAR(64)  NOT NULL,
+    user_id        BIGINT,
+    payload        TEXT         NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (event_id)
+);
+
+-- 보존 기간 정리 (OutboxRetentionTask)
+CREATE INDEX idx_outbox_events_created ON outbox_events (created_at);
+
+-- 소비자별 전달 위치 (재시작 후 이어서 전달)
+CREATE TABLE outbox_offsets (
+    consumer      VARCHAR(64)  NOT NULL,
+    last_event_id BIGINT       NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (consumer)
+);
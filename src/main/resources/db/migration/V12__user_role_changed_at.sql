@@ -0,0 +1,4 @@
+-- 마지막 역할 변경 시각 (RoleChangeLog 가 시작할 때 토큰 만료 시간 안의 변경을 다시 읽음)
+ALTER TABLE users ADD COLUMN role_changed_at DATETIME(6);
+
+CREATE INDEX idx_users_role_changed ON users (role_changed_at);
@@ -0,0 +1,43 @@
+-- 기존 Hibernate auto-DDL(MySQL) 이 만들던 스키마
+-- 이미 테이블이 있는 DB 는 spring.flyway.baseline-on-migrate=true 로 이 버전을 건너뜀
+
+CREATE TABLE users (
+    user_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    email       VARCHAR(255),
+    username    VARCHAR(255),
+    provider    ENUM ('GOOGLE', 'KAKAO', 'NAVER', 'LOCAL'),
+    provider_id VARCHAR(255),
+    role        ENUM ('ADMIN', 'USER'),
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE inquiries (
+    inquiry_id BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    user_id    BIGINT,
+    title      VARCHAR(255),
+    content    VARCHAR(255),
+    status     ENUM ('PENDING', 'ANSWERED', 'CLOSED'),
+    reply      VARCHAR(255),
+    PRIMARY KEY (inquiry_id)
+);
+
+CREATE TABLE ideas (
+    idea_id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    user_id          BIGINT,
+    title            VARCHAR(255),
+    content          TEXT,
+    purpose          VARCHAR(255),
+    guest_session_id VARCHAR(255),
+    description      TEXT,
+    analysis         TEXT,
+    PRIMARY KEY (idea_id)
+);
+
+-- 엔티티(@Index)로 이미 만들어지던 인덱스
+CREATE INDEX idx_ideas_user_created ON ideas (user_id, created_at, idea_id);
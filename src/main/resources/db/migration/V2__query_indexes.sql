@@ -0,0 +1,19 @@
+-- 리포지토리 쿼리별 인덱스 (QueryPlanTest 가 EXPLAIN 으로 검증)
+
+-- findByUserId / countByUserId / keyset 페이지 / deleteOldGuestIdeas (user_id IS NULL, created_at < ?)
+-- 는 V1 의 idx_ideas_user_created 사용
+
+-- findByGuestSessionId / findGuestSessionIds
+CREATE INDEX idx_ideas_guest_session ON ideas (guest_session_id);
+
+-- findByUserId / findByUserIdAndStatus
+CREATE INDEX idx_inquiries_user_status ON inquiries (user_id, status);
+
+-- findByStatus (관리자 목록)
+CREATE INDEX idx_inquiries_status ON inquiries (status);
+
+-- findByEmail / existsByEmail (제공자가 달라 같은 이메일이 있을 수 있어 UNIQUE 아님)
+CREATE INDEX idx_users_email ON users (email);
+
+-- findByProviderAndProviderId, 같은 소셜 계정으로 중복 가입 방지
+CREATE UNIQUE INDEX uk_users_provider ON users (provider, provider_id);
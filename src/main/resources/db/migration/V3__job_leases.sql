@@ -0,0 +1,8 @@
+-- 여러 노드 중 한 곳에서만 배치 작업을 실행하기 위한 리스 (JobLeaseManager)
+CREATE TABLE job_leases (
+    job_name     VARCHAR(100) NOT NULL,
+    owner        VARCHAR(255),
+    locked_at    DATETIME(6),
+    locked_until DATETIME(6)  NOT NULL,
+    PRIMARY KEY (job_name)
+);
@@ -0,0 +1,6 @@
+-- 사용자별 아이디어 개수 (COUNT(*) 대신 PK 조회, IdeaCounterService)
+CREATE TABLE idea_counters (
+    user_id    BIGINT NOT NULL,
+    idea_count BIGINT NOT NULL,
+    PRIMARY KEY (user_id)
+);
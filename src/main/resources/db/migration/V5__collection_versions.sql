@@ -0,0 +1,7 @@
+-- 사용자별 목록 버전 (목록 ETag, CollectionVersionService)
+CREATE TABLE collection_versions (
+    user_id         BIGINT      NOT NULL,
+    collection_name VARCHAR(32) NOT NULL,
+    version         BIGINT      NOT NULL,
+    PRIMARY KEY (user_id, collection_name)
+);
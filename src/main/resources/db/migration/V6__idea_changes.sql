@@ -0,0 +1,16 @@
+-- 변경분 동기화 (GET /api/ideas/changes, IdeaChangeFeed)
+
+-- 사용자별 updated_at 이후 변경 아이디어
+CREATE INDEX idx_ideas_user_updated ON ideas (user_id, updated_at);
+
+-- 삭제 기록 (tombstone), 보존 기간이 지나면 IdeaDeletionRetentionTask 가 삭제
+CREATE TABLE idea_deletions (
+    deletion_id BIGINT      NOT NULL AUTO_INCREMENT,
+    idea_id     BIGINT      NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    deleted_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (deletion_id)
+);
+
+CREATE INDEX idx_idea_deletions_user ON idea_deletions (user_id, deleted_at);
+CREATE INDEX idx_idea_deletions_deleted_at ON idea_deletions (deleted_at);
@@ -0,0 +1,6 @@
+-- 긴 텍스트 컬럼을 바이너리로 (CompressedTextConverter 가 압축 형식으로 저장)
+-- - 기존 utf8mb4 값은 바이트 그대로 옮겨지고, 헤더가 없는 일반 형식으로 그대로 읽힘
+-- - 기존 행 압축은 IdeaContentCompressionTask 가 청크 단위로 (idea.compression.backfill-enabled)
+ALTER TABLE ideas MODIFY content MEDIUMBLOB;
+ALTER TABLE ideas MODIFY description MEDIUMBLOB;
+ALTER TABLE ideas MODIFY analysis MEDIUMBLOB;
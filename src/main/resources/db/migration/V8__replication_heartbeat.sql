@@ -0,0 +1,6 @@
+-- 복제 지연 측정용 (ReplicaLagProbe 가 프라이머리에 기록하고 레플리카에서 읽음)
+CREATE TABLE replication_heartbeat (
+    id      INT         NOT NULL,
+    beat_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,21 @@
+-- 오래된 아이디어 보관 테이블 (IdeaArchiveTask 가 ideas 에서 옮김, IdeaService 가 함께 조회)
+-- 텍스트 컬럼은 ideas 와 같은 저장 형식 (CompressedTextCodec) 그대로 복사
+CREATE TABLE ideas_archive (
+    idea_id          BIGINT       NOT NULL,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    archived_at      DATETIME(6)  NOT NULL,
+    user_id          BIGINT,
+    title            VARCHAR(255),
+    content          MEDIUMBLOB,
+    purpose          VARCHAR(255),
+    guest_session_id VARCHAR(255),
+    description      MEDIUMBLOB,
+    analysis         MEDIUMBLOB,
+    PRIMARY KEY (idea_id)
+);
+
+CREATE INDEX idx_ideas_archive_user ON ideas_archive (user_id, created_at);
+
+-- 보관 대상 조회 (created_at < 기준일, MySQL 은 월 파티션 범위로 좁혀짐)
+CREATE INDEX idx_ideas_created ON ideas (created_at);
@@ -0,0 +1,203 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.client;
+
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.AssociationsRequest;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.AssociationsResponse;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.ConfirmResponse;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.IdeasResponse;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.PurposeRequest;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.PurposeResponse;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.SessionResponse;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.WarmupResponse;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.Associations;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.Idea;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.Purpose;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.SessionCompleted;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.SessionEvent;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.SessionMessage;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.grpc.SessionStarted;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON(REST) vs protobuf(gRPC) 전송 비교
+ * - 와이어 바이트, 할당량, 인코딩/디코딩 지연
+ * - JSON 은 REST 클라이언트가 주고받는 DTO 를 Jackson 으로 직렬화한 결과
+ * - 반복 측정이라 단위 테스트(test)에서는 빠짐 → ./gradlew benchmark
+ */
+@Tag("benchmark")
+class BrainstormTransportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BrainstormTransportBenchmarkTest.class);
+
+    private static final int ITERATIONS = 2_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String sessionId = "5f7a5df5-054a-4ec2-98c1-8a23f5a11f21";
+    private final String purpose = "학생들을 위한 학습 앱 아이디어";
+    private final List<String> associations = List.of("학습", "AI", "맞춤형", "학생", "효율", "게임화", "습관", "친구", "목표", "보상");
+    private final List<String> ragContext = List.of(
+            "SCAMPER: 대체, 결합, 적용, 수정, 다른 용도, 제거, 재배열로 기존 아이디어를 변형한다.",
+            "마인드맵: 중심 키워드에서 가지를 뻗어 연상되는 개념을 확장한다.",
+            "여섯 색깔 모자: 관점을 바꿔 가며 아이디어를 평가한다.");
+
+    @Test
+    @DisplayName("protobuf 스트림이 JSON 호출보다 와이어 바이트가 적다")
+    void wireBytes() throws Exception {
+        long jsonBytes = jsonSessionBytes();
+        long protoBytes = protoSessionBytes();
+
+        log.info("wire bytes - json: {}, protobuf: {} ({}%)",
+                jsonBytes, protoBytes, String.format("%.1f", 100.0 * protoBytes / jsonBytes));
+
+        assertThat(protoBytes).isLessThan(jsonBytes);
+    }
+
+    @Test
+    @DisplayName("protobuf 인코딩/디코딩이 JSON 보다 할당량이 적다 (지연은 기록만)")
+    void allocationAndLatency() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(ideasResponse());
+        byte[] proto = ideaEvents().get(0).toByteArray();
+
+        // 워밍업
+        for (int i = 0; i < ITERATIONS; i++) {
+            objectMapper.readValue(json, IdeasResponse.class);
+            SessionEvent.parseFrom(proto);
+        }
+
+        // 같은 결과(아이디어 + RAG 기법)를 인코딩 → 디코딩
+        long[] jsonCost = measure(() -> objectMapper.readValue(objectMapper.writeValueAsBytes(ideasResponse()), IdeasResponse.class));
+        long[] protoCost = measure(() -> {
+            for (SessionEvent event : ideaEvents()) {
+                SessionEvent.parseFrom(event.toByteArray());
+            }
+        });
+
+        log.info("json     - {} ns/op, {} bytes allocated/op", jsonCost[0], jsonCost[1]);
+        log.info("protobuf - {} ns/op, {} bytes allocated/op", protoCost[0], protoCost[1]);
+
+        // 지연은 실행 환경에 따라 흔들려 비교하지 않고, 할당량은 스레드 기준이라 안정적
+        assertThat(protoCost[1]).isPositive().isLessThan(jsonCost[1]);
+    }
+
+    /**
+     * REST 경로: 7번의 요청/응답 본문 (REST 클라이언트가 쓰는 DTO 를 Jackson 으로)
+     */
+    private long jsonSessionBytes() throws Exception {
+        SessionResponse session = new SessionResponse();
+        session.setSessionId(sessionId);
+        session.setMessage("세션이 생성되었습니다.");
+
+        PurposeResponse purposeResponse = new PurposeResponse();
+        purposeResponse.setMessage("목적이 입력되었습니다.");
+        purposeResponse.setPurpose(purpose);
+
+        WarmupResponse warmup = new WarmupResponse();
+        warmup.setQuestions(List.of("질문1", "질문2", "질문3"));
+
+        ConfirmResponse confirm = new ConfirmResponse();
+        confirm.setMessage("워밍업이 확인되었습니다. Q3로 진행하세요.");
+
+        AssociationsResponse associationsResponse = new AssociationsResponse();
+        associationsResponse.setMessage("자유연상 입력이 완료되었습니다.");
+        associationsResponse.setAssociations(associations);
+
+        List<Object> bodies = List.of(
+                session,
+                new PurposeRequest(sessionId, purpose), purposeResponse,
+                warmup,
+                confirm,
+                new AssociationsRequest(sessionId, associations), associationsResponse,
+                ideasResponse(),
+                Map.of("message", "세션이 삭제되었습니다."));
+
+        long bytes = 0;
+        for (Object body : bodies) {
+            bytes += objectMapper.writeValueAsBytes(body).length;
+        }
+        return bytes;
+    }
+
+    /**
+     * gRPC 경로: 스트림 하나의 메시지들
+     */
+    private long protoSessionBytes() {
+        List<byte[]> frames = new ArrayList<>();
+        frames.add(SessionEvent.newBuilder().setStarted(SessionStarted.newBuilder().setSessionId(sessionId)).build().toByteArray());
+        frames.add(SessionMessage.newBuilder().setPurpose(Purpose.newBuilder().setPurpose(purpose)).build().toByteArray());
+        frames.add(SessionMessage.newBuilder().setAssociations(Associations.newBuilder().addAllKeywords(associations)).build().toByteArray());
+        ideaEvents().forEach(event -> frames.add(event.toByteArray()));
+
+        return frames.stream().mapToLong(frame -> frame.length + 5).sum(); // gRPC 프레임 헤더 5바이트
+    }
+
+    private IdeasResponse ideasResponse() {
+        IdeasResponse response = new IdeasResponse();
+        List<IdeasResponse.IdeaDto> ideas = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            IdeasResponse.IdeaDto idea = new IdeasResponse.IdeaDto();
+            idea.setTitle("아이디어 " + i + ": AI 맞춤형 학습 코치");
+            idea.setDescription("학생의 학습 패턴을 분석해 하루 학습 목표와 복습 시점을 추천하는 앱. ".repeat(8));
+            idea.setAnalysis("📊 분석 결과:\n강점: 개인화. 약점: 초기 데이터 부족. 기회: 에듀테크 성장. 위협: 경쟁 앱. ".repeat(8));
+            ideas.add(idea);
+        }
+        response.setIdeas(ideas);
+        response.setRagContext(ragContext);
+        return response;
+    }
+
+    /**
+     * 아이디어마다 이벤트 하나 + RAG 기법을 담은 완료 이벤트
+     */
+    private List<SessionEvent> ideaEvents() {
+        IdeasResponse response = ideasResponse();
+        List<SessionEvent> events = new ArrayList<>();
+        for (IdeasResponse.IdeaDto idea : response.getIdeas()) {
+            events.add(SessionEvent.newBuilder()
+                    .setIdea(Idea.newBuilder()
+                            .setTitle(idea.getTitle())
+                            .setDescription(idea.getDescription())
+                            .setAnalysis(idea.getAnalysis()))
+                    .build());
+        }
+        events.add(SessionEvent.newBuilder()
+                .setCompleted(SessionCompleted.newBuilder().addAllRagContext(response.getRagContext()))
+                .build());
+        return events;
+    }
+
+    /**
+     * @return [ns/op, allocated bytes/op]
+     */
+    private long[] measure(ThrowingRunnable task) throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new long[]{elapsed / ITERATIONS, allocated / ITERATIONS};
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,236 @@
+package com.brainstorming.brainstorming_platform.domain.brainstorming.service;
+
+import com.brainstorming.brainstorming_platform.domain.brainstorming.client.BrainstormingClient;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.controller.BrainstormController;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BatchBrainstormItemResult;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.BatchBrainstormRequest;
+import com.brainstorming.brainstorming_platform.domain.brainstorming.dto.IdeasResponse;
+import com.brainstorming.brainstorming_platform.domain.idea.dedup.IdeaDeduplicator;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.service.IdeaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 브레인스토밍 일괄 실행 - Python 호출은 StubBrainstormingClient, 저장은 FakeIdeaService
+ * - 목적(purpose)에 게이트를 걸면 그 항목은 게이트가 열릴 때까지(또는 인터럽트될 때까지) 실행 중으로 남음
+ */
+class BatchBrainstormingServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final StubBrainstormingClient client = new StubBrainstormingClient();
+    private final BrainstormingService brainstormingService =
+            new BrainstormingService(client, new FakeIdeaService(), null, new IdeaDeduplicator(null, null));
+    private final List<BatchBrainstormingService> services = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        client.releaseAll();
+        services.forEach(BatchBrainstormingService::shutdown);
+    }
+
+    @Test
+    @DisplayName("대기열에 모든 항목이 들어갈 자리가 없으면 하나도 실행하지 않고 거절, 컨트롤러는 503 + Retry-After")
+    void rejectsWhenQueueFull() throws Exception {
+        // given - 워커 1개가 실행 중, 대기열 2칸
+        BatchBrainstormingService service = service(1, 2);
+        client.gate("실행 중");
+        service.generateBatch(batch("실행 중"));
+        client.awaitStarted("실행 중");
+        MockMvc mockMvc = mockMvc(service);
+
+        // when & then
+        assertThatThrownBy(() -> service.generateBatch(batch("A", "B", "C")))
+                .isInstanceOf(RejectedExecutionException.class);
+        mockMvc.perform(post("/api/brainstorm/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(batch("A", "B", "C"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+        client.release("실행 중");
+        service.generateBatch(batch("다음")).get(0).get(5, TimeUnit.SECONDS);
+        assertThat(client.started).doesNotContain("A", "B", "C");
+    }
+
+    @Test
+    @DisplayName("취소하면 실행 중인 항목은 인터럽트되고, 대기 중인 항목은 실행되지 않음")
+    void cancelStopsRemainingItems() throws Exception {
+        // given - 워커 1개, 첫 항목이 실행 중이고 나머지는 대기
+        BatchBrainstormingService service = service(1, 10);
+        client.gate("실행 중");
+        List<CompletableFuture<BatchBrainstormItemResult>> results = service.generateBatch(batch("실행 중", "대기1", "대기2"));
+        client.awaitStarted("실행 중");
+
+        // when - 클라이언트 연결이 끊긴 경우 컨트롤러가 하는 것과 같이
+        results.forEach(result -> result.cancel(true));
+
+        // then - 뒤에 넣은 항목이 끝났다면 앞의 대기 항목은 대기열에서 빠진 것
+        assertThat(client.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(results).allMatch(CompletableFuture::isCancelled);
+        BatchBrainstormItemResult next = service.generateBatch(batch("다음")).get(0).get(5, TimeUnit.SECONDS);
+        assertThat(next.isSuccess()).isTrue();
+        assertThat(client.started).containsExactlyInAnyOrder("실행 중", "다음");
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림은 요청 순서가 아니라 끝난 순서대로 한 줄씩, 각 줄에 요청 index")
+    void streamsInCompletionOrder() throws Exception {
+        // given - 첫 항목은 두 번째 항목이 전송될 때까지 대기
+        BatchBrainstormingService service = service(2, 10);
+        MockMvc mockMvc = mockMvc(service);
+        client.gate("느린 항목");
+
+        // when
+        MvcResult started = mockMvc.perform(post("/api/brainstorm/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(batch("느린 항목", "빠른 항목"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = started.getResponse();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!response.getContentAsString(StandardCharsets.UTF_8).contains("빠른 항목")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        client.release("느린 항목");
+        started.getAsyncResult(5_000);
+
+        // then
+        List<BatchBrainstormItemResult> lines = new ArrayList<>();
+        for (String line : response.getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readValue(line, BatchBrainstormItemResult.class));
+        }
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(lines).extracting(BatchBrainstormItemResult::getIndex).containsExactly(1, 0);
+        assertThat(lines).extracting(BatchBrainstormItemResult::getPurpose).containsExactly("빠른 항목", "느린 항목");
+        assertThat(lines).allMatch(BatchBrainstormItemResult::isSuccess);
+    }
+
+    private BatchBrainstormingService service(int parallelism, int queueCapacity) {
+        BatchBrainstormingService service = new BatchBrainstormingService(brainstormingService, parallelism, 500, queueCapacity);
+        services.add(service);
+        return service;
+    }
+
+    private MockMvc mockMvc(BatchBrainstormingService service) {
+        return MockMvcBuilders.standaloneSetup(new BrainstormController(brainstormingService, service, objectMapper))
+                .build();
+    }
+
+    private String json(BatchBrainstormRequest request) throws Exception {
+        return objectMapper.writeValueAsString(request);
+    }
+
+    private static BatchBrainstormRequest batch(String... purposes) {
+        List<BatchBrainstormRequest.Item> items = new ArrayList<>();
+        for (String purpose : purposes) {
+            BatchBrainstormRequest.Item item = new BatchBrainstormRequest.Item();
+            item.setPurpose(purpose);
+            item.setAssociations(List.of("키워드"));
+            items.add(item);
+        }
+        BatchBrainstormRequest request = new BatchBrainstormRequest();
+        request.setUserId(1L);
+        request.setItems(items);
+        return request;
+    }
+
+    /**
+     * 목적마다 아이디어 1개를 돌려주는 Python 클라이언트 대역
+     */
+    private static final class StubBrainstormingClient implements BrainstormingClient {
+
+        private final Map<String, CountDownLatch> gates = new ConcurrentHashMap<>();
+        private final Map<String, CountDownLatch> startedLatches = new ConcurrentHashMap<>();
+        private final Set<String> started = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public IdeasResponse brainstorm(String purpose, List<String> associations, Consumer<IdeasResponse.IdeaDto> onIdea) {
+            started.add(purpose);
+            startedLatch(purpose).countDown();
+            CountDownLatch gate = gates.get(purpose);
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("중단됨: " + purpose);
+                }
+            }
+
+            IdeasResponse.IdeaDto idea = new IdeasResponse.IdeaDto();
+            idea.setTitle(purpose + " 아이디어");
+            idea.setDescription("설명");
+            idea.setAnalysis("분석");
+            onIdea.accept(idea);
+            IdeasResponse response = new IdeasResponse();
+            response.setSessionId("session-" + purpose);
+            response.setIdeas(List.of(idea));
+            return response;
+        }
+
+        void gate(String purpose) {
+            gates.put(purpose, new CountDownLatch(1));
+        }
+
+        void release(String purpose) {
+            gates.get(purpose).countDown();
+        }
+
+        void releaseAll() {
+            gates.values().forEach(CountDownLatch::countDown);
+        }
+
+        void awaitStarted(String purpose) throws InterruptedException {
+            assertThat(startedLatch(purpose).await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        private CountDownLatch startedLatch(String purpose) {
+            return startedLatches.computeIfAbsent(purpose, key -> new CountDownLatch(1));
+        }
+    }
+
+    /**
+     * 저장하지 않고 받은 아이디어를 그대로 돌려줌
+     */
+    private static final class FakeIdeaService extends IdeaService {
+
+        private FakeIdeaService() {
+            super(null, null, null, null, null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public List<Idea> saveAll(List<Idea> ideas) {
+            return ideas;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.brainstorming.brainstorming_platform.domain.idea.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdeaPartitionsTest {
+
+    @Test
+    @DisplayName("월 파티션은 다음 달 1일 미만 범위, 마지막은 pmax")
+    void partitionBy() {
+        // when
+        String ddl = IdeaPartitions.partitionBy(YearMonth.of(2025, 11), YearMonth.of(2026, 1));
+
+        // then
+        assertThat(ddl).isEqualTo("PARTITION BY RANGE COLUMNS (created_at) ("
+                + "PARTITION p202511 VALUES LESS THAN ('2025-12-01 00:00:00'), "
+                + "PARTITION p202512 VALUES LESS THAN ('2026-01-01 00:00:00'), "
+                + "PARTITION p202601 VALUES LESS THAN ('2026-02-01 00:00:00'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("파티션 이름은 pYYYYMM")
+    void partitionName() {
+        assertThat(IdeaPartitions.partitionName(YearMonth.of(2026, 3))).isEqualTo("p202603");
+    }
+}
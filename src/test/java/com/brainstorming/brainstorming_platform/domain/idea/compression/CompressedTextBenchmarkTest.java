@@ -0,0 +1,72 @@
+package com.brainstorming.brainstorming_platform.domain.idea.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 압축 레벨별 저장 크기 / 인코딩·디코딩 지연 비교 (AI 분석 결과 크기의 텍스트)
+ * - 반복 측정이라 단위 테스트(test)에서는 빠짐 → ./gradlew benchmark
+ */
+@Tag("benchmark")
+class CompressedTextBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressedTextBenchmarkTest.class);
+
+    private static final int ITERATIONS = 2_000;
+
+    private final String analysis = analysisText();
+
+    @Test
+    @DisplayName("레벨별 압축률과 지연")
+    void levels() {
+        int original = analysis.getBytes(StandardCharsets.UTF_8).length;
+
+        for (int level : new int[]{1, 6, 9}) {
+            byte[] stored = CompressedTextCodec.encode(analysis, 1024, level);
+
+            // 워밍업
+            for (int i = 0; i < ITERATIONS; i++) {
+                CompressedTextCodec.decode(CompressedTextCodec.encode(analysis, 1024, level));
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                CompressedTextCodec.encode(analysis, 1024, level);
+            }
+            long encodeNs = (System.nanoTime() - start) / ITERATIONS;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                CompressedTextCodec.decode(stored);
+            }
+            long decodeNs = (System.nanoTime() - start) / ITERATIONS;
+
+            log.info("level {} - {} -> {} bytes ({}%), encode {} ns/op, decode {} ns/op",
+                    level, original, stored.length, String.format("%.1f", 100.0 * stored.length / original),
+                    encodeNs, decodeNs);
+
+            assertThat(stored.length).isLessThan(original);
+        }
+    }
+
+    private static String analysisText() {
+        StringBuilder text = new StringBuilder("# 학생들을 위한 AI 맞춤형 학습 앱\n\n");
+        String[] sections = {"강점", "약점", "기회", "위협"};
+        for (int i = 0; i < 8; i++) {
+            for (String section : sections) {
+                text.append("## ").append(section).append(' ').append(i + 1).append('\n')
+                        .append("- 학생별 학습 패턴과 목표를 분석해 ").append(i * 7 % 5 + 1)
+                        .append("주 단위 계획을 제안하고, 게임화된 보상으로 습관 형성을 돕습니다.\n")
+                        .append("- 친구와 목표를 공유하면 꾸준함이 높아지지만 개인정보 관리 비용이 늘어납니다.\n\n");
+            }
+        }
+        return text.toString();
+    }
+}
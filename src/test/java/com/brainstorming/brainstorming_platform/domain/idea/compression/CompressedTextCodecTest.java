@@ -0,0 +1,63 @@
+package com.brainstorming.brainstorming_platform.domain.idea.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedTextCodecTest {
+
+    private static final String SWOT = """
+            ## SWOT 분석
+            - 강점: AI 가 학생별 학습 패턴을 분석해 맞춤형 문제를 추천합니다.
+            - 약점: 초기 학습 데이터가 부족하면 추천 정확도가 낮습니다.
+            - 기회: 온라인 학습 시장이 커지고 있고 학부모의 관심이 높습니다.
+            - 위협: 대형 교육 플랫폼이 비슷한 기능을 빠르게 도입할 수 있습니다.
+            """;
+
+    @Test
+    @DisplayName("긴 텍스트는 압축되어 더 작게 저장되고 그대로 복원됨")
+    void roundTrip() {
+        // given
+        String text = SWOT.repeat(10);
+
+        // when
+        byte[] stored = CompressedTextCodec.encode(text, 1024, 6);
+
+        // then
+        assertThat(CompressedTextCodec.isCompressed(stored)).isTrue();
+        assertThat(stored.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(CompressedTextCodec.decode(stored)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("짧은 텍스트와 압축 전 기존 값은 UTF-8 그대로 읽음")
+    void plainAndLegacy() {
+        // given
+        String text = "짧은 설명";
+        byte[] legacy = SWOT.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] stored = CompressedTextCodec.encode(text, 1024, 6);
+
+        // then
+        assertThat(stored).isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+        assertThat(CompressedTextCodec.decode(legacy)).isEqualTo(SWOT);
+        assertThat(CompressedTextCodec.decode(CompressedTextCodec.encode("\0시작", 1024, 6))).isEqualTo("\0시작");
+    }
+
+    @Test
+    @DisplayName("손상된 압축 데이터는 예외")
+    void corrupted() {
+        // given
+        byte[] stored = CompressedTextCodec.encode(SWOT.repeat(10), 1024, 6);
+        byte[] truncated = java.util.Arrays.copyOf(stored, stored.length / 2);
+
+        // when & then
+        assertThatThrownBy(() -> CompressedTextCodec.decode(truncated))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.brainstorming.brainstorming_platform.domain.idea.counter;
+
+import com.brainstorming.brainstorming_platform.domain.idea.archive.ArchivedIdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.guest.GuestIdeaStore;
+import com.brainstorming.brainstorming_platform.domain.idea.related.HashingIdeaEmbedder;
+import com.brainstorming.brainstorming_platform.domain.idea.related.RelatedIdeaIndex;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.search.IdeaSearchIndex;
+import com.brainstorming.brainstorming_platform.domain.idea.service.IdeaService;
+import com.brainstorming.brainstorming_platform.domain.idea.suggest.IdeaSuggestIndex;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWriteAheadLog;
+import com.brainstorming.brainstorming_platform.global.etag.CollectionVersionService;
+import com.brainstorming.brainstorming_platform.global.job.JobLeaseManager;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아이디어 카운터 - 작업마다 countByUserId 를 실제 COUNT(*) (ideas + ideas_archive) 와 비교
+ * - 캐시 무효화가 커밋 후라 테스트 트랜잭션은 끔 (작업마다 실제로 커밋)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idea-counter;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "idea.write-behind.dir=build/tmp/idea-counter-test/wal",
+        "idea.related.dir=build/tmp/idea-counter-test/hnsw"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ShardRouter.class, SimpleMeterRegistry.class, CollectionVersionService.class, JobLeaseManager.class,
+        IdeaService.class, IdeaWriteAheadLog.class, GuestIdeaStore.class, RelatedIdeaIndex.class,
+        HashingIdeaEmbedder.class, IdeaSearchIndex.class, IdeaSuggestIndex.class,
+        IdeaCounterService.class, IdeaCounterReconciler.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdeaCounterServiceTest {
+
+    private static final long USER_ID = 4001L;
+
+    @Autowired
+    private IdeaService ideaService;
+
+    @Autowired
+    private IdeaCounterService ideaCounterService;
+
+    @Autowired
+    private IdeaCounterReconciler ideaCounterReconciler;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private ArchivedIdeaRepository archivedIdeaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM ideas");
+        jdbcTemplate.update("DELETE FROM ideas_archive");
+        jdbcTemplate.update("DELETE FROM idea_counters");
+        jdbcTemplate.update("DELETE FROM collection_versions");
+        ideaCounterService.invalidate(USER_ID);
+    }
+
+    @Test
+    @DisplayName("저장 / 삭제 / 일괄 삭제 / 게스트 연결 / 보관 후에도 카운터가 실제 개수와 같음")
+    void followsEveryWrite() {
+        // given - 카운터 행은 처음 조회할 때 생성
+        assertThat(ideaService.countByUserId(USER_ID)).isZero();
+
+        // 저장
+        Idea first = ideaService.save(new Idea(null, USER_ID, "제목1", "내용", "목적"));
+        Idea second = ideaService.save(new Idea(null, USER_ID, "제목2", "내용", "목적"));
+        Idea third = ideaService.save(new Idea(null, USER_ID, "제목3", "내용", "목적"));
+        Idea fourth = ideaService.save(new Idea(null, USER_ID, "제목4", "내용", "목적"));
+        assertCounterMatches(4);
+
+        // 삭제
+        ideaService.delete(first.getIdeaId());
+        assertCounterMatches(3);
+
+        // 일괄 삭제 (없는 ID 는 세지 않음)
+        ideaService.deleteBatch(List.of(second.getIdeaId(), 987654321L));
+        assertCounterMatches(2);
+
+        // 게스트 연결 - 저장소의 아이디어와 이전 방식으로 테이블에 저장된 아이디어
+        ideaService.save(new Idea(null, null, "게스트1", "내용", "목적", "guest-session"));
+        ideaRepository.save(new Idea(null, null, "게스트2", "내용", "목적", "guest-session"));
+        int linked = ideaService.linkGuestIdeasToUser("guest-session", USER_ID);
+        assertThat(linked).isEqualTo(2);
+        assertCounterMatches(4);
+
+        // 보관 - 보관 테이블로 옮겨도 개수는 그대로
+        archive(third.getIdeaId());
+        assertCounterMatches(4);
+
+        // 보관된 아이디어 삭제
+        ideaService.delete(third.getIdeaId());
+        assertCounterMatches(3);
+        assertThat(ideaRepository.existsById(fourth.getIdeaId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("어긋난 카운터는 재계산 배치가 실제 개수로 고치고 캐시도 비움")
+    void reconcilerRepairsDrift() {
+        // given
+        ideaService.save(new Idea(null, USER_ID, "제목1", "내용", "목적"));
+        Idea archived = ideaService.save(new Idea(null, USER_ID, "제목2", "내용", "목적"));
+        archive(archived.getIdeaId());
+        assertCounterMatches(2);
+
+        jdbcTemplate.update("UPDATE idea_counters SET idea_count = 99 WHERE user_id = ?", USER_ID);
+        ideaCounterService.invalidate(USER_ID);
+        assertThat(ideaService.countByUserId(USER_ID)).isEqualTo(99);
+
+        // when
+        ideaCounterReconciler.reconcile();
+
+        // then
+        assertCounterMatches(2);
+    }
+
+    private void archive(Long ideaId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            archivedIdeaRepository.copyFromIdeas(List.of(ideaId), LocalDateTime.now());
+            ideaRepository.deleteByIdeaIds(List.of(ideaId));
+        });
+    }
+
+    private void assertCounterMatches(long expected) {
+        Long actual = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM ideas WHERE user_id = ?)"
+                        + " + (SELECT COUNT(*) FROM ideas_archive WHERE user_id = ?)",
+                Long.class, USER_ID, USER_ID);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(ideaService.countByUserId(USER_ID)).isEqualTo(actual);
+    }
+}
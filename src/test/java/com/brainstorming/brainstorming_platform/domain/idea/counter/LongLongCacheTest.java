@@ -0,0 +1,75 @@
+package com.brainstorming.brainstorming_platform.domain.idea.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongLongCacheTest {
+
+    private static final long MISSING = -1L;
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    @DisplayName("무작위 넣기/삭제 후에도 HashMap 과 같은 내용")
+    void matchesHashMap() {
+        //given
+        LongLongCache cache = new LongLongCache(100_000, ONE_MINUTE);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        //when
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(3_000);
+            if (random.nextBoolean()) {
+                long value = random.nextInt(1_000_000);
+                cache.put(key, value);
+                expected.put(key, value);
+            } else {
+                cache.remove(key);
+                expected.remove(key);
+            }
+        }
+
+        //then
+        assertThat(cache.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 3_000; key++) {
+            assertThat(cache.get(key, MISSING)).isEqualTo(expected.getOrDefault(key, MISSING));
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 값은 없는 것으로 처리")
+    void expires() {
+        //given
+        LongLongCache cache = new LongLongCache(10, 0);
+
+        //when
+        cache.put(1L, 5L);
+
+        //then
+        assertThat(cache.get(1L, MISSING)).isEqualTo(MISSING);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 비우고 다시 채움")
+    void boundedSize() {
+        //given
+        LongLongCache cache = new LongLongCache(10, ONE_MINUTE);
+
+        //when
+        for (long key = 1; key <= 25; key++) {
+            cache.put(key, key * 10);
+        }
+
+        //then
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.get(25L, MISSING)).isEqualTo(250L);
+    }
+}
@@ -0,0 +1,71 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTableTest {
+
+    private static final String ORIGINAL = "AI 기반 학습 플래너 앱\n\n사용자의 학습 패턴을 분석해서 맞춤형 일정을 추천하는 모바일 앱입니다.";
+    private static final String REWORDED = "AI기반 학습플래너 앱 - 사용자의 학습 패턴을 분석하여 맞춤형 일정을 추천하는 모바일 앱입니다!";
+    private static final String DIFFERENT = "중고 캠핑 장비 공유 플랫폼\n\n지역 기반으로 캠핑 장비를 빌려주고 빌리는 P2P 서비스입니다.";
+
+    @Test
+    @DisplayName("띄어쓰기·구두점·어미만 다른 아이디어는 가까운 지문")
+    void nearDuplicateFingerprints() {
+        //given
+        long original = SimHash.fingerprint(ORIGINAL);
+
+        //when
+        int nearDistance = SimHash.distance(original, SimHash.fingerprint(REWORDED));
+        int farDistance = SimHash.distance(original, SimHash.fingerprint(DIFFERENT));
+
+        //then
+        assertThat(nearDistance).isLessThanOrEqualTo(10);
+        assertThat(farDistance).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("순열 테이블이 해밍 거리 이내 지문을 모두 찾음")
+    void findsEveryFingerprintWithinDistance() {
+        //given
+        Random random = new Random(3);
+        SimHashTable table = new SimHashTable(8);
+        long[] fingerprints = new long[1000];
+        for (int i = 0; i < fingerprints.length; i++) {
+            fingerprints[i] = random.nextLong();
+            table.add(fingerprints[i], i + 1);
+        }
+
+        //when & then
+        for (int i = 0; i < fingerprints.length; i++) {
+            long flipped = fingerprints[i];
+            for (int bit = 0; bit < 8; bit++) {
+                flipped ^= 1L << (bit * 8 + random.nextInt(8)); // 서로 다른 8비트
+            }
+            assertThat(table.findNear(flipped)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("ID 없이 등록한 지문에 나중에 ID 연결, 삭제 후에는 찾지 않음")
+    void assignIdAndRemove() {
+        //given
+        SimHashTable table = new SimHashTable(3);
+        long fingerprint = SimHash.fingerprint(ORIGINAL);
+        table.add(fingerprint, 0L);
+
+        //when
+        boolean assigned = table.assignId(fingerprint, 10L);
+
+        //then
+        assertThat(assigned).isTrue();
+        assertThat(table.findNear(fingerprint)).isEqualTo(10L);
+        assertThat(table.remove(fingerprint, 10L)).isTrue();
+        assertThat(table.findNear(fingerprint)).isEqualTo(-1L);
+        assertThat(table.size()).isZero();
+    }
+}
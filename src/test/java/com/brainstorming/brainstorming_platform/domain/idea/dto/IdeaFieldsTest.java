@@ -0,0 +1,71 @@
+package com.brainstorming.brainstorming_platform.domain.idea.dto;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdeaFieldsTest {
+
+    @Test
+    @DisplayName("요청한 필드만 요청한 순서대로 선택")
+    void selectRequestedFields() {
+        //given
+        IdeaFields fields = IdeaFields.parse(" title, ideaId ,,title,createdAt");
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        IdeaResponseDto idea = new IdeaResponseDto(7L, 1L, "제목", "내용", "목적", createdAt);
+
+        //when
+        Map<String, Object> selected = fields.select(idea);
+
+        //then
+        assertThat(fields.includesContent()).isFalse();
+        assertThat(selected).containsExactly(
+                Map.entry("title", "제목"),
+                Map.entry("ideaId", 7L),
+                Map.entry("createdAt", createdAt));
+    }
+
+    @Test
+    @DisplayName("content 를 요청하면 본문 조회 필요")
+    void includesContent() {
+        assertThat(IdeaFields.parse("ideaId,content").includesContent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("fields 를 지정하지 않은 기본 목록은 본문을 포함하지 않음")
+    void summaryExcludesContent() {
+        assertThat(IdeaFields.SUMMARY.includesContent()).isFalse();
+        assertThat(IdeaFields.SUMMARY.key()).isEqualTo("ideaId,userId,title,purpose,createdAt");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 필드나 빈 fields 는 IllegalArgumentException")
+    void invalidFields() {
+        assertThatThrownBy(() -> IdeaFields.parse("title,password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("지원하지 않는 필드입니다: password");
+        assertThatThrownBy(() -> IdeaFields.parse(" , "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("fields가 비어 있습니다.");
+    }
+
+    @Test
+    @DisplayName("설명/분석으로 나눠 저장한 아이디어의 content 는 기존 형식으로 합쳐짐")
+    void composeContent() {
+        //given
+        Idea split = new Idea(null, 1L, "제목", null, "목적", null, "설명", "분석");
+        Idea legacy = new Idea(null, 1L, "제목", "기존 내용", "목적", null);
+
+        //then
+        assertThat(split.getContent()).isEqualTo("설명\n\n분석");
+        assertThat(split.hasSections()).isTrue();
+        assertThat(legacy.getContent()).isEqualTo("기존 내용");
+        assertThat(legacy.hasSections()).isFalse();
+    }
+}
@@ -0,0 +1,50 @@
+package com.brainstorming.brainstorming_platform.domain.idea.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdeaExportWriterTest {
+
+    @Test
+    @DisplayName("CSV 필드는 쉼표/따옴표/줄바꿈이 있을 때만 따옴표로 감쌈")
+    void csvEscaping() throws IOException {
+        //given
+        StringWriter writer = new StringWriter();
+
+        //when
+        IdeaExportWriter.writeCsvRow(writer, new String[]{"1", null, "학습, 앱", "say \"hi\"", "설명\n\n분석"});
+
+        //then
+        assertThat(writer.toString())
+                .isEqualTo("1,,\"학습, 앱\",\"say \"\"hi\"\"\",\"설명\n\n분석\"\r\n");
+    }
+
+    @Test
+    @DisplayName("수식으로 시작하는 값은 ' 를 붙여 CSV 인젝션 방지")
+    void csvFormulaInjection() throws IOException {
+        //given
+        StringWriter writer = new StringWriter();
+
+        //when
+        IdeaExportWriter.writeCsvRow(writer, new String[]{"=HYPERLINK(\"x\")", "-1"});
+
+        //then
+        assertThat(writer.toString()).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\",'-1\r\n");
+    }
+
+    @Test
+    @DisplayName("형식은 대소문자 구분 없이 ndjson / csv 만 허용")
+    void format() {
+        assertThat(IdeaExportFormat.from("CSV")).isEqualTo(IdeaExportFormat.CSV);
+        assertThat(IdeaExportFormat.from("ndjson")).isEqualTo(IdeaExportFormat.NDJSON);
+        assertThatThrownBy(() -> IdeaExportFormat.from("xlsx"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("지원하지 않는 형식입니다: xlsx");
+    }
+}
@@ -0,0 +1,142 @@
+package com.brainstorming.brainstorming_platform.domain.idea.guest;
+
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GuestIdeaStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장한 게스트 아이디어를 세션 단위로 꺼내면 저장소에서 제거")
+    void putAndDrain() {
+        //given
+        GuestIdeaStore store = store(1024 * 1024, "");
+        store.put(guestIdea("guest-1", "아이디어1"));
+        store.put(guestIdea("guest-1", "아이디어2"));
+        store.put(guestIdea("guest-2", "아이디어3"));
+
+        //when
+        List<Idea> drained = store.drain("guest-1");
+
+        //then
+        assertThat(drained).extracting("title").containsExactly("아이디어1", "아이디어2");
+        assertThat(drained).extracting("guestSessionId").containsOnly("guest-1");
+        assertThat(store.drain("guest-1")).isEmpty();
+        assertThat(store.sessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설명/분석으로 나눠진 아이디어는 나눠진 그대로 꺼냄")
+    void keepsSections() {
+        //given
+        GuestIdeaStore store = store(1024 * 1024, "");
+        store.put(new Idea(null, null, "아이디어1", null, "목적", "guest-1", "설명", "분석"));
+
+        //when
+        Idea drained = store.drain("guest-1").get(0);
+
+        //then
+        assertThat(drained.hasSections()).isTrue();
+        assertThat(drained.getDescription()).isEqualTo("설명");
+        assertThat(drained.getAnalysis()).isEqualTo("분석");
+        assertThat(drained.getContent()).isEqualTo("설명\n\n분석");
+    }
+
+    @Test
+    @DisplayName("아이디어를 만든 적 없는 세션은 블룸 필터에서 걸러짐")
+    void bloomFilter() {
+        //given
+        GuestIdeaStore store = store(1024 * 1024, "");
+        store.put(guestIdea("guest-1", "아이디어1"));
+
+        //then
+        assertThat(store.mightContain("guest-1")).isTrue();
+        assertThat(store.mightContain("never-used-session")).isFalse();
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘으면 오래된 세션을 스필 파일로 내보내고 그대로 읽을 수 있음")
+    void spillToDisk() {
+        //given
+        GuestIdeaStore store = store(256, directory.resolve("guest.spill").toString());
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            store.put(guestIdea("guest-" + i, "아이디어" + i));
+        }
+
+        //then
+        assertThat(store.offHeapBytes()).isLessThanOrEqualTo(256);
+        assertThat(store.drain("guest-0")).extracting("title").containsExactly("아이디어0");
+        assertThat(store.drain("guest-9")).extracting("title").containsExactly("아이디어9");
+    }
+
+    @Test
+    @DisplayName("스필 파일이 없으면 메모리 상한을 넘을 때 오래된 세션을 폐기")
+    void evictWithoutSpill() {
+        //given
+        GuestIdeaStore store = store(256, "");
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            store.put(guestIdea("guest-" + i, "아이디어" + i));
+        }
+
+        //then
+        assertThat(store.offHeapBytes()).isLessThanOrEqualTo(256);
+        assertThat(store.drain("guest-0")).isEmpty();
+        assertThat(store.drain("guest-9")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("세션당 개수를 넘으면 예외 대신 그 세션의 가장 오래된 아이디어를 버림")
+    void evictOldestOverSessionLimit() {
+        //given
+        GuestIdeaStore store = new GuestIdeaStore(null, 1024 * 1024, 2, 24, "", 1024 * 1024, 1000, true);
+
+        //when
+        store.put(guestIdea("guest-1", "아이디어1"));
+        store.put(guestIdea("guest-1", "아이디어2"));
+        store.put(guestIdea("guest-1", "아이디어3"));
+
+        //then
+        assertThat(store.drain("guest-1")).extracting("title").containsExactly("아이디어2", "아이디어3");
+        assertThat(store.offHeapBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("스필 데이터가 계속 남아 있어도 두 파일을 번갈아 써서 죽은 공간이 쌓이지 않음")
+    void spillFilesRotate() {
+        //given - 메모리에는 세션 2개 정도만, 항상 스필된 세션이 하나 이상 살아 있음
+        GuestIdeaStore store = store(256, directory.resolve("guest.spill").toString());
+
+        //when
+        for (int i = 0; i < 200; i++) {
+            store.put(guestIdea("guest-" + i, "아이디어" + i));
+            if (i >= 3) {
+                assertThat(store.drain("guest-" + (i - 3))).hasSize(1);
+            }
+        }
+
+        //then - 회전하지 않으면 약 200개 아이디어 크기까지 커짐
+        assertThat(store.spillBytes()).isLessThan(2048);
+        assertThat(store.drain("guest-197")).extracting("title").containsExactly("아이디어197");
+    }
+
+    private GuestIdeaStore store(long maxBytes, String spillFile) {
+        return new GuestIdeaStore(null, maxBytes, 50, 24, spillFile, 1024 * 1024, 1000, true);
+    }
+
+    private Idea guestIdea(String guestSessionId, String title) {
+        return new Idea(null, null, title, "내용 " + "가".repeat(20), "목적", guestSessionId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.brainstorming.brainstorming_platform.domain.idea.paging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdeaCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩하면 같은 (createdAt, ideaId)")
+    void roundTrip() {
+        //given
+        IdeaCursor cursor = new IdeaCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        //when
+        String token = cursor.encode();
+        IdeaCursor decoded = IdeaCursor.decode(token);
+
+        //then
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(decoded.getCreatedAt()).isEqualTo(cursor.getCreatedAt());
+        assertThat(decoded.getIdeaId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 IllegalArgumentException")
+    void invalidCursor() {
+        assertThatThrownBy(() -> IdeaCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+}
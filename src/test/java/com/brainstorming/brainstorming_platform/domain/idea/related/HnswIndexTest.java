@@ -0,0 +1,87 @@
+package com.brainstorming.brainstorming_platform.domain.idea.related;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("가장 유사한 벡터를 찾고 자기 자신은 제외")
+    void searchExcludesSelf() {
+        //given
+        HnswIndex index = new HnswIndex(4, 4, 20);
+        index.add(1L, new float[]{1f, 0f, 0f, 0f});
+        index.add(2L, new float[]{0.9f, 0.1f, 0f, 0f});
+        index.add(3L, new float[]{0f, 0f, 1f, 0f});
+
+        //when
+        long[] ids = new long[2];
+        float[] scores = new float[2];
+        int found = index.search(new float[]{1f, 0f, 0f, 0f}, 2, 16, 1L, ids, scores);
+
+        //then
+        assertThat(found).isEqualTo(2);
+        assertThat(ids[0]).isEqualTo(2L);
+        assertThat(ids[1]).isEqualTo(3L);
+        assertThat(scores[0]).isGreaterThan(scores[1]);
+    }
+
+    @Test
+    @DisplayName("삭제(tombstone)된 아이디어는 결과에서 제외")
+    void removedIdeaIsNotReturned() {
+        //given
+        HnswIndex index = new HnswIndex(4, 4, 20);
+        index.add(1L, new float[]{1f, 0f, 0f, 0f});
+        index.add(2L, new float[]{0.9f, 0.1f, 0f, 0f});
+        index.add(3L, new float[]{0f, 1f, 0f, 0f});
+
+        //when
+        index.remove(2L);
+        long[] ids = new long[3];
+        float[] scores = new float[3];
+        int found = index.search(new float[]{1f, 0f, 0f, 0f}, 3, 16, -1L, ids, scores);
+
+        //then
+        assertThat(found).isEqualTo(2);
+        assertThat(ids).startsWith(1L, 3L);
+        assertThat(index.liveCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장 후 복원해도 같은 결과")
+    void snapshotRoundTrip() throws Exception {
+        //given
+        Random random = new Random(7);
+        HnswIndex index = new HnswIndex(32, 8, 50);
+        float[][] vectors = new float[300][32];
+        for (int i = 0; i < vectors.length; i++) {
+            for (int d = 0; d < 32; d++) {
+                vectors[i][d] = (float) random.nextGaussian();
+            }
+            index.add(i, vectors[i]);
+        }
+        index.remove(10L);
+
+        //when
+        Path file = directory.resolve("user-1.hnsw");
+        index.save(file);
+        HnswIndex loaded = HnswIndex.load(file);
+
+        //then
+        long[] ids = new long[5];
+        float[] scores = new float[5];
+        loaded.search(vectors[42], 5, 32, -1L, ids, scores);
+        assertThat(loaded.liveCount()).isEqualTo(299);
+        assertThat(loaded.contains(10L)).isFalse();
+        assertThat(ids[0]).isEqualTo(42L);
+    }
+}
@@ -0,0 +1,84 @@
+package com.brainstorming.brainstorming_platform.domain.idea.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchPartitionTest {
+
+    private final long[] ids = new long[10];
+    private final float[] scores = new float[10];
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 2-gram 으로 매칭되고 BM25 순으로 정렬")
+    void searchKoreanWithParticles() {
+        //given
+        UserSearchPartition partition = new UserSearchPartition();
+        partition.add(1L, "AI 학습 플래너 앱\n공부 일정을 추천하는 앱");
+        partition.add(2L, "캠핑 장비 공유 플랫폼");
+        partition.add(3L, "운동 루틴 앱을 만들자 - 학습 없이");
+        partition.add(4L, "학습 앱");
+
+        //when
+        int found = partition.search("학습 앱", 10, ids, scores);
+
+        //then
+        assertThat(found).isEqualTo(3);
+        assertThat(ids[0]).isEqualTo(4L); // 가장 짧고 모든 토큰 포함
+        assertThat(new long[]{ids[0], ids[1], ids[2]}).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(scores[0]).isGreaterThanOrEqualTo(scores[1]);
+        assertThat(scores[1]).isGreaterThanOrEqualTo(scores[2]);
+    }
+
+    @Test
+    @DisplayName("삭제한 아이디어는 검색되지 않음")
+    void removedIdeaIsNotFound() {
+        //given
+        UserSearchPartition partition = new UserSearchPartition();
+        partition.add(1L, "AI 학습 플래너");
+        partition.add(2L, "학습 게임");
+
+        //when
+        partition.remove(1L);
+        int found = partition.search("학습", 10, ids, scores);
+
+        //then
+        assertThat(found).isEqualTo(1);
+        assertThat(ids[0]).isEqualTo(2L);
+        assertThat(partition.documentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ID 가 작은 아이디어가 나중에 들어와도(게스트 연결) 포스팅 정렬 유지")
+    void outOfOrderInsert() {
+        //given
+        UserSearchPartition partition = new UserSearchPartition();
+        partition.add(10L, "캠핑 장비");
+        partition.add(20L, "캠핑 요리");
+
+        //when
+        partition.add(5L, "캠핑 장소");
+        int found = partition.search("캠핑", 10, ids, scores);
+
+        //then
+        assertThat(found).isEqualTo(3);
+        assertThat(new long[]{ids[0], ids[1], ids[2]}).containsExactlyInAnyOrder(5L, 10L, 20L);
+    }
+
+    @Test
+    @DisplayName("한 글자 질의와 영문 질의")
+    void singleCharacterAndEnglish() {
+        //given
+        UserSearchPartition partition = new UserSearchPartition();
+        partition.add(1L, "모바일앱 출시");
+        partition.add(2L, "Study planner for students");
+
+        //when & then
+        assertThat(partition.search("앱", 10, ids, scores)).isEqualTo(1);
+        assertThat(ids[0]).isEqualTo(1L);
+        assertThat(partition.search("PLANNER", 10, ids, scores)).isEqualTo(1);
+        assertThat(ids[0]).isEqualTo(2L);
+        assertThat(partition.search("없는단어", 10, ids, scores)).isZero();
+    }
+}
@@ -1,7 +1,17 @@
 package com.brainstorming.brainstorming_platform.domain.idea.service;
 
+import com.brainstorming.brainstorming_platform.domain.idea.archive.ArchivedIdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaBatchResultDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaRequestDto;
 import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.export.IdeaExportFormat;
+import com.brainstorming.brainstorming_platform.domain.idea.export.IdeaExportWriter;
+import com.brainstorming.brainstorming_platform.domain.idea.paging.IdeaCursor;
+import com.brainstorming.brainstorming_platform.domain.idea.paging.IdeaPageWriter;
 import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +19,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -21,6 +35,16 @@ class IdeaServiceTest {
     private IdeaRepository ideaRepository;
     @Autowired
     private IdeaService ideaService;
+    @Autowired
+    private ArchivedIdeaRepository archivedIdeaRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private IdeaPageWriter ideaPageWriter;
+    @Autowired
+    private IdeaExportWriter ideaExportWriter;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @Test
     void save() {
@@ -122,4 +146,119 @@ class IdeaServiceTest {
         assertThat(count1).isEqualTo(3);
         assertThat(count2).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 생성/조회/삭제는 항목별 결과를 요청 순서대로 반환")
+    void batch() {
+        //given
+        List<IdeaRequestDto> requests = List.of(
+                new IdeaRequestDto(3L, "batchTitle1", "batchContent1", "batchPurpose", null, null, null),
+                new IdeaRequestDto(3L, " ", "빈 제목", "batchPurpose", null, null, null),
+                new IdeaRequestDto(3L, "batchTitle2", "batchContent2", "batchPurpose", null, null, null)
+        );
+
+        //when
+        List<IdeaBatchResultDto> created = ideaService.createBatch(requests);
+        Long firstId = created.get(0).getIdeaId();
+        Long secondId = created.get(2).getIdeaId();
+        List<IdeaBatchResultDto> found = ideaService.findBatch(List.of(secondId, -1L, firstId));
+        List<IdeaBatchResultDto> deleted = ideaService.deleteBatch(List.of(firstId, -1L));
+
+        //then
+        assertThat(created).extracting("status").containsExactly(
+                IdeaBatchResultDto.Status.CREATED, IdeaBatchResultDto.Status.INVALID, IdeaBatchResultDto.Status.CREATED);
+        assertThat(created).extracting("index").containsExactly(0, 1, 2);
+        assertThat(firstId).isNotNull();
+
+        assertThat(found).extracting("status").containsExactly(
+                IdeaBatchResultDto.Status.FOUND, IdeaBatchResultDto.Status.NOT_FOUND, IdeaBatchResultDto.Status.FOUND);
+        assertThat(found.get(0).getIdea().getContent()).isEqualTo("batchContent2");
+
+        assertThat(deleted).extracting("status").containsExactly(
+                IdeaBatchResultDto.Status.DELETED, IdeaBatchResultDto.Status.NOT_FOUND);
+        assertThat(ideaRepository.existsById(firstId)).isFalse();
+        assertThat(ideaRepository.existsById(secondId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("보관 테이블로 옮긴 아이디어도 그대로 조회/삭제")
+    void archived() {
+        //given
+        Idea idea = ideaService.save(new Idea(null, 4L, "archiveTitle", "archiveContent", "archivePurpose", null));
+        Long ideaId = idea.getIdeaId();
+        archivedIdeaRepository.copyFromIdeas(List.of(ideaId), LocalDateTime.now());
+        ideaRepository.deleteByIdeaIds(List.of(ideaId));
+        entityManager.clear();
+
+        //when
+        Idea found = ideaService.findById(ideaId);
+        List<Idea> byUser = ideaService.findByUserId(4L);
+        ideaService.delete(ideaId);
+
+        //then
+        assertThat(found.getContent()).isEqualTo("archiveContent");
+        assertThat(found.getCreatedAt()).isNotNull();
+        assertThat(byUser).extracting("ideaId").containsExactly(ideaId);
+        assertThat(archivedIdeaRepository.existsById(ideaId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관된 아이디어도 페이지 목록과 내보내기에 포함")
+    void archivedInPageAndExport() throws Exception {
+        //given
+        Idea archived = ideaService.save(new Idea(null, 5L, "oldTitle", "oldContent", "oldPurpose", null));
+        archivedIdeaRepository.copyFromIdeas(List.of(archived.getIdeaId()), LocalDateTime.now());
+        ideaRepository.deleteByIdeaIds(List.of(archived.getIdeaId()));
+        Idea live = ideaService.save(new Idea(null, 5L, "newTitle", "newContent", "newPurpose", null));
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        ByteArrayOutputStream firstPage = new ByteArrayOutputStream();
+        ideaPageWriter.write(5L, null, 1, firstPage);
+        JsonNode first = objectMapper.readTree(firstPage.toByteArray());
+        ByteArrayOutputStream secondPage = new ByteArrayOutputStream();
+        ideaPageWriter.write(5L, IdeaCursor.decode(first.get("nextCursor").asText()), 1, secondPage);
+        JsonNode second = objectMapper.readTree(secondPage.toByteArray());
+        ByteArrayOutputStream export = new ByteArrayOutputStream();
+        ideaExportWriter.write(5L, IdeaExportFormat.NDJSON, export);
+        List<String> exportedTitles = new ArrayList<>();
+        for (String line : export.toString(StandardCharsets.UTF_8).split("\n")) {
+            exportedTitles.add(objectMapper.readTree(line).get("title").asText());
+        }
+
+        //then
+        assertThat(first.get("pending")).isEmpty();
+        assertThat(first.get("items").findValuesAsText("ideaId")).containsExactly(String.valueOf(live.getIdeaId()));
+        assertThat(second.get("items").findValuesAsText("ideaId")).containsExactly(String.valueOf(archived.getIdeaId()));
+        assertThat(second.get("nextCursor").isNull()).isTrue();
+        assertThat(exportedTitles).containsExactly("oldTitle", "newTitle");
+    }
+
+    @Test
+    @DisplayName("게스트 아이디어 연결은 설명/분석을 나눠진 그대로 옮기고, 테이블에 남은 행은 ID 를 유지")
+    void linkGuestIdeasKeepsSections() {
+        //given - 저장소의 게스트 아이디어 1개 + 이전 방식으로 테이블에 남은 1개
+        ideaService.save(new Idea(null, null, "storeTitle", null, "purpose", "guest-sections", "저장소 설명", "저장소 분석"));
+        Idea legacy = ideaRepository.save(
+                new Idea(null, null, "tableTitle", null, "purpose", "guest-sections", "테이블 설명", "테이블 분석"));
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        int linked = ideaService.linkGuestIdeasToUser("guest-sections", 9L);
+        entityManager.flush();
+        entityManager.clear();
+        List<Idea> ideas = ideaRepository.findByUserId(9L);
+
+        //then
+        assertThat(linked).isEqualTo(2);
+        assertThat(ideas).extracting(Idea::getTitle, Idea::getDescription, Idea::getAnalysis, Idea::getGuestSessionId)
+                .containsExactlyInAnyOrder(
+                        tuple("storeTitle", "저장소 설명", "저장소 분석", null),
+                        tuple("tableTitle", "테이블 설명", "테이블 분석", null));
+        assertThat(ideas).allMatch(Idea::hasSections);
+        assertThat(ideas).extracting(Idea::getIdeaId).contains(legacy.getIdeaId());
+        assertThat(ideaRepository.findByGuestSessionId("guest-sections")).isEmpty();
+    }
+}
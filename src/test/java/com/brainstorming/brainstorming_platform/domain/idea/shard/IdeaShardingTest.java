@@ -0,0 +1,215 @@
+package com.brainstorming.brainstorming_platform.domain.idea.shard;
+
+import com.brainstorming.brainstorming_platform.domain.idea.counter.IdeaCounterService;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaBatchResultDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaRequestDto;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.guest.GuestIdeaStore;
+import com.brainstorming.brainstorming_platform.domain.idea.related.HashingIdeaEmbedder;
+import com.brainstorming.brainstorming_platform.domain.idea.related.RelatedIdeaIndex;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.search.IdeaSearchIndex;
+import com.brainstorming.brainstorming_platform.domain.idea.service.IdeaService;
+import com.brainstorming.brainstorming_platform.domain.idea.suggest.IdeaSuggestIndex;
+import com.brainstorming.brainstorming_platform.domain.idea.writebehind.IdeaWriteAheadLog;
+import com.brainstorming.brainstorming_platform.global.etag.CollectionVersionService;
+import com.brainstorming.brainstorming_platform.global.shard.ShardDataSources;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRoutingRepositoryPostProcessor;
+import com.brainstorming.brainstorming_platform.global.shard.ShardedDataSourceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 샤딩 (H2 두 개를 샤드 0 / 1 로)
+ * - 2개 샤드로 늘리는 중(previous-count=1) 상태로 시작
+ * - 해시 결과: userId 1 → 샤드 0, userId 4 → 샤드 1
+ * - 어느 샤드에 있는지는 샤드 풀에 직접 연결해 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard-0;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.shards.urls=jdbc:h2:mem:shard-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.shards.username=sa",
+        "datasource.shards.previous-count=1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "idea.write-behind.dir=build/tmp/idea-sharding-test/wal",
+        "idea.related.dir=build/tmp/idea-sharding-test/hnsw"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ShardedDataSourceConfig.class, ShardRouter.class, ShardRoutingRepositoryPostProcessor.class,
+        SimpleMeterRegistry.class, IdeaReshardTask.class, CollectionVersionService.class,
+        IdeaService.class, IdeaWriteAheadLog.class, GuestIdeaStore.class, RelatedIdeaIndex.class,
+        HashingIdeaEmbedder.class, IdeaSearchIndex.class, IdeaSuggestIndex.class, IdeaCounterService.class,
+        JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdeaShardingTest {
+
+    private static final long HOME_USER = 1L;
+    private static final long MOVED_USER = 4L;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardDataSources shardDataSources;
+
+    @Autowired
+    private IdeaReshardTask ideaReshardTask;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private IdeaService ideaService;
+
+    @Autowired
+    private GuestIdeaStore guestIdeaStore;
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            JdbcTemplate jdbcTemplate = shard(shard);
+            jdbcTemplate.update("DELETE FROM ideas");
+            jdbcTemplate.update("DELETE FROM idea_counters");
+            jdbcTemplate.update("DELETE FROM collection_versions");
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 ID 해시로 고른 샤드에 저장되고, 그 샤드 ID 구간으로 발급")
+    void routesByUserId() {
+        // given
+        int shard = shardRouter.shardOf(MOVED_USER);
+
+        // when
+        Idea saved = shardRouter.callOn(shard,
+                () -> ideaRepository.save(new Idea(null, MOVED_USER, "샤드 1", null, null, null)));
+
+        // then
+        assertThat(shard).isEqualTo(1);
+        assertThat(saved.getIdeaId()).isGreaterThanOrEqualTo(ShardRouter.ID_RANGE);
+        assertThat(countOf(shard(1), MOVED_USER)).isEqualTo(1);
+        assertThat(countOf(shard(0), MOVED_USER)).isZero();
+        assertThat(ideaRepository.findByUserId(MOVED_USER)).extracting(Idea::getTitle).containsExactly("샤드 1");
+    }
+
+    @Test
+    @DisplayName("@AllShards 조회는 모든 샤드 결과를 합침")
+    void gathersAllShards() {
+        // given
+        insertIdea(shard(0), 1, HOME_USER);
+        insertIdea(shard(1), ShardRouter.ID_RANGE + 1, MOVED_USER);
+
+        // when & then
+        assertThat(ideaRepository.findUserIds()).containsExactlyInAnyOrder(HOME_USER, MOVED_USER);
+    }
+
+    @Test
+    @DisplayName("리샤딩 중에는 이전 샤드도 함께 읽고, 이동 작업이 새 샤드로 옮김")
+    void reshardMovesUsers() {
+        // given - 샤드가 하나일 때 저장된 아이디어
+        insertIdea(shard(0), 100, HOME_USER);
+        insertIdea(shard(0), 101, MOVED_USER);
+        assertThat(ideaRepository.findByUserId(MOVED_USER)).hasSize(1);
+
+        // when - 러너처럼 원본 샤드를 지정하고 청크 트랜잭션으로
+        Integer checked = shardRouter.callOn(0, () -> new TransactionTemplate(transactionManager)
+                .execute(status -> ideaReshardTask.processChunk(100)));
+
+        // then
+        assertThat(checked).isEqualTo(2);
+        assertThat(countOf(shard(0), MOVED_USER)).isZero();
+        assertThat(countOf(shard(1), MOVED_USER)).isEqualTo(1);
+        assertThat(countOf(shard(0), HOME_USER)).isEqualTo(1);
+        assertThat(ideaRepository.findByUserId(MOVED_USER)).extracting(Idea::getIdeaId).containsExactly(101L);
+    }
+
+    @Test
+    @DisplayName("게스트 샤드와 다른 샤드의 사용자로 연결하면 사용자 샤드에 저장하고 게스트 샤드에서 삭제")
+    void linkGuestIdeasAcrossShards() {
+        // given - 저장소의 게스트 아이디어 1개 + 이전 방식으로 게스트 샤드 테이블에 남은 1개
+        int guestShard = shardRouter.guestShard();
+        int userShard = shardRouter.shardOf(MOVED_USER);
+        guestIdeaStore.put(new Idea(null, null, "저장소 아이디어", "내용", "목적", "guest-1"));
+        shard(guestShard).update("INSERT INTO ideas (idea_id, created_at, title, guest_session_id)"
+                + " VALUES (200, NOW(), '테이블 아이디어', 'guest-1')");
+
+        // when
+        int linked = ideaService.linkGuestIdeasToUser("guest-1", MOVED_USER);
+
+        // then
+        assertThat(userShard).isNotEqualTo(guestShard);
+        assertThat(linked).isEqualTo(2);
+        assertThat(countOf(shard(userShard), MOVED_USER)).isEqualTo(2);
+        assertThat(shard(guestShard).queryForObject(
+                "SELECT COUNT(*) FROM ideas WHERE guest_session_id = 'guest-1'", Integer.class)).isZero();
+        assertThat(ideaRepository.findByUserId(MOVED_USER)).extracting(Idea::getTitle)
+                .containsExactlyInAnyOrder("저장소 아이디어", "테이블 아이디어");
+    }
+
+    @Test
+    @DisplayName("여러 샤드 사용자가 섞인 일괄 생성은 샤드별로 나눠 저장하고 항목별 결과를 돌려줌")
+    void createBatchAcrossShards() {
+        // given
+        List<IdeaRequestDto> requests = List.of(
+                request(HOME_USER, "샤드 0 아이디어"),
+                request(MOVED_USER, "샤드 1 아이디어"),
+                request(null, ""),
+                request(HOME_USER, "샤드 0 아이디어 2"));
+
+        // when
+        List<IdeaBatchResultDto> results = ideaService.createBatch(requests);
+
+        // then
+        assertThat(results).extracting(IdeaBatchResultDto::getStatus).containsExactly(
+                IdeaBatchResultDto.Status.CREATED, IdeaBatchResultDto.Status.CREATED,
+                IdeaBatchResultDto.Status.INVALID, IdeaBatchResultDto.Status.CREATED);
+        assertThat(results.get(0).getIdeaId()).isLessThan(ShardRouter.ID_RANGE);
+        assertThat(results.get(1).getIdeaId()).isGreaterThanOrEqualTo(ShardRouter.ID_RANGE);
+        assertThat(countOf(shard(0), HOME_USER)).isEqualTo(2);
+        assertThat(countOf(shard(1), MOVED_USER)).isEqualTo(1);
+        assertThat(countOf(shard(0), MOVED_USER)).isZero();
+    }
+
+    private JdbcTemplate shard(int shard) {
+        return new JdbcTemplate(shardDataSources.get(shard));
+    }
+
+    private static IdeaRequestDto request(Long userId, String title) {
+        IdeaRequestDto request = new IdeaRequestDto();
+        request.setUserId(userId);
+        request.setTitle(title);
+        return request;
+    }
+
+    private static void insertIdea(JdbcTemplate jdbcTemplate, long ideaId, long userId) {
+        jdbcTemplate.update("INSERT INTO ideas (idea_id, created_at, user_id, title) VALUES (?, NOW(), ?, ?)",
+                ideaId, userId, "아이디어 " + ideaId);
+    }
+
+    private static int countOf(JdbcTemplate jdbcTemplate, long userId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ideas WHERE user_id = ?",
+                Integer.class, userId);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,51 @@
+package com.brainstorming.brainstorming_platform.domain.idea.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactTrieTest {
+
+    @Test
+    @DisplayName("접두사로 시작하는 항목을 가중치 순으로 반환 (대소문자 무시)")
+    void suggestByPrefix() {
+        //given
+        CompactTrie trie = CompactTrie.builder()
+                .add("AI 학습 플래너", IdeaSuggestIndex.TYPE_TITLE, 1)
+                .add("AI 학습 게임", IdeaSuggestIndex.TYPE_TITLE, 1)
+                .add("ai 학습 게임", IdeaSuggestIndex.TYPE_TITLE, 1)
+                .add("캠핑 장비 공유", IdeaSuggestIndex.TYPE_PURPOSE, 1)
+                .build();
+
+        //when
+        List<CompactTrie.Suggestion> suggestions = trie.suggest("ai 학", 10);
+
+        //then
+        assertThat(suggestions).extracting(CompactTrie.Suggestion::getText)
+                .containsExactly("AI 학습 게임", "AI 학습 플래너");
+        assertThat(suggestions.get(0).getWeight()).isEqualTo(2);
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("간선 라벨 중간에서 끝나는 접두사와 일치하지 않는 접두사")
+    void prefixInsideEdge() {
+        //given
+        CompactTrie trie = CompactTrie.builder()
+                .add("브레인스토밍 도구", IdeaSuggestIndex.TYPE_TITLE, 1)
+                .add("브레인스토밍 게임", IdeaSuggestIndex.TYPE_TITLE, 1)
+                .add("학습", IdeaSuggestIndex.TYPE_PURPOSE, 5)
+                .build();
+
+        //when & then
+        assertThat(trie.suggest("브레", 10)).hasSize(2);
+        assertThat(trie.suggest("브레인스토밍 도", 10)).extracting(CompactTrie.Suggestion::getText)
+                .containsExactly("브레인스토밍 도구");
+        assertThat(trie.suggest("브레인x", 10)).isEmpty();
+        assertThat(trie.suggest("", 1)).extracting(CompactTrie.Suggestion::getType)
+                .containsExactly(IdeaSuggestIndex.TYPE_PURPOSE);
+    }
+}
@@ -0,0 +1,115 @@
+package com.brainstorming.brainstorming_platform.domain.idea.sync;
+
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaChangesDto;
+import com.brainstorming.brainstorming_platform.domain.idea.dto.IdeaResponseDto;
+import com.brainstorming.brainstorming_platform.domain.idea.entity.Idea;
+import com.brainstorming.brainstorming_platform.domain.idea.service.IdeaService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 변경분 동기화 (max-changes 3, overlap 5초)
+ */
+@SpringBootTest(properties = {
+        "idea.sync.max-changes=3",
+        "idea.sync.overlap-seconds=5",
+        "idea.sync.deletion-retention-days=30"
+})
+@Transactional
+class IdeaChangeFeedTest {
+
+    private static final Long USER_ID = 4301L;
+
+    @Autowired
+    private IdeaChangeFeed ideaChangeFeed;
+    @Autowired
+    private IdeaService ideaService;
+    @Autowired
+    private IdeaDeletionRepository ideaDeletionRepository;
+
+    @Test
+    @DisplayName("커서 이후 생성된 아이디어와 삭제된 아이디어 ID(tombstone)를 함께 반환")
+    void changesSinceCursor() {
+        //given
+        LocalDateTime from = LocalDateTime.now().minusMinutes(1);
+        ideaDeletionRepository.save(new IdeaDeletion(999L, USER_ID, from.minusMinutes(1)));
+        Idea kept = ideaService.save(new Idea(null, USER_ID, "남은 아이디어", "내용", "목적"));
+        Idea deleted = ideaService.save(new Idea(null, USER_ID, "삭제할 아이디어", "내용", "목적"));
+        ideaService.delete(deleted.getIdeaId());
+
+        //when
+        IdeaChangesDto changes = ideaChangeFeed.changes(USER_ID, IdeaSyncCursor.encode(from));
+
+        //then
+        assertThat(changes.isFullResync()).isFalse();
+        assertThat(changes.getIdeas()).extracting(IdeaResponseDto::getIdeaId).containsExactly(kept.getIdeaId());
+        assertThat(changes.getDeletedIds()).containsExactly(deleted.getIdeaId()); // 커서 이전 삭제(999)는 제외
+    }
+
+    @Test
+    @DisplayName("커서가 없거나 보존 기간(30일)보다 오래되면 전체 재동기화")
+    void fullResyncWithoutValidCursor() {
+        //given
+        ideaService.save(new Idea(null, USER_ID, "제목", "내용", "목적"));
+        String expired = IdeaSyncCursor.encode(LocalDateTime.now().minusDays(31));
+
+        //when
+        IdeaChangesDto missing = ideaChangeFeed.changes(USER_ID, null);
+        IdeaChangesDto blank = ideaChangeFeed.changes(USER_ID, " ");
+        IdeaChangesDto old = ideaChangeFeed.changes(USER_ID, expired);
+
+        //then
+        assertThat(missing.isFullResync()).isTrue();
+        assertThat(blank.isFullResync()).isTrue();
+        assertThat(old.isFullResync()).isTrue();
+        assertThat(old.getIdeas()).isEmpty();
+        assertThat(old.getDeletedIds()).isEmpty();
+        assertThat(IdeaSyncCursor.decode(old.getNextSince())).isAfter(LocalDateTime.now().minusDays(1));
+    }
+
+    @Test
+    @DisplayName("변경 + 삭제가 max-changes 를 넘으면 변경분 대신 전체 재동기화")
+    void fullResyncOverMaxChanges() {
+        //given - 변경 3개 + 삭제 1개 = 4개 > 3
+        LocalDateTime from = LocalDateTime.now().minusMinutes(1);
+        for (int i = 0; i < 3; i++) {
+            ideaService.save(new Idea(null, USER_ID, "제목" + i, "내용", "목적"));
+        }
+        ideaDeletionRepository.save(new IdeaDeletion(999L, USER_ID, LocalDateTime.now()));
+
+        //when
+        IdeaChangesDto changes = ideaChangeFeed.changes(USER_ID, IdeaSyncCursor.encode(from));
+
+        //then
+        assertThat(changes.isFullResync()).isTrue();
+        assertThat(changes.getIdeas()).isEmpty();
+        assertThat(changes.getDeletedIds()).isEmpty();
+        assertThat(changes.getNextSince()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("nextSince 는 조회 시각보다 overlap 만큼 앞이고, 커서보다 뒤로 가지 않음")
+    void nextSinceAppliesOverlap() {
+        //given
+        LocalDateTime from = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime recent = LocalDateTime.now().minusSeconds(1); // overlap 구간 안
+
+        //when
+        LocalDateTime before = LocalDateTime.now();
+        IdeaChangesDto changes = ideaChangeFeed.changes(USER_ID, IdeaSyncCursor.encode(from));
+        LocalDateTime after = LocalDateTime.now();
+        IdeaChangesDto withinOverlap = ideaChangeFeed.changes(USER_ID, IdeaSyncCursor.encode(recent));
+
+        //then
+        LocalDateTime next = IdeaSyncCursor.decode(changes.getNextSince());
+        assertThat(next).isBetween(before.minusSeconds(5), after.minusSeconds(5));
+        assertThat(IdeaSyncCursor.decode(withinOverlap.getNextSince())).isEqualTo(recent);
+    }
+}
@@ -0,0 +1,181 @@
+package com.brainstorming.brainstorming_platform.domain.idea.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdeaWriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("기록한 레코드는 재시작 후에도 미반영 상태로 복원")
+    void replayAfterRestart() throws Exception {
+        //given
+        IdeaWriteAheadLog wal = open();
+        wal.append(List.of(record(1L, "title1"), record(1L, "title2"), record(2L, "title3")));
+        wal.close();
+
+        //when
+        IdeaWriteAheadLog reopened = open();
+
+        //then
+        assertThat(reopened.pendingCount()).isEqualTo(3);
+        assertThat(reopened.pendingFor(1L)).extracting("title")
+                .containsExactly("title1", "title2");
+    }
+
+    @Test
+    @DisplayName("checkpoint 이전 레코드는 재시작 후 복원하지 않음")
+    void checkpoint() throws Exception {
+        //given
+        IdeaWriteAheadLog wal = open();
+        List<IdeaWalRecord> records = wal.append(List.of(record(1L, "title1"), record(1L, "title2")));
+
+        //when
+        wal.checkpoint(records.get(0).getSeq());
+        wal.close();
+        IdeaWriteAheadLog reopened = open();
+
+        //then
+        assertThat(reopened.peek(10)).extracting("title").containsExactly("title2");
+    }
+
+    @Test
+    @DisplayName("전부 반영된 뒤에도 순번은 이어서 증가")
+    void sequenceSurvivesTruncate() throws Exception {
+        //given
+        IdeaWriteAheadLog wal = open();
+        List<IdeaWalRecord> first = wal.append(List.of(record(1L, "title1")));
+        wal.checkpoint(first.get(0).getSeq());
+        wal.close();
+
+        //when
+        IdeaWriteAheadLog reopened = open();
+        List<IdeaWalRecord> second = reopened.append(List.of(record(1L, "title2")));
+
+        //then
+        assertThat(reopened.pendingCount()).isEqualTo(1);
+        assertThat(second.get(0).getSeq()).isGreaterThan(first.get(0).getSeq());
+    }
+
+    @Test
+    @DisplayName("끝이 잘린 줄은 잘라 내고 이어 써서, 이후 기록한 레코드가 재시작 후 복원됨")
+    void tornTailTruncated() throws Exception {
+        //given - 기록 도중 죽어 줄바꿈 없이 남은 마지막 줄
+        IdeaWriteAheadLog wal = open();
+        wal.append(List.of(record(1L, "title1")));
+        wal.close();
+        Files.writeString(directory.resolve("ideas.wal"), "{\"seq\":2,\"userId\":1,\"tit",
+                StandardOpenOption.APPEND);
+
+        //when
+        IdeaWriteAheadLog reopened = open();
+        reopened.append(List.of(record(1L, "title2")));
+        reopened.close();
+        IdeaWriteAheadLog replayed = open();
+
+        //then
+        assertThat(replayed.peek(10)).extracting("title").containsExactly("title1", "title2");
+    }
+
+    @Test
+    @DisplayName("반영된 앞부분이 쌓이면 미반영 레코드만 남기고 로그를 압축")
+    void compactsFlushedPrefix() throws Exception {
+        //given
+        IdeaWriteAheadLog wal = open(1);
+        List<IdeaWalRecord> records = wal.append(List.of(record(1L, "title1"), record(1L, "title2")));
+
+        //when
+        wal.checkpoint(records.get(0).getSeq());
+        wal.append(List.of(record(1L, "title3")));
+        wal.close();
+        IdeaWriteAheadLog reopened = open();
+
+        //then
+        assertThat(Files.readAllLines(directory.resolve("ideas.wal"))).hasSize(2);
+        assertThat(reopened.peek(10)).extracting("title").containsExactly("title2", "title3");
+    }
+
+    @Test
+    @DisplayName("기록 도중 실패하면 일부 기록을 잘라 내고 순번을 되돌려, 이후 기록한 레코드가 재시작 후 복원됨")
+    void failedAppendRolledBack() throws Exception {
+        //given - 두 번째 append 는 절반만 쓰고 실패
+        FailingWriteAheadLog wal = new FailingWriteAheadLog();
+        wal.open();
+        List<IdeaWalRecord> first = wal.append(List.of(record(1L, "title1")));
+        long sizeBefore = Files.size(directory.resolve("ideas.wal"));
+        wal.failNext = true;
+
+        //when
+        assertThatThrownBy(() -> wal.append(List.of(record(1L, "lost"))))
+                .isInstanceOf(UncheckedIOException.class);
+        List<IdeaWalRecord> third = wal.append(List.of(record(1L, "title2")));
+        wal.close();
+        IdeaWriteAheadLog reopened = open();
+
+        //then
+        assertThat(third.get(0).getSeq()).isEqualTo(first.get(0).getSeq() + 1);
+        assertThat(Files.readAllLines(directory.resolve("ideas.wal"))).hasSize(2);
+        assertThat(Files.size(directory.resolve("ideas.wal"))).isGreaterThan(sizeBefore);
+        assertThat(reopened.peek(10)).extracting("title").containsExactly("title1", "title2");
+    }
+
+    private IdeaWriteAheadLog open() throws Exception {
+        return open(16 * 1024 * 1024);
+    }
+
+    private IdeaWriteAheadLog open(long compactBytes) throws Exception {
+        IdeaWriteAheadLog wal = new IdeaWriteAheadLog(objectMapper, new SimpleMeterRegistry(), directory.toString(),
+                compactBytes);
+        wal.open();
+        return wal;
+    }
+
+    private IdeaWalRecord record(Long userId, String title) {
+        return new IdeaWalRecord(0L, userId, null, title, "content", "purpose", LocalDateTime.now());
+    }
+
+    /**
+     * failNext 가 켜지면 버퍼 절반만 기록하고 IOException (디스크 가득 참 등)
+     */
+    private final class FailingWriteAheadLog extends IdeaWriteAheadLog {
+
+        private boolean failNext;
+
+        private FailingWriteAheadLog() {
+            super(objectMapper, new SimpleMeterRegistry(), directory.toString(), 16 * 1024 * 1024);
+        }
+
+        @Override
+        void write(FileChannel target, ByteBuffer buffer) throws IOException {
+            if (!failNext) {
+                super.write(target, buffer);
+                return;
+            }
+            failNext = false;
+            ByteBuffer half = buffer.duplicate();
+            half.limit(buffer.position() + buffer.remaining() / 2);
+            target.write(half);
+            throw new IOException("디스크 공간 부족");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.brainstorming.brainstorming_platform.domain.technique.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TechniqueVectorIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("패킹한 벡터를 메모리 맵으로 열어 코사인 유사도 내림차순으로 검색")
+    void packAndSearch() throws Exception {
+        //given
+        Random random = new Random(42);
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 39; i++) {
+            float[] vector = new float[3072];
+            for (int d = 0; d < vector.length; d++) {
+                vector[d] = (float) random.nextGaussian();
+            }
+            vectors.add(vector);
+        }
+        Path packedFile = directory.resolve("techniques.f32");
+        TechniqueCorpusConverter.writePacked(packedFile, vectors);
+
+        //when
+        TechniqueVectorIndex index = TechniqueVectorIndex.open(packedFile);
+        int[] rows = new int[3];
+        float[] scores = new float[3];
+        int found = index.search(vectors.get(7), 3, rows, scores);
+
+        //then
+        assertThat(index.count()).isEqualTo(39);
+        assertThat(index.dimension()).isEqualTo(3072);
+        assertThat(found).isEqualTo(3);
+        assertThat(rows[0]).isEqualTo(7);
+        assertThat(scores[0]).isCloseTo(1.0f, within(1e-4f));
+        assertThat(scores[1]).isLessThanOrEqualTo(scores[0]);
+        assertThat(scores[2]).isLessThanOrEqualTo(scores[1]);
+    }
+
+    @Test
+    @DisplayName("k 가 전체 개수보다 크면 전체를 반환")
+    void kLargerThanCount() throws Exception {
+        //given
+        Path packedFile = directory.resolve("small.f32");
+        TechniqueCorpusConverter.writePacked(packedFile, List.of(
+                new float[]{1f, 0f}, new float[]{0f, 1f}));
+
+        //when
+        TechniqueVectorIndex index = TechniqueVectorIndex.open(packedFile);
+        int[] rows = new int[5];
+        float[] scores = new float[5];
+        int found = index.search(new float[]{0.1f, 0.9f}, 5, rows, scores);
+
+        //then
+        assertThat(found).isEqualTo(2);
+        assertThat(rows[0]).isEqualTo(1);
+        assertThat(rows[1]).isEqualTo(0);
+    }
+}
@@ -3,16 +3,24 @@ package com.brainstorming.brainstorming_platform.domain.user.service;
 import com.brainstorming.brainstorming_platform.domain.user.entity.LoginProvider;
 import com.brainstorming.brainstorming_platform.domain.user.entity.MyRole;
 import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import com.brainstorming.brainstorming_platform.domain.user.event.UserOutboxListener;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxEvent;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxEventRepository;
+import com.brainstorming.brainstorming_platform.global.security.jwt.RoleChangeLog;
+import com.brainstorming.brainstorming_platform.global.security.jwt.RoleChangeLogLoader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest
 @Transactional // 테스트 후 자동 롤백
@@ -21,6 +29,15 @@ class UserServiceTest {
     @Autowired // 의존성 자동 주입
     private UserService userService;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RoleChangeLog roleChangeLog;
+
+    @Autowired
+    private RoleChangeLogLoader roleChangeLogLoader;
+
     @Test
     @DisplayName("사용자 저장 테스트")
     void save() {
@@ -104,6 +121,46 @@ class UserServiceTest {
         assertThat(foundUser).isEmpty();
     }
 
+    @Test
+    @DisplayName("역할 변경은 같은 트랜잭션에서 아웃박스에 기록 (다른 노드의 이전 토큰 무효화)")
+    void changeRoleWritesOutbox() {
+        // given
+        User savedUser = userService.save(new User(null, "role@test.com", "역할테스트",
+                LoginProvider.GOOGLE, "google-role", MyRole.USER));
+        long lastEventId = outboxEventRepository.findLastEventId();
+
+        // when
+        userService.changeRole(savedUser.getUserId(), MyRole.ADMIN);
+        userService.changeRole(savedUser.getUserId(), MyRole.ADMIN); // 같은 역할은 기록 안 함
+
+        // then
+        assertThat(userService.findCurrent(savedUser.getUserId()).getRole()).isEqualTo(MyRole.ADMIN);
+        assertThat(outboxEventRepository.findAfter(lastEventId, Limit.of(10)))
+                .extracting(OutboxEvent::getEventType, OutboxEvent::getAggregateId)
+                .containsExactly(tuple(UserOutboxListener.USER_ROLE_CHANGED, savedUser.getUserId()));
+    }
+
+    @Test
+    @DisplayName("재시작하면 토큰 만료 시간 안의 역할 변경 / 탈퇴를 DB 에서 다시 읽음")
+    void roleChangeLogRestoredOnStartup() {
+        // given - 커밋 전이라 이 노드의 RoleChangeLog 에는 아직 기록 없음
+        User changed = userService.save(new User(null, "restore-role@test.com", "역할복원",
+                LoginProvider.GOOGLE, "google-restore-role", MyRole.ADMIN));
+        User deleted = userService.save(new User(null, "restore-delete@test.com", "탈퇴복원",
+                LoginProvider.GOOGLE, "google-restore-delete", MyRole.USER));
+        userService.changeRole(changed.getUserId(), MyRole.USER);
+        userService.delete(deleted.getUserId());
+        Date issuedBefore = new Date(System.currentTimeMillis() - 60_000);
+        assertThat(roleChangeLog.isStale(changed.getUserId(), issuedBefore)).isFalse();
+
+        // when
+        roleChangeLogLoader.load();
+
+        // then
+        assertThat(roleChangeLog.isStale(changed.getUserId(), issuedBefore)).isTrue();
+        assertThat(roleChangeLog.isStale(deleted.getUserId(), issuedBefore)).isTrue();
+    }
+
     @Test
     @DisplayName("사용자 삭제 성공")
     void delete() {
@@ -113,10 +170,15 @@ class UserServiceTest {
         User savedUser = userService.save(user);
         Long userId = savedUser.getUserId();
 
+        long lastEventId = outboxEventRepository.findLastEventId();
+
         // when
         userService.delete(userId);
 
-        // then
+        // then - 이미 발급한 토큰은 아웃박스로 모든 노드에서 무효 처리
+        assertThat(outboxEventRepository.findAfter(lastEventId, Limit.of(10)))
+                .extracting(OutboxEvent::getEventType, OutboxEvent::getAggregateId)
+                .containsExactly(tuple(UserOutboxListener.USER_DELETED, userId));
         assertThatThrownBy(() -> userService.findById(userId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("아이디가 존재하지 않습니다.");
@@ -0,0 +1,148 @@
+package com.brainstorming.brainstorming_platform.global;
+
+import com.brainstorming.brainstorming_platform.domain.idea.archive.ArchivedIdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.repository.IdeaRepository;
+import com.brainstorming.brainstorming_platform.domain.idea.sync.IdeaDeletionRepository;
+import com.brainstorming.brainstorming_platform.domain.inquiry.entity.InquiryStatus;
+import com.brainstorming.brainstorming_platform.domain.inquiry.repository.InquiryRepository;
+import com.brainstorming.brainstorming_platform.domain.user.entity.LoginProvider;
+import com.brainstorming.brainstorming_platform.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리 실행 계획 회귀 테스트
+ * - 스키마는 Flyway 마이그레이션으로만 생성 (H2 MySQL 모드)
+ * - Hibernate 가 만든 SQL 을 그대로 EXPLAIN 해서 전체 스캔(tableScan)이면 실패
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplan;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.brainstorming.brainstorming_platform.global.SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTest {
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private IdeaDeletionRepository ideaDeletionRepository;
+
+    @Autowired
+    private ArchivedIdeaRepository archivedIdeaRepository;
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("ideas 사용자별 조회는 idx_ideas_user_created 사용")
+    void ideasByUser() throws SQLException {
+        assertIndexed(() -> ideaRepository.findByUserId(1L));
+        assertIndexed(() -> ideaRepository.countByUserId(1L));
+        assertIndexed(() -> ideaRepository.findSummariesByUserId(1L));
+        assertIndexed(() -> ideaRepository.findTextsByUserId(1L));
+        assertIndexed(() -> {
+            try (Stream<?> page = ideaRepository.streamLatest(1L, Limit.of(51))) {
+                page.count();
+            }
+        });
+        assertIndexed(() -> {
+            try (Stream<?> page = ideaRepository.streamBefore(1L, LocalDateTime.now(), 100L, Limit.of(51))) {
+                page.count();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("게스트 아이디어 조회/정리도 인덱스 사용")
+    void guestIdeas() throws SQLException {
+        assertIndexed(() -> ideaRepository.findByGuestSessionId("guest-1"));
+        assertIndexed(() -> ideaRepository.findOldGuestIdeaIds(LocalDateTime.now().minusDays(1), Limit.of(1000)));
+        assertIndexed(() -> ideaRepository.deleteByIdeaIds(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("보관 대상 선정과 보관 테이블 조회도 인덱스 사용")
+    void archive() throws SQLException {
+        assertIndexed(() -> ideaRepository.findArchivableIdeaIds(LocalDateTime.now().minusDays(365), Limit.of(1000)));
+        assertIndexed(() -> archivedIdeaRepository.findTextsByUserId(1L));
+        assertIndexed(() -> archivedIdeaRepository.findSummariesByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("변경분 동기화 조회/삭제 기록 정리도 인덱스 사용")
+    void ideaChanges() throws SQLException {
+        LocalDateTime until = LocalDateTime.now();
+        assertIndexed(() -> ideaRepository.findTextsUpdatedBetween(1L, until.minusHours(1), until, Limit.of(501)));
+        assertIndexed(() -> ideaDeletionRepository.findIdeaIdsDeletedBetween(1L, until.minusHours(1), until, Limit.of(501)));
+        assertIndexed(() -> ideaDeletionRepository.findIdsDeletedBefore(until.minusDays(30), Limit.of(1000)));
+    }
+
+    @Test
+    @DisplayName("inquiries 사용자별/상태별 조회는 인덱스 사용")
+    void inquiries() throws SQLException {
+        assertIndexed(() -> inquiryRepository.findByUserId(1L));
+        assertIndexed(() -> inquiryRepository.findByUserIdAndStatus(1L, InquiryStatus.PENDING));
+        assertIndexed(() -> inquiryRepository.findByStatus(InquiryStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("users 로그인 조회는 인덱스 사용")
+    void users() throws SQLException {
+        assertIndexed(() -> userRepository.findByProviderAndProviderId(LoginProvider.GOOGLE, "1234"));
+        assertIndexed(() -> userRepository.findByEmail("user@example.com"));
+        assertIndexed(() -> userRepository.existsByEmail("user@example.com"));
+    }
+
+    private void assertIndexed(Runnable query) throws SQLException {
+        SqlCapture.clear();
+        query.run();
+        List<String> statements = SqlCapture.statements();
+        assertThat(statements).isNotEmpty();
+
+        for (String sql : statements) {
+            assertThat(explain(sql))
+                    .as("전체 스캔: %s", sql)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    /**
+     * 파라미터(?)는 바인딩하지 않고 계획만 확인 (H2 EXPLAIN 은 실행하지 않음)
+     */
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+}
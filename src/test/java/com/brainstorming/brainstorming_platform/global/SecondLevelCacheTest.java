@@ -0,0 +1,113 @@
+package com.brainstorming.brainstorming_platform.global;
+
+import com.brainstorming.brainstorming_platform.domain.user.entity.LoginProvider;
+import com.brainstorming.brainstorming_platform.domain.user.entity.MyRole;
+import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import com.brainstorming.brainstorming_platform.domain.user.repository.UserRepository;
+import com.brainstorming.brainstorming_platform.global.config.HibernateCacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 / 쿼리 캐시 적용 확인
+ * - 테스트 트랜잭션을 끄고 리포지토리 호출마다 별도 영속성 컨텍스트에서 조회 (1차 캐시 영향 제외)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.brainstorming.brainstorming_platform.global.SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("ID 로 다시 조회하면 SQL 없이 2차 캐시에서 읽음")
+    void findByIdFromCache() {
+        // given
+        User user = userRepository.save(newUser("cache-1"));
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        SqlCapture.clear();
+        userRepository.findById(user.getUserId()).orElseThrow();
+        int firstRead = SqlCapture.statements().size();
+
+        SqlCapture.clear();
+        User cached = userRepository.findById(user.getUserId()).orElseThrow();
+
+        // then
+        assertThat(firstRead).isEqualTo(1);
+        assertThat(SqlCapture.statements()).isEmpty();
+        assertThat(cached.getEmail()).isEqualTo("cache-1@example.com");
+    }
+
+    @Test
+    @DisplayName("OAuth 로그인 조회는 쿼리 캐시로 두 번째부터 SQL 없음")
+    void finderFromQueryCache() {
+        // given
+        userRepository.save(newUser("cache-2"));
+
+        // when
+        userRepository.findByProviderAndProviderId(LoginProvider.GOOGLE, "cache-2").orElseThrow();
+        SqlCapture.clear();
+        User cached = userRepository.findByProviderAndProviderId(LoginProvider.GOOGLE, "cache-2").orElseThrow();
+
+        // then
+        assertThat(SqlCapture.statements()).isEmpty();
+        assertThat(cached.getUsername()).isEqualTo("cache-2");
+    }
+
+    @Test
+    @DisplayName("수정하면 캐시도 갱신되어 바뀐 값을 읽음")
+    void updateRefreshesCache() {
+        // given
+        User user = userRepository.save(newUser("cache-3"));
+        userRepository.findById(user.getUserId()).orElseThrow();
+
+        // when
+        User loaded = userRepository.findById(user.getUserId()).orElseThrow();
+        loaded.updateOAuthInfo("변경된이름", "changed@example.com");
+        userRepository.save(loaded);
+
+        // then
+        assertThat(userRepository.findById(user.getUserId()).orElseThrow().getEmail())
+                .isEqualTo("changed@example.com");
+        assertThat(userRepository.findByEmail("cache-3@example.com")).isEmpty();
+    }
+
+    private User newUser(String providerId) {
+        return User.builder()
+                .email(providerId + "@example.com")
+                .username(providerId)
+                .provider(LoginProvider.GOOGLE)
+                .providerId(providerId)
+                .role(MyRole.USER)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.brainstorming.brainstorming_platform.global.datasource;
+
+import com.brainstorming.brainstorming_platform.domain.user.entity.LoginProvider;
+import com.brainstorming.brainstorming_platform.domain.user.entity.MyRole;
+import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import com.brainstorming.brainstorming_platform.domain.user.repository.UserRepository;
+import com.brainstorming.brainstorming_platform.global.security.jwt.JwtPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프라이머리 / 레플리카 라우팅 (H2 두 개로 대신, 복제는 없음)
+ * - 레플리카에만 넣은 행이 보이면 레플리카에서 읽은 것
+ * - 지연은 레플리카의 heartbeat 행을 직접 써서 흉내 냄
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rr-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.urls=jdbc:h2:mem:rr-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.max-lag=2s",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadReplicaConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaRoutingTest {
+
+    private static final String REPLICA_ONLY = "replica-only@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSourcePools dataSourcePools;
+
+    @Autowired
+    private ReplicaLagProbe replicaLagProbe;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        // 레플리카 풀은 읽기 전용이라 스키마/데이터는 별도 커넥션으로 준비
+        String replicaUrl = dataSourcePools.replicas().get(0).dataSource().getJdbcUrl();
+        Flyway.configure().dataSource(replicaUrl, "sa", "").load().migrate();
+        replica = new JdbcTemplate(new DriverManagerDataSource(replicaUrl, "sa", ""));
+        replica.update("INSERT INTO users (email, username, provider, provider_id, role)"
+                + " VALUES (?, 'replica', 'GOOGLE', 'replica', 'USER')", REPLICA_ONLY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        replica.update("DELETE FROM users");
+        replica.update("DELETE FROM replication_heartbeat");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("레플리카가 최신이면 readOnly 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리")
+    void readOnlyGoesToReplica() {
+        // given
+        heartbeatOnReplica(LocalDateTime.now());
+        replicaLagProbe.probe();
+
+        // when
+        boolean fromRead = readOnly(() -> userRepository.existsByEmail(REPLICA_ONLY));
+        boolean fromRepository = userRepository.existsByEmail(REPLICA_ONLY);
+        Boolean fromWrite = new TransactionTemplate(transactionManager)
+                .execute(status -> userRepository.existsByEmail(REPLICA_ONLY));
+
+        // then - 리포지토리에 선언한 readOnly 로 트랜잭션 밖 호출도 레플리카
+        assertThat(fromRead).isTrue();
+        assertThat(fromRepository).isTrue();
+        assertThat(fromWrite).isFalse();
+    }
+
+    @Test
+    @DisplayName("지연이 max-lag 를 넘으면 readOnly 트랜잭션도 프라이머리")
+    void laggingReplicaSkipped() {
+        // given
+        heartbeatOnReplica(LocalDateTime.now().minusMinutes(1));
+
+        // when
+        replicaLagProbe.probe();
+        boolean found = readOnly(() -> userRepository.existsByEmail(REPLICA_ONLY));
+
+        // then
+        assertThat(dataSourcePools.replicas().get(0).isAvailable()).isFalse();
+        assertThat(found).isFalse();
+        assertThat(meterRegistry.counter("datasource.routing", "pool", DataSourcePools.PRIMARY, "reason", "lagging")
+                .count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("방금 쓴 사용자의 readOnly 조회는 잠시 프라이머리로 고정")
+    void readYourWrites() {
+        // given
+        heartbeatOnReplica(LocalDateTime.now());
+        replicaLagProbe.probe();
+        User writer = userRepository.save(newUser("writer"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(JwtPrincipal.from(writer), null, writer.getAuthorities()));
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User loaded = userRepository.findById(writer.getUserId()).orElseThrow();
+            loaded.updateOAuthInfo("바뀐이름", "writer@example.com");
+        });
+
+        // then - 고정된 동안은 프라이머리, 인증 없는 조회는 그대로 레플리카
+        assertThat(readOnly(() -> userRepository.existsByEmail(REPLICA_ONLY))).isFalse();
+        SecurityContextHolder.clearContext();
+        assertThat(readOnly(() -> userRepository.existsByEmail(REPLICA_ONLY))).isTrue();
+    }
+
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> query.get());
+    }
+
+    private void heartbeatOnReplica(LocalDateTime beatAt) {
+        replica.update("DELETE FROM replication_heartbeat");
+        replica.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", Timestamp.valueOf(beatAt));
+    }
+
+    private User newUser(String providerId) {
+        return User.builder()
+                .email(providerId + "@example.com")
+                .username(providerId)
+                .provider(LoginProvider.GOOGLE)
+                .providerId(providerId)
+                .role(MyRole.USER)
+                .build();
+    }
+}
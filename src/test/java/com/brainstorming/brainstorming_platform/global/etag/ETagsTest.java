@@ -0,0 +1,52 @@
+package com.brainstorming.brainstorming_platform.global.etag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    @Test
+    @DisplayName("If-None-Match 목록 중 하나라도 같으면 일치 (약한 비교, *)")
+    void matches() {
+        String eTag = ETags.strong("ideas", 1L, "v3");
+
+        assertThat(eTag).isEqualTo("\"ideas-1-v3\"");
+        assertThat(ETags.matches("\"ideas-1-v3\"", eTag)).isTrue();
+        assertThat(ETags.matches("\"ideas-1-v2\", W/\"ideas-1-v3\"", eTag)).isTrue();
+        assertThat(ETags.matches("*", eTag)).isTrue();
+        assertThat(ETags.matches("\"ideas-1-v2\"", eTag)).isFalse();
+        assertThat(ETags.matches(null, eTag)).isFalse();
+    }
+
+    @Test
+    @DisplayName("일치하면 본문을 만들지 않고 304")
+    void notModifiedSkipsBody() {
+        // given
+        String eTag = ETags.strong("inquiries", 7L, "v1");
+        AtomicBoolean loaded = new AtomicBoolean();
+
+        // when
+        ResponseEntity<String> notModified = ETags.conditional(eTag, eTag, () -> {
+            loaded.set(true);
+            return "body";
+        });
+        ResponseEntity<String> modified = ETags.conditional("\"inquiries-7-v0\"", eTag, () -> "body");
+
+        // then
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+        assertThat(loaded).isFalse();
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(eTag);
+
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(modified.getBody()).isEqualTo("body");
+        assertThat(modified.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+    }
+}
@@ -0,0 +1,141 @@
+package com.brainstorming.brainstorming_platform.global.job;
+
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetentionJobRunnerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FakeLeaseManager leaseManager = new FakeLeaseManager();
+
+    @Test
+    @DisplayName("청크 크기만큼씩 나눠 삭제하고 마지막 청크가 작으면 완료")
+    void deletesInChunks() {
+        //given
+        FakeTask task = new FakeTask(2_500);
+        RetentionJobRunner runner = runner(1_000, Duration.ofMinutes(1));
+
+        //when
+        RetentionJobRunner.Outcome outcome = runner.run(task);
+
+        //then
+        assertThat(outcome).isEqualTo(RetentionJobRunner.Outcome.COMPLETED);
+        assertThat(task.chunks).containsExactly(1_000, 1_000, 500);
+        assertThat(meterRegistry.counter("retention.job.deleted", "job", "fake").count()).isEqualTo(2_500);
+        assertThat(meterRegistry.get("retention.job.progress").tag("job", "fake").gauge().value()).isEqualTo(2_500);
+        assertThat(leaseManager.released).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 갖고 있으면 삭제하지 않음")
+    void skipsWhenLeaseBusy() {
+        //given
+        leaseManager.available = false;
+        FakeTask task = new FakeTask(10);
+
+        //when
+        RetentionJobRunner.Outcome outcome = runner(1_000, Duration.ofMinutes(1)).run(task);
+
+        //then
+        assertThat(outcome).isEqualTo(RetentionJobRunner.Outcome.LEASE_BUSY);
+        assertThat(task.chunks).isEmpty();
+        assertThat(meterRegistry.counter("retention.job.skipped", "job", "fake").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 실행 시간을 넘기면 남은 대상은 두고 멈춤")
+    void stopsAtMaxRuntime() {
+        //given
+        FakeTask task = new FakeTask(1_000_000);
+
+        //when
+        RetentionJobRunner.Outcome outcome = runner(100, Duration.ZERO).run(task);
+
+        //then
+        assertThat(outcome).isEqualTo(RetentionJobRunner.Outcome.TIME_LIMIT);
+        assertThat(task.chunks).containsExactly(100);
+        assertThat(task.remaining).isEqualTo(1_000_000 - 100);
+    }
+
+    private RetentionJobRunner runner(int chunkSize, Duration maxRuntime) {
+        return new RetentionJobRunner(leaseManager, new ShardRouter(List.of(), 0, 0, 0),
+                new NoOpTransactionManager(), meterRegistry,
+                chunkSize, 0, maxRuntime);
+    }
+
+    private static final class FakeTask implements RetentionTask {
+
+        private int remaining;
+        private final List<Integer> chunks = new ArrayList<>();
+
+        private FakeTask(int remaining) {
+            this.remaining = remaining;
+        }
+
+        @Override
+        public String name() {
+            return "fake";
+        }
+
+        @Override
+        public int deleteChunk(int chunkSize) {
+            int deleted = Math.min(chunkSize, remaining);
+            remaining -= deleted;
+            chunks.add(deleted);
+            return deleted;
+        }
+    }
+
+    private static final class FakeLeaseManager extends JobLeaseManager {
+
+        private boolean available = true;
+        private boolean released;
+
+        private FakeLeaseManager() {
+            super(null, new NoOpTransactionManager());
+        }
+
+        @Override
+        public boolean tryAcquire(String jobName, Duration duration) {
+            return available;
+        }
+
+        @Override
+        public boolean renew(String jobName, Duration duration) {
+            return true;
+        }
+
+        @Override
+        public void release(String jobName) {
+            released = true;
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
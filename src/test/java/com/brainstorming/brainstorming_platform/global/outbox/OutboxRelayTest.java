@@ -0,0 +1,154 @@
+package com.brainstorming.brainstorming_platform.global.outbox;
+
+import com.brainstorming.brainstorming_platform.global.job.JobLeaseManager;
+import com.brainstorming.brainstorming_platform.global.shard.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 전달 순서 / 위치 저장 / 빈 번호 처리
+ * - 릴레이가 자체 트랜잭션을 쓰므로 테스트 트랜잭션은 끔
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OutboxRelay.class, JobLeaseManager.class, ShardRouter.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+class OutboxRelayTest {
+
+    private static final String CONSUMER = "test-sink";
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxOffsetRepository outboxOffsetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM outbox_offsets");
+        jdbcTemplate.update("DELETE FROM job_leases");
+    }
+
+    @Test
+    @DisplayName("번호 순서대로 전달하고 저장된 위치 다음부터 이어서 전달")
+    void deliverInOrderAndResume() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        insertEvent(1, now);
+        insertEvent(2, now);
+        insertEvent(3, now);
+        List<Long> delivered = new ArrayList<>();
+
+        // when
+        outboxRelay.deliver(CONSUMER, messages -> messages.forEach(m -> delivered.add(m.getEventId())));
+        insertEvent(4, now);
+        outboxRelay.deliver(CONSUMER, messages -> messages.forEach(m -> delivered.add(m.getEventId())));
+
+        // then
+        assertThat(delivered).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(outboxOffsetRepository.findById(CONSUMER).orElseThrow().getLastEventId()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("전달에 실패하면 위치를 옮기지 않고 다음에 같은 이벤트부터 다시 전달")
+    void retryAfterFailure() {
+        // given
+        insertEvent(1, LocalDateTime.now());
+        List<Long> delivered = new ArrayList<>();
+
+        // when
+        int failed = outboxRelay.deliver(CONSUMER, messages -> {
+            throw new IllegalStateException("sink down");
+        });
+        outboxRelay.deliver(CONSUMER, messages -> messages.forEach(m -> delivered.add(m.getEventId())));
+
+        // then
+        assertThat(failed).isZero();
+        assertThat(delivered).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("gap-timeout(기본 5분) 안의 빈 번호 앞에서는 멈추고, 오래된 빈 번호는 건너뛰며 지표로 남김")
+    void holdAtRecentGap() {
+        // given - 2번은 아직 커밋되지 않은 트랜잭션
+        LocalDateTime now = LocalDateTime.now();
+        insertEvent(1, now);
+        insertEvent(3, now);
+        List<Long> delivered = new ArrayList<>();
+
+        // when
+        outboxRelay.deliver(CONSUMER, messages -> messages.forEach(m -> delivered.add(m.getEventId())));
+        List<Long> beforeTimeout = List.copyOf(delivered);
+
+        jdbcTemplate.update("UPDATE outbox_events SET created_at = ? WHERE event_id = 3", now.minusMinutes(1));
+        outboxRelay.deliver(CONSUMER, messages -> messages.forEach(m -> delivered.add(m.getEventId())));
+        List<Long> withinTimeout = List.copyOf(delivered);
+
+        jdbcTemplate.update("UPDATE outbox_events SET created_at = ? WHERE event_id = 3", now.minusMinutes(10));
+        outboxRelay.deliver(CONSUMER, messages -> messages.forEach(m -> delivered.add(m.getEventId())));
+
+        // then
+        assertThat(beforeTimeout).containsExactly(1L);
+        assertThat(withinTimeout).containsExactly(1L);
+        assertThat(delivered).containsExactly(1L, 3L);
+        assertThat(meterRegistry.counter("outbox.relay.skipped", "consumer", CONSUMER).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("내부 구독자는 노드 메모리 위치로 시작 시점 이후 이벤트만 받고 리스가 없어도 전달")
+    void inProcessFromStartWithoutLease() {
+        // given - 다른 노드가 리스를 가지고 있고, 시작 전에 쌓인 이벤트가 있음
+        jdbcTemplate.update("INSERT INTO job_leases (job_name, owner, locked_at, locked_until)"
+                + " VALUES ('outbox-relay', 'other-node', ?, ?)", LocalDateTime.now(), LocalDateTime.now().plusMinutes(1));
+        insertEvent(1, LocalDateTime.now());
+
+        // when
+        outboxRelay.relay();
+        insertEvent(2, LocalDateTime.now());
+        outboxRelay.relay();
+
+        // then
+        assertThat(applicationEvents.stream(OutboxMessage.class).map(OutboxMessage::getEventId)).containsExactly(2L);
+        assertThat(outboxOffsetRepository.findById(OutboxRelay.IN_PROCESS)).isEmpty();
+    }
+
+    private void insertEvent(long eventId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO outbox_events"
+                        + " (event_id, aggregate_type, aggregate_id, event_type, user_id, payload, created_at)"
+                        + " VALUES (?, 'IDEA', ?, 'IDEA_SAVED', 1, '{}', ?)",
+                eventId, eventId, createdAt);
+    }
+}
@@ -0,0 +1,179 @@
+package com.brainstorming.brainstorming_platform.global.security.jwt;
+
+import com.brainstorming.brainstorming_platform.domain.user.entity.LoginProvider;
+import com.brainstorming.brainstorming_platform.domain.user.entity.MyRole;
+import com.brainstorming.brainstorming_platform.domain.user.entity.User;
+import com.brainstorming.brainstorming_platform.domain.user.event.UserOutboxListener;
+import com.brainstorming.brainstorming_platform.domain.user.service.UserService;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxMessage;
+import com.brainstorming.brainstorming_platform.global.outbox.OutboxWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 필터 - 클레임으로 인증하고 사용자 조회는 역할 변경 / 탈퇴 후 이전 토큰일 때만
+ */
+class JwtAuthenticationFilterTest {
+
+    private final JwtProperties jwtProperties = properties();
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+    private final RoleChangeLog roleChangeLog = new RoleChangeLog(jwtProperties, 100);
+    private final FakeUserService userService = new FakeUserService();
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtTokenProvider, roleChangeLog, userService);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("토큰 클레임만으로 인증하고 사용자를 조회하지 않음")
+    void authenticatesFromClaims() throws Exception {
+        // given
+        String token = jwtTokenProvider.createToken(user(MyRole.USER));
+
+        // when
+        Authentication authentication = filter("/api/ideas", token);
+
+        // then
+        JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getRole()).isEqualTo(MyRole.USER);
+        assertThat(principal.getEmail()).isEqualTo("jwt@example.com");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(userService.lookups).isZero();
+    }
+
+    @Test
+    @DisplayName("정적 파일 / API 밖 경로는 토큰이 있어도 처리하지 않음")
+    void skipsNonApiPaths() throws Exception {
+        // given
+        String token = jwtTokenProvider.createToken(user(MyRole.USER));
+
+        // when & then
+        assertThat(filter("/index.html", token)).isNull();
+        assertThat(filter("/oauth2/authorization/google", token)).isNull();
+    }
+
+    @Test
+    @DisplayName("역할이 바뀐 뒤에는 이전 토큰의 역할 대신 현재 역할로 인증")
+    void staleRoleReloaded() throws Exception {
+        // given
+        String token = jwtTokenProvider.createToken(user(MyRole.USER));
+        roleChangeLog.record(7L, System.currentTimeMillis());
+        userService.current = user(MyRole.ADMIN);
+
+        // when
+        Authentication authentication = filter("/api/ideas", token);
+
+        // then
+        assertThat(((JwtPrincipal) authentication.getPrincipal()).getRole()).isEqualTo(MyRole.ADMIN);
+        assertThat(userService.lookups).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 바뀐 역할도 아웃박스 이벤트를 받은 뒤부터 현재 역할로 인증")
+    void roleChangedOnOtherNode() throws Exception {
+        // given - 이 노드에서는 변경 기록 없이 아웃박스 이벤트만 받음
+        String token = jwtTokenProvider.createToken(user(MyRole.ADMIN));
+        userService.current = user(MyRole.USER);
+        assertThat(((JwtPrincipal) filter("/api/ideas", token).getPrincipal()).getRole()).isEqualTo(MyRole.ADMIN);
+
+        // when
+        roleChangeLog.onOutbox(new OutboxMessage(1L, OutboxWriter.USER, 7L,
+                UserOutboxListener.USER_ROLE_CHANGED, 7L, "{}", LocalDateTime.now()));
+        Authentication authentication = filter("/api/ideas", token);
+
+        // then
+        assertThat(((JwtPrincipal) authentication.getPrincipal()).getRole()).isEqualTo(MyRole.USER);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(userService.lookups).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("탈퇴 이벤트를 받은 뒤에는 이전 토큰이 DB 조회에 실패해 인증되지 않음")
+    void deletedUserRejected() throws Exception {
+        // given
+        String token = jwtTokenProvider.createToken(user(MyRole.USER));
+        userService.deleted = true;
+
+        // when
+        roleChangeLog.onOutbox(new OutboxMessage(1L, OutboxWriter.USER, 7L,
+                UserOutboxListener.USER_DELETED, 7L, "{}", LocalDateTime.now()));
+
+        // then
+        assertThat(filter("/api/ideas", token)).isNull();
+        assertThat(userService.lookups).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 전 기록이 max-entries 를 넘으면 버리지 않고 그 전 토큰을 모두 DB 에서 확인")
+    void overflowMarksTokensStale() throws Exception {
+        // given - 7번 사용자 기록은 없고 다른 사용자 기록만 넘침
+        String token = jwtTokenProvider.createToken(user(MyRole.ADMIN));
+        userService.current = user(MyRole.USER);
+        long now = System.currentTimeMillis();
+        for (long userId = 100; userId < 202; userId++) {
+            roleChangeLog.record(userId, now);
+        }
+
+        // when
+        Authentication authentication = filter("/api/ideas", token);
+
+        // then
+        assertThat(((JwtPrincipal) authentication.getPrincipal()).getRole()).isEqualTo(MyRole.USER);
+        assertThat(roleChangeLog.isStale(150L, new Date(now - 1_000))).isTrue();
+        assertThat(roleChangeLog.isStale(150L, new Date(now + 1_000))).isFalse();
+    }
+
+    private Authentication filter(String path, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static User user(MyRole role) {
+        return new User(7L, "jwt@example.com", "jwt", LoginProvider.GOOGLE, "jwt", role);
+    }
+
+    private static JwtProperties properties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-for-jwt-filter-0123456789");
+        properties.setExpiration(60_000L);
+        return properties;
+    }
+
+    private static final class FakeUserService extends UserService {
+
+        private User current;
+        private boolean deleted;
+        private int lookups;
+
+        private FakeUserService() {
+            super(null, null);
+        }
+
+        @Override
+        public User findCurrent(Long userId) {
+            lookups++;
+            if (deleted) {
+                throw new RuntimeException("아이디가 존재하지 않습니다.");
+            }
+            return current;
+        }
+    }
+}